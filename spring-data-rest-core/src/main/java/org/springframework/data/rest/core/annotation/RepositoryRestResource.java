@@ -82,5 +82,13 @@ public @interface RepositoryRestResource {
 	 */
 	Class<?> excerptProjection() default None.class;
 
+	/**
+	 * The {@code Cache-Control} policies to apply to the resources exposed for the repository.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	ResourceCacheControl[] cacheControl() default {};
+
 	static class None {}
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the {@code Cache-Control} header to be returned for the resources exposed for a repository. Used as
+ * attribute of {@link RepositoryRestResource#cacheControl()} and {@link RestResource#cacheControl()}. Durations are
+ * given in seconds, negative values omit the corresponding directive.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.core.config.CacheControlConfiguration
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResourceCacheControl {
+
+	/**
+	 * The kinds of resources the policy applies to. Ignored for policies declared on query methods, which always apply
+	 * to the search resource exposed for the method.
+	 *
+	 * @return
+	 */
+	Scope[] scope() default { Scope.ITEM, Scope.COLLECTION, Scope.SEARCH };
+
+	/**
+	 * The value of the {@code max-age} directive in seconds.
+	 *
+	 * @return
+	 */
+	long maxAge() default -1;
+
+	/**
+	 * The value of the {@code s-maxage} directive in seconds, i.e. the maximum age for shared caches.
+	 *
+	 * @return
+	 */
+	long sMaxAge() default -1;
+
+	/**
+	 * The value of the {@code stale-while-revalidate} directive in seconds.
+	 *
+	 * @return
+	 */
+	long staleWhileRevalidate() default -1;
+
+	/**
+	 * Whether the response may be stored by shared caches or only by the client's private one.
+	 *
+	 * @return
+	 */
+	Visibility visibility() default Visibility.UNSPECIFIED;
+
+	/**
+	 * The kinds of resources a {@code Cache-Control} policy can be declared for.
+	 */
+	enum Scope {
+
+		/**
+		 * The item resources, i.e. {@code /{repository}/{id}}.
+		 */
+		ITEM,
+
+		/**
+		 * The collection resource, i.e. {@code /{repository}}.
+		 */
+		COLLECTION,
+
+		/**
+		 * The search resources, i.e. {@code /{repository}/search/{search}}.
+		 */
+		SEARCH,
+
+		/**
+		 * The metadata resources, i.e. {@code /profile/{repository}}.
+		 */
+		PROFILE;
+	}
+
+	/**
+	 * The visibility of a response for caches.
+	 */
+	enum Visibility {
+
+		/**
+		 * Neither {@code public} nor {@code private} is added.
+		 */
+		UNSPECIFIED,
+
+		/**
+		 * Adds the {@code public} directive.
+		 */
+		PUBLIC,
+
+		/**
+		 * Adds the {@code private} directive.
+		 */
+		PRIVATE;
+	}
+}
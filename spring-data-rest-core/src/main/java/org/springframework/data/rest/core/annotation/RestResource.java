@@ -63,4 +63,14 @@ public @interface RestResource {
 	 * @return
 	 */
 	Description description() default @Description(value = "");
+
+	/**
+	 * The {@code Cache-Control} policies to apply. On a query method, the first policy applies to the search resource
+	 * exposed for it. On a repository interface, policies apply to the resources selected via
+	 * {@link ResourceCacheControl#scope()}.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	ResourceCacheControl[] cacheControl() default {};
 }
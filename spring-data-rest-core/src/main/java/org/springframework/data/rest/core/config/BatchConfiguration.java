@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the batch resource at {@code /batch} executing multiple sub-requests sent in a single JSON
+ * envelope. Sub-requests are dispatched to the Spring Data REST controllers within the batch request, passing the
+ * servlet filters configured via {@link #setFilters(String...)} once more for each of them. Disabled by default.
+ *
+ * @since 5.2
+ */
+public class BatchConfiguration {
+
+	private static final int DEFAULT_MAX_REQUESTS = 50;
+	private static final int DEFAULT_MAX_CONCURRENT_READS = 16;
+
+	private boolean enabled = false;
+	private int maxRequests = DEFAULT_MAX_REQUESTS;
+	private boolean parallelReads = false;
+	private int maxConcurrentReads = DEFAULT_MAX_CONCURRENT_READS;
+	private List<String> filters = List.of();
+
+	/**
+	 * Configures whether to expose the batch resource.
+	 *
+	 * @param enabled
+	 * @return {@literal this}
+	 */
+	public BatchConfiguration setEnabled(boolean enabled) {
+
+		this.enabled = enabled;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the batch resource is exposed.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Configures the maximum number of sub-requests a single batch request may contain. Defaults to
+	 * {@value #DEFAULT_MAX_REQUESTS}.
+	 *
+	 * @param maxRequests must be greater than zero.
+	 * @return {@literal this}
+	 */
+	public BatchConfiguration setMaxRequests(int maxRequests) {
+
+		Assert.isTrue(maxRequests > 0, "Maximum number of requests must be greater than zero");
+
+		this.maxRequests = maxRequests;
+
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of sub-requests a single batch request may contain.
+	 *
+	 * @return
+	 */
+	public int getMaxRequests() {
+		return maxRequests;
+	}
+
+	/**
+	 * Configures whether to execute consecutive {@code GET} and {@code HEAD} sub-requests of non-atomic batches in
+	 * parallel. Parallel reads are executed on threads of their own and thus neither see the transaction nor the
+	 * persistence context bound to the batch request, which is why they fall back to sequential execution if any is
+	 * bound. Note that Spring Boot registers an {@code OpenEntityManagerInViewInterceptor} by default
+	 * ({@code spring.jpa.open-in-view}), which binds an {@code EntityManager} to every request, so that reads are never
+	 * executed in parallel unless it is disabled. Disabled by default.
+	 *
+	 * @param parallelReads
+	 * @return {@literal this}
+	 */
+	public BatchConfiguration setParallelReads(boolean parallelReads) {
+
+		this.parallelReads = parallelReads;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether consecutive {@code GET} and {@code HEAD} sub-requests of non-atomic batches are executed in
+	 * parallel.
+	 *
+	 * @return
+	 */
+	public boolean isParallelReads() {
+		return parallelReads;
+	}
+
+	/**
+	 * Configures the maximum number of sub-requests executed in parallel across all batch requests. Sub-requests
+	 * exceeding it wait for others to complete. Defaults to {@value #DEFAULT_MAX_CONCURRENT_READS}.
+	 *
+	 * @param maxConcurrentReads must be greater than zero.
+	 * @return {@literal this}
+	 */
+	public BatchConfiguration setMaxConcurrentReads(int maxConcurrentReads) {
+
+		Assert.isTrue(maxConcurrentReads > 0, "Maximum number of concurrent reads must be greater than zero");
+
+		this.maxConcurrentReads = maxConcurrentReads;
+
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of sub-requests executed in parallel across all batch requests.
+	 *
+	 * @return
+	 */
+	public int getMaxConcurrentReads() {
+		return maxConcurrentReads;
+	}
+
+	/**
+	 * Configures the names of the servlet {@code Filter} beans to pass each sub-request through, in the order given. As
+	 * sub-requests are dispatched within the batch request rather than by the servlet container, URL patterns,
+	 * dispatcher types and enablement configured on filter registrations are not considered, which is why filters have
+	 * to be selected explicitly, e.g. the one of a security filter chain. None by default.
+	 *
+	 * @param filters the bean names of the filters, must not be {@literal null}.
+	 * @return {@literal this}
+	 */
+	public BatchConfiguration setFilters(String... filters) {
+
+		Assert.noNullElements(filters, "Filter names must not be null");
+
+		this.filters = List.copyOf(Arrays.asList(filters));
+
+		return this;
+	}
+
+	/**
+	 * Returns the names of the servlet {@code Filter} beans to pass each sub-request through.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<String> getFilters() {
+		return filters;
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.rest.core.annotation.ResourceCacheControl;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
+import org.springframework.http.CacheControl;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of the {@code Cache-Control} headers returned for item, collection, search and metadata resources.
+ * Policies registered for a particular domain type take precedence over the ones declared via
+ * {@link ResourceCacheControl} on the repository or its query methods, which in turn take precedence over the defaults
+ * registered via {@link #setDefault(CacheControl, Scope...)}. No {@code Cache-Control} header is added by default.
+ *
+ * @since 5.2
+ * @see ResourceCacheControl
+ */
+public class CacheControlConfiguration {
+
+	private final Map<Scope, CacheControl> defaults = new EnumMap<>(Scope.class);
+	private final Map<Class<?>, Map<Scope, CacheControl>> policies = new HashMap<>();
+
+	/**
+	 * Registers the given {@link CacheControl} as default for the given kinds of resources of all domain types.
+	 *
+	 * @param cacheControl must not be {@literal null}.
+	 * @param scopes must not be {@literal null} or empty.
+	 * @return {@literal this}
+	 */
+	public CacheControlConfiguration setDefault(CacheControl cacheControl, Scope... scopes) {
+
+		Assert.notNull(cacheControl, "CacheControl must not be null");
+		Assert.notEmpty(scopes, "Scopes must not be null or empty");
+
+		for (Scope scope : scopes) {
+			defaults.put(scope, cacheControl);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Registers the given {@link CacheControl} for the given kinds of resources of the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param cacheControl must not be {@literal null}.
+	 * @param scopes must not be {@literal null} or empty.
+	 * @return {@literal this}
+	 */
+	public CacheControlConfiguration forDomainType(Class<?> domainType, CacheControl cacheControl, Scope... scopes) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(cacheControl, "CacheControl must not be null");
+		Assert.notEmpty(scopes, "Scopes must not be null or empty");
+
+		Map<Scope, CacheControl> policy = policies.computeIfAbsent(domainType, __ -> new EnumMap<>(Scope.class));
+
+		for (Scope scope : scopes) {
+			policy.put(scope, cacheControl);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the {@link CacheControl} explicitly registered for the given domain type and kind of resource.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param scope must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	public @Nullable CacheControl getCacheControlFor(Class<?> domainType, Scope scope) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(scope, "Scope must not be null");
+
+		Map<Scope, CacheControl> policy = policies.get(domainType);
+
+		return policy == null ? null : policy.get(scope);
+	}
+
+	/**
+	 * Returns the default {@link CacheControl} registered for the given kind of resource.
+	 *
+	 * @param scope must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	public @Nullable CacheControl getDefault(Scope scope) {
+
+		Assert.notNull(scope, "Scope must not be null");
+
+		return defaults.get(scope);
+	}
+
+	/**
+	 * Creates a {@link CacheControl} from the given {@link ResourceCacheControl} annotation.
+	 *
+	 * @param annotation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static CacheControl toCacheControl(ResourceCacheControl annotation) {
+
+		Assert.notNull(annotation, "ResourceCacheControl must not be null");
+
+		CacheControl cacheControl = annotation.maxAge() < 0 //
+				? CacheControl.empty() //
+				: CacheControl.maxAge(Duration.ofSeconds(annotation.maxAge()));
+
+		if (annotation.sMaxAge() >= 0) {
+			cacheControl = cacheControl.sMaxAge(Duration.ofSeconds(annotation.sMaxAge()));
+		}
+
+		if (annotation.staleWhileRevalidate() >= 0) {
+			cacheControl = cacheControl.staleWhileRevalidate(Duration.ofSeconds(annotation.staleWhileRevalidate()));
+		}
+
+		return switch (annotation.visibility()) {
+			case PUBLIC -> cacheControl.cachePublic();
+			case PRIVATE -> cacheControl.cachePrivate();
+			default -> cacheControl;
+		};
+	}
+}
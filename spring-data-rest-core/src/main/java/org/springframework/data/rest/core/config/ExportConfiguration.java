@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the streaming export of collection and search resources as newline delimited JSON
+ * ({@code application/x-ndjson}) or CSV ({@code text/csv}). Exports read the aggregates in chunks and write every row
+ * as soon as it is read, so that the chunk size bounds the number of aggregates held in memory at a time.
+ *
+ * @since 5.2
+ */
+public class ExportConfiguration {
+
+	private static final int DEFAULT_CHUNK_SIZE = 500;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * Configures the number of aggregates to read at a time while exporting a resource. Defaults to
+	 * {@value #DEFAULT_CHUNK_SIZE}.
+	 *
+	 * @param chunkSize must be greater than zero.
+	 * @return {@literal this}
+	 */
+	public ExportConfiguration setChunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero");
+
+		this.chunkSize = chunkSize;
+
+		return this;
+	}
+
+	/**
+	 * Returns the number of aggregates to read at a time while exporting a resource.
+	 *
+	 * @return
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+}
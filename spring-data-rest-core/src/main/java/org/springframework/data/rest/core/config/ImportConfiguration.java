@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the streaming import of newline delimited JSON ({@code application/x-ndjson}) into collection
+ * resources. Imports parse the records one by one and save them in chunks, each in a transaction of its own, so that
+ * the chunk size bounds the number of aggregates held in memory at a time.
+ *
+ * @since 5.2
+ */
+public class ImportConfiguration {
+
+	private static final int DEFAULT_CHUNK_SIZE = 500;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * Configures the number of aggregates to save at a time while importing into a resource. Defaults to
+	 * {@value #DEFAULT_CHUNK_SIZE}.
+	 *
+	 * @param chunkSize must be greater than zero.
+	 * @return {@literal this}
+	 */
+	public ImportConfiguration setChunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero");
+
+		this.chunkSize = chunkSize;
+
+		return this;
+	}
+
+	/**
+	 * Returns the number of aggregates to save at a time while importing into a resource.
+	 *
+	 * @return
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.util.Collection;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the incremental rendering of HAL collection resources. Instead of turning all elements of a page
+ * into resources before rendering, the elements of an incrementally rendered collection resource are turned into a
+ * resource one at a time while {@code _embedded} is written, so that a resource can be discarded once it was written.
+ * Results that are neither a {@link Slice} nor a {@link Collection}, like {@link Iterable}s backed by a database
+ * cursor, are always rendered incrementally once enabled. Disabled by default.
+ *
+ * @since 5.2
+ */
+public class IncrementalRenderingConfiguration {
+
+	private static final int DEFAULT_THRESHOLD = 100;
+
+	private boolean enabled = false;
+	private int threshold = DEFAULT_THRESHOLD;
+
+	/**
+	 * Configures whether to render large collection resources incrementally.
+	 *
+	 * @param enabled
+	 * @return {@literal this}
+	 */
+	public IncrementalRenderingConfiguration setEnabled(boolean enabled) {
+
+		this.enabled = enabled;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether large collection resources are rendered incrementally.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Configures the minimum number of elements a page or collection needs to contain to be rendered incrementally.
+	 * Smaller ones are cheap enough to be turned into resources upfront. Defaults to {@value #DEFAULT_THRESHOLD}.
+	 *
+	 * @param threshold must not be negative.
+	 * @return {@literal this}
+	 */
+	public IncrementalRenderingConfiguration setThreshold(int threshold) {
+
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative");
+
+		this.threshold = threshold;
+
+		return this;
+	}
+
+	/**
+	 * Returns the minimum number of elements a page or collection needs to contain to be rendered incrementally.
+	 *
+	 * @return
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Returns whether the given results are to be rendered incrementally.
+	 *
+	 * @param results must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isIncremental(Iterable<?> results) {
+
+		Assert.notNull(results, "Results must not be null");
+
+		if (!enabled) {
+			return false;
+		}
+
+		if (results instanceof Slice<?> slice) {
+			return slice.getNumberOfElements() >= threshold;
+		}
+
+		return results instanceof Collection<?> collection ? collection.size() >= threshold : true;
+	}
+}
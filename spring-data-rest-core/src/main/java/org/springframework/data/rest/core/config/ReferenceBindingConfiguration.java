@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for binding the association URIs contained in request payloads and handed to search resources to
+ * references of the aggregates pointed to instead of loading them. References are obtained from the
+ * {@code ReferenceLookup} available for the store managing an aggregate type, so that the existence of the aggregate
+ * referred to is not verified on binding but by the constraints of the store on write. Aggregate types using a custom
+ * {@link org.springframework.data.rest.core.support.EntityLookup} are always loaded. Disabled by default.
+ *
+ * @since 5.2
+ */
+public class ReferenceBindingConfiguration {
+
+	private final Set<Class<?>> domainTypes = new HashSet<>();
+
+	private boolean enabled = false;
+
+	/**
+	 * Configures whether to bind references to the aggregates of all stores a {@code ReferenceLookup} is available for.
+	 *
+	 * @param enabled
+	 * @return {@literal this}
+	 */
+	public ReferenceBindingConfiguration setEnabled(boolean enabled) {
+
+		this.enabled = enabled;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether references are bound to the aggregates of all stores a {@code ReferenceLookup} is available for.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Binds references to the aggregates of the given types, independently of whether reference binding is enabled in
+	 * general.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return {@literal this}
+	 */
+	public ReferenceBindingConfiguration forDomainTypes(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+		Assert.noNullElements(domainTypes, "Domain types must not contain null elements");
+
+		this.domainTypes.addAll(Arrays.asList(domainTypes));
+
+		return this;
+	}
+
+	/**
+	 * Returns whether references shall be bound to the aggregates of the given type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabledFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return enabled || domainTypes.contains(domainType);
+	}
+}
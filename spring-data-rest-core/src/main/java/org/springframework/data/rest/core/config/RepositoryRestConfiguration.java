@@ -56,15 +56,21 @@ public class RepositoryRestConfiguration {
 	private URI basePath = NO_URI;
 	private int defaultPageSize = 20;
 	private int maxPageSize = 1000;
+	private int maxBulkSize = 1000;
 	private String pageParamName = "page";
 	private String limitParamName = "size";
 	private String sortParamName = "sort";
+	private String sliceParamName = "slice";
 	private MediaType defaultMediaType = MediaTypes.VND_HAL_JSON;
 	private boolean useHalAsDefaultJsonMediaType = true;
 	private @Nullable Boolean returnBodyOnCreate = null;
 	private @Nullable Boolean returnBodyOnUpdate = null;
 	private @Nullable Boolean returnBodyOnDelete = null;
 	private final List<Class<?>> exposeIdsFor = new ArrayList<Class<?>>();
+	private final List<Class<?>> contentHashETagsFor = new ArrayList<Class<?>>();
+	private final List<Class<?>> slicesFor = new ArrayList<Class<?>>();
+	private final List<Class<?>> storeQueriesFor = new ArrayList<Class<?>>();
+	private final List<Class<?>> scrollingFor = new ArrayList<Class<?>>();
 	private final ResourceMappingConfiguration domainMappings = new ResourceMappingConfiguration();
 	private final ResourceMappingConfiguration repoMappings = new ResourceMappingConfiguration();
 	private RepositoryDetectionStrategy repositoryDetectionStrategy = RepositoryDetectionStrategies.DEFAULT;
@@ -76,6 +82,15 @@ public class RepositoryRestConfiguration {
 
 	private final ExposureConfiguration exposureConfiguration;
 	private final EnumTranslationConfiguration enumTranslationConfiguration;
+	private final RepresentationCacheConfiguration representationCacheConfiguration;
+	private final CacheControlConfiguration cacheControlConfiguration;
+	private final SurrogateKeyConfiguration surrogateKeyConfiguration;
+	private final TotalCountCacheConfiguration totalCountCacheConfiguration;
+	private final ExportConfiguration exportConfiguration;
+	private final IncrementalRenderingConfiguration incrementalRenderingConfiguration;
+	private final ImportConfiguration importConfiguration;
+	private final BatchConfiguration batchConfiguration;
+	private final ReferenceBindingConfiguration referenceBindingConfiguration;
 
 	private LinkRelationProvider linkRelationProvider;
 	private boolean enableEnumTranslation = false;
@@ -99,6 +114,15 @@ public class RepositoryRestConfiguration {
 		this.enumTranslationConfiguration = enumTranslationConfiguration;
 		this.entityLookupConfiguration = new EntityLookupConfiguration();
 		this.exposureConfiguration = new ExposureConfiguration();
+		this.representationCacheConfiguration = new RepresentationCacheConfiguration();
+		this.cacheControlConfiguration = new CacheControlConfiguration();
+		this.surrogateKeyConfiguration = new SurrogateKeyConfiguration();
+		this.totalCountCacheConfiguration = new TotalCountCacheConfiguration();
+		this.exportConfiguration = new ExportConfiguration();
+		this.incrementalRenderingConfiguration = new IncrementalRenderingConfiguration();
+		this.importConfiguration = new ImportConfiguration();
+		this.batchConfiguration = new BatchConfiguration();
+		this.referenceBindingConfiguration = new ReferenceBindingConfiguration();
 
 		this.linkRelationProvider = new DelegatingLinkRelationProvider( //
 				new AnnotationLinkRelationProvider(), //
@@ -183,6 +207,33 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Returns the maximum number of aggregates a single request may create, patch or delete at once. Defaults to 1000.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	public int getMaxBulkSize() {
+		return maxBulkSize;
+	}
+
+	/**
+	 * Configures the maximum number of aggregates a single request may create, patch or delete at once. Requests
+	 * exceeding it are rejected with {@code 400 Bad Request}.
+	 *
+	 * @param maxBulkSize must be greater than zero.
+	 * @return {@literal this}
+	 * @since 5.2
+	 */
+	public RepositoryRestConfiguration setMaxBulkSize(int maxBulkSize) {
+
+		Assert.isTrue(maxBulkSize > 0, "Maximum bulk size must be greater than zero");
+
+		this.maxBulkSize = maxBulkSize;
+
+		return this;
+	}
+
 	/**
 	 * Get the name of the URL query string parameter that indicates what page to return. Default is 'page'.
 	 *
@@ -248,6 +299,32 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Get the name of the URL query string parameter that requests a {@link org.springframework.data.domain.Slice}
+	 * instead of a {@link org.springframework.data.domain.Page} for paged collection and search resources. Default is
+	 * 'slice'.
+	 *
+	 * @return Name of the query string parameter used to request a count-free slice.
+	 * @since 5.2
+	 */
+	public String getSliceParamName() {
+		return sliceParamName;
+	}
+
+	/**
+	 * Set the name of the URL query string parameter that requests a {@link org.springframework.data.domain.Slice}
+	 * instead of a {@link org.springframework.data.domain.Page}.
+	 *
+	 * @param sliceParamName Name of the query string parameter used to request a count-free slice.
+	 * @return {@literal this}
+	 * @since 5.2
+	 */
+	public RepositoryRestConfiguration setSliceParamName(String sliceParamName) {
+		Assert.hasText(sliceParamName, "Slice param name cannot be null or empty");
+		this.sliceParamName = sliceParamName;
+		return this;
+	}
+
 	/**
 	 * Get the {@link MediaType} to use as a default when none is specified.
 	 *
@@ -518,6 +595,151 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Returns whether item resources of the given domain type get a strong {@code ETag} calculated from the hash of
+	 * their rendered representation.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 * @see #useContentHashETagsFor(Class...)
+	 */
+	public boolean isContentHashETagEnabledFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return contentHashETagsFor.contains(domainType);
+	}
+
+	/**
+	 * Enables strong {@code ETag}s calculated from the hash of the rendered representation for item resources of the
+	 * given domain types. Allows conditional requests to be answered with {@code 304 Not Modified} for types that don't
+	 * carry a version property. Types that do, keep using their version as {@code ETag}.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return {@literal this}
+	 * @since 5.2
+	 */
+	public RepositoryRestConfiguration useContentHashETagsFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+
+		Collections.addAll(contentHashETagsFor, domainTypes);
+
+		return this;
+	}
+
+	/**
+	 * Returns whether paged collection and search resources of the given domain type are always rendered as
+	 * {@link org.springframework.data.domain.Slice}.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 * @see #useSlicesFor(Class...)
+	 */
+	public boolean isSliceEnabledFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return slicesFor.contains(domainType);
+	}
+
+	/**
+	 * Renders paged collection and search resources of the given domain types as
+	 * {@link org.springframework.data.domain.Slice}, i.e. without {@code totalElements} and {@code totalPages}, so that
+	 * the total number of elements doesn't have to be counted. Clients can request the same for all other types by adding
+	 * the parameter configured via {@link #setSliceParamName(String)} to the request.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return {@literal this}
+	 * @since 5.2
+	 */
+	public RepositoryRestConfiguration useSlicesFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+
+		Collections.addAll(slicesFor, domainTypes);
+
+		return this;
+	}
+
+	/**
+	 * Returns whether store specific queries may be used to read resources of the given domain type without going
+	 * through its repository.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 * @see #useStoreQueriesFor(Class...)
+	 */
+	public boolean isStoreQueryEnabledFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return storeQueriesFor.contains(domainType);
+	}
+
+	/**
+	 * Allows resources of the given domain types to be read by store specific queries:
+	 * <ul>
+	 * <li>slices of collection resources fetch one element more than requested instead of counting all of them,</li>
+	 * <li>compact and {@code text/uri-list} representations select the identifiers only,</li>
+	 * <li>conditional requests on item resources select only the version and last modification date,</li>
+	 * <li>association resources owned by the given types are paged and looked up by join queries restricted to the
+	 * owner.</li>
+	 * </ul>
+	 * As such queries bypass the repository, only enable them for types whose repositories neither customize nor secure
+	 * {@code findAll(…)} and {@code findById(…)}.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return {@literal this}
+	 * @since 5.2
+	 */
+	public RepositoryRestConfiguration useStoreQueriesFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+
+		Collections.addAll(storeQueriesFor, domainTypes);
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the collection resources of the given domain type are served by keyset scrolling.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 * @see #useScrollingFor(Class...)
+	 */
+	public boolean isScrollingEnabledFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return scrollingFor.contains(domainType);
+	}
+
+	/**
+	 * Serves the collection resources of the given domain types by keyset scrolling instead of offset pages, handing
+	 * opaque cursors to clients instead of page numbers. The repositories of the given types have to declare exactly
+	 * one query method returning a {@link org.springframework.data.domain.Window} and taking a
+	 * {@link org.springframework.data.domain.ScrollPosition} as well as optionally a
+	 * {@link org.springframework.data.domain.Sort} and a {@link org.springframework.data.domain.Limit}.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return {@literal this}
+	 * @since 5.2
+	 */
+	public RepositoryRestConfiguration useScrollingFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+
+		Collections.addAll(scrollingFor, domainTypes);
+
+		return this;
+	}
+
 	/**
 	 * Returns the {@link ProjectionDefinitionConfiguration} to register addition projections.
 	 *
@@ -746,4 +968,101 @@ public class RepositoryRestConfiguration {
 	public ExposureConfiguration getExposureConfiguration() {
 		return this.exposureConfiguration;
 	}
+
+	/**
+	 * Returns the {@link RepresentationCacheConfiguration} to enable and customize the server-side cache of rendered
+	 * item resource representations.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public RepresentationCacheConfiguration getRepresentationCacheConfiguration() {
+		return this.representationCacheConfiguration;
+	}
+
+	/**
+	 * Returns the {@link CacheControlConfiguration} to declare the {@code Cache-Control} headers returned for item,
+	 * collection, search and metadata resources.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public CacheControlConfiguration getCacheControlConfiguration() {
+		return this.cacheControlConfiguration;
+	}
+
+	/**
+	 * Returns the {@link SurrogateKeyConfiguration} to enable and customize the surrogate keys exposed for rendered
+	 * resources and purged on writes.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public SurrogateKeyConfiguration getSurrogateKeyConfiguration() {
+		return this.surrogateKeyConfiguration;
+	}
+
+	/**
+	 * Returns the {@link TotalCountCacheConfiguration} to enable and customize the cache of total numbers of elements
+	 * rendered for paged collection resources.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public TotalCountCacheConfiguration getTotalCountCacheConfiguration() {
+		return this.totalCountCacheConfiguration;
+	}
+
+	/**
+	 * Returns the {@link ExportConfiguration} to customize the streaming export of collection and search resources.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public ExportConfiguration getExportConfiguration() {
+		return this.exportConfiguration;
+	}
+
+	/**
+	 * Returns the {@link IncrementalRenderingConfiguration} to enable and customize the incremental rendering of large
+	 * collection resources.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public IncrementalRenderingConfiguration getIncrementalRenderingConfiguration() {
+		return this.incrementalRenderingConfiguration;
+	}
+
+	/**
+	 * Returns the {@link ImportConfiguration} to customize the streaming import of newline delimited JSON into
+	 * collection resources.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public ImportConfiguration getImportConfiguration() {
+		return this.importConfiguration;
+	}
+
+	/**
+	 * Returns the {@link BatchConfiguration} to customize the batch resource executing multiple sub-requests at once.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public BatchConfiguration getBatchConfiguration() {
+		return this.batchConfiguration;
+	}
+
+	/**
+	 * Returns the {@link ReferenceBindingConfiguration} to customize which association URIs are bound to references of
+	 * the aggregates pointed to instead of loading them.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public ReferenceBindingConfiguration getReferenceBindingConfiguration() {
+		return this.referenceBindingConfiguration;
+	}
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the server-side cache of rendered item resource representations. Caching is disabled by default
+ * and has to be enabled per domain type. Only domain types carrying a version property are cached, as the version is
+ * part of the cache key, so that a modification of the aggregate never results in a stale representation being served.
+ * <p>
+ * Excerpt projections of related aggregates embedded in a representation are not part of the cache key though. They
+ * stay stale until the configured time to live expires if only the related aggregate changes. Keep the time to live
+ * short for domain types whose representations embed excerpts, or don't enable caching for them at all.
+ *
+ * @since 5.2
+ */
+public class RepresentationCacheConfiguration {
+
+	private static final int DEFAULT_MAX_ENTRIES = 1000;
+	private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+	private final Set<Class<?>> domainTypes = new HashSet<>();
+	private int maxEntries = DEFAULT_MAX_ENTRIES;
+	private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+	/**
+	 * Enables caching of item resource representations for the given domain types.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return {@literal this}
+	 */
+	public RepresentationCacheConfiguration enableFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+
+		Collections.addAll(this.domainTypes, domainTypes);
+
+		return this;
+	}
+
+	/**
+	 * Returns whether representations of the given domain type are supposed to be cached.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabledFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return domainTypes.contains(domainType);
+	}
+
+	/**
+	 * Returns whether caching is enabled for any domain type at all.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return !domainTypes.isEmpty();
+	}
+
+	/**
+	 * Configures the maximum number of representations to keep. Once the limit is exceeded, representations not looked
+	 * up recently are evicted. Defaults to {@value #DEFAULT_MAX_ENTRIES}.
+	 *
+	 * @param maxEntries must be greater than zero.
+	 * @return {@literal this}
+	 */
+	public RepresentationCacheConfiguration setMaxEntries(int maxEntries) {
+
+		Assert.isTrue(maxEntries > 0, "Maximum number of entries must be greater than zero");
+
+		this.maxEntries = maxEntries;
+
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of representations to keep.
+	 *
+	 * @return
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * Configures the time after which a cached representation is discarded, independent of whether it was invalidated.
+	 * Defaults to 10 minutes.
+	 *
+	 * @param timeToLive must not be {@literal null} or negative.
+	 * @return {@literal this}
+	 */
+	public RepresentationCacheConfiguration setTimeToLive(Duration timeToLive) {
+
+		Assert.notNull(timeToLive, "Time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+
+		this.timeToLive = timeToLive;
+
+		return this;
+	}
+
+	/**
+	 * Returns the time after which a cached representation is discarded.
+	 *
+	 * @return
+	 */
+	public Duration getTimeToLive() {
+		return timeToLive;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the surrogate keys exposed with rendered resources, so that HTTP caches supporting purges by key
+ * can invalidate all representations affected by a write. Keys take the form {@code Order:42} for the item resource of
+ * the aggregate with identifier {@code 42} and {@code Order:collection} for the collection and search resources of the
+ * type. Disabled by default.
+ *
+ * @since 5.2
+ */
+public class SurrogateKeyConfiguration {
+
+	private static final String DEFAULT_HEADER_NAME = "Surrogate-Key";
+	private static final int DEFAULT_PURGE_BATCH_SIZE = 256;
+
+	private boolean enabled = false;
+	private String headerName = DEFAULT_HEADER_NAME;
+	private int purgeBatchSize = DEFAULT_PURGE_BATCH_SIZE;
+
+	/**
+	 * Configures whether to expose surrogate keys and purge them on writes.
+	 *
+	 * @param enabled
+	 * @return {@literal this}
+	 */
+	public SurrogateKeyConfiguration setEnabled(boolean enabled) {
+
+		this.enabled = enabled;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether surrogate keys are exposed and purged on writes.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Configures the name of the header to expose the space separated surrogate keys with. Defaults to
+	 * {@value #DEFAULT_HEADER_NAME}.
+	 *
+	 * @param headerName must not be {@literal null} or empty.
+	 * @return {@literal this}
+	 */
+	public SurrogateKeyConfiguration setHeaderName(String headerName) {
+
+		Assert.hasText(headerName, "Header name must not be null or empty");
+
+		this.headerName = headerName;
+
+		return this;
+	}
+
+	/**
+	 * Returns the name of the header to expose the surrogate keys with.
+	 *
+	 * @return
+	 */
+	public String getHeaderName() {
+		return headerName;
+	}
+
+	/**
+	 * Configures the maximum number of surrogate keys to hand to a single purge call. Defaults to
+	 * {@value #DEFAULT_PURGE_BATCH_SIZE}.
+	 *
+	 * @param purgeBatchSize must be greater than zero.
+	 * @return {@literal this}
+	 */
+	public SurrogateKeyConfiguration setPurgeBatchSize(int purgeBatchSize) {
+
+		Assert.isTrue(purgeBatchSize > 0, "Purge batch size must be greater than zero");
+
+		this.purgeBatchSize = purgeBatchSize;
+
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of surrogate keys to hand to a single purge call.
+	 *
+	 * @return
+	 */
+	public int getPurgeBatchSize() {
+		return purgeBatchSize;
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the cache of total numbers of elements rendered into the page metadata of collection resources.
+ * Caching is disabled by default and has to be enabled per domain type. With a total cached, subsequent pages are read
+ * without issuing a count query, so that the total rendered can be slightly off until it expires or is invalidated by
+ * a write through the exported repository. The page metadata can optionally flag such totals as approximate. As
+ * subsequent pages are read by a store specific query, caching requires the domain types to be enabled via
+ * {@link RepositoryRestConfiguration#useStoreQueriesFor(Class...)} as well.
+ *
+ * @since 5.2
+ */
+public class TotalCountCacheConfiguration {
+
+	private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+	private final Set<Class<?>> domainTypes = new HashSet<>();
+	private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+	private boolean approximationExposed = false;
+
+	/**
+	 * Enables caching of the total number of elements for the collection resources of the given domain types.
+	 * Requires store specific queries to be enabled for them via
+	 * {@link RepositoryRestConfiguration#useStoreQueriesFor(Class...)}.
+	 *
+	 * @param domainTypes must not be {@literal null}.
+	 * @return {@literal this}
+	 */
+	public TotalCountCacheConfiguration enableFor(Class<?>... domainTypes) {
+
+		Assert.notNull(domainTypes, "Domain types must not be null");
+
+		Collections.addAll(this.domainTypes, domainTypes);
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the total number of elements of the given domain type is supposed to be cached.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabledFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return domainTypes.contains(domainType);
+	}
+
+	/**
+	 * Returns the domain types the total number of elements is supposed to be cached for.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Set<Class<?>> getDomainTypes() {
+		return Collections.unmodifiableSet(domainTypes);
+	}
+
+	/**
+	 * Returns whether caching is enabled for any domain type at all.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return !domainTypes.isEmpty();
+	}
+
+	/**
+	 * Configures the time after which a cached total is discarded, independent of whether it was invalidated. Defaults
+	 * to one minute.
+	 *
+	 * @param timeToLive must not be {@literal null} or negative.
+	 * @return {@literal this}
+	 */
+	public TotalCountCacheConfiguration setTimeToLive(Duration timeToLive) {
+
+		Assert.notNull(timeToLive, "Time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+
+		this.timeToLive = timeToLive;
+
+		return this;
+	}
+
+	/**
+	 * Returns the time after which a cached total is discarded.
+	 *
+	 * @return
+	 */
+	public Duration getTimeToLive() {
+		return timeToLive;
+	}
+
+	/**
+	 * Configures whether to add an {@code approximate} flag to the page metadata in case the total rendered was taken
+	 * from the cache and could not be verified by the page read. Defaults to {@literal false}.
+	 *
+	 * @param approximationExposed
+	 * @return {@literal this}
+	 */
+	public TotalCountCacheConfiguration setApproximationExposed(boolean approximationExposed) {
+
+		this.approximationExposed = approximationExposed;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether to add an {@code approximate} flag to the page metadata of pages rendered with a cached total.
+	 *
+	 * @return
+	 */
+	public boolean isApproximationExposed() {
+		return approximationExposed;
+	}
+}
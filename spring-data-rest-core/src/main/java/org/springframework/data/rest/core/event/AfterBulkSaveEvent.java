@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * Event that is emitted after the aggregates of a bulk update were saved, after the {@link AfterSaveEvent}s for each
+ * of them.
+ *
+ * @since 5.2
+ */
+public class AfterBulkSaveEvent extends BulkEvent {
+
+	private static final @Serial long serialVersionUID = 3317520978113470286L;
+
+	/**
+	 * Creates a new {@link AfterBulkSaveEvent} for the given domain type and aggregates.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param aggregates must not be {@literal null}.
+	 */
+	public AfterBulkSaveEvent(Class<?> domainType, List<?> aggregates) {
+		super(domainType, aggregates);
+	}
+}
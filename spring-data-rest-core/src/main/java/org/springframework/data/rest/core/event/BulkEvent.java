@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import java.io.Serial;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Base class for {@link RepositoryEvent}s emitted once for all aggregates of a bulk operation, in addition to the
+ * events emitted for each of the aggregates. The event source is the {@link List} of aggregates.
+ *
+ * @since 5.2
+ */
+public abstract class BulkEvent extends RepositoryEvent {
+
+	private static final @Serial long serialVersionUID = -3306329415946466405L;
+
+	private final Class<?> domainType;
+
+	/**
+	 * Creates a new {@link BulkEvent} for the given domain type and aggregates.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param aggregates must not be {@literal null}.
+	 */
+	protected BulkEvent(Class<?> domainType, List<?> aggregates) {
+
+		super(aggregates);
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		this.domainType = domainType;
+	}
+
+	/**
+	 * Returns the domain type of the aggregates.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * Returns the aggregates the bulk operation is applied to.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<?> getAggregates() {
+		return (List<?>) getSource();
+	}
+}
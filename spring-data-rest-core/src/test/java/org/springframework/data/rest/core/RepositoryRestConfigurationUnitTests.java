@@ -129,6 +129,55 @@ class RepositoryRestConfigurationUnitTests {
 				.isEqualTo(LinkRelation.of("something"));
 	}
 
+	@Test
+	void enablesContentHashETagsForConfiguredTypesOnly() {
+
+		configuration.useContentHashETagsFor(Sample.class);
+
+		assertThat(configuration.isContentHashETagEnabledFor(Sample.class)).isTrue();
+		assertThat(configuration.isContentHashETagEnabledFor(Profile.class)).isFalse();
+	}
+
+	@Test
+	void enablesSlicesForConfiguredTypesOnly() {
+
+		configuration.useSlicesFor(Sample.class);
+
+		assertThat(configuration.isSliceEnabledFor(Sample.class)).isTrue();
+		assertThat(configuration.isSliceEnabledFor(Profile.class)).isFalse();
+	}
+
+	@Test
+	void usesStoreQueriesForConfiguredTypesOnly() {
+
+		assertThat(configuration.isStoreQueryEnabledFor(Sample.class)).isFalse();
+
+		configuration.useStoreQueriesFor(Sample.class);
+
+		assertThat(configuration.isStoreQueryEnabledFor(Sample.class)).isTrue();
+		assertThat(configuration.isStoreQueryEnabledFor(Profile.class)).isFalse();
+	}
+
+	@Test
+	void rejectsEmptySliceParamName() {
+		assertThatIllegalArgumentException().isThrownBy(() -> configuration.setSliceParamName(""));
+	}
+
+	@Test
+	void rejectsNonPositiveMaxBulkSize() {
+
+		assertThat(configuration.getMaxBulkSize()).isEqualTo(1000);
+		assertThatIllegalArgumentException().isThrownBy(() -> configuration.setMaxBulkSize(0));
+	}
+
+	@Test
+	void executesBatchReadsSequentiallyByDefault() {
+
+		assertThat(configuration.getBatchConfiguration().isParallelReads()).isFalse();
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> configuration.getBatchConfiguration().setMaxConcurrentReads(0));
+	}
+
 	@Relation("something")
 	static class Sample {
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Visibility;
+import org.springframework.http.CacheControl;
+
+/**
+ * Unit tests for {@link CacheControlConfiguration}.
+ */
+class CacheControlConfigurationUnitTests {
+
+	CacheControlConfiguration configuration = new CacheControlConfiguration();
+
+	@Test
+	void returnsPoliciesRegisteredPerDomainTypeAndScope() {
+
+		CacheControl cacheControl = CacheControl.maxAge(Duration.ofMinutes(1));
+
+		configuration.forDomainType(Object.class, cacheControl, Scope.ITEM, Scope.COLLECTION);
+
+		assertThat(configuration.getCacheControlFor(Object.class, Scope.ITEM)).isSameAs(cacheControl);
+		assertThat(configuration.getCacheControlFor(Object.class, Scope.COLLECTION)).isSameAs(cacheControl);
+		assertThat(configuration.getCacheControlFor(Object.class, Scope.SEARCH)).isNull();
+		assertThat(configuration.getCacheControlFor(String.class, Scope.ITEM)).isNull();
+	}
+
+	@Test
+	void returnsDefaultsPerScope() {
+
+		CacheControl cacheControl = CacheControl.noCache();
+
+		configuration.setDefault(cacheControl, Scope.PROFILE);
+
+		assertThat(configuration.getDefault(Scope.PROFILE)).isSameAs(cacheControl);
+		assertThat(configuration.getDefault(Scope.ITEM)).isNull();
+	}
+
+	@Test
+	void rejectsRegistrationWithoutScopes() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> configuration.setDefault(CacheControl.noStore()));
+	}
+
+	@Test
+	void createsCacheControlFromAnnotation() {
+
+		ResourceCacheControl annotation = Sample.class.getAnnotation(RepositoryRestResource.class).cacheControl()[0];
+
+		assertThat(CacheControlConfiguration.toCacheControl(annotation).getHeaderValue())
+				.isEqualTo("max-age=60, public, s-maxage=300, stale-while-revalidate=30");
+	}
+
+	@Test
+	void omitsUnsetDirectives() {
+
+		ResourceCacheControl annotation = Sample.class.getAnnotation(RepositoryRestResource.class).cacheControl()[1];
+
+		assertThat(CacheControlConfiguration.toCacheControl(annotation).getHeaderValue()).isEqualTo("private");
+	}
+
+	@RepositoryRestResource(cacheControl = {
+			@ResourceCacheControl(maxAge = 60, sMaxAge = 300, staleWhileRevalidate = 30, visibility = Visibility.PUBLIC),
+			@ResourceCacheControl(visibility = Visibility.PRIVATE) })
+	interface Sample {}
+}
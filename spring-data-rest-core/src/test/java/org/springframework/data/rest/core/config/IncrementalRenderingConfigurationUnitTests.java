@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Unit tests for {@link IncrementalRenderingConfiguration}.
+ */
+class IncrementalRenderingConfigurationUnitTests {
+
+	IncrementalRenderingConfiguration configuration = new IncrementalRenderingConfiguration().setThreshold(2);
+
+	@Test
+	void isDisabledByDefault() {
+		assertThat(new IncrementalRenderingConfiguration().isIncremental(Stream.of(1)::iterator)).isFalse();
+	}
+
+	@Test
+	void rendersPagesAndCollectionsReachingThresholdIncrementally() {
+
+		configuration.setEnabled(true);
+
+		assertThat(configuration.isIncremental(new PageImpl<>(List.of(1, 2), PageRequest.of(0, 2), 10))).isTrue();
+		assertThat(configuration.isIncremental(new PageImpl<>(List.of(1), PageRequest.of(0, 2), 1))).isFalse();
+		assertThat(configuration.isIncremental(Set.of(1, 2))).isTrue();
+		assertThat(configuration.isIncremental(List.of(1))).isFalse();
+	}
+
+	@Test
+	void alwaysRendersResultsOfUnknownSizeIncrementally() {
+
+		configuration.setEnabled(true);
+
+		assertThat(configuration.isIncremental(Stream.of(1)::iterator)).isTrue();
+	}
+
+	@Test
+	void rejectsNegativeThreshold() {
+		assertThatIllegalArgumentException().isThrownBy(() -> configuration.setThreshold(-1));
+	}
+}
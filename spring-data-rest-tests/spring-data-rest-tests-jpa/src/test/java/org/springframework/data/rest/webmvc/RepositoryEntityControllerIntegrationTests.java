@@ -47,6 +47,7 @@ import org.springframework.data.rest.webmvc.jpa.Order;
 import org.springframework.data.rest.webmvc.jpa.Person;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -72,6 +73,8 @@ class RepositoryEntityControllerIntegrationTests extends AbstractControllerInteg
 	@Autowired RepositoryRestConfiguration configuration;
 	@Autowired PersistentEntityResourceAssembler assembler;
 	@Autowired PersistentEntities entities;
+	@Autowired RepositoryEntityLinks entityLinks;
+	@Autowired HttpHeadersPreparer headersPreparer;
 
 	@Configuration
 	static class ConfigurationCustomizer {
@@ -81,6 +84,7 @@ class RepositoryEntityControllerIntegrationTests extends AbstractControllerInteg
 
 			return RepositoryRestConfigurer.withConfig(config -> {
 				config.getExposureConfiguration().forDomainType(Address.class).disablePutForCreation();
+				config.useStoreQueriesFor(Address.class, CreditCard.class);
 			});
 		}
 	}
@@ -93,7 +97,7 @@ class RepositoryEntityControllerIntegrationTests extends AbstractControllerInteg
 		RootResourceInformation request = getResourceInformation(Address.class);
 
 		assertThatExceptionOfType(HttpRequestMethodNotSupportedException.class) //
-				.isThrownBy(() -> controller.getCollectionResource(request, null, null, null));
+				.isThrownBy(() -> controller.getCollectionResource(request, null, null, new HttpHeaders(), null));
 	}
 
 	@Test // DATAREST-217
@@ -105,6 +109,17 @@ class RepositoryEntityControllerIntegrationTests extends AbstractControllerInteg
 				.isThrownBy(() -> controller.postCollectionResource(request, null, null, MediaType.APPLICATION_JSON_VALUE));
 	}
 
+	@Test
+	void rejectsBulkDeleteWithoutBatchSupport() {
+
+		RepositoryEntityController controller = new RepositoryEntityController(configuration, entityLinks,
+				headersPreparer);
+
+		assertThatExceptionOfType(HttpRequestMethodNotSupportedException.class) //
+				.isThrownBy(() -> controller.deleteItemResources(getResourceInformation(Person.class), List.of("1"),
+						new HttpHeaders(), null));
+	}
+
 	@Test // DATAREST-301
 	void setsExpandedSelfUriInLocationHeader() throws Exception {
 
@@ -143,7 +158,7 @@ class RepositoryEntityControllerIntegrationTests extends AbstractControllerInteg
 		Address address = repository.save(new Address());
 
 		ResponseEntity<?> entity = controller.headForItemResource(getResourceInformation(Address.class), address.id,
-				assembler);
+				assembler, new HttpHeaders());
 
 		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
 	}
@@ -152,7 +167,8 @@ class RepositoryEntityControllerIntegrationTests extends AbstractControllerInteg
 	void doesNotExposeHeadForItemResourceIfNotExisting() throws Exception {
 
 		assertThatExceptionOfType(ResourceNotFoundException.class) //
-				.isThrownBy(() -> controller.headForItemResource(getResourceInformation(CreditCard.class), 1L, assembler));
+				.isThrownBy(() -> controller.headForItemResource(getResourceInformation(CreditCard.class), 1L, assembler,
+						new HttpHeaders()));
 	}
 
 	@Test // DATAREST-333
@@ -325,5 +341,64 @@ class RepositoryEntityControllerIntegrationTests extends AbstractControllerInteg
 		});
 	}
 
+	@Test
+	void answersConditionalGetWithNotModifiedWithoutAssemblingTheResource() throws Exception {
+
+		Address address = repository.save(new Address());
+		PersistentEntityResourceAssembler assembler = Mockito.mock(PersistentEntityResourceAssembler.class);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"0\"");
+
+		ResponseEntity<EntityModel<?>> entity = controller.getItemResource(getResourceInformation(Address.class),
+				address.id, assembler, headers);
+
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(entity.getHeaders().getETag()).isEqualTo("\"0\"");
+		verifyNoInteractions(assembler);
+	}
+
+	@Test
+	void answersConditionalHeadWithNotModifiedWithoutAssemblingTheResource() throws Exception {
+
+		Address address = repository.save(new Address());
+		PersistentEntityResourceAssembler assembler = Mockito.mock(PersistentEntityResourceAssembler.class);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"0\"");
+
+		ResponseEntity<?> entity = controller.headForItemResource(getResourceInformation(Address.class), address.id,
+				assembler, headers);
+
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		verifyNoInteractions(assembler);
+	}
+
+	@Test
+	void fallsBackToFullResourceForConditionalGetIfVersionChanged() throws Exception {
+
+		Address address = repository.save(new Address());
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"42\"");
+
+		ResponseEntity<EntityModel<?>> entity = controller.getItemResource(getResourceInformation(Address.class),
+				address.id, assembler, headers);
+
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(entity.getBody()).isNotNull();
+	}
+
+	@Test
+	void doesNotAnswerConditionalGetForUnknownUnversionedItemWithNotModified() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfModifiedSince(System.currentTimeMillis());
+
+		assertThatExceptionOfType(ResourceNotFoundException.class) //
+				.isThrownBy(() -> controller.getItemResource(getResourceInformation(CreditCard.class), 4711L, assembler,
+						headers));
+	}
+
 	interface AddressProjection {}
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for the item resources of aggregates referenced by collection-like associations.
+ */
+@ContextConfiguration
+class JpaAssociationItemWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.useStoreQueriesFor(Person.class));
+		}
+	}
+
+	@Autowired PersonRepository people;
+
+	Person owner, stranger;
+	List<Person> siblings;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.siblings = Stream.of("Item-Alice", "Item-Bob") //
+				.map(it -> people.save(new Person(it, "Sibling"))) //
+				.toList();
+		this.stranger = people.save(new Person("Item-Stranger", "Sibling"));
+
+		Person owner = new Person("Item-Owner", "Sibling");
+		siblings.forEach(owner::addSibling);
+
+		this.owner = people.save(owner);
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		people.delete(owner);
+		people.deleteAll(siblings);
+		people.delete(stranger);
+	}
+
+	@Test
+	void rendersAggregateReferencedByAssociation() throws Exception {
+
+		Person sibling = siblings.get(1);
+
+		MockHttpServletResponse response = mvc
+				.perform(get("/people/{id}/siblings/{siblingId}", owner.getId(), sibling.getId())).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(JsonPath.<String> read(response.getContentAsString(), "$.firstName")).isEqualTo("Item-Bob");
+		assertThat(response.getHeader("Content-Location")).endsWith("/people/" + sibling.getId());
+	}
+
+	@Test
+	void rejectsAggregateNotReferencedByAssociation() throws Exception {
+
+		MockHttpServletResponse response = mvc
+				.perform(get("/people/{id}/siblings/{siblingId}", owner.getId(), stranger.getId())).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+	}
+
+	@Test
+	void removesAggregateFromAssociation() throws Exception {
+
+		MockHttpServletResponse response = mvc
+				.perform(delete("/people/{id}/siblings/{siblingId}", owner.getId(), siblings.get(0).getId()))
+				.getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NO_CONTENT.value());
+
+		String content = mvc.perform(get("/people/{id}/siblings", owner.getId())).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.people[*].firstName"))
+				.containsExactly("Item-Bob");
+	}
+}
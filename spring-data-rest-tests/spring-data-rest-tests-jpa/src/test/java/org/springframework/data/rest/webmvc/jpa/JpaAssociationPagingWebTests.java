@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for paged and sorted association resources.
+ */
+@ContextConfiguration
+class JpaAssociationPagingWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.useStoreQueriesFor(Person.class));
+		}
+	}
+
+	@Autowired PersonRepository people;
+
+	Person owner;
+	List<Person> siblings;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.siblings = Stream.of("Paging-Carol", "Paging-Alice", "Paging-Bob") //
+				.map(it -> people.save(new Person(it, "Sibling"))) //
+				.toList();
+
+		Person owner = new Person("Paging-Owner", "Sibling");
+		siblings.forEach(owner::addSibling);
+
+		this.owner = people.save(owner);
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		people.delete(owner);
+		people.deleteAll(siblings);
+	}
+
+	@Test
+	void rendersRequestedPageOfAssociationSortedByProperty() throws Exception {
+
+		String content = mvc.perform(get("/people/{id}/siblings?page=0&size=2&sort=firstName", owner.getId()))
+				.getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.people[*].firstName"))
+				.containsExactly("Paging-Alice", "Paging-Bob");
+		assertThat(JsonPath.<Integer> read(content, "$.page.size")).isEqualTo(2);
+		assertThat(JsonPath.<Integer> read(content, "$.page.totalElements")).isEqualTo(3);
+		assertThat(JsonPath.<Integer> read(content, "$.page.totalPages")).isEqualTo(2);
+		assertThat(JsonPath.<String> read(content, "$._links.next.href"))
+				.contains("/people/" + owner.getId() + "/siblings").contains("page=1");
+	}
+
+	@Test
+	void rendersLastPageOfAssociationSortedDescending() throws Exception {
+
+		String content = mvc.perform(get("/people/{id}/siblings?page=1&size=2&sort=firstName,desc", owner.getId()))
+				.getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.people[*].firstName"))
+				.containsExactly("Paging-Alice");
+		assertThat(JsonPath.<Integer> read(content, "$.page.number")).isEqualTo(1);
+	}
+
+	@Test
+	void rendersUnpagedAssociationIfNoPageRequested() throws Exception {
+
+		String content = mvc.perform(get("/people/{id}/siblings", owner.getId())).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.people[*].firstName")).hasSize(3);
+		assertThat(JsonPath.<Map<String, Object>> read(content, "$")).doesNotContainKey("page");
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for resolving multiple association URIs submitted with a request at once.
+ */
+@ContextConfiguration
+class JpaAssociationUriResolutionWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {}
+
+	@Autowired PersonRepository people;
+
+	List<Person> siblings;
+	List<Person> created = new ArrayList<>();
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.siblings = Stream.of("Uri-Alice", "Uri-Bob", "Uri-Carol") //
+				.map(it -> people.save(new Person(it, "Resolution"))) //
+				.toList();
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		people.deleteAll(created);
+		people.deleteAll(siblings);
+	}
+
+	@Test
+	void resolvesAllAssociationUrisOfCreatedAggregate() throws Exception {
+
+		String payload = String.format("{ \"firstName\" : \"Uri-Owner\", \"lastName\" : \"Resolution\", "
+				+ "\"siblings\" : [ \"/people/%s\", \"http://localhost/people/%s\", \"/people/%s\" ] }",
+				siblings.get(0).getId(), siblings.get(1).getId(), siblings.get(2).getId());
+
+		MockHttpServletResponse response = mvc.perform(post("/people") //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content(payload)).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+
+		String location = response.getHeader("Location");
+		created.add(people.findById(Long.valueOf(location.substring(location.lastIndexOf('/') + 1))).orElseThrow());
+
+		assertThat(getSiblingNames(location)).containsExactlyInAnyOrder("Uri-Alice", "Uri-Bob", "Uri-Carol");
+	}
+
+	@Test
+	void resolvesAllLinksSubmittedToAssociationResource() throws Exception {
+
+		Person owner = people.save(new Person("Uri-Owner", "Resolution"));
+		created.add(owner);
+
+		String uris = String.format("/people/%s\n/people/%s\n", siblings.get(2).getId(), siblings.get(0).getId());
+
+		MockHttpServletResponse response = mvc.perform(put("/people/{id}/siblings", owner.getId()) //
+				.contentType(RestMediaTypes.TEXT_URI_LIST) //
+				.content(uris)).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NO_CONTENT.value());
+		assertThat(getSiblingNames("/people/" + owner.getId())).containsExactlyInAnyOrder("Uri-Carol", "Uri-Alice");
+	}
+
+	private List<String> getSiblingNames(String uri) throws Exception {
+
+		String content = mvc.perform(get(uri + "/siblings")).getResponse().getContentAsString();
+
+		return JsonPath.read(content, "$._embedded.people[*].firstName");
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.http.HttpHeaders.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for looking up multiple item resources with a single request.
+ */
+@Transactional
+@ContextConfiguration
+class JpaBatchLookupWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {}
+
+	@Autowired CategoryRepository categories;
+
+	Category first, second, third;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.first = categories.save(new Category("first"));
+		this.second = categories.save(new Category("second"));
+		this.third = categories.save(new Category("third"));
+	}
+
+	@Test
+	void returnsItemResourcesInOrderRequested() throws Exception {
+
+		String content = mvc.perform(get("/categories?item-ids={0}&item-ids={1}&item-ids={2}", third.getId(),
+				first.getId(), second.getId())).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.categories[*].name")) //
+				.containsExactly("third", "first", "second");
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.categories[*]._links.self.href")) //
+				.allMatch(it -> it.matches(".*/categories/\\d+"));
+	}
+
+	@Test
+	void skipsUnknownAndDuplicateIdentifiers() throws Exception {
+
+		String content = mvc.perform(get("/categories?item-ids={0}&item-ids=4711&item-ids={1}", second.getId(),
+				second.getId())).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.categories[*].name")).containsExactly("second");
+	}
+
+	@Test
+	void appliesProjection() throws Exception {
+
+		String content = mvc.perform(get("/categories?item-ids={id}&projection=open", first.getId())).getResponse()
+				.getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.categories[*].calculatedName")) //
+				.containsExactly("calculated-first");
+	}
+
+	@Test
+	void leavesIdParameterToCollectionResource() throws Exception {
+
+		String content = mvc.perform(get("/categories?id={id}", first.getId())).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.categories[*].name")) //
+				.contains("first", "second", "third");
+	}
+
+	@Test
+	void rejectsMoreIdentifiersThanMaximumPageSize() {
+
+		String ids = IntStream.rangeClosed(1, 1001).mapToObj(Integer::toString).collect(Collectors.joining(","));
+
+		assertThat(mvc.perform(get("/categories").param("item-ids", ids))).hasStatus(HttpStatus.BAD_REQUEST);
+	}
+
+	@Test
+	void answersConditionalRequestWithNotModified() {
+
+		String uri = "/categories?item-ids=" + first.getId() + "&item-ids=" + second.getId();
+		String eTag = mvc.perform(get(uri)).getResponse().getHeader(ETAG);
+
+		assertThat(eTag).isNotNull();
+
+		MockHttpServletResponse response = mvc.perform(get(uri).header(IF_NONE_MATCH, eTag)).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+	}
+}
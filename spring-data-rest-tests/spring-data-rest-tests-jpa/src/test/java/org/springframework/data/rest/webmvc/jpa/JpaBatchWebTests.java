@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for batch requests executing multiple sub-requests at once.
+ */
+@ContextConfiguration
+class JpaBatchWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.getBatchConfiguration() //
+					.setEnabled(true) //
+					.setMaxRequests(5) //
+					.setFilters("subRequestFilter"));
+		}
+
+		@Bean
+		Filter subRequestFilter() {
+
+			return (request, response, chain) -> {
+
+				String uri = ((HttpServletRequest) request).getRequestURI();
+
+				((HttpServletResponse) response).setHeader("X-Filtered", uri);
+				chain.doFilter(request, response);
+			};
+		}
+
+		@Bean
+		Filter unconfiguredFilter() {
+
+			return (request, response, chain) -> {
+
+				((HttpServletResponse) response).setHeader("X-Unconfigured", "true");
+				chain.doFilter(request, response);
+			};
+		}
+	}
+
+	@Autowired CategoryRepository categories;
+
+	Category first, second;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.first = categories.save(new Category("batch-first"));
+		this.second = categories.save(new Category("batch-second"));
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		categories.findAll().forEach(it -> {
+			if (it.getName().startsWith("batch-")) {
+				categories.delete(it);
+			}
+		});
+	}
+
+	@Test
+	void executesSubRequestsAndListsResponsesInOrder() throws Exception {
+
+		String payload = String.format("{ \"requests\" : [ "
+				+ "{ \"id\" : \"create\", \"method\" : \"POST\", \"url\" : \"/categories\", "
+				+ "\"body\" : { \"name\" : \"batch-new\" } }, "
+				+ "{ \"id\" : \"first\", \"method\" : \"GET\", \"url\" : \"/categories/%s\" }, "
+				+ "{ \"id\" : \"second\", \"method\" : \"GET\", \"url\" : \"/categories/%s?projection=unknown\" }, "
+				+ "{ \"id\" : \"missing\", \"method\" : \"GET\", \"url\" : \"/categories/4711\" } ] }", first.getId(),
+				second.getId());
+
+		MockHttpServletResponse response = executeBatch(payload);
+		String content = response.getContentAsString();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(JsonPath.<List<String>> read(content, "$.responses[*].id")).containsExactly("create",
+				"first", "second", "missing");
+		assertThat(JsonPath.<Integer> read(content, "$.responses[0].status")).isEqualTo(201);
+		assertThat(JsonPath.<String> read(content, "$.responses[0].headers.Location")).contains("/categories/");
+		assertThat(JsonPath.<Integer> read(content, "$.responses[1].status")).isEqualTo(200);
+		assertThat(JsonPath.<String> read(content, "$.responses[1].body.name")).isEqualTo("batch-first");
+		assertThat(JsonPath.<String> read(content, "$.responses[1].headers.ETag")).isNotNull();
+		assertThat(JsonPath.<String> read(content, "$.responses[2].body.name")).isEqualTo("batch-second");
+		assertThat(JsonPath.<Integer> read(content, "$.responses[3].status")).isEqualTo(404);
+
+		assertThat(categories.findAll()).extracting(Category::getName).contains("batch-new");
+	}
+
+	@Test
+	void appliesHeadersOfSubRequests() throws Exception {
+
+		String eTag = mvc.perform(get("/categories/" + first.getId())).getResponse().getHeader("ETag");
+
+		String payload = String.format("{ \"requests\" : [ "
+				+ "{ \"method\" : \"GET\", \"url\" : \"/categories/%s\", "
+				+ "\"headers\" : { \"If-None-Match\" : \"%s\" } } ] }",
+				first.getId(), eTag.replace("\"", "\\\""));
+
+		String content = executeBatch(payload).getContentAsString();
+
+		assertThat(JsonPath.<Integer> read(content, "$.responses[0].status")).isEqualTo(304);
+	}
+
+	@Test
+	void passesSubRequestsThroughConfiguredServletFiltersOnly() throws Exception {
+
+		String payload = String.format("{ \"requests\" : [ "
+				+ "{ \"method\" : \"GET\", \"url\" : \"/categories/%s\" } ] }", first.getId());
+
+		MockHttpServletResponse response = executeBatch(payload);
+
+		assertThat(response.getHeader("X-Filtered")).isNull();
+		assertThat(JsonPath.<String> read(response.getContentAsString(), "$.responses[0].headers['X-Filtered']"))
+				.endsWith("/categories/" + first.getId());
+		assertThat(JsonPath.<Map<String, String>> read(response.getContentAsString(), "$.responses[0].headers"))
+				.doesNotContainKey("X-Unconfigured");
+	}
+
+	@Test
+	void rollsBackAtomicBatchIfSubRequestFails() throws Exception {
+
+		String payload = String.format("{ \"atomic\" : true, \"requests\" : [ "
+				+ "{ \"method\" : \"POST\", \"url\" : \"/categories\", "
+				+ "\"body\" : { \"name\" : \"batch-rolled-back\" } }, "
+				+ "{ \"method\" : \"DELETE\", \"url\" : \"/categories/%s\" }, "
+				+ "{ \"method\" : \"DELETE\", \"url\" : \"/categories/4711\" }, "
+				+ "{ \"method\" : \"DELETE\", \"url\" : \"/categories/%s\" } ] }", first.getId(), second.getId());
+
+		String content = executeBatch(payload).getContentAsString();
+
+		assertThat(JsonPath.<Boolean> read(content, "$.rolledBack")).isTrue();
+		assertThat(JsonPath.<List<Integer>> read(content, "$.responses[*].status")).containsExactly(201, 204,
+				404, 424);
+
+		assertThat(categories.findAll()).extracting(Category::getName) //
+				.contains("batch-first", "batch-second") //
+				.doesNotContain("batch-rolled-back");
+	}
+
+	@Test
+	void commitsAtomicBatchIfAllSubRequestsSucceed() throws Exception {
+
+		String payload = String.format("{ \"atomic\" : true, \"requests\" : [ "
+				+ "{ \"method\" : \"DELETE\", \"url\" : \"/categories/%s\" }, "
+				+ "{ \"method\" : \"PATCH\", \"url\" : \"/categories/%s\", "
+				+ "\"body\" : { \"name\" : \"batch-patched\" } } ] }",
+				first.getId(), second.getId());
+
+		String content = executeBatch(payload).getContentAsString();
+
+		assertThat(JsonPath.<List<Integer>> read(content, "$.responses[*].status")).containsExactly(204, 204);
+		assertThat(categories.findById(first.getId())).isEmpty();
+		assertThat(categories.findById(second.getId())).map(Category::getName).hasValue("batch-patched");
+	}
+
+	@Test
+	void rejectsNestedBatchRequests() throws Exception {
+
+		String payload = "{ \"requests\" : [ { \"method\" : \"POST\", \"url\" : \"/batch\", "
+				+ "\"body\" : { \"requests\" : [ { \"method\" : \"GET\", \"url\" : \"/categories\" } ] } } ] }";
+
+		String content = executeBatch(payload).getContentAsString();
+
+		assertThat(JsonPath.<Integer> read(content, "$.responses[0].status")).isEqualTo(400);
+	}
+
+	@Test
+	void rejectsBatchesExceedingMaximumNumberOfSubRequests() throws Exception {
+
+		String requests = IntStream.range(0, 6) //
+				.mapToObj(it -> "{ \"method\" : \"GET\", \"url\" : \"/categories\" }") //
+				.collect(Collectors.joining(", "));
+
+		MockHttpServletResponse response = executeBatch("{ \"requests\" : [ " + requests + " ] }");
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
+	@Test
+	void rejectsInvalidSubRequests() throws Exception {
+
+		MockHttpServletResponse response = executeBatch(
+				"{ \"requests\" : [ { \"method\" : \"TRACE\", \"url\" : \"/categories\" } ] }");
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
+	private MockHttpServletResponse executeBatch(String payload) {
+
+		return mvc.perform(post("/batch") //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content(payload)).getResponse();
+	}
+}
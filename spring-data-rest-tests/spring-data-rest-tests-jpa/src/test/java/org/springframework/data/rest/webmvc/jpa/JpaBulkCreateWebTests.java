@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.event.AfterBulkCreateEvent;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.BeforeBulkCreateEvent;
+import org.springframework.data.rest.core.event.BeforeCreateEvent;
+import org.springframework.data.rest.core.event.RepositoryEvent;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for creating multiple aggregates with a single request.
+ */
+@Transactional
+@ContextConfiguration
+class JpaBulkCreateWebTests extends AbstractWebIntegrationTests {
+
+	static final String PAYLOAD = "[ { \"name\" : \"first\" }, { \"name\" : \"second\" } ]";
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		EventCapture eventCapture() {
+			return new EventCapture();
+		}
+	}
+
+	@Autowired CategoryRepository categories;
+	@Autowired EventCapture events;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		events.clear();
+	}
+
+	@Test
+	void createsAllAggregatesAndRendersUriList() throws Exception {
+
+		long count = categories.count();
+
+		MockHttpServletResponse response = mvc.perform(post("/categories") //
+				.contentType(RestMediaTypes.SPRING_DATA_BULK_JSON) //
+				.content(PAYLOAD) //
+				.accept(RestMediaTypes.TEXT_URI_LIST)).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+		assertThat(response.getContentAsString().lines()).hasSize(2).allMatch(it -> it.matches(".*/categories/\\d+"));
+		assertThat(categories.count()).isEqualTo(count + 2);
+	}
+
+	@Test
+	void rendersLinksToCreatedItemResourcesInCompactForm() throws Exception {
+
+		String content = mvc.perform(post("/categories") //
+				.contentType(RestMediaTypes.SPRING_DATA_BULK_JSON) //
+				.content(PAYLOAD) //
+				.accept(RestMediaTypes.SPRING_DATA_COMPACT_JSON)).getResponse().getContentAsString();
+
+		List<String> links = JsonPath.read(content, "$.links[?(@.rel=='category')].href");
+
+		List<String> names = new ArrayList<>();
+
+		for (String link : links) {
+			names.add(JsonPath.read(mvc.perform(get(link)).getResponse().getContentAsString(), "$.name"));
+		}
+
+		assertThat(names).containsExactly("first", "second");
+	}
+
+	@Test
+	void publishesEventsPerAggregateAndForAllOfThem() throws Exception {
+
+		mvc.perform(post("/categories") //
+				.contentType(RestMediaTypes.SPRING_DATA_BULK_JSON) //
+				.content(PAYLOAD) //
+				.accept(RestMediaTypes.TEXT_URI_LIST));
+
+		assertThat(events.events).extracting(Object::getClass).containsExactly(BeforeCreateEvent.class,
+				BeforeCreateEvent.class, BeforeBulkCreateEvent.class, AfterCreateEvent.class, AfterCreateEvent.class,
+				AfterBulkCreateEvent.class);
+		assertThat(((AfterBulkCreateEvent) events.events.get(5)).getAggregates()).hasSize(2);
+	}
+
+	@Test
+	void createsSingleAggregateFromObjectNoMatterTheRepresentationRequested() throws Exception {
+
+		long count = categories.count();
+
+		for (MediaType mediaType : List.of(RestMediaTypes.TEXT_URI_LIST, RestMediaTypes.SPRING_DATA_COMPACT_JSON)) {
+
+			MockHttpServletResponse response = mvc.perform(post("/categories") //
+					.contentType(MediaType.APPLICATION_JSON) //
+					.content("{ \"name\" : \"single\" }") //
+					.accept(mediaType)).getResponse();
+
+			assertThat(response.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+			assertThat(response.getHeader(HttpHeaders.LOCATION)).matches(".*/categories/\\d+");
+		}
+
+		assertThat(categories.count()).isEqualTo(count + 2);
+		assertThat(events.events).extracting(Object::getClass).doesNotContain(BeforeBulkCreateEvent.class,
+				AfterBulkCreateEvent.class);
+	}
+
+	@Test
+	void rejectsPayloadExceedingMaximumBulkSize() {
+
+		long count = categories.count();
+		String payload = IntStream.rangeClosed(1, 1001) //
+				.mapToObj(it -> "{ \"name\" : \"" + it + "\" }") //
+				.collect(Collectors.joining(",", "[", "]"));
+
+		assertThat(mvc.perform(post("/categories") //
+				.contentType(RestMediaTypes.SPRING_DATA_BULK_JSON) //
+				.content(payload) //
+				.accept(RestMediaTypes.TEXT_URI_LIST))).hasStatus(HttpStatus.BAD_REQUEST);
+		assertThat(categories.count()).isEqualTo(count);
+		assertThat(events.events).isEmpty();
+	}
+
+	static class EventCapture implements ApplicationListener<RepositoryEvent> {
+
+		final List<RepositoryEvent> events = new ArrayList<>();
+
+		@Override
+		public void onApplicationEvent(RepositoryEvent event) {
+			events.add(event);
+		}
+
+		void clear() {
+			events.clear();
+		}
+	}
+}
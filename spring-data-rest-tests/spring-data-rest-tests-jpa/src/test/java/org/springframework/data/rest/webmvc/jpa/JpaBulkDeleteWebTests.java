@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.event.AfterBulkDeleteEvent;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.BeforeBulkDeleteEvent;
+import org.springframework.data.rest.core.event.BeforeDeleteEvent;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.jpa.JpaBulkCreateWebTests.EventCapture;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Web integration tests for deleting multiple aggregates with a single request.
+ */
+@Transactional
+@ContextConfiguration
+class JpaBulkDeleteWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		EventCapture eventCapture() {
+			return new EventCapture();
+		}
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.setMaxBulkSize(3));
+		}
+	}
+
+	@Autowired CategoryRepository categories;
+	@Autowired EventCapture events;
+
+	Category first, second;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.first = categories.save(new Category("first"));
+		this.second = categories.save(new Category("second"));
+
+		events.clear();
+	}
+
+	@Test
+	void deletesAggregatesIdentifiedByIds() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(delete("/categories") //
+				.param("item-ids", first.getId().toString(), second.getId().toString(), "4711")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NO_CONTENT.value());
+		assertThat(categories.findById(first.getId())).isEmpty();
+		assertThat(categories.findById(second.getId())).isEmpty();
+	}
+
+	@Test
+	void deletesAggregatesListedAsUris() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(delete("/categories") //
+				.contentType(RestMediaTypes.TEXT_URI_LIST) //
+				.content("http://localhost/categories/" + first.getId() + "\n/categories/" + second.getId()))
+				.getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NO_CONTENT.value());
+		assertThat(categories.findById(first.getId())).isEmpty();
+		assertThat(categories.findById(second.getId())).isEmpty();
+	}
+
+	@Test
+	void rejectsUrisOfOtherResources() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(delete("/categories") //
+				.contentType(RestMediaTypes.TEXT_URI_LIST) //
+				.content("http://localhost/people/" + first.getId())).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+		assertThat(categories.findById(first.getId())).isPresent();
+	}
+
+	@Test
+	void verifiesEntityTagPerIdentifierBeforeDeletingAnything() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(delete("/categories") //
+				.param("item-ids", first.getId().toString(), second.getId().toString()) //
+				.header(HttpHeaders.IF_MATCH, "\"0\", \"42\"")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+		assertThat(categories.findById(first.getId())).isPresent();
+		assertThat(categories.findById(second.getId())).isPresent();
+	}
+
+	@Test
+	void deletesAggregatesWithMatchingEntityTags() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(delete("/categories") //
+				.param("item-ids", first.getId().toString(), second.getId().toString()) //
+				.header(HttpHeaders.IF_MATCH, "\"0\", \"0\"")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NO_CONTENT.value());
+		assertThat(categories.findById(first.getId())).isEmpty();
+	}
+
+	@Test
+	void rejectsMoreIdentifiersThanMaximumBulkSize() {
+
+		assertThat(mvc.perform(delete("/categories") //
+				.param("item-ids", first.getId().toString(), second.getId().toString(), "4711", "4712")))
+				.hasStatus(HttpStatus.BAD_REQUEST);
+		assertThat(categories.findById(first.getId())).isPresent();
+		assertThat(events.events).isEmpty();
+	}
+
+	@Test
+	void publishesEventsPerAggregateAndForAllOfThem() throws Exception {
+
+		mvc.perform(delete("/categories").param("item-ids", first.getId().toString(), second.getId().toString()));
+
+		assertThat(events.events).extracting(Object::getClass).containsExactly(BeforeDeleteEvent.class,
+				BeforeDeleteEvent.class, BeforeBulkDeleteEvent.class, AfterDeleteEvent.class, AfterDeleteEvent.class,
+				AfterBulkDeleteEvent.class);
+		assertThat(((AfterBulkDeleteEvent) events.events.get(5)).getAggregates()).containsExactly(first, second);
+	}
+}
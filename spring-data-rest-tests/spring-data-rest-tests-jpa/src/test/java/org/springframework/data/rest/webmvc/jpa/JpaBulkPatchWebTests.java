@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.event.AfterBulkSaveEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.BeforeBulkSaveEvent;
+import org.springframework.data.rest.core.event.BeforeSaveEvent;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.jpa.JpaBulkCreateWebTests.EventCapture;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for patching multiple aggregates with a single request.
+ */
+@Transactional
+@ContextConfiguration
+class JpaBulkPatchWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		EventCapture eventCapture() {
+			return new EventCapture();
+		}
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.setMaxBulkSize(3));
+		}
+	}
+
+	@Autowired CategoryRepository categories;
+	@Autowired EventCapture events;
+
+	Category first, second;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.first = categories.save(new Category("first"));
+		this.second = categories.save(new Category("second"));
+
+		events.clear();
+	}
+
+	@Test
+	void appliesPatchDocumentsKeyedByIdentifier() throws Exception {
+
+		String payload = String.format("{ \"%s\" : { \"name\" : \"patched-first\" }, "
+				+ "\"%s\" : { \"name\" : \"patched-second\" }, \"4711\" : { \"name\" : \"unknown\" } }", first.getId(),
+				second.getId());
+
+		MockHttpServletResponse response = mvc.perform(patch("/categories") //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON) //
+				.content(payload)).getResponse();
+
+		String content = response.getContentAsString();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(JsonPath.<Integer> read(content, path(first, "status"))).isEqualTo(200);
+		assertThat(JsonPath.<String> read(content, path(first, "eTag"))).isNotNull();
+		assertThat(JsonPath.<String> read(content, path(second, "href"))).endsWith("/categories/" + second.getId());
+		assertThat(JsonPath.<Integer> read(content, "$['4711'].status")).isEqualTo(404);
+
+		assertThat(categories.findById(first.getId())).hasValueSatisfying(it -> {
+			assertThat(it.getName()).isEqualTo("patched-first");
+		});
+		assertThat(categories.findById(second.getId())).hasValueSatisfying(it -> {
+			assertThat(it.getName()).isEqualTo("patched-second");
+		});
+	}
+
+	@Test
+	void appliesSinglePatchToAllIdentifiers() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(patch("/categories") //
+				.param("item-ids", first.getId().toString(), second.getId().toString()) //
+				.contentType(RestMediaTypes.JSON_PATCH_JSON) //
+				.content("[ { \"op\" : \"replace\", \"path\" : \"/name\", \"value\" : \"same\" } ]")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(categories.findById(first.getId())).map(Category::getName).hasValue("same");
+		assertThat(categories.findById(second.getId())).map(Category::getName).hasValue("same");
+	}
+
+	@Test
+	void splitsCommaSeparatedIdentifiers() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(patch("/categories") //
+				.param("item-ids", first.getId() + "," + second.getId()) //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON) //
+				.content("{ \"name\" : \"same\" }")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(categories.findById(first.getId())).map(Category::getName).hasValue("same");
+		assertThat(categories.findById(second.getId())).map(Category::getName).hasValue("same");
+	}
+
+	@Test
+	void verifiesEntityTagPerIdentifierBeforePatchingAnything() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(patch("/categories") //
+				.param("item-ids", first.getId().toString(), second.getId().toString()) //
+				.header(HttpHeaders.IF_MATCH, "\"0\", \"42\"") //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON) //
+				.content("{ \"name\" : \"same\" }")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+		assertThat(categories.findById(first.getId())).map(Category::getName).hasValue("first");
+		assertThat(events.events).isEmpty();
+	}
+
+	@Test
+	void patchesAggregatesWithMatchingEntityTags() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(patch("/categories") //
+				.param("item-ids", first.getId().toString(), second.getId().toString()) //
+				.header(HttpHeaders.IF_MATCH, "\"0\", *") //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON) //
+				.content("{ \"name\" : \"same\" }")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(categories.findById(second.getId())).map(Category::getName).hasValue("same");
+	}
+
+	@Test
+	void rejectsMoreIdentifiersThanMaximumBulkSize() {
+
+		assertThat(mvc.perform(patch("/categories") //
+				.param("item-ids", first.getId() + "," + second.getId() + ",4711,4712") //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON) //
+				.content("{ \"name\" : \"same\" }"))).hasStatus(HttpStatus.BAD_REQUEST);
+		assertThat(categories.findById(first.getId())).map(Category::getName).hasValue("first");
+	}
+
+	@Test
+	void rejectsPatchDocumentsNotKeyedByIdentifier() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(patch("/categories") //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON) //
+				.content("[ { \"name\" : \"patched\" } ]")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
+	@Test
+	void publishesEventsPerAggregateAndForAllOfThem() throws Exception {
+
+		mvc.perform(patch("/categories") //
+				.param("item-ids", first.getId().toString(), second.getId().toString()) //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON) //
+				.content("{ \"name\" : \"same\" }"));
+
+		assertThat(events.events).extracting(Object::getClass).containsExactly(BeforeSaveEvent.class,
+				BeforeSaveEvent.class, BeforeBulkSaveEvent.class, AfterSaveEvent.class, AfterSaveEvent.class,
+				AfterBulkSaveEvent.class);
+	}
+
+	private static String path(Category category, String property) {
+		return String.format("$['%s'].%s", category.getId(), property);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.http.HttpHeaders.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Web integration tests for {@code Cache-Control} policies.
+ */
+@ContextConfiguration
+class JpaCacheControlWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+
+			return RepositoryRestConfigurer.withConfig(config -> config.getCacheControlConfiguration() //
+					.setDefault(CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic(), Scope.ITEM, Scope.COLLECTION) //
+					.setDefault(CacheControl.maxAge(Duration.ofDays(1)), Scope.PROFILE) //
+					.forDomainType(Category.class, CacheControl.noCache().cachePrivate(), Scope.ITEM));
+		}
+	}
+
+	@Autowired CategoryRepository categories;
+
+	String uri;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.uri = "/categories/" + categories.save(new Category("cached")).getId();
+	}
+
+	@Test
+	void appliesDefaultPolicyToCollectionResource() {
+
+		MockHttpServletResponse response = mvc.perform(get("/categories")).getResponse();
+
+		assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo("max-age=60, public");
+	}
+
+	@Test
+	void appliesPolicyConfiguredForDomainTypeNextToValidators() {
+
+		MockHttpServletResponse response = mvc.perform(get(uri)).getResponse();
+
+		assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo("no-cache, private");
+		assertThat(response.getHeader(ETAG)).isNotNull();
+	}
+
+	@Test
+	void keepsPolicyForNotModifiedResponses() {
+
+		String eTag = mvc.perform(get(uri)).getResponse().getHeader(ETAG);
+
+		MockHttpServletResponse response = mvc.perform(get(uri).header(IF_NONE_MATCH, eTag)).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo("no-cache, private");
+	}
+
+	@Test
+	void appliesPolicyToProfileResources() {
+
+		assertThat(mvc.perform(get("/profile")).getResponse().getHeader(CACHE_CONTROL)).isEqualTo("max-age=86400");
+		assertThat(mvc.perform(get("/profile/categories")).getResponse().getHeader(CACHE_CONTROL))
+				.isEqualTo("max-age=86400");
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for the compact and {@code text/uri-list} representations of collection resources.
+ */
+@Transactional
+@ContextConfiguration
+class JpaCompactWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.useStoreQueriesFor(Person.class));
+		}
+	}
+
+	@Autowired PersonRepository people;
+
+	@Test
+	void rendersUriListOfItemResources() throws Exception {
+
+		String content = mvc.perform(get("/people").accept(RestMediaTypes.TEXT_URI_LIST)).getResponse()
+				.getContentAsString();
+
+		assertThat(content.lines().filter(it -> it.matches(".*/people/\\d+"))) //
+				.containsExactlyElementsOf(getSelfLinks("/people"));
+	}
+
+	@Test
+	void rendersPageOfLinksWithMetadata() throws Exception {
+
+		String content = mvc.perform(get("/people?page=0&size=2&sort=firstName,desc") //
+				.accept(RestMediaTypes.SPRING_DATA_COMPACT_JSON)).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$.links[?(@.rel=='person')].href"))
+				.containsExactlyElementsOf(getSelfLinks("/people?page=0&size=2&sort=firstName,desc"));
+		assertThat(JsonPath.<List<String>> read(content, "$.links[?(@.rel=='next')].href")).hasSize(1);
+		assertThat(JsonPath.<Number> read(content, "$.page.totalElements").longValue()).isEqualTo(people.count());
+	}
+
+	@Test
+	void rendersCompactSearchResults() throws Exception {
+
+		String content = mvc.perform(get("/people/search/findByFirstName?firstname=John") //
+				.accept(RestMediaTypes.SPRING_DATA_COMPACT_JSON)).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$.links[?(@.rel=='person')].href"))
+				.containsExactlyElementsOf(getSelfLinks("/people/search/findByFirstName?firstname=John"));
+	}
+
+	private List<String> getSelfLinks(String uri) throws Exception {
+
+		String content = mvc.perform(get(uri).accept(MediaTypes.HAL_JSON)).getResponse().getContentAsString();
+
+		return JsonPath.read(content, "$._embedded.people[*]._links.self.href");
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.http.HttpHeaders.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Web integration tests for {@code ETag}s calculated from the rendered representation of unversioned entities.
+ */
+@ContextConfiguration
+class JpaContentHashETagWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.useContentHashETagsFor(Person.class));
+		}
+	}
+
+	@Autowired TestDataPopulator loader;
+	@Autowired PersonRepository people;
+
+	String uri;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		loader.populateRepositories();
+		super.setUp();
+
+		this.uri = "/people/" + people.findAll().iterator().next().getId();
+	}
+
+	@Test
+	void exposesStableStrongETagForUnversionedEntity() {
+
+		MockHttpServletResponse first = mvc.perform(get(uri)).getResponse();
+		MockHttpServletResponse second = mvc.perform(get(uri)).getResponse();
+
+		assertThat(first.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(first.getHeader(ETAG)).startsWith("\"").isEqualTo(second.getHeader(ETAG));
+		assertThat(first.getContentAsByteArray()).isNotEmpty().isEqualTo(second.getContentAsByteArray());
+	}
+
+	@Test
+	void answersNotModifiedForMatchingContentHash() {
+
+		String eTag = mvc.perform(get(uri)).getResponse().getHeader(ETAG);
+
+		MockHttpServletResponse response = mvc.perform(get(uri).header(IF_NONE_MATCH, eTag)).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(response.getHeader(ETAG)).isEqualTo(eTag);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void rendersRepresentationForOutdatedContentHash() {
+
+		MockHttpServletResponse response = mvc.perform(get(uri).header(IF_NONE_MATCH, "\"outdated\"")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(response.getContentAsByteArray()).isNotEmpty();
+	}
+
+	@Test
+	void acceptsUpdateWithContentHashFromPreviousRead() {
+
+		String eTag = mvc.perform(get(uri)).getResponse().getHeader(ETAG);
+
+		assertThat(mvc.perform(put(uri).content("{ \"firstName\" : \"Frodo\", \"lastName\" : \"Baggins\" }")
+				.contentType(MediaType.APPLICATION_JSON).header(IF_MATCH, eTag))).hasStatus2xxSuccessful();
+
+		assertThat(mvc.perform(patch(uri).content("{ \"firstName\" : \"Bilbo\" }")
+				.contentType(MediaType.APPLICATION_JSON).header(IF_MATCH, eTag)))
+				.hasStatus(HttpStatus.PRECONDITION_FAILED);
+	}
+
+	@Test
+	void acceptsPatchAndDeleteWithCurrentContentHash() {
+
+		String uri = "/people/" + people.save(new Person("Frodo", "Baggins")).getId();
+		String eTag = mvc.perform(get(uri)).getResponse().getHeader(ETAG);
+
+		assertThat(mvc.perform(patch(uri).content("{ \"firstName\" : \"Bilbo\" }")
+				.contentType(MediaType.APPLICATION_JSON).header(IF_MATCH, eTag))).hasStatus2xxSuccessful();
+
+		String updated = mvc.perform(get(uri)).getResponse().getHeader(ETAG);
+
+		assertThat(updated).isNotEqualTo(eTag);
+		assertThat(mvc.perform(delete(uri).header(IF_MATCH, eTag))).hasStatus(HttpStatus.PRECONDITION_FAILED);
+		assertThat(mvc.perform(delete(uri).header(IF_MATCH, updated))).hasStatus(HttpStatus.NO_CONTENT);
+	}
+}
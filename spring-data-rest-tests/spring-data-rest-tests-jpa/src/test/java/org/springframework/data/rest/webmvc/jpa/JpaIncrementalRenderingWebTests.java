@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.config.IncrementalRenderingConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for incrementally rendered collection resources.
+ */
+@Transactional
+@ContextConfiguration
+class JpaIncrementalRenderingWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+
+			return RepositoryRestConfigurer.withConfig(config -> config.getIncrementalRenderingConfiguration() //
+					.setEnabled(true) //
+					.setThreshold(0));
+		}
+	}
+
+	@Autowired RepositoryRestConfiguration configuration;
+	@Autowired PersonRepository people;
+
+	@AfterEach
+	void enableIncrementalRendering() {
+		getIncrementalRenderingConfiguration().setEnabled(true);
+	}
+
+	@Test
+	void rendersPageIncrementally() throws Exception {
+
+		String content = mvc.perform(get("/people?page=0&size=2")).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<?>> read(content, "$._embedded.people")).hasSize(2);
+		assertThat(JsonPath.<String> read(content, "$._embedded.people[0]._links.self.href")).isNotBlank();
+		assertThat(JsonPath.<String> read(content, "$._links.next.href")).contains("page=1");
+		assertThat(JsonPath.<Number> read(content, "$.page.totalElements").longValue()).isEqualTo(people.count());
+	}
+
+	@Test
+	void rendersSameRepresentationAsMaterializedCollection() throws Exception {
+
+		for (String uri : List.of("/people?page=0&size=2", "/people?page=1&size=2&sort=firstName", "/people?page=100")) {
+
+			String incremental = render(uri);
+
+			getIncrementalRenderingConfiguration().setEnabled(false);
+			String materialized = render(uri);
+			getIncrementalRenderingConfiguration().setEnabled(true);
+
+			assertThat(incremental).as(uri).isEqualTo(materialized);
+		}
+	}
+
+	@Test
+	void rendersEmptyPageWithRelationOfDomainType() throws Exception {
+
+		String content = render("/people?page=100");
+
+		assertThat(JsonPath.<Map<String, ?>> read(content, "$._embedded")).containsOnlyKeys("people");
+		assertThat(JsonPath.<List<?>> read(content, "$._embedded.people")).isEmpty();
+	}
+
+	private String render(String uri) throws Exception {
+		return mvc.perform(get(uri).accept(MediaTypes.HAL_JSON)).getResponse().getContentAsString();
+	}
+
+	private IncrementalRenderingConfiguration getIncrementalRenderingConfiguration() {
+		return configuration.getIncrementalRenderingConfiguration();
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import jakarta.persistence.Persistence;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.jpa.Book.Offer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for binding association URIs to references of the aggregates pointed to.
+ */
+@ContextConfiguration
+class JpaReferenceBindingWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.getReferenceBindingConfiguration() //
+					.forDomainTypes(Person.class, Author.class));
+		}
+	}
+
+	@Autowired PersonRepository people;
+	@Autowired AuthorRepository authors;
+	@Autowired BookRepository books;
+	@Autowired CategoryRepository categories;
+	@Autowired @Qualifier("defaultConversionService") ConversionService conversionService;
+
+	Person father;
+	List<Object> created = new ArrayList<>();
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.father = people.save(new Person("Reference-Father", "Binding"));
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		created.forEach(it -> {
+			if (it instanceof Person person) {
+				people.delete(person);
+			} else if (it instanceof Book book) {
+				books.delete(book);
+			} else if (it instanceof Author author) {
+				authors.delete(author);
+			} else if (it instanceof Category category) {
+				categories.delete(category);
+			}
+		});
+
+		people.delete(father);
+	}
+
+	@Test
+	void bindsAssociationUrisOfConfiguredTypeToReferences() {
+
+		Object reference = conversionService.convert(URI.create("/people/" + father.getId()), Person.class);
+
+		assertThat(reference).isInstanceOf(Person.class);
+		assertThat(Persistence.getPersistenceUtil().isLoaded(reference)).isFalse();
+	}
+
+	@Test
+	void loadsAggregatesOfTypesNotConfigured() {
+
+		Category category = categories.save(new Category("Reference-Category"));
+		created.add(category);
+
+		Object aggregate = conversionService.convert(URI.create("/categories/" + category.getId()), Category.class);
+
+		assertThat(Persistence.getPersistenceUtil().isLoaded(aggregate)).isTrue();
+	}
+
+	@Test
+	void createsAggregateWithReferencedAssociations() throws Exception {
+
+		String payload = String.format("{ \"firstName\" : \"Reference-Child\", \"lastName\" : \"Binding\", "
+				+ "\"father\" : \"/people/%s\" }", father.getId());
+
+		MockHttpServletResponse response = mvc.perform(post("/people") //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content(payload)).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+
+		String location = response.getHeader("Location");
+		created.add(0, people.findById(Long.valueOf(location.substring(location.lastIndexOf('/') + 1))).orElseThrow());
+
+		String content = mvc.perform(get(location + "/father")).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<String> read(content, "$.firstName")).isEqualTo("Reference-Father");
+	}
+
+	@Test
+	void bindsUriParametersOfSearchResourcesToReferences() throws Exception {
+
+		Author author = authors.save(new Author("Reference Author"));
+		Book book = books.save(new Book("reference-isbn", "Reference Binding", 0, List.of(author),
+				new Offer(9.99, "EUR")));
+
+		created.add(book);
+		created.add(author);
+
+		String content = mvc.perform(get("/books/search/findByAuthorsContains") //
+				.param("author", "/authors/" + author.id)).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.books[*].title"))
+				.containsExactly("Reference Binding");
+	}
+}
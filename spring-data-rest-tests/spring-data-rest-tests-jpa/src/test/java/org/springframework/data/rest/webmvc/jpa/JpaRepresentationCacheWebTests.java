@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.http.HttpHeaders.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RepresentationCache;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Web integration tests for the server-side {@link RepresentationCache}.
+ */
+@ContextConfiguration
+class JpaRepresentationCacheWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer
+					.withConfig(config -> config.getRepresentationCacheConfiguration().enableFor(Category.class));
+		}
+	}
+
+	@Autowired CategoryRepository categories;
+	@Autowired RepresentationCache cache;
+
+	String uri;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.uri = "/categories/" + categories.save(new Category("cached")).getId();
+	}
+
+	@Test
+	void servesRepeatedRequestsFromCache() {
+
+		long hits = cache.getHitCount();
+
+		MockHttpServletResponse first = mvc.perform(get(uri)).getResponse();
+		MockHttpServletResponse second = mvc.perform(get(uri)).getResponse();
+
+		assertThat(cache.getHitCount()).isEqualTo(hits + 1);
+		assertThat(second.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(second.getHeader(ETAG)).isEqualTo(first.getHeader(ETAG));
+		assertThat(second.getContentType()).isEqualTo(first.getContentType());
+		assertThat(second.getContentAsByteArray()).isNotEmpty().isEqualTo(first.getContentAsByteArray());
+	}
+
+	@Test
+	void cachesRepresentationsPerProjectionAndMediaType() {
+
+		long hits = cache.getHitCount();
+
+		mvc.perform(get(uri));
+		mvc.perform(get(uri + "?projection=open"));
+		mvc.perform(get(uri).accept(MediaType.APPLICATION_JSON));
+
+		assertThat(cache.getHitCount()).isEqualTo(hits);
+	}
+
+	@Test
+	void invalidatesRepresentationOnUpdate() throws Exception {
+
+		mvc.perform(get(uri));
+
+		long invalidations = cache.getInvalidationCount();
+
+		mvc.perform(patch(uri).content("{ \"name\" : \"changed\" }").contentType(MediaType.APPLICATION_JSON));
+
+		assertThat(cache.getInvalidationCount()).isGreaterThan(invalidations);
+		assertThat(mvc.perform(get(uri)).getResponse().getContentAsString()).contains("changed");
+	}
+}
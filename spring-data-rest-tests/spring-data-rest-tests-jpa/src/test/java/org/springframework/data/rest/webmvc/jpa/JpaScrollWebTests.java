@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.support.RepositoryScroller;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+
+/**
+ * Web integration tests for collection resources scrolled through by cursor.
+ */
+@Transactional
+@ContextConfiguration
+class JpaScrollWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	@EnableJpaRepositories(considerNestedRepositories = true)
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.useScrollingFor(Ticket.class));
+		}
+	}
+
+	@Entity
+	static class Ticket {
+
+		@Id @GeneratedValue Long id;
+		String name;
+
+		Ticket() {}
+
+		Ticket(String name) {
+			this.name = name;
+		}
+	}
+
+	interface TicketRepository extends CrudRepository<Ticket, Long> {
+
+		@RestResource(exported = false)
+		Window<Ticket> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+	}
+
+	@Autowired TicketRepository tickets;
+
+	List<String> expected;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		for (int i = 0; i < 5; i++) {
+			tickets.save(new Ticket("scrolled-" + i));
+		}
+
+		this.expected = StreamSupport.stream(tickets.findAll().spliterator(), false) //
+				.map(it -> it.id) //
+				.sorted() //
+				.map(it -> "http://localhost/tickets/" + it) //
+				.toList();
+	}
+
+	@Test
+	void scrollsForwardThroughAllElementsByCursor() throws Exception {
+
+		List<String> result = new ArrayList<>();
+		String uri = "/tickets?size=2";
+		String content = null;
+
+		while (uri != null) {
+
+			content = mvc.perform(get(uri)).getResponse().getContentAsString();
+			result.addAll(JsonPath.read(content, "$._embedded.tickets[*]._links.self.href"));
+
+			uri = getLink(content, "next");
+		}
+
+		assertThat(result).containsExactlyElementsOf(expected);
+		assertThat(getLink(content, "prev")).isNotNull();
+	}
+
+	@Test
+	void scrollsBackwardFromLaterPosition() throws Exception {
+
+		String first = mvc.perform(get("/tickets?size=2")).getResponse().getContentAsString();
+
+		assertThat(getLink(first, "prev")).isNull();
+
+		String second = mvc.perform(get(getLink(first, "next"))).getResponse().getContentAsString();
+		String back = mvc.perform(get(getLink(second, "prev"))).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(back, "$._embedded.tickets[*]._links.self.href")) //
+				.containsExactlyElementsOf(expected.subList(0, 2));
+	}
+
+	@Test
+	void advertisesCursorOnCollectionLink() throws Exception {
+
+		String root = mvc.perform(get("/")).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<String> read(root, "$._links.tickets.href"))
+				.contains(RepositoryScroller.CURSOR_PARAMETER) //
+				.doesNotContain("page");
+	}
+
+	@Test
+	void rejectsInvalidCursor() {
+
+		MockHttpServletResponse response = mvc.perform(get("/tickets?cursor=invalid")).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
+	@Test
+	void rejectsCursorNotMatchingSort() throws Exception {
+
+		String first = mvc.perform(get("/tickets?size=2&sort=name")).getResponse().getContentAsString();
+		String cursor = UriComponentsBuilder.fromUriString(getLink(first, "next")).build().getQueryParams()
+				.getFirst(RepositoryScroller.CURSOR_PARAMETER);
+
+		MockHttpServletResponse response = mvc.perform(get("/tickets?size=2&cursor=" + cursor)).getResponse();
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+	}
+
+	private static String getLink(String content, String rel) {
+
+		try {
+			return JsonPath.read(content, "$._links." + rel + ".href");
+		} catch (PathNotFoundException o_O) {
+			return null;
+		}
+	}
+}
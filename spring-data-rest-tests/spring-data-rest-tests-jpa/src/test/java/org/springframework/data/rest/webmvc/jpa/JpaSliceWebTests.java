@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+
+/**
+ * Web integration tests for paged collection and search resources rendered as slices.
+ */
+@Transactional
+@ContextConfiguration
+class JpaSliceWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.useStoreQueriesFor(Person.class));
+		}
+	}
+
+	@Autowired PersonRepository people;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		for (int i = 0; i < 3; i++) {
+			people.save(new Person("Sliced", "Person " + i));
+		}
+	}
+
+	@Test
+	void rendersCollectionResourceAsSliceIfRequested() throws Exception {
+
+		String content = mvc.perform(get("/people?page=0&size=2&slice")).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<Object>> read(content, "$._embedded.people")).hasSize(2);
+		assertThat(JsonPath.<Integer> read(content, "$.page.size")).isEqualTo(2);
+		assertThat(JsonPath.<Integer> read(content, "$.page.number")).isEqualTo(0);
+		assertThat(hasPath(content, "$.page.totalElements")).isFalse();
+		assertThat(hasPath(content, "$.page.totalPages")).isFalse();
+		assertThat(hasPath(content, "$._links.next.href")).isTrue();
+	}
+
+	@Test
+	void omitsNextLinkOnLastSlice() throws Exception {
+
+		long count = people.count();
+
+		String content = mvc.perform(get("/people?page=0&slice&size=" + count)).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<Object>> read(content, "$._embedded.people")).hasSize((int) count);
+		assertThat(hasPath(content, "$._links.next.href")).isFalse();
+	}
+
+	@Test
+	void rendersLastSliceOfSearchResult() throws Exception {
+
+		String content = mvc.perform(get("/people/search/firstname?firstname=Sliced&page=1&size=2&slice"))
+				.getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.people[*].firstName")).containsExactly("Sliced");
+		assertThat(hasPath(content, "$.page.totalElements")).isFalse();
+		assertThat(hasPath(content, "$._links.next.href")).isFalse();
+		assertThat(hasPath(content, "$._links.prev.href")).isTrue();
+	}
+
+	@Test
+	void rendersPageIfSliceIsNotRequested() throws Exception {
+
+		String content = mvc.perform(get("/people?page=0&size=2&slice=false")).getResponse().getContentAsString();
+
+		assertThat(JsonPath.<Integer> read(content, "$.page.totalElements")).isEqualTo((int) people.count());
+	}
+
+	@Test
+	void rendersPagedSearchResultAsSliceIfRequested() throws Exception {
+
+		String content = mvc.perform(get("/people/search/firstname?firstname=Sliced&page=0&size=2&slice")).getResponse()
+				.getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(content, "$._embedded.people")).hasSize(2);
+		assertThat(hasPath(content, "$.page.totalElements")).isFalse();
+		assertThat(hasPath(content, "$._links.next.href")).isTrue();
+	}
+
+	private static boolean hasPath(String content, String path) {
+
+		try {
+			JsonPath.read(content, path);
+			return true;
+		} catch (PathNotFoundException o_O) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for the streaming export of collection and search resources.
+ */
+@ContextConfiguration
+class JpaStreamingExportWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.getExportConfiguration().setChunkSize(2));
+		}
+	}
+
+	@Autowired PersonRepository people;
+
+	@Test
+	void exportsCollectionResourceAsNewlineDelimitedJson() throws Exception {
+
+		MockHttpServletResponse response = export("/people", RestMediaTypes.NDJSON);
+		List<String> lines = response.getContentAsString().lines().toList();
+
+		assertThat(response.getHeader(HttpHeaders.CONTENT_TYPE)).startsWith(RestMediaTypes.NDJSON_VALUE);
+		assertThat(lines).hasSize((int) people.count());
+		assertThat(lines).allSatisfy(it -> {
+			assertThat(JsonPath.<String> read(it, "$.firstName")).isNotNull();
+			assertThat(JsonPath.<String> read(it, "$._links.self.href")).contains("/people/");
+		});
+	}
+
+	@Test
+	void exportsCollectionResourceAsCsv() throws Exception {
+
+		MockHttpServletResponse response = export("/people?sort=firstName", RestMediaTypes.TEXT_CSV);
+		List<String> lines = response.getContentAsString().lines().toList();
+
+		assertThat(response.getHeader(HttpHeaders.CONTENT_TYPE)).startsWith(RestMediaTypes.TEXT_CSV_VALUE);
+		assertThat(Arrays.asList(lines.get(0).split(","))).containsExactlyInAnyOrder("firstName", "lastName", "created",
+				"gender");
+		assertThat(lines).hasSize((int) people.count() + 1);
+		assertThat(lines).anySatisfy(it -> assertThat(it).startsWith("Billy Bob,Thornton,"));
+	}
+
+	@Test
+	void exportsSearchResourceAsCsv() throws Exception {
+
+		MockHttpServletResponse response = export("/people/search/lastname?lastname=Doe&sort=firstName",
+				RestMediaTypes.TEXT_CSV);
+		List<String> lines = response.getContentAsString().lines().toList();
+
+		assertThat(lines.get(0)).startsWith("firstName,").contains("lastName");
+		assertThat(lines.subList(1, lines.size())).allSatisfy(it -> assertThat(it).contains(",Doe,"));
+		assertThat(lines.stream().map(it -> it.split(",")[0]).toList()).containsSubsequence("Jane", "John");
+	}
+
+	@Test
+	void exportsPagedSearchResourceChunkByChunk() throws Exception {
+
+		MockHttpServletResponse response = export("/people/search/firstname?firstname=John", RestMediaTypes.NDJSON);
+		List<String> lines = response.getContentAsString().lines().toList();
+
+		assertThat(lines).isNotEmpty();
+		assertThat(lines).allSatisfy(it -> assertThat(JsonPath.<String> read(it, "$.firstName")).isEqualTo("John"));
+	}
+
+	private MockHttpServletResponse export(String uri, MediaType mediaType) throws Exception {
+
+		MvcResult result = mockMvc.perform(get(uri).accept(mediaType)) //
+				.andExpect(request().asyncStarted()) //
+				.andReturn();
+
+		return mockMvc.perform(asyncDispatch(result)).andReturn().getResponse();
+	}
+}
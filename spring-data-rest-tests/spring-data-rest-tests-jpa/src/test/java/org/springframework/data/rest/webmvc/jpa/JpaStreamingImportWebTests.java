@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.RepositoryConstraintViolationException;
+import org.springframework.data.rest.core.event.BeforeCreateEvent;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Web integration tests for the streaming import of newline delimited JSON into collection resources.
+ */
+@ContextConfiguration
+class JpaStreamingImportWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.getImportConfiguration().setChunkSize(2));
+		}
+
+		@Bean
+		ApplicationListener<BeforeCreateEvent> rejectingListener() {
+
+			return event -> {
+
+				if (event.getSource() instanceof Category category && "import-invalid".equals(category.getName())) {
+
+					Errors errors = new BeanPropertyBindingResult(category, "category");
+					errors.rejectValue("name", "invalid", "Name must not be invalid");
+
+					throw new RepositoryConstraintViolationException(errors);
+				}
+			};
+		}
+	}
+
+	@Autowired CategoryRepository categories;
+
+	@AfterEach
+	void tearDown() {
+
+		categories.findAll().forEach(it -> {
+			if (it.getName().startsWith("import-")) {
+				categories.delete(it);
+			}
+		});
+	}
+
+	@Test
+	void importsRecordsChunkByChunk() throws Exception {
+
+		long before = categories.count();
+
+		MockHttpServletResponse response = importRecords(records("import-1", "import-2", "import-3", "import-4",
+				"import-5"));
+		List<String> lines = response.getContentAsString().lines().toList();
+
+		assertThat(response.getHeader(HttpHeaders.CONTENT_TYPE)).startsWith(RestMediaTypes.NDJSON_VALUE);
+		assertThat(lines).hasSize(4);
+		assertThat(lines.subList(0, 3).stream().map(it -> JsonPath.<Integer> read(it, "$.created")))
+				.containsExactly(2, 2, 1);
+		assertThat(JsonPath.<Integer> read(lines.get(3), "$.created")).isEqualTo(5);
+		assertThat(JsonPath.<Integer> read(lines.get(3), "$.failed")).isEqualTo(0);
+		assertThat(categories.count()).isEqualTo(before + 5);
+	}
+
+	@Test
+	void rollsBackChunkFailingValidationAndContinues() throws Exception {
+
+		MockHttpServletResponse response = importRecords(records("import-a", "import-invalid", "import-b",
+				"import-c"));
+		List<String> lines = response.getContentAsString().lines().toList();
+
+		assertThat(JsonPath.<String> read(lines.get(0), "$.error")).isEqualTo("Validation failed");
+		assertThat(JsonPath.<String> read(lines.get(0), "$.violations[0].property")).isEqualTo("name");
+		assertThat(JsonPath.<Integer> read(lines.get(1), "$.created")).isEqualTo(2);
+		assertThat(JsonPath.<Integer> read(lines.get(2), "$.failed")).isEqualTo(2);
+
+		List<String> names = new ArrayList<>();
+		categories.findAll().forEach(it -> names.add(it.getName()));
+
+		assertThat(names).contains("import-b", "import-c").doesNotContain("import-a", "import-invalid");
+	}
+
+	@Test
+	void stopsImportOnMalformedRecord() throws Exception {
+
+		MockHttpServletResponse response = importRecords("{ \"name\" : \"import-x\" }\n{ \"name\" : ");
+		List<String> lines = response.getContentAsString().lines().toList();
+
+		assertThat(lines).hasSize(1);
+		assertThat(JsonPath.<String> read(lines.get(0), "$.error")).isEqualTo("Malformed record");
+		assertThat(JsonPath.<Integer> read(lines.get(0), "$.record")).isEqualTo(2);
+	}
+
+	private MockHttpServletResponse importRecords(String records) throws Exception {
+
+		MvcResult result = mockMvc.perform(post("/categories") //
+				.contentType(RestMediaTypes.NDJSON) //
+				.content(records)) //
+				.andExpect(request().asyncStarted()) //
+				.andReturn();
+
+		return mockMvc.perform(asyncDispatch(result)).andReturn().getResponse();
+	}
+
+	private static String records(String... names) {
+
+		StringBuilder builder = new StringBuilder();
+
+		for (String name : names) {
+			builder.append("{ \"name\" : \"").append(name).append("\" }\n");
+		}
+
+		return builder.toString();
+	}
+}
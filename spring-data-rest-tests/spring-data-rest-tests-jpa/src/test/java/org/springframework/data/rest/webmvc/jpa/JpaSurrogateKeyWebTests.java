@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.support.InMemorySurrogateKeyPurger;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Web integration tests for surrogate keys and their purging on writes.
+ */
+@Transactional
+@ContextConfiguration
+class JpaSurrogateKeyWebTests extends AbstractWebIntegrationTests {
+
+	private static final String HEADER = "Surrogate-Key";
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.getSurrogateKeyConfiguration().setEnabled(true));
+		}
+
+		@Bean
+		InMemorySurrogateKeyPurger inMemorySurrogateKeyPurger() {
+			return new InMemorySurrogateKeyPurger();
+		}
+	}
+
+	@Autowired CategoryRepository categories;
+	@Autowired AuthorRepository authors;
+	@Autowired BookRepository books;
+	@Autowired InMemorySurrogateKeyPurger purger;
+
+	Category category;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		this.category = categories.save(new Category("keyed"));
+		this.purger.reset();
+	}
+
+	@Test
+	void exposesKeyOfItemResource() {
+
+		String keys = mvc.perform(get("/categories/" + category.getId())).getResponse().getHeader(HEADER);
+
+		assertThat(keys).isEqualTo("Category:" + category.getId());
+	}
+
+	@Test
+	void exposesCollectionKeyAndKeysOfElementsForCollectionResource() {
+
+		String keys = mvc.perform(get("/categories")).getResponse().getHeader(HEADER);
+
+		assertThat(keys.split(" ")).contains("Category:collection", "Category:" + category.getId());
+	}
+
+	@Test
+	void exposesKeysOfEmbeddedExcerpts() {
+
+		Author author = authors.save(new Author("Ollie"));
+		Book book = books.save(new Book("1234", "Spring Data REST", 0, List.of(author), null));
+
+		String keys = mvc.perform(get("/authors/" + author.id)).getResponse().getHeader(HEADER);
+
+		assertThat(keys.split(" ")).containsExactly("Author:" + author.id, "Book:" + book.id);
+	}
+
+	@Test
+	void purgesAffectedKeysOnceAfterWrite() {
+
+		mvc.perform(patch("/categories/" + category.getId()) //
+				.content("{ \"name\" : \"updated\" }") //
+				.contentType(MediaType.APPLICATION_JSON));
+
+		assertThat(purger.getPurges()).hasSize(1);
+		assertThat(purger.getPurgedKeys()).containsExactly("Category:" + category.getId(), "Category:collection");
+	}
+
+	@Test
+	void purgesItemKeyOnDelete() {
+
+		Category other = categories.save(new Category("other"));
+
+		mvc.perform(delete("/categories/" + category.getId()));
+
+		assertThat(purger.getPurgedKeys()) //
+				.contains("Category:" + category.getId(), "Category:collection") //
+				.doesNotContain("Category:" + other.getId());
+	}
+}
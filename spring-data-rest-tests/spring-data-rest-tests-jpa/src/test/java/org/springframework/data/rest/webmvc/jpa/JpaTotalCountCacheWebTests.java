@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+
+/**
+ * Web integration tests for paged collection resources rendered with cached totals.
+ */
+@Transactional
+@ContextConfiguration
+class JpaTotalCountCacheWebTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+
+			return RepositoryRestConfigurer.withConfig(config -> config.useStoreQueriesFor(Person.class) //
+					.getTotalCountCacheConfiguration() //
+					.enableFor(Person.class) //
+					.setApproximationExposed(true));
+		}
+	}
+
+	@Autowired PersonRepository people;
+
+	long total;
+
+	@Override
+	@BeforeEach
+	public void setUp() {
+
+		super.setUp();
+
+		for (int i = 0; i < 3; i++) {
+			people.save(new Person("Counted", "Person " + i));
+		}
+
+		this.total = people.count();
+
+		// Evicts the total cached by previous tests, the read below caches the current one
+		mvc.perform(post("/people").contentType(MediaType.APPLICATION_JSON).content("{ \"firstName\" : \"Evicting\" }"));
+		this.total++;
+
+		assertThat(getTotal(mvc.perform(get("/people?page=0&size=1")).getResponse().getContentAsString()))
+				.isEqualTo(total);
+	}
+
+	@Test
+	void rendersCachedTotalFlaggedAsApproximate() throws Exception {
+
+		people.save(new Person("Unnoticed", "Person"));
+
+		String content = mvc.perform(get("/people?page=0&size=1")).getResponse().getContentAsString();
+
+		assertThat(getTotal(content)).isEqualTo(total);
+		assertThat(JsonPath.<Boolean> read(content, "$.page.approximate")).isTrue();
+	}
+
+	@Test
+	void evictsCachedTotalOnCreationThroughExportedRepository() throws Exception {
+
+		mvc.perform(post("/people").contentType(MediaType.APPLICATION_JSON).content("{ \"firstName\" : \"Noticed\" }"));
+
+		String content = mvc.perform(get("/people?page=0&size=1")).getResponse().getContentAsString();
+
+		assertThat(getTotal(content)).isEqualTo(total + 1);
+		assertThat(hasApproximateFlag(content)).isFalse();
+	}
+
+	@Test
+	void verifiesCachedTotalOnLastPage() throws Exception {
+
+		people.save(new Person("Unnoticed", "Person"));
+
+		String content = mvc.perform(get("/people?page=" + total + "&size=1")).getResponse().getContentAsString();
+
+		assertThat(getTotal(content)).isEqualTo(total + 1);
+		assertThat(hasApproximateFlag(content)).isFalse();
+	}
+
+	private static long getTotal(String content) {
+		return JsonPath.<Number> read(content, "$.page.totalElements").longValue();
+	}
+
+	private static boolean hasApproximateFlag(String content) {
+
+		try {
+			JsonPath.read(content, "$.page.approximate");
+			return true;
+		} catch (PathNotFoundException o_O) {
+			return false;
+		}
+	}
+}
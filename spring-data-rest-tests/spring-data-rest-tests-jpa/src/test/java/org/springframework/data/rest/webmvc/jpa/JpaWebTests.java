@@ -754,6 +754,22 @@ public class JpaWebTests extends CommonWebTests {
 		assertThat(observationContext.getPathPattern()).isEqualTo("/authors/{id}");
 	}
 
+	@Test
+	void answersConditionalCollectionRequestWithNotModified() throws Exception {
+
+		Link link = createCategory();
+
+		String eTag = mvc.perform(get("/categories")).getResponse().getHeader(ETAG);
+
+		assertThat(eTag).startsWith("W/\"");
+		assertThat(mvc.perform(get("/categories").header(IF_NONE_MATCH, eTag))).hasStatus(HttpStatus.NOT_MODIFIED);
+		assertThat(mvc.perform(get("/categories?projection=open").header(IF_NONE_MATCH, eTag))).hasStatusOk();
+
+		patchAndGet(link, "{ \"name\" : \"changed\" }", MediaType.APPLICATION_JSON);
+
+		assertThat(mvc.perform(get("/categories").header(IF_NONE_MATCH, eTag))).hasStatusOk();
+	}
+
 	private List<Link> preparePersonResources(Person primary, Person... persons) throws Exception {
 
 		Link peopleLink = client.discoverUnique(LinkRelation.of("people"));
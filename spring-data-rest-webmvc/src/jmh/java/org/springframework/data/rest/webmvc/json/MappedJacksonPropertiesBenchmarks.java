@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Compares looking up {@link MappedJacksonProperties} for deserialization through the cache with introspecting the
+ * entity with Jackson on every lookup, as previously done for every nesting level of every {@code PUT} and
+ * {@code PATCH}. Run with {@code mvn -P jmh test-compile} and execute {@link #main(String[])} using the test
+ * classpath, adding {@code -prof gc} to compare the allocation rates.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MappedJacksonPropertiesBenchmarks {
+
+	PersistentEntity<?, ?> entity;
+	ObjectMapper mapper;
+
+	@Setup
+	public void setUp() {
+
+		this.entity = new KeyValueMappingContext<>().getRequiredPersistentEntity(Sample.class);
+		this.mapper = new JsonMapper();
+	}
+
+	@Benchmark
+	public MappedJacksonProperties introspection() {
+		return MappedJacksonProperties.introspectForDeserialization(entity, mapper);
+	}
+
+	@Benchmark
+	public MappedJacksonProperties cached() {
+		return MappedJacksonProperties.forDeserialization(entity, mapper);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MappedJacksonPropertiesBenchmarks.class.getSimpleName()).build()).run();
+	}
+
+	public static class Sample {
+
+		public @Id Long id;
+		public String firstname, lastname;
+		public @JsonProperty("email") String emailAddress;
+		public @JsonIgnore String internal;
+		public List<String> nicknames;
+	}
+}
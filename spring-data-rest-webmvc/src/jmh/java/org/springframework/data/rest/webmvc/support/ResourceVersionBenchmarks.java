@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.convert.support.ConfigurableConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.auditing.AuditableBeanWrapperFactory;
+import org.springframework.data.auditing.MappingAuditableBeanWrapperFactory;
+import org.springframework.data.convert.Jsr310Converters;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Compares calculating the validators of a conditional {@code GET} via {@link ResourceVersionAccessors} with the
+ * previous approach of reading version and last modification date for every validator individually. Run with
+ * {@code mvn -P jmh test-compile} and execute {@link #main(String[])} using the test classpath.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResourceVersionBenchmarks {
+
+	PersistentEntity<?, ?> entity;
+	AuditableBeanWrapperFactory factory;
+	ResourceVersionAccessors accessors;
+	ConfigurableConversionService conversionService;
+	ETag requested;
+	Sample sample;
+
+	@Setup
+	public void setUp() {
+
+		KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+
+		this.entity = context.getRequiredPersistentEntity(Sample.class);
+		this.factory = new MappingAuditableBeanWrapperFactory(PersistentEntities.of(context));
+		this.accessors = new ResourceVersionAccessors(factory);
+		this.conversionService = new DefaultConversionService();
+		this.requested = ETag.from("41");
+		this.sample = new Sample(42L, LocalDateTime.now());
+
+		Jsr310Converters.getConvertersToRegister().forEach(conversionService::addConverter);
+	}
+
+	/**
+	 * Mimics the reads performed before: {@link ETag#matches(PersistentEntity, Object)}, {@link ETag} and
+	 * {@code Last-Modified} for the response headers and another {@code Last-Modified} lookup for
+	 * {@code If-Modified-Since}.
+	 */
+	@Benchmark
+	public void individualReads(Blackhole blackhole) {
+
+		blackhole.consume(requested.matches(entity, sample));
+
+		HttpHeaders headers = ETag.from(entity, sample).addTo(new HttpHeaders());
+		blackhole.consume(headers);
+		blackhole.consume(getLastModifiedViaConversionService());
+		blackhole.consume(getLastModifiedViaConversionService());
+	}
+
+	@Benchmark
+	public void resourceVersionAccessor(Blackhole blackhole) {
+
+		ResourceVersion version = accessors.getResourceVersion(entity, sample);
+
+		blackhole.consume(requested.matches(version));
+
+		HttpHeaders headers = version.getETag().addTo(new HttpHeaders());
+		blackhole.consume(headers);
+		blackhole.consume(version.getLastModifiedInMilliseconds());
+		blackhole.consume(version.getLastModifiedInMilliseconds());
+	}
+
+	private Long getLastModifiedViaConversionService() {
+
+		return factory.getBeanWrapperFor(sample) //
+				.flatMap(it -> it.getLastModifiedDate()) //
+				.map(it -> conversionService.convert(it, Date.class)) //
+				.map(it -> conversionService.convert(it, Instant.class)) //
+				.map(Instant::toEpochMilli) //
+				.orElse(null);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ResourceVersionBenchmarks.class.getSimpleName()).build()).run();
+	}
+
+	public static class Sample {
+
+		@Version Long version;
+		@LastModifiedDate LocalDateTime lastModified;
+
+		Sample(Long version, LocalDateTime lastModified) {
+			this.version = version;
+			this.lastModified = lastModified;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.data.rest.core.config.BatchConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.support.BatchRequestDispatcher;
+import org.springframework.data.rest.webmvc.support.BatchRequestDispatcher.Batch;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ * Controller for the batch resource executing multiple sub-requests sent in a single JSON envelope. Only exposed if
+ * enabled via {@link RepositoryRestConfiguration#getBatchConfiguration()}.
+ *
+ * @since 5.2
+ * @see BatchRequestDispatcher
+ */
+@BasePathAwareController
+public class BatchController {
+
+	static final String BATCH_MAPPING = "/batch";
+
+	private final BatchConfiguration configuration;
+	private final BatchRequestDispatcher dispatcher;
+
+	/**
+	 * Creates a new {@link BatchController} for the given {@link RepositoryRestConfiguration} and
+	 * {@link BatchRequestDispatcher}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param dispatcher must not be {@literal null}.
+	 */
+	public BatchController(RepositoryRestConfiguration configuration, BatchRequestDispatcher dispatcher) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+		Assert.notNull(dispatcher, "BatchRequestDispatcher must not be null");
+
+		this.configuration = configuration.getBatchConfiguration();
+		this.dispatcher = dispatcher;
+	}
+
+	/**
+	 * <code>POST /batch</code> - Executes the sub-requests contained in the request body.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @param response must not be {@literal null}.
+	 * @return
+	 */
+	@RequestMapping(value = BATCH_MAPPING, method = RequestMethod.POST, consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<BatchResults> executeBatch(HttpServletRequest request, HttpServletResponse response) {
+
+		if (!configuration.isEnabled()) {
+			throw new ResourceNotFoundException();
+		}
+
+		if (BatchRequestDispatcher.isSubRequest(request)) {
+			throw new InvalidStateTransitionRequest("Batch requests cannot be nested");
+		}
+
+		Batch batch = dispatcher.read(request);
+
+		if (batch.requests().size() > configuration.getMaxRequests()) {
+			throw new InvalidStateTransitionRequest("Batch requests must not contain more than %s sub-requests"
+					.formatted(configuration.getMaxRequests()));
+		}
+
+		if (batch.atomic() && !dispatcher.supportsAtomicBatches()) {
+			throw new InvalidStateTransitionRequest("Atomic batch requests require a transaction manager");
+		}
+
+		return ResponseEntity.ok(dispatcher.execute(request, response, batch));
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * The outcome of a batch request, listing the responses to the sub-requests in the order they were submitted.
+ *
+ * @since 5.2
+ */
+public final class BatchResults extends RepresentationModel<BatchResults> {
+
+	private final List<BatchResult> responses;
+	private final boolean rolledBack;
+
+	/**
+	 * Creates a new {@link BatchResults} for the given {@link BatchResult}s.
+	 *
+	 * @param responses must not be {@literal null}.
+	 * @param rolledBack whether the transaction spanning all sub-requests was rolled back.
+	 */
+	public BatchResults(List<BatchResult> responses, boolean rolledBack) {
+
+		Assert.notNull(responses, "Responses must not be null");
+
+		this.responses = responses;
+		this.rolledBack = rolledBack;
+	}
+
+	/**
+	 * Returns the responses to the sub-requests in the order they were submitted.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<BatchResult> getResponses() {
+		return responses;
+	}
+
+	/**
+	 * Returns whether the transaction spanning all sub-requests of an atomic batch was rolled back, so that none of the
+	 * writes performed by them took effect.
+	 *
+	 * @return
+	 */
+	@JsonInclude(Include.NON_DEFAULT)
+	public boolean isRolledBack() {
+		return rolledBack;
+	}
+
+	/**
+	 * The response to a single sub-request.
+	 *
+	 * @param id the identifier the client assigned to the sub-request, if any.
+	 * @param status the status code of the response.
+	 * @param headers the headers of the response, multiple values of a header joined by commas.
+	 * @param body the body of the response, plain text bodies as JSON string.
+	 */
+	@JsonInclude(Include.NON_EMPTY)
+	public record BatchResult(@Nullable String id, int status, Map<String, String> headers, @Nullable JsonNode body) {
+
+		/**
+		 * Creates a new {@link BatchResult} for a sub-request that wasn't executed as a preceding one of the same
+		 * atomic batch failed.
+		 *
+		 * @param id can be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public static BatchResult failedDependency(@Nullable String id) {
+			return new BatchResult(id, HttpStatus.FAILED_DEPENDENCY.value(), Map.of(), null);
+		}
+
+		/**
+		 * Returns whether the sub-request failed, i.e. was answered with a client or server error.
+		 *
+		 * @return
+		 */
+		@JsonIgnore
+		public boolean isError() {
+			return status >= 400;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.ResourceStatus.StatusAndHeaders;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link ResponseBodyAdvice} to calculate strong {@link ETag}s from the rendered representation of item resources for
+ * domain types that don't carry a version property but were enabled via
+ * {@link RepositoryRestConfiguration#useContentHashETagsFor(Class...)}. The representation is rendered once into a
+ * buffer while calculating its digest, so that the hash is available once the last byte is written. The
+ * {@link ETag} is then evaluated against the request's {@code If-None-Match} header using {@link ResourceStatus} and
+ * either a {@code 304 Not Modified} is returned or the buffered representation is written to the response.
+ * {@code If-Match} headers of subsequent requests are verified against the same hash by {@link ContentHashETags}.
+ *
+ * @since 5.2
+ * @see RepositoryRestConfiguration#useContentHashETagsFor(Class...)
+ */
+public class ContentHashETagResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+	private final ContentHashETags eTags;
+	private final List<HttpMessageConverter<?>> converters;
+	private final ResourceStatus resourceStatus;
+
+	/**
+	 * Creates a new {@link ContentHashETagResponseBodyAdvice} for the given {@link ContentHashETags},
+	 * {@link HttpMessageConverter}s and {@link HttpHeadersPreparer}.
+	 *
+	 * @param eTags must not be {@literal null}.
+	 * @param converters the {@link HttpMessageConverter}s used to render responses, must not be {@literal null}.
+	 * @param preparer must not be {@literal null}.
+	 */
+	public ContentHashETagResponseBodyAdvice(ContentHashETags eTags, List<HttpMessageConverter<?>> converters,
+			HttpHeadersPreparer preparer) {
+
+		Assert.notNull(eTags, "ContentHashETags must not be null");
+		Assert.notNull(converters, "HttpMessageConverters must not be null");
+
+		this.eTags = eTags;
+		this.converters = converters;
+		this.resourceStatus = ResourceStatus.of(preparer);
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public @Nullable Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType,
+			MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+			ServerHttpRequest request, ServerHttpResponse response) {
+
+		if (!(body instanceof PersistentEntityResource resource) || !HttpMethod.GET.equals(request.getMethod())) {
+			return body;
+		}
+
+		PersistentEntity<?, ?> entity = resource.getPersistentEntity();
+
+		// Version based ETag or one already set explicitly
+		if (!eTags.isEnabledFor(entity) || response.getHeaders().getETag() != null) {
+			return body;
+		}
+
+		try {
+
+			RenderedRepresentation representation = RenderedRepresentation.render(resource, selectedContentType,
+					selectedConverterType, converters, response, true);
+
+			if (representation == null) {
+				return body;
+			}
+
+			StatusAndHeaders statusAndHeaders = resourceStatus.getStatusAndHeaders(request.getHeaders(),
+					ETag.from(representation.getDigest()));
+
+			response.getHeaders().putAll(statusAndHeaders.getHeaders());
+
+			if (!statusAndHeaders.isModified()) {
+				response.setStatusCode(HttpStatus.NOT_MODIFIED);
+				return null;
+			}
+
+			representation.writeTo(response);
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotWritableException("Could not write representation of " + entity.getType(), o_O);
+		}
+
+		// Representation already written
+		return null;
+	}
+}
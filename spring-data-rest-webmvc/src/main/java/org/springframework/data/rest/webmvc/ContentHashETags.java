@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Calculates and verifies strong {@link ETag}s from the rendered representation of item resources for domain types
+ * that don't carry a version property but were enabled via
+ * {@link RepositoryRestConfiguration#useContentHashETagsFor(Class...)}. To verify an {@code If-Match} header, the
+ * current state of the aggregate is rendered the way a {@code GET} request with the same {@code Accept} header and
+ * projection would render it, so that the entity tags handed out by {@link ContentHashETagResponseBodyAdvice} match
+ * as long as the aggregate is unchanged.
+ *
+ * @since 5.2
+ * @see RepositoryRestConfiguration#useContentHashETagsFor(Class...)
+ */
+public class ContentHashETags {
+
+	private final RepositoryRestConfiguration configuration;
+	private final List<HttpMessageConverter<?>> converters;
+
+	/**
+	 * Creates a new {@link ContentHashETags} for the given {@link RepositoryRestConfiguration} and
+	 * {@link HttpMessageConverter}s.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param converters the {@link HttpMessageConverter}s used to render responses, must not be {@literal null}.
+	 */
+	public ContentHashETags(RepositoryRestConfiguration configuration, List<HttpMessageConverter<?>> converters) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+		Assert.notNull(converters, "HttpMessageConverters must not be null");
+
+		this.configuration = configuration;
+		this.converters = converters;
+	}
+
+	/**
+	 * Returns whether the {@link ETag}s of the given {@link PersistentEntity} are calculated from the content of its
+	 * representations.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabledFor(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+
+		return !entity.hasVersionProperty() && configuration.isContentHashETagEnabledFor(entity.getType());
+	}
+
+	/**
+	 * Verifies the given {@link ETag} against the hash of the given item resource's representation.
+	 *
+	 * @param eTag must not be {@literal null}.
+	 * @param resource the item resource as it would be rendered for a {@code GET} request, must not be
+	 *          {@literal null}.
+	 * @param requestHeaders the headers of the current request, must not be {@literal null}.
+	 * @throws ETagDoesntMatchException in case the {@link ETag} does not match.
+	 */
+	public void verify(ETag eTag, PersistentEntityResource resource, HttpHeaders requestHeaders) {
+
+		Assert.notNull(eTag, "ETag must not be null");
+		Assert.notNull(resource, "PersistentEntityResource must not be null");
+		Assert.notNull(requestHeaders, "HttpHeaders must not be null");
+
+		if (eTag == ETag.NO_ETAG) {
+			return;
+		}
+
+		if (!eTag.equals(getETag(resource, requestHeaders))) {
+			throw new ETagDoesntMatchException(resource.getTarget(), eTag);
+		}
+	}
+
+	/**
+	 * Calculates the {@link ETag} of the given item resource from its representation in the media type a {@code GET}
+	 * request with the given headers would render.
+	 *
+	 * @param resource must not be {@literal null}.
+	 * @param requestHeaders must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	ETag getETag(PersistentEntityResource resource, HttpHeaders requestHeaders) {
+
+		try {
+
+			for (MediaType mediaType : getMediaTypes(requestHeaders)) {
+
+				RenderedRepresentation representation = RenderedRepresentation.render(resource, mediaType, converters,
+						true);
+
+				if (representation != null) {
+					return ETag.from(representation.getDigest());
+				}
+			}
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotWritableException(
+					"Could not render representation of " + resource.getPersistentEntity().getType(), o_O);
+		}
+
+		return ETag.NO_ETAG;
+	}
+
+	private List<MediaType> getMediaTypes(HttpHeaders requestHeaders) {
+
+		List<MediaType> accepted = new ArrayList<>(requestHeaders.getAccept());
+		MimeTypeUtils.sortBySpecificity(accepted);
+
+		List<MediaType> mediaTypes = new ArrayList<>();
+
+		for (MediaType mediaType : accepted) {
+			mediaTypes.add(mediaType.isConcrete() //
+					? mediaType.removeQualityValue() //
+					: configuration.getDefaultMediaType());
+		}
+
+		if (mediaTypes.isEmpty()) {
+			mediaTypes.add(configuration.getDefaultMediaType());
+		}
+
+		return mediaTypes;
+	}
+}
@@ -15,18 +15,23 @@
  */
 package org.springframework.data.rest.webmvc;
 
-import java.time.Instant;
-import java.util.Date;
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Optional;
 
-import org.springframework.core.convert.support.ConfigurableConversionService;
-import org.springframework.core.convert.support.DefaultConversionService;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.auditing.AuditableBeanWrapper;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
-import org.springframework.data.convert.Jsr310Converters;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
+import org.springframework.data.rest.webmvc.spi.VersionProbe;
+import org.springframework.data.rest.webmvc.support.CacheControlPolicies;
 import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.ResourceVersion;
+import org.springframework.data.rest.webmvc.support.ResourceVersionAccessors;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
 
 /**
@@ -40,15 +45,46 @@ import org.springframework.util.Assert;
 public class HttpHeadersPreparer {
 
 	private final AuditableBeanWrapperFactory auditableBeanWrapperFactory;
-	private final ConfigurableConversionService conversionService = new DefaultConversionService();
+	private final PluginRegistry<VersionProbe, Class<?>> versionProbes;
+	private final ResourceVersionAccessors versionAccessors;
+	private final @Nullable CacheControlPolicies cacheControlPolicies;
 
 	public HttpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory) {
+		this(auditableBeanWrapperFactory, PluginRegistry.of(Collections.emptyList()));
+	}
 
-		Assert.notNull(auditableBeanWrapperFactory, "AuditableBeanWrapperFactory must not be null");
+	/**
+	 * Creates a new {@link HttpHeadersPreparer} for the given {@link AuditableBeanWrapperFactory} and
+	 * {@link VersionProbe}s.
+	 *
+	 * @param auditableBeanWrapperFactory must not be {@literal null}.
+	 * @param versionProbes must not be {@literal null}.
+	 * @since 5.2
+	 */
+	public HttpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory,
+			PluginRegistry<VersionProbe, Class<?>> versionProbes) {
+		this(auditableBeanWrapperFactory, versionProbes, null);
+	}
 
-		Jsr310Converters.getConvertersToRegister().forEach(conversionService::addConverter);
+	/**
+	 * Creates a new {@link HttpHeadersPreparer} for the given {@link AuditableBeanWrapperFactory},
+	 * {@link VersionProbe}s and {@link CacheControlPolicies}.
+	 *
+	 * @param auditableBeanWrapperFactory must not be {@literal null}.
+	 * @param versionProbes must not be {@literal null}.
+	 * @param cacheControlPolicies can be {@literal null}.
+	 * @since 5.2
+	 */
+	public HttpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory,
+			PluginRegistry<VersionProbe, Class<?>> versionProbes, @Nullable CacheControlPolicies cacheControlPolicies) {
+
+		Assert.notNull(auditableBeanWrapperFactory, "AuditableBeanWrapperFactory must not be null");
+		Assert.notNull(versionProbes, "VersionProbes must not be null");
 
 		this.auditableBeanWrapperFactory = auditableBeanWrapperFactory;
+		this.versionProbes = versionProbes;
+		this.versionAccessors = new ResourceVersionAccessors(auditableBeanWrapperFactory);
+		this.cacheControlPolicies = cacheControlPolicies;
 	}
 
 	/**
@@ -80,15 +116,105 @@ public class HttpHeadersPreparer {
 		Assert.isInstanceOf(entity.getType(), value, () ->
 			String.format("Target bean of type %s is not of type of the persistent entity (%s)", value.getClass().getName(), entity.getType().getName()));
 
+		return prepareHeaders(getResourceVersion(entity, value));
+	}
+
+	/**
+	 * Returns the default headers to be returned for the given {@link ResourceVersion}. Will set {@link ETag} and
+	 * {@code Last-Modified} headers if applicable.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 */
+	public HttpHeaders prepareHeaders(ResourceVersion version) {
+
+		Assert.notNull(version, "ResourceVersion must not be null");
+
 		// Add ETag
-		HttpHeaders headers = ETag.from(entity, value).addTo(new HttpHeaders());
+		HttpHeaders headers = version.getETag().addTo(new HttpHeaders());
 
 		// Add Last-Modified
-		getLastModifiedInMilliseconds(value).ifPresent(it -> headers.setLastModified(it));
+		version.getLastModifiedInMilliseconds().ifPresent(it -> headers.setLastModified(it));
 
 		return headers;
 	}
 
+	/**
+	 * Adds the {@code Cache-Control} header configured for the given kind of resource of the given domain type to the
+	 * given {@link HttpHeaders} unless they already contain one.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param scope must not be {@literal null}.
+	 * @return the given {@link HttpHeaders}.
+	 * @since 5.2
+	 */
+	public HttpHeaders addCacheControl(HttpHeaders headers, Class<?> domainType, Scope scope) {
+
+		Assert.notNull(headers, "HttpHeaders must not be null");
+
+		return cacheControlPolicies == null //
+				? headers //
+				: addCacheControl(headers, cacheControlPolicies.getCacheControl(domainType, scope));
+	}
+
+	/**
+	 * Adds the {@code Cache-Control} header configured for the search resource backed by the given query method to the
+	 * given {@link HttpHeaders} unless they already contain one.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return the given {@link HttpHeaders}.
+	 * @since 5.2
+	 */
+	public HttpHeaders addCacheControl(HttpHeaders headers, Class<?> domainType, Method method) {
+
+		Assert.notNull(headers, "HttpHeaders must not be null");
+
+		return cacheControlPolicies == null //
+				? headers //
+				: addCacheControl(headers, cacheControlPolicies.getCacheControl(domainType, method));
+	}
+
+	/**
+	 * Returns the {@link ResourceVersion} of the given aggregate, i.e. its version and last modification date. Use the
+	 * instance returned to calculate all HTTP validators needed for a request to avoid reading the aggregate
+	 * repeatedly.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public ResourceVersion getResourceVersion(PersistentEntity<?, ?> entity, Object value) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(value, "Entity value must not be null");
+
+		return versionAccessors.getResourceVersion(entity, value);
+	}
+
+	/**
+	 * Looks up the {@link ResourceVersion} of the aggregate with the given identifier using the {@link VersionProbe}
+	 * registered for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return the {@link ResourceVersion} or {@link Optional#empty()} if no {@link VersionProbe} is available for the
+	 *         given {@link PersistentEntity} or no aggregate with the given identifier exists.
+	 * @since 5.2
+	 */
+	public Optional<ResourceVersion> probeVersion(PersistentEntity<?, ?> entity, Object id) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(id, "Identifier must not be null");
+
+		return versionProbes.getPluginFor(entity.getType()) //
+				.flatMap(it -> it.probe(entity, id));
+	}
+
 	/**
 	 * Returns whether the given object is still valid in the context of the given {@link HttpHeaders}' requirements.
 	 *
@@ -105,7 +231,33 @@ public class HttpHeadersPreparer {
 			return false;
 		}
 
-		return getLastModifiedInMilliseconds(source)//
+		ResourceVersion version = getAuditableBeanWrapper(source) //
+				.flatMap(it -> it.getLastModifiedDate()) //
+				.map(it -> ResourceVersion.of(null, it)) //
+				.orElse(ResourceVersion.NONE);
+
+		return isStillValid(version, headers);
+	}
+
+	/**
+	 * Returns whether the aggregate described by the given {@link ResourceVersion} is still valid in the context of the
+	 * given {@link HttpHeaders}' requirements.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 */
+	public boolean isStillValid(ResourceVersion version, HttpHeaders headers) {
+
+		Assert.notNull(version, "ResourceVersion must not be null");
+		Assert.notNull(headers, "HttpHeaders must not be null");
+
+		if (headers.getIfModifiedSince() == -1) {
+			return false;
+		}
+
+		return version.getLastModifiedInMilliseconds()//
 				.map(it -> it / 1000 * 1000 <= headers.getIfModifiedSince())//
 				.orElse(true);
 	}
@@ -120,12 +272,14 @@ public class HttpHeadersPreparer {
 		return auditableBeanWrapperFactory.getBeanWrapperFor(source);
 	}
 
-	private Optional<Long> getLastModifiedInMilliseconds(Object object) {
+	private static HttpHeaders addCacheControl(HttpHeaders headers, @Nullable CacheControl cacheControl) {
 
-		return getAuditableBeanWrapper(object)//
-				.flatMap(it -> it.getLastModifiedDate())//
-				.map(it -> conversionService.convert(it, Date.class))//
-				.map(it -> conversionService.convert(it, Instant.class))//
-				.map(it -> it.toEpochMilli());
+		String value = cacheControl == null ? null : cacheControl.getHeaderValue();
+
+		if (value != null && headers.getCacheControl() == null) {
+			headers.setCacheControl(value);
+		}
+
+		return headers;
 	}
 }
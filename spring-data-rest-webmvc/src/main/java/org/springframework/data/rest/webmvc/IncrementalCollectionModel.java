@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.SlicedModel;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * A {@link CollectionModel} that doesn't hold the {@link PersistentEntityResource}s to render but the results they are
+ * created from. The resources are assembled one at a time while iterating over the content, so that rendering can
+ * write and drop every one of them before the next one is created. The content can be iterated over only once if the
+ * underlying results can, e.g. in case they're backed by a database cursor. Iterating over the model itself doesn't
+ * expose any elements, so that post-processing applied to all {@link CollectionModel}s doesn't assemble all resources
+ * upfront. {@link org.springframework.hateoas.server.RepresentationModelProcessor}s for the elements are applied while
+ * rendering instead.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.core.config.IncrementalRenderingConfiguration
+ * @see org.springframework.data.rest.webmvc.json.IncrementalRenderingModule
+ */
+public class IncrementalCollectionModel extends CollectionModel<Object> {
+
+	private final Content content;
+	private final @Nullable Object metadata;
+
+	private IncrementalCollectionModel(Content content, @Nullable Object metadata) {
+
+		super(Collections.emptyList());
+
+		this.content = content;
+		this.metadata = metadata;
+	}
+
+	/**
+	 * Creates a new {@link IncrementalCollectionModel} for the given results, using the given assembler to turn the
+	 * elements into {@link PersistentEntityResource}s and taking links and page metadata from the given template.
+	 *
+	 * @param results must not be {@literal null}.
+	 * @param domainType the domain type to render an empty collection for, must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param template the {@link CollectionModel} rendered for an empty copy of the results, must not be
+	 *          {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static IncrementalCollectionModel of(Iterable<?> results, Class<?> domainType,
+			Function<Object, PersistentEntityResource> assembler, CollectionModel<?> template) {
+
+		Assert.notNull(template, "Template must not be null");
+
+		Object metadata = template instanceof PagedModel<?> paged //
+				? paged.getMetadata() //
+				: template instanceof SlicedModel<?> sliced ? sliced.getMetadata() : null;
+
+		IncrementalCollectionModel model = new IncrementalCollectionModel(new Content(results, domainType, assembler),
+				metadata);
+		model.add(template.getLinks());
+
+		return model;
+	}
+
+	/**
+	 * Returns a new {@link IncrementalCollectionModel} for the same results and links but the given metadata.
+	 *
+	 * @param metadata can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public IncrementalCollectionModel withMetadata(@Nullable Object metadata) {
+
+		IncrementalCollectionModel model = new IncrementalCollectionModel(content, metadata);
+		model.add(getLinks());
+
+		return model;
+	}
+
+	/**
+	 * Returns the results the resources to render are created from.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Iterable<?> getResults() {
+		return content.results;
+	}
+
+	/**
+	 * Returns the domain type of the collection resource.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Class<?> getDomainType() {
+		return content.domainType;
+	}
+
+	/**
+	 * Returns the page or slice metadata to render.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	@JsonProperty("page")
+	@JsonInclude(Include.NON_NULL)
+	public @Nullable Object getMetadata() {
+		return metadata;
+	}
+
+	/*
+	 * Disables the media type specific serializer registered for the content so that the one registered for the
+	 * Content type is used.
+	 */
+	@Override
+	@JsonSerialize(using = ValueSerializer.None.class)
+	public Collection<Object> getContent() {
+		return content;
+	}
+
+	@Override
+	public Iterator<Object> iterator() {
+		return Collections.emptyIterator();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		return this == obj;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(this);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("IncrementalCollectionModel { domainType: %s, metadata: %s, %s }",
+				content.domainType.getName(), metadata, getLinks());
+	}
+
+	/**
+	 * The content of an {@link IncrementalCollectionModel}, creating the {@link PersistentEntityResource}s for the
+	 * underlying results while being iterated over.
+	 *
+	 * @since 5.2
+	 */
+	public static final class Content extends AbstractCollection<Object> {
+
+		private final Iterable<?> results;
+		private final Class<?> domainType;
+		private final Function<Object, PersistentEntityResource> assembler;
+
+		private Content(Iterable<?> results, Class<?> domainType, Function<Object, PersistentEntityResource> assembler) {
+
+			Assert.notNull(results, "Results must not be null");
+			Assert.notNull(domainType, "Domain type must not be null");
+			Assert.notNull(assembler, "Assembler must not be null");
+
+			this.results = results;
+			this.domainType = domainType;
+			this.assembler = assembler;
+		}
+
+		/**
+		 * Returns the domain type of the collection resource.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Class<?> getDomainType() {
+			return domainType;
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+
+			Iterator<?> iterator = results.iterator();
+
+			return new Iterator<>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Object next() {
+					return assembler.apply(iterator.next());
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+
+			if (results instanceof Slice<?> slice) {
+				return slice.getNumberOfElements();
+			}
+
+			if (results instanceof Collection<?> collection) {
+				return collection.size();
+			}
+
+			// Unknown for results that can only be iterated over once
+			return 0;
+		}
+
+		@Override
+		public boolean isEmpty() {
+
+			if (results instanceof Slice<?> || results instanceof Collection<?>) {
+				return size() == 0;
+			}
+
+			// Don't consume results that can only be iterated over once
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			return "Content { domainType: " + domainType.getName() + " }";
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * The outcome of a request writing multiple item resources at once, keyed by the identifiers as used in the URIs of the
+ * item resources.
+ *
+ * @since 5.2
+ */
+public final class ItemResults extends RepresentationModel<ItemResults> {
+
+	private final Map<String, ItemResult> results = new LinkedHashMap<>();
+
+	/**
+	 * Registers the given {@link ItemResult} for the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param result must not be {@literal null}.
+	 * @return {@literal this}
+	 */
+	public ItemResults add(String id, ItemResult result) {
+
+		Assert.notNull(id, "Identifier must not be null");
+		Assert.notNull(result, "ItemResult must not be null");
+
+		results.put(id, result);
+
+		return this;
+	}
+
+	/**
+	 * Returns the {@link ItemResult}s keyed by identifier in the order registered.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@JsonAnyGetter
+	public Map<String, ItemResult> getResults() {
+		return results;
+	}
+
+	/**
+	 * The outcome of writing a single item resource.
+	 *
+	 * @param status the status code a request to the item resource would have answered with.
+	 * @param eTag the entity tag of the item resource written, if any.
+	 * @param href the URI of the item resource written, if any.
+	 */
+	@JsonInclude(Include.NON_NULL)
+	public record ItemResult(int status, @Nullable String eTag, @Nullable String href) {
+
+		/**
+		 * Creates a new {@link ItemResult} for the item resource written.
+		 *
+		 * @param eTag can be {@literal null}.
+		 * @param link must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public static ItemResult ok(@Nullable String eTag, Link link) {
+
+			Assert.notNull(link, "Link must not be null");
+
+			return new ItemResult(HttpStatus.OK.value(), eTag, link.getHref());
+		}
+
+		/**
+		 * Creates a new {@link ItemResult} for an item resource that doesn't exist.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public static ItemResult notFound() {
+			return new ItemResult(HttpStatus.NOT_FOUND.value(), null, null);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * The patch documents read from a request body to update multiple aggregates at once, keyed by the identifiers as used
+ * in the URIs of the item resources to apply them to.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.webmvc.config.PersistentEntityResourceHandlerMethodArgumentResolver
+ */
+public final class PersistentEntityPatches {
+
+	private final List<String> ids;
+	private final BiFunction<String, Object, Object> patcher;
+
+	private PersistentEntityPatches(List<String> ids, BiFunction<String, Object, Object> patcher) {
+
+		this.ids = ids;
+		this.patcher = patcher;
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityPatches} for the given identifiers and the function applying the patch
+	 * document for an identifier to an aggregate.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param patcher must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static PersistentEntityPatches of(List<String> ids, BiFunction<String, Object, Object> patcher) {
+
+		Assert.notNull(ids, "Identifiers must not be null");
+		Assert.notNull(patcher, "Patcher must not be null");
+
+		return new PersistentEntityPatches(List.copyOf(ids), patcher);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityPatches} for the given patch documents keyed by identifier and the function
+	 * applying a patch document to an aggregate.
+	 *
+	 * @param patches must not be {@literal null}.
+	 * @param patcher must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> PersistentEntityPatches of(Map<String, T> patches, BiFunction<T, Object, Object> patcher) {
+
+		Assert.notNull(patches, "Patches must not be null");
+		Assert.notNull(patcher, "Patcher must not be null");
+
+		return of(List.copyOf(patches.keySet()), (id, target) -> patcher.apply(patches.get(id), target));
+	}
+
+	/**
+	 * Returns the identifiers of the aggregates to patch in the order given.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<String> getIds() {
+		return ids;
+	}
+
+	/**
+	 * Applies the patch document for the given identifier to the given aggregate.
+	 *
+	 * @param id must be one of {@link #getIds()}.
+	 * @param aggregate must not be {@literal null}.
+	 * @return the patched aggregate.
+	 */
+	public Object apply(String id, Object aggregate) {
+
+		Assert.isTrue(ids.contains(id), () -> "No patch for identifier %s".formatted(id));
+		Assert.notNull(aggregate, "Aggregate must not be null");
+
+		return patcher.apply(id, aggregate);
+	}
+}
@@ -15,11 +15,13 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.PersistentEntityResource.Builder;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.support.PersistentEntityProjector;
 import org.springframework.data.rest.webmvc.support.Projector;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
@@ -81,6 +83,17 @@ public class PersistentEntityResourceAssembler
 		return wrap(projector.project(instance), instance).build();
 	}
 
+	/**
+	 * Returns the name of the projection applied to full resources.
+	 *
+	 * @return {@literal null} if no projection was requested or a custom {@link Projector} is used.
+	 * @since 5.2
+	 */
+	@Nullable
+	String getProjection() {
+		return projector instanceof PersistentEntityProjector it ? it.getProjection() : null;
+	}
+
 	private Builder wrap(Object instance, Object source) {
 
 		PersistentEntity<?, ?> entity = entities.getRequiredPersistentEntity(source.getClass());
@@ -111,4 +124,15 @@ public class PersistentEntityResourceAssembler
 	Link getExpandedSelfLink(Object instance) {
 		return linkProvider.createSelfLinkFor(instance).withSelfRel().expand();
 	}
+
+	/**
+	 * Returns whether the given instance is an aggregate a self link can be created for.
+	 *
+	 * @param instance must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 */
+	boolean isPersistentEntity(Object instance) {
+		return entities.getPersistentEntity(instance.getClass()).isPresent();
+	}
 }
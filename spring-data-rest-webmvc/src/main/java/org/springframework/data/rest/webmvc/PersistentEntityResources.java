@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PersistentEntityResource}s read from a request body containing an array of aggregates, e.g. to create
+ * all of them at once.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.webmvc.config.PersistentEntityResourceHandlerMethodArgumentResolver
+ */
+public final class PersistentEntityResources implements Iterable<PersistentEntityResource> {
+
+	private final List<PersistentEntityResource> resources;
+
+	private PersistentEntityResources(List<PersistentEntityResource> resources) {
+		this.resources = resources;
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityResources} for the given {@link PersistentEntityResource}s.
+	 *
+	 * @param resources must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static PersistentEntityResources of(List<PersistentEntityResource> resources) {
+
+		Assert.notNull(resources, "PersistentEntityResources must not be null");
+
+		return new PersistentEntityResources(List.copyOf(resources));
+	}
+
+	/**
+	 * Returns the aggregates backing the {@link PersistentEntityResource}s in the order read.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<Object> getContent() {
+
+		return resources.stream() //
+				.<Object> map(PersistentEntityResource::getContent) //
+				.toList();
+	}
+
+	@Override
+	public Iterator<PersistentEntityResource> iterator() {
+		return resources.iterator();
+	}
+}
@@ -21,12 +21,14 @@ import java.util.Collections;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.RepositoryResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -107,7 +109,11 @@ public class ProfileController {
 			}
 		}
 
-		return ResponseEntity.ok(profile);
+		CacheControl cacheControl = configuration.getCacheControlConfiguration().getDefault(Scope.PROFILE);
+
+		return cacheControl == null //
+				? ResponseEntity.ok(profile) //
+				: ResponseEntity.ok().cacheControl(cacheControl).body(profile);
 	}
 
 	/**
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.Assert;
+
+/**
+ * A representation rendered into a buffer by the {@link HttpMessageConverter} Spring MVC selected for the response, so
+ * that it can be inspected or kept before being written to the response.
+ *
+ * @since 5.2
+ */
+final class RenderedRepresentation {
+
+	private static final String DIGEST_ALGORITHM = "MD5";
+
+	private final byte[] content;
+	private final @Nullable MediaType contentType;
+	private final @Nullable String digest;
+	private final HttpHeaders headers;
+
+	private RenderedRepresentation(byte[] content, @Nullable MediaType contentType, @Nullable String digest,
+			HttpHeaders headers) {
+
+		this.content = content;
+		this.contentType = contentType;
+		this.digest = digest;
+		this.headers = headers;
+	}
+
+	/**
+	 * Renders the given body using the {@link HttpMessageConverter} of the given type.
+	 *
+	 * @param body must not be {@literal null}.
+	 * @param selectedContentType the content type selected by Spring MVC, must not be {@literal null}.
+	 * @param converterType the type of {@link HttpMessageConverter} selected by Spring MVC, must not be {@literal null}.
+	 * @param converters all {@link HttpMessageConverter}s available, must not be {@literal null}.
+	 * @param response the current response, must not be {@literal null}.
+	 * @param digest whether to calculate a digest of the rendered content.
+	 * @return the {@link RenderedRepresentation} or {@literal null} in case no matching {@link HttpMessageConverter} could
+	 *         be found.
+	 * @throws IOException
+	 */
+	static @Nullable RenderedRepresentation render(Object body, MediaType selectedContentType, Class<?> converterType,
+			List<HttpMessageConverter<?>> converters, ServerHttpResponse response, boolean digest) throws IOException {
+
+		Assert.notNull(body, "Body must not be null");
+
+		HttpMessageConverter<Object> converter = getConverter(converters, converterType, body, selectedContentType);
+
+		if (converter == null) {
+			return null;
+		}
+
+		MediaType contentType = response.getHeaders().getContentType();
+
+		return write(converter, body, contentType, contentType == null ? selectedContentType : contentType, digest);
+	}
+
+	/**
+	 * Renders the given body using the first {@link HttpMessageConverter} able to write it as the given content type.
+	 *
+	 * @param body must not be {@literal null}.
+	 * @param contentType the content type to render, must not be {@literal null}.
+	 * @param converters all {@link HttpMessageConverter}s available, must not be {@literal null}.
+	 * @param digest whether to calculate a digest of the rendered content.
+	 * @return the {@link RenderedRepresentation} or {@literal null} in case no {@link HttpMessageConverter} can write
+	 *         the body.
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	static @Nullable RenderedRepresentation render(Object body, MediaType contentType,
+			List<HttpMessageConverter<?>> converters, boolean digest) throws IOException {
+
+		Assert.notNull(body, "Body must not be null");
+		Assert.notNull(contentType, "Content type must not be null");
+
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter.canWrite(body.getClass(), contentType)) {
+				return write((HttpMessageConverter<Object>) converter, body, null, contentType, digest);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Creates a {@link RenderedRepresentation} from the given, previously rendered content.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param contentType can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static RenderedRepresentation of(byte[] content, @Nullable MediaType contentType) {
+
+		Assert.notNull(content, "Content must not be null");
+
+		return new RenderedRepresentation(content, contentType, null, HttpHeaders.EMPTY);
+	}
+
+	/**
+	 * Returns a copy of the current {@link RenderedRepresentation} additionally writing the given headers to the
+	 * response.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	RenderedRepresentation withHeaders(HttpHeaders headers) {
+
+		Assert.notNull(headers, "HttpHeaders must not be null");
+
+		return new RenderedRepresentation(content, contentType, digest, HttpHeaders.readOnlyHttpHeaders(headers));
+	}
+
+	byte[] getContent() {
+		return content;
+	}
+
+	@Nullable
+	MediaType getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Returns the hex encoded digest of the content.
+	 *
+	 * @return will never be {@literal null}.
+	 * @throws IllegalStateException if no digest was calculated on rendering.
+	 */
+	String getDigest() {
+
+		Assert.state(digest != null, "No digest calculated for representation");
+
+		return digest;
+	}
+
+	/**
+	 * Writes the content to the given {@link ServerHttpResponse}.
+	 *
+	 * @param response must not be {@literal null}.
+	 * @throws IOException
+	 */
+	void writeTo(ServerHttpResponse response) throws IOException {
+
+		if (contentType != null) {
+			response.getHeaders().setContentType(contentType);
+		}
+
+		headers.forEach(response.getHeaders()::put);
+		response.getHeaders().setContentLength(content.length);
+		response.getBody().write(content);
+	}
+
+	private static RenderedRepresentation write(HttpMessageConverter<Object> converter, Object body,
+			@Nullable MediaType contentType, MediaType writeType, boolean digest) throws IOException {
+
+		BufferingOutputMessage message = new BufferingOutputMessage(contentType, digest);
+
+		converter.write(body, writeType, message);
+
+		return new RenderedRepresentation(message.getContent(), message.getHeaders().getContentType(),
+				message.getDigest(), HttpHeaders.EMPTY);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static @Nullable HttpMessageConverter<Object> getConverter(List<HttpMessageConverter<?>> converters,
+			Class<?> converterType, Object body, MediaType contentType) {
+
+		// Mimic Spring MVC's selection as multiple instances of the same converter type might be registered
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converterType.equals(converter.getClass()) && converter.canWrite(body.getClass(), contentType)) {
+				return (HttpMessageConverter<Object>) converter;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * {@link HttpOutputMessage} buffering the content written and optionally calculating its digest on the fly.
+	 */
+	private static class BufferingOutputMessage implements HttpOutputMessage {
+
+		private final HttpHeaders headers = new HttpHeaders();
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		private final OutputStream body;
+
+		BufferingOutputMessage(@Nullable MediaType contentType, boolean digest) {
+
+			try {
+				this.body = digest ? new DigestOutputStream(buffer, MessageDigest.getInstance(DIGEST_ALGORITHM)) : buffer;
+			} catch (NoSuchAlgorithmException o_O) {
+				throw new IllegalStateException(o_O);
+			}
+
+			if (contentType != null) {
+				this.headers.setContentType(contentType);
+			}
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+
+		@Override
+		public OutputStream getBody() {
+			return body;
+		}
+
+		@Nullable
+		String getDigest() {
+
+			return body instanceof DigestOutputStream stream //
+					? HexFormat.of().formatHex(stream.getMessageDigest().digest()) //
+					: null;
+		}
+
+		byte[] getContent() {
+			return buffer.toByteArray();
+		}
+	}
+}
@@ -17,10 +17,19 @@ package org.springframework.data.rest.webmvc;
 
 import static org.springframework.http.HttpMethod.*;
 
+import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 
@@ -29,14 +38,24 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.querydsl.binding.QuerydslPredicate;
 import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AfterBulkCreateEvent;
+import org.springframework.data.rest.core.event.AfterBulkDeleteEvent;
+import org.springframework.data.rest.core.event.AfterBulkSaveEvent;
 import org.springframework.data.rest.core.event.AfterCreateEvent;
 import org.springframework.data.rest.core.event.AfterDeleteEvent;
 import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.BeforeBulkCreateEvent;
+import org.springframework.data.rest.core.event.BeforeBulkDeleteEvent;
+import org.springframework.data.rest.core.event.BeforeBulkSaveEvent;
 import org.springframework.data.rest.core.event.BeforeCreateEvent;
 import org.springframework.data.rest.core.event.BeforeDeleteEvent;
 import org.springframework.data.rest.core.event.BeforeSaveEvent;
@@ -44,16 +63,31 @@ import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.ResourceType;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
 import org.springframework.data.rest.core.mapping.SupportedHttpMethods;
+import org.springframework.data.rest.webmvc.ItemResults.ItemResult;
+import org.springframework.data.rest.webmvc.ResourceStatus.StatusAndHeaders;
 import org.springframework.data.rest.webmvc.support.BackendId;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.ETag;
 import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
+import org.springframework.data.rest.webmvc.support.InvalidCursorException;
+import org.springframework.data.rest.webmvc.support.RepositoryBatchLookup;
+import org.springframework.data.rest.webmvc.support.RepositoryBatchWriter;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.RepositoryIdentifiers;
+import org.springframework.data.rest.webmvc.support.RepositoryPager;
+import org.springframework.data.rest.webmvc.support.RepositoryScroller;
+import org.springframework.data.rest.webmvc.support.RepositorySlicer;
+import org.springframework.data.rest.webmvc.support.StreamingExporter;
+import org.springframework.data.rest.webmvc.support.StreamingImporter;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.http.HttpHeaders;
@@ -61,11 +95,20 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * @author Jon Brisbin
@@ -91,6 +134,16 @@ class RepositoryEntityController
 	private final RepositoryRestConfiguration config;
 	private final HttpHeadersPreparer headersPreparer;
 	private final ResourceStatus resourceStatus;
+	private final @Nullable RepresentationCache representationCache;
+	private final @Nullable RepositoryScroller scroller;
+	private final @Nullable RepositorySlicer slicer;
+	private final @Nullable RepositoryPager pager;
+	private final @Nullable StreamingExporter exporter;
+	private final @Nullable RepositoryIdentifiers identifiers;
+	private final @Nullable RepositoryBatchLookup batchLookup;
+	private final @Nullable RepositoryBatchWriter batchWriter;
+	private final @Nullable StreamingImporter importer;
+	private final @Nullable ContentHashETags contentHashETags;
 
 	private @Nullable ApplicationEventPublisher publisher;
 
@@ -106,11 +159,38 @@ class RepositoryEntityController
 	@Autowired
 	public RepositoryEntityController(RepositoryRestConfiguration config, RepositoryEntityLinks entityLinks,
 			HttpHeadersPreparer headersPreparer) {
+		this(config, entityLinks, headersPreparer, Collaborators.NONE);
+	}
+
+	/**
+	 * Creates a new {@link RepositoryEntityController} for the given {@link RepositoryRestConfiguration},
+	 * {@link RepositoryEntityLinks}, {@link HttpHeadersPreparer} and optional {@link Collaborators}.
+	 *
+	 * @param config must not be {@literal null}.
+	 * @param entityLinks must not be {@literal null}.
+	 * @param headersPreparer must not be {@literal null}.
+	 * @param collaborators must not be {@literal null}.
+	 * @since 5.2
+	 */
+	RepositoryEntityController(RepositoryRestConfiguration config, RepositoryEntityLinks entityLinks,
+			HttpHeadersPreparer headersPreparer, Collaborators collaborators) {
+
+		Assert.notNull(collaborators, "Collaborators must not be null");
 
 		this.entityLinks = entityLinks;
 		this.config = config;
 		this.headersPreparer = headersPreparer;
 		this.resourceStatus = ResourceStatus.of(headersPreparer);
+		this.representationCache = collaborators.representationCache();
+		this.scroller = collaborators.scroller();
+		this.slicer = collaborators.slicer();
+		this.pager = collaborators.pager();
+		this.exporter = collaborators.exporter();
+		this.identifiers = collaborators.identifiers();
+		this.batchLookup = collaborators.batchLookup();
+		this.batchWriter = collaborators.batchWriter();
+		this.importer = collaborators.importer();
+		this.contentHashETags = collaborators.contentHashETags();
 	}
 
 	@Override
@@ -157,31 +237,169 @@ class RepositoryEntityController
 		}
 
 		Links links = Links.of(ControllerUtils.getDefaultSelfLink()) //
-				.and(getCollectionResourceLinks(resourceInformation, pageable));
+				.and(getCollectionResourceLinks(resourceInformation));
 
 		HttpHeaders headers = new HttpHeaders();
 		headers.add(LINK_HEADER, links.toString());
+		headersPreparer.addCacheControl(headers, resourceInformation.getDomainType(), Scope.COLLECTION);
 
 		return new ResponseEntity<Object>(headers, HttpStatus.NO_CONTENT);
 	}
 
 	/**
-	 * <code>GET /{repository}</code> - Returns the collection resource (paged or unpaged).
+	 * <code>GET /{repository}</code> - Returns the collection resource (paged or unpaged). Answers conditional requests
+	 * with {@code 304 Not Modified} in case the weak {@link ETag} calculated for the elements and page metadata still
+	 * matches.
 	 *
 	 * @param resourceInformation
 	 * @param pageable
 	 * @param sort
+	 * @param headers
 	 * @param assembler
 	 * @return
 	 * @throws ResourceNotFoundException
 	 * @throws HttpRequestMethodNotSupportedException
 	 */
+	public ResponseEntity<CollectionModel<?>> getCollectionResource(RootResourceInformation resourceInformation,
+			DefaultedPageable pageable, Sort sort, HttpHeaders headers, RepresentationModelAssemblers assemblers)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+		return getCollectionResource(resourceInformation, pageable, sort, null, headers, assemblers);
+	}
+
+	/**
+	 * <code>GET /{repository}</code> - Returns the collection resource (paged, sliced, scrolled or unpaged).
+	 * Repositories declaring a scroll method as described in {@link RepositoryScroller} are scrolled through by the given
+	 * cursor instead of being paged by offset. Pages are rendered as slice without counting all elements if requested as
+	 * described in {@link RepositorySlicer}. Answers conditional requests with {@code 304 Not Modified} in case the weak
+	 * {@link ETag} calculated for the elements and page metadata still matches. Large collections are rendered as
+	 * {@link IncrementalCollectionModel} if enabled via
+	 * {@link org.springframework.data.rest.core.config.IncrementalRenderingConfiguration}.
+	 *
+	 * @param resourceInformation
+	 * @param pageable
+	 * @param sort
+	 * @param cursor the cursor to continue scrolling from, can be {@literal null}.
+	 * @param headers
+	 * @param assembler
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @since 5.2
+	 */
 	@ResponseBody
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET)
-	public CollectionModel<?> getCollectionResource(@QuerydslPredicate RootResourceInformation resourceInformation,
-			DefaultedPageable pageable, Sort sort, RepresentationModelAssemblers assemblers)
+	public ResponseEntity<CollectionModel<?>> getCollectionResource(
+			@QuerydslPredicate RootResourceInformation resourceInformation, DefaultedPageable pageable, Sort sort,
+			@RequestParam(name = RepositoryScroller.CURSOR_PARAMETER, required = false) @Nullable String cursor,
+			@RequestHeader HttpHeaders headers, RepresentationModelAssemblers assemblers)
 			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
 
+		Iterable<?> results = findAll(resourceInformation, pageable, sort, cursor);
+		ETag eTag = ETag.fromCollection(resourceInformation.getPersistentEntity(), results, assemblers.getProjection());
+
+		StatusAndHeaders statusAndHeaders = resourceStatus.getStatusAndHeaders(headers, eTag);
+		headersPreparer.addCacheControl(statusAndHeaders.getHeaders(), resourceInformation.getDomainType(),
+				Scope.COLLECTION);
+
+		boolean incremental = isRenderedAsHal(headers)
+				&& config.getIncrementalRenderingConfiguration().isIncremental(results);
+
+		return statusAndHeaders.toCollectionResponseEntity(
+				() -> toCollectionModel(results, resourceInformation, pageable, sort, cursor, assemblers, incremental));
+	}
+
+	/**
+	 * <code>GET /{repository}?item-ids=…</code> - Returns the aggregates identified by the given identifiers in the
+	 * order requested, looked up at once as described in {@link RepositoryBatchLookup}. Identifiers no aggregate is
+	 * found for are skipped. Requests listing more identifiers than the maximum page size are rejected. Answers
+	 * conditional requests with {@code 304 Not Modified} in case the weak {@link ETag} calculated for the aggregates
+	 * still matches.
+	 *
+	 * @param resourceInformation
+	 * @param ids the identifiers as used in the URIs of the item resources.
+	 * @param headers
+	 * @param assemblers
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException in case no {@link RepositoryBatchLookup} is configured.
+	 * @since 5.2
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, params = RepositoryBatchLookup.ID_PARAMETER)
+	public ResponseEntity<CollectionModel<?>> getItemResources(RootResourceInformation resourceInformation,
+			@RequestParam(RepositoryBatchLookup.ID_PARAMETER) List<String> ids, @RequestHeader HttpHeaders headers,
+			RepresentationModelAssemblers assemblers) throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.ITEM);
+		verifyIdentifierCount(ids);
+
+		RepositoryBatchLookup batchLookup = this.batchLookup;
+
+		if (batchLookup == null) {
+			throw notSupported(HttpMethod.GET, resourceInformation);
+		}
+
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		List<Object> results = batchLookup.findAllById(entity, resourceInformation.getRequiredInvoker(), ids);
+		ETag eTag = ETag.fromCollection(entity, results, assemblers.getProjection());
+
+		StatusAndHeaders statusAndHeaders = resourceStatus.getStatusAndHeaders(headers, eTag);
+		headersPreparer.addCacheControl(statusAndHeaders.getHeaders(), entity.getType(), Scope.COLLECTION);
+
+		return statusAndHeaders.toCollectionResponseEntity(() -> {
+
+			CollectionModel<?> model = assemblers.toCollectionModel(results, entity.getType());
+
+			return model.add(ControllerUtils.getDefaultSelfLink()).add(getCollectionResourceLinks(resourceInformation));
+		});
+	}
+
+	/**
+	 * <code>GET /{repository}</code> - Exports all aggregates of the collection resource as newline delimited JSON or
+	 * CSV, reading and writing them chunk by chunk as described in {@link StreamingExporter}.
+	 *
+	 * @param resourceInformation
+	 * @param sort
+	 * @param headers
+	 * @param assemblers
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws HttpMediaTypeNotAcceptableException in case no {@link StreamingExporter} is configured.
+	 * @since 5.2
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET,
+			produces = { RestMediaTypes.NDJSON_VALUE, RestMediaTypes.TEXT_CSV_VALUE })
+	public ResponseEntity<StreamingResponseBody> exportCollectionResource(
+			@QuerydslPredicate RootResourceInformation resourceInformation, Sort sort,
+			@RequestHeader HttpHeaders headers, RepresentationModelAssemblers assemblers)
+			throws HttpRequestMethodNotSupportedException, HttpMediaTypeNotAcceptableException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
+
+		if (null == resourceInformation.getInvoker()) {
+			throw new ResourceNotFoundException();
+		}
+
+		StreamingExporter exporter = this.exporter;
+
+		if (exporter == null) {
+			throw new HttpMediaTypeNotAcceptableException(List.of(MediaTypes.HAL_JSON));
+		}
+
+		MediaType mediaType = StreamingExporter.getMediaType(headers.getAccept());
+		StreamingResponseBody body = exporter.export(resourceInformation.getPersistentEntity(),
+				() -> exporter.findAll(resourceInformation, sort), assemblers::toFullResource, mediaType,
+				assemblers.getProjection());
+
+		HttpHeaders responseHeaders = new HttpHeaders();
+		responseHeaders.setContentType(mediaType);
+		headersPreparer.addCacheControl(responseHeaders, resourceInformation.getDomainType(), Scope.COLLECTION);
+
+		return new ResponseEntity<>(body, responseHeaders, HttpStatus.OK);
+	}
+
+	private Iterable<?> findAll(RootResourceInformation resourceInformation, DefaultedPageable pageable, Sort sort,
+			@Nullable String cursor) throws HttpRequestMethodNotSupportedException {
+
 		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
 
 		RepositoryInvoker invoker = resourceInformation.getInvoker();
@@ -190,15 +408,145 @@ class RepositoryEntityController
 			throw new ResourceNotFoundException();
 		}
 
-		Iterable<?> results = invoker.invokeFindAll(pageable.getPageable());
-		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
+		Class<?> domainType = resourceInformation.getDomainType();
+
+		if (scroller != null && scroller.isScrollable(domainType, invoker)) {
+			return scroller.scroll(domainType, cursor, getScrollSort(pageable, sort), getScrollSize(pageable));
+		}
+
+		// Filtered requests are served by offset pages the cursor of a scrolled request cannot be applied to
+		if (cursor != null && scroller != null && scroller.isScrollable(domainType)) {
+			throw new InvalidCursorException("Cursors cannot be combined with filters");
+		}
+
+		if (slicer != null && resourceInformation.getResourceMetadata().isPagingResource()
+				&& slicer.isSliced(domainType, pageable)) {
+			return slicer.findAll(resourceInformation.getPersistentEntity(), invoker, pageable.getPageable());
+		}
+
+		return pager != null //
+				? pager.findAll(resourceInformation.getPersistentEntity(), invoker, pageable.getPageable()) //
+				: invoker.invokeFindAll(pageable.getPageable());
+	}
+
+	private CollectionModel<?> toCollectionModel(Iterable<?> results, RootResourceInformation resourceInformation,
+			DefaultedPageable pageable, Sort sort, @Nullable String cursor, RepresentationModelAssemblers assemblers,
+			boolean incremental) {
+
+		if (incremental) {
+			return toIncrementalCollectionModel(results, resourceInformation, pageable, sort, cursor, assemblers);
+		}
+
+		CollectionModel<?> model = assemblers.toCollectionModel(results, resourceInformation.getDomainType());
+
+		if (pager != null) {
+			model = pager.exposeApproximation(model, results);
+		}
+
+		return withCollectionLinks(model, results, resourceInformation, pageable, sort, cursor, assemblers);
+	}
+
+	private IncrementalCollectionModel toIncrementalCollectionModel(Iterable<?> results,
+			RootResourceInformation resourceInformation, DefaultedPageable pageable, Sort sort, @Nullable String cursor,
+			RepresentationModelAssemblers assemblers) {
+
+		IncrementalCollectionModel model = assemblers.toIncrementalCollectionModel(results,
+				resourceInformation.getDomainType());
+
+		if (pager != null) {
+			model = pager.exposeApproximation(model, results);
+		}
+
+		return withCollectionLinks(model, results, resourceInformation, pageable, sort, cursor, assemblers);
+	}
+
+	private <T extends CollectionModel<?>> T withCollectionLinks(T model, Iterable<?> results,
+			RootResourceInformation resourceInformation, DefaultedPageable pageable, Sort sort, @Nullable String cursor,
+			RepresentationModelAssemblers assemblers) {
+
+		model.add(getCollectionResourceLinks(resourceInformation));
+
+		if (results instanceof Window<?> window) {
+			model.add(getScrollLinks(window, resourceInformation.getDomainType(), getScrollSize(pageable),
+					getScrollSort(pageable, sort), cursor == null, assemblers.getProjection()));
+		}
+
+		return model;
+	}
 
-		return assemblers.toCollectionModel(results, metadata.getDomainType()) // ,
-																				// ControllerUtils.getDefaultSelfLink())
-				.add(getCollectionResourceLinks(resourceInformation, pageable));
+	/**
+	 * Returns whether the collection resource is going to be rendered as HAL or HAL FORMS, the media types
+	 * {@link IncrementalCollectionModel}s can be rendered in, according to the given request headers.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isRenderedAsHal(HttpHeaders headers) {
+
+		List<MediaType> hal = new ArrayList<>(
+				List.of(MediaTypes.HAL_JSON, MediaTypes.VND_HAL_JSON, MediaTypes.HAL_FORMS_JSON));
+
+		if (config.useHalAsDefaultJsonMediaType()) {
+			hal.add(MediaType.APPLICATION_JSON);
+		}
+
+		List<MediaType> accepted = headers.getAccept().stream() //
+				.filter(it -> !it.equalsTypeAndSubtype(MediaType.ALL)) //
+				.toList();
+
+		return (accepted.isEmpty() ? List.of(config.getDefaultMediaType()) : accepted).stream() //
+				.allMatch(it -> hal.stream().anyMatch(it::equalsTypeAndSubtype));
 	}
 
-	private Links getCollectionResourceLinks(RootResourceInformation resourceInformation, DefaultedPageable pageable) {
+	/**
+	 * Returns the links to the previous and next {@link Window} of a scrolled collection resource.
+	 *
+	 * @param window must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param size the size of the windows to scroll through.
+	 * @param sort must not be {@literal null}.
+	 * @param initial whether the given {@link Window} is the first one.
+	 * @param projection can be {@literal null}.
+	 * @return
+	 */
+	private Links getScrollLinks(Window<?> window, Class<?> domainType, int size, Sort sort, boolean initial,
+			@Nullable String projection) {
+
+		if (scroller == null || window.isEmpty()
+				|| !(window.positionAt(0) instanceof KeysetScrollPosition first)
+				|| !(window.positionAt(window.size() - 1) instanceof KeysetScrollPosition last)) {
+			return Links.NONE;
+		}
+
+		// Window.hasNext() refers to the direction scrolled in
+		boolean forward = last.scrollsForward();
+		Links links = Links.NONE;
+
+		if (forward ? !initial : window.hasNext()) {
+			links = links.and(entityLinks.linkToScrollPosition(domainType, scroller.encode(first.backward()), size, sort,
+					projection, IanaLinkRelations.PREV));
+		}
+
+		if (!forward || window.hasNext()) {
+			links = links.and(entityLinks.linkToScrollPosition(domainType, scroller.encode(last.forward()), size, sort,
+					projection, IanaLinkRelations.NEXT));
+		}
+
+		return links;
+	}
+
+	private int getScrollSize(DefaultedPageable pageable) {
+
+		Pageable source = pageable.getPageable();
+
+		return source.isPaged() ? source.getPageSize() : config.getDefaultPageSize();
+	}
+
+	private static Sort getScrollSort(DefaultedPageable pageable, @Nullable Sort sort) {
+		return sort != null && sort.isSorted() ? sort : pageable.getPageable().getSort();
+	}
+
+	private Links getCollectionResourceLinks(RootResourceInformation resourceInformation) {
 
 		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
 		SearchResourceMappings searchMappings = metadata.getSearchResourceMappings();
@@ -212,6 +560,20 @@ class RepositoryEntityController
 				: links;
 	}
 
+	/**
+	 * <code>GET /{repository}</code> - Returns the links to the item resources of the collection resource only. Links
+	 * are created from the aggregates directly instead of from their full representations. Only the identifying values
+	 * are read in case an {@link org.springframework.data.rest.webmvc.spi.IdentifierLookup} is available for the domain
+	 * type, see {@link RepositoryIdentifiers}.
+	 *
+	 * @param resourceinformation
+	 * @param pageable
+	 * @param sort
+	 * @param assemblers
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
 	@ResponseBody
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET,
 			produces = { "application/x-spring-data-compact+json", "text/uri-list" })
@@ -220,20 +582,62 @@ class RepositoryEntityController
 			DefaultedPageable pageable, Sort sort, RepresentationModelAssemblers assemblers)
 			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
 
-		CollectionModel<?> resources = getCollectionResource(resourceinformation, pageable, sort, assemblers);
+		Iterable<?> identifiers = findIdentifiers(resourceinformation, pageable);
+		Iterable<?> results = identifiers != null ? identifiers : findAll(resourceinformation, pageable, sort, null);
+
+		// Only links and metadata are used, so the elements don't need to be turned into resources
+		IncrementalCollectionModel resources = toIncrementalCollectionModel(results, resourceinformation, pageable,
+				sort, null, assemblers);
+
+		Class<?> domainType = resourceinformation.getDomainType();
+		LinkRelation rel = resourceinformation.getResourceMetadata().getItemResourceRel();
+		Links links = resources.getLinks();
 
-		Links links = resources.getContent().stream() //
-				.map(PersistentEntityResource.class::cast) //
-				.map(resourceinformation::resourceLink) //
-				.reduce(resources.getLinks(), Links::and, Links::and);
+		for (Object element : results) {
+
+			Link link = identifiers != null //
+					? entityLinks.linkToItemResource(domainType, element).expand() //
+					: assemblers.getExpandedSelfLink(element);
+
+			links = links.and(Link.of(link.getHref(), rel));
+		}
 
-		CollectionModel<?> model = resources instanceof PagedModel //
-				? PagedModel.empty(((PagedModel<?>) resources).getMetadata()) //
+		CollectionModel<?> model = resources.getMetadata() instanceof PageMetadata metadata //
+				? PagedModel.empty(metadata) //
 				: CollectionModel.empty();
 
 		return model.add(links);
 	}
 
+	/**
+	 * Looks up the values identifying the aggregates of the collection resource in URIs only, see
+	 * {@link RepositoryIdentifiers}.
+	 *
+	 * @param resourceInformation must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return {@literal null} in case the aggregates have to be read through the repository.
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	private @Nullable Iterable<?> findIdentifiers(RootResourceInformation resourceInformation,
+			DefaultedPageable pageable) throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
+
+		RepositoryInvoker invoker = resourceInformation.getInvoker();
+		Class<?> domainType = resourceInformation.getDomainType();
+
+		if (identifiers == null || invoker == null || scroller != null && scroller.isScrollable(domainType, invoker)
+				|| slicer != null && slicer.isSliced(domainType, pageable)) {
+			return null;
+		}
+
+		Pageable source = resourceInformation.getResourceMetadata().isPagingResource() //
+				? pageable.getPageable() //
+				: Pageable.unpaged();
+
+		return identifiers.findAll(resourceInformation.getPersistentEntity(), invoker, source).orElse(null);
+	}
+
 	/**
 	 * <code>POST /{repository}</code> - Creates a new entity instances from the collection resource.
 	 *
@@ -257,6 +661,88 @@ class RepositoryEntityController
 				config.returnBodyOnCreate(acceptHeader));
 	}
 
+	/**
+	 * <code>POST /{repository}</code> - Creates all entities contained in the JSON array of the request body at once as
+	 * described in {@link RepositoryBatchWriter}. Selected by sending the array as
+	 * {@link RestMediaTypes#SPRING_DATA_BULK_JSON}, so that plain JSON payloads keep creating a single entity no matter
+	 * which representation is requested. {@link BeforeCreateEvent}s and {@link AfterCreateEvent}s are published for
+	 * each entity, a {@link BeforeBulkCreateEvent} and an {@link AfterBulkCreateEvent} for all of them. Renders the
+	 * links to the item resources created only. Payloads containing more entities than the configured maximum bulk size
+	 * are rejected.
+	 *
+	 * @param resourceInformation
+	 * @param payload
+	 * @param assemblers
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException in case no {@link RepositoryBatchWriter} is configured.
+	 * @since 5.2
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.POST,
+			consumes = RestMediaTypes.SPRING_DATA_BULK_JSON_VALUE)
+	public ResponseEntity<RepresentationModel<?>> postCollectionResourceBulk(
+			RootResourceInformation resourceInformation, PersistentEntityResources payload,
+			RepresentationModelAssemblers assemblers) throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.POST, ResourceType.COLLECTION);
+
+		RepositoryBatchWriter batchWriter = this.batchWriter;
+
+		if (batchWriter == null) {
+			throw notSupported(HttpMethod.POST, resourceInformation);
+		}
+
+		Class<?> domainType = resourceInformation.getDomainType();
+		List<Object> domainObjects = payload.getContent();
+
+		verifyBulkSize(domainObjects.size());
+
+		domainObjects.forEach(it -> publishEvent(new BeforeCreateEvent(it)));
+		publishEvent(new BeforeBulkCreateEvent(domainType, domainObjects));
+
+		List<Object> savedObjects = batchWriter.saveAll(domainType, resourceInformation.getRequiredInvoker(),
+				domainObjects);
+
+		savedObjects.forEach(it -> publishEvent(new AfterCreateEvent(it)));
+		publishEvent(new AfterBulkCreateEvent(domainType, savedObjects));
+
+		LinkRelation rel = resourceInformation.getResourceMetadata().getItemResourceRel();
+		List<Link> links = savedObjects.stream() //
+				.map(it -> Link.of(assemblers.getExpandedSelfLink(it).getHref(), rel)) //
+				.toList();
+
+		return new ResponseEntity<RepresentationModel<?>>(CollectionModel.empty(links), HttpStatus.CREATED);
+	}
+
+	/**
+	 * <code>POST /{repository}</code> - Imports the newline delimited JSON records of the request body chunk by chunk
+	 * as described in {@link StreamingImporter}, streaming the outcome of every chunk back as newline delimited JSON.
+	 *
+	 * @param resourceInformation
+	 * @param body
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws HttpMediaTypeNotSupportedException in case no {@link StreamingImporter} is configured.
+	 * @since 5.2
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.POST, consumes = RestMediaTypes.NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> importCollectionResource(RootResourceInformation resourceInformation,
+			InputStream body) throws HttpRequestMethodNotSupportedException, HttpMediaTypeNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.POST, ResourceType.COLLECTION);
+
+		StreamingImporter importer = this.importer;
+
+		if (importer == null) {
+			throw new HttpMediaTypeNotSupportedException(RestMediaTypes.NDJSON, List.of(MediaType.APPLICATION_JSON));
+		}
+
+		HttpHeaders responseHeaders = new HttpHeaders();
+		responseHeaders.setContentType(RestMediaTypes.NDJSON);
+
+		return new ResponseEntity<>(importer.importAll(resourceInformation, body), responseHeaders, HttpStatus.OK);
+	}
+
 	/**
 	 * <code>OPTIONS /{repository}/{id}<code>
 	 *
@@ -281,23 +767,32 @@ class RepositoryEntityController
 	 *
 	 * @param resourceInformation
 	 * @param id
+	 * @param assembler
+	 * @param headers
 	 * @return
 	 * @throws HttpRequestMethodNotSupportedException
 	 * @since 2.2
 	 */
 	@RequestMapping(value = BASE_MAPPING + "/{id}", method = RequestMethod.HEAD)
 	public ResponseEntity<?> headForItemResource(RootResourceInformation resourceInformation,
-			@BackendId Serializable id,
-			PersistentEntityResourceAssembler assembler) throws HttpRequestMethodNotSupportedException {
+			@BackendId Serializable id, PersistentEntityResourceAssembler assembler, @RequestHeader HttpHeaders headers)
+			throws HttpRequestMethodNotSupportedException {
+
+		Optional<ResponseEntity<Object>> notModified = getNotModifiedResponse(resourceInformation, id, headers);
+
+		if (notModified.isPresent()) {
+			return notModified.get();
+		}
 
 		return getItemResource(resourceInformation, id).map(it -> {
 
 			Links links = assembler.toModel(it).getLinks();
 
-			HttpHeaders headers = headersPreparer.prepareHeaders(resourceInformation.getPersistentEntity(), it);
-			headers.add(LINK_HEADER, links.toString());
+			HttpHeaders responseHeaders = headersPreparer.prepareHeaders(resourceInformation.getPersistentEntity(), it);
+			responseHeaders.add(LINK_HEADER, links.toString());
+			headersPreparer.addCacheControl(responseHeaders, resourceInformation.getDomainType(), Scope.ITEM);
 
-			return new ResponseEntity<Object>(headers, HttpStatus.NO_CONTENT);
+			return new ResponseEntity<Object>(responseHeaders, HttpStatus.NO_CONTENT);
 
 		}).orElseThrow(() -> new ResourceNotFoundException());
 	}
@@ -316,12 +811,23 @@ class RepositoryEntityController
 			@RequestHeader HttpHeaders headers)
 			throws HttpRequestMethodNotSupportedException {
 
+		Optional<ResponseEntity<EntityModel<?>>> notModified = getNotModifiedResponse(resourceInformation, id, headers);
+
+		if (notModified.isPresent()) {
+			return notModified.get();
+		}
+
 		return getItemResource(resourceInformation, id).map(it -> {
 
 			PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+			StatusAndHeaders statusAndHeaders = resourceStatus.getStatusAndHeaders(headers, it, entity);
+			headersPreparer.addCacheControl(statusAndHeaders.getHeaders(), entity.getType(), Scope.ITEM);
+
+			EntityModel<?> cached = getCachedRepresentation(statusAndHeaders, entity, it, assembler, headers);
 
-			return resourceStatus.getStatusAndHeaders(headers, it, entity).toResponseEntity(//
-					() -> assembler.toFullResource(it));
+			return cached != null //
+					? new ResponseEntity<EntityModel<?>>(cached, statusAndHeaders.getHeaders(), HttpStatus.OK) //
+					: statusAndHeaders.toResponseEntity(() -> assembler.toFullResource(it));
 
 		}).orElseThrow(() -> new ResourceNotFoundException());
 	}
@@ -352,7 +858,11 @@ class RepositoryEntityController
 
 		RepositoryInvoker invoker = resourceInformation.getRequiredInvoker();
 		Object objectToSave = payload.getContent();
-		eTag.verify(resourceInformation.getPersistentEntity(), objectToSave);
+
+		// Content hashes of existing aggregates were verified before applying the payload
+		if (payload.isNew() || !isContentHashETagEnabledFor(resourceInformation.getPersistentEntity())) {
+			eTag.verify(resourceInformation.getPersistentEntity(), objectToSave);
+		}
 
 		if (objectToSave == null) {
 			throw new IllegalStateException("Payload content must not be null");
@@ -387,12 +897,108 @@ class RepositoryEntityController
 
 		Object domainObject = payload.getContent();
 
-		eTag.verify(resourceInformation.getPersistentEntity(), domainObject);
+		// Content hashes were verified before applying the patch
+		if (!isContentHashETagEnabledFor(resourceInformation.getPersistentEntity())) {
+			eTag.verify(resourceInformation.getPersistentEntity(), domainObject);
+		}
 
 		return saveAndReturn(domainObject, resourceInformation.getRequiredInvoker(), PATCH, assembler,
 				config.returnBodyOnUpdate(acceptHeader));
 	}
 
+	/**
+	 * <code>PATCH /{repository}</code> - Applies the patch documents of the request body to the aggregates identified
+	 * by the identifiers they're keyed by, or the single patch document of the request body to all aggregates
+	 * identified by the {@code item-ids} request parameters. All aggregates are looked up at once as described in
+	 * {@link RepositoryBatchLookup} and saved at once as described in {@link RepositoryBatchWriter}, both within a
+	 * single transaction. Requests patching more aggregates than the configured maximum bulk size are rejected. An
+	 * {@code If-Match} header has to list one entity tag per identifier, in the same order, each of which is verified
+	 * before anything is patched.
+	 * {@link BeforeSaveEvent}s and {@link AfterSaveEvent}s are published for each aggregate, a
+	 * {@link BeforeBulkSaveEvent} and an {@link AfterBulkSaveEvent} for all of them. Renders the status and
+	 * {@link ETag} of every item resource.
+	 *
+	 * @param resourceInformation
+	 * @param patches
+	 * @param headers
+	 * @param assemblers
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws ETagDoesntMatchException
+	 * @since 5.2
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.PATCH)
+	public ResponseEntity<ItemResults> patchItemResources(RootResourceInformation resourceInformation,
+			PersistentEntityPatches patches, @RequestHeader HttpHeaders headers,
+			RepresentationModelAssemblers assemblers) throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.PATCH, ResourceType.ITEM);
+		verifyBulkSize(patches.getIds().size());
+
+		RepositoryBatchLookup batchLookup = this.batchLookup;
+		RepositoryBatchWriter batchWriter = this.batchWriter;
+
+		if (batchLookup == null || batchWriter == null) {
+			throw notSupported(HttpMethod.PATCH, resourceInformation);
+		}
+
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		Class<?> domainType = entity.getType();
+		RepositoryInvoker invoker = resourceInformation.getRequiredInvoker();
+
+		// Aggregates must not change between the verification of their ETags and saving them
+		Optional<Map<String, Object>> result = batchWriter.executeInTransaction(() -> {
+
+			Map<String, Object> aggregates = batchLookup.findAllByRequestId(entity, invoker, patches.getIds());
+
+			if (!verifyIfMatch(patches.getIds(), aggregates, entity, headers, assemblers)) {
+				return Optional.empty();
+			}
+
+			Map<String, Object> domainObjects = new LinkedHashMap<>(aggregates.size());
+			aggregates.forEach((id, aggregate) -> domainObjects.put(id, patches.apply(id, aggregate)));
+
+			List<Object> toSave = domainObjects.values().stream().distinct().toList();
+
+			toSave.forEach(it -> publishEvent(new BeforeSaveEvent(it)));
+			publishEvent(new BeforeBulkSaveEvent(domainType, toSave));
+
+			List<Object> saved = batchWriter.saveAll(domainType, invoker, toSave);
+
+			return Optional.of(pairByIdentifier(entity, domainObjects, saved));
+		});
+
+		if (result.isEmpty()) {
+			return new ResponseEntity<ItemResults>(HttpStatus.PRECONDITION_FAILED);
+		}
+
+		Map<String, Object> savedById = result.get();
+		List<Object> savedObjects = savedById.values().stream().distinct().toList();
+
+		savedObjects.forEach(it -> publishEvent(new AfterSaveEvent(it)));
+		publishEvent(new AfterBulkSaveEvent(domainType, savedObjects));
+
+		ItemResults results = new ItemResults();
+
+		for (String id : patches.getIds()) {
+
+			Object saved = savedById.get(id);
+
+			if (saved == null) {
+				results.add(id, ItemResult.notFound());
+				continue;
+			}
+
+			ETag eTag = ETag.from(entity, saved);
+
+			results.add(id, ItemResult.ok(eTag == ETag.NO_ETAG ? null : eTag.toString(),
+					assemblers.getExpandedSelfLink(saved)));
+		}
+
+		return ResponseEntity.ok(results.add(ControllerUtils.getDefaultSelfLink()));
+	}
+
 	/**
 	 * <code>DELETE /{repository}/{id}</code> - Deletes the entity backing the item resource.
 	 *
@@ -419,7 +1025,7 @@ class RepositoryEntityController
 
 			PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
 
-			eTag.verify(entity, it);
+			verify(eTag, entity, it, assembler::toFullResource, toHeaders(acceptHeader));
 
 			publishEvent(new BeforeDeleteEvent(it));
 			invoker.invokeDeleteById(entity.getIdentifierAccessor(it).getRequiredIdentifier());
@@ -433,6 +1039,110 @@ class RepositoryEntityController
 		}).orElseThrow(() -> new ResourceNotFoundException());
 	}
 
+	/**
+	 * <code>DELETE /{repository}?item-ids=…</code> - Deletes the aggregates identified by the given identifiers at once
+	 * as described in {@link RepositoryBatchWriter}, after looking them up with a single call as described in
+	 * {@link RepositoryBatchLookup}. Identifiers no aggregate is found for are skipped. An {@code If-Match} header has
+	 * to list one entity tag per identifier, in the same order, each of which is verified before anything is deleted.
+	 * Requests listing more identifiers than the configured maximum bulk size are rejected. {@link BeforeDeleteEvent}s
+	 * and {@link AfterDeleteEvent}s are published for each aggregate, a {@link BeforeBulkDeleteEvent} and an
+	 * {@link AfterBulkDeleteEvent} for all of them.
+	 *
+	 * @param resourceInformation
+	 * @param ids the identifiers as used in the URIs of the item resources.
+	 * @param headers
+	 * @param assemblers
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws ETagDoesntMatchException
+	 * @since 5.2
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.DELETE, params = RepositoryBatchLookup.ID_PARAMETER)
+	public ResponseEntity<?> deleteItemResources(RootResourceInformation resourceInformation,
+			@RequestParam(RepositoryBatchLookup.ID_PARAMETER) List<String> ids, @RequestHeader HttpHeaders headers,
+			RepresentationModelAssemblers assemblers) throws HttpRequestMethodNotSupportedException {
+		return deleteAll(resourceInformation, ids, headers, assemblers);
+	}
+
+	/**
+	 * <code>DELETE /{repository}</code> - Deletes the aggregates backing the item resources listed in the
+	 * {@code text/uri-list} request body like
+	 * {@link #deleteItemResources(RootResourceInformation, List, HttpHeaders, RepresentationModelAssemblers)} does.
+	 *
+	 * @param resourceInformation
+	 * @param incoming the links to the item resources to delete.
+	 * @param headers
+	 * @param assemblers
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws ETagDoesntMatchException
+	 * @since 5.2
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.DELETE, consumes = RestMediaTypes.TEXT_URI_LIST_VALUE)
+	public ResponseEntity<?> deleteItemResourcesByUri(RootResourceInformation resourceInformation,
+			@RequestBody CollectionModel<Object> incoming, @RequestHeader HttpHeaders headers,
+			RepresentationModelAssemblers assemblers) throws HttpRequestMethodNotSupportedException {
+
+		String collectionHref = entityLinks.linkToCollectionResource(resourceInformation.getDomainType()).expand()
+				.getHref();
+		List<String> collectionSegments = UriComponentsBuilder.fromUriString(collectionHref).build().getPathSegments();
+		List<String> ids = new ArrayList<>();
+
+		for (Link link : incoming.getLinks()) {
+
+			List<String> segments = UriComponentsBuilder.fromUriString(link.expand().getHref()).build()
+					.getPathSegments();
+
+			if (segments.size() != collectionSegments.size() + 1
+					|| !segments.subList(0, collectionSegments.size()).equals(collectionSegments)) {
+				throw new InvalidStateTransitionRequest(
+						String.format("%s is not an item resource of %s", link.getHref(), collectionHref));
+			}
+
+			ids.add(StringUtils.uriDecode(segments.get(segments.size() - 1), StandardCharsets.UTF_8));
+		}
+
+		return deleteAll(resourceInformation, ids, headers, assemblers);
+	}
+
+	private ResponseEntity<?> deleteAll(RootResourceInformation resourceInformation, List<String> ids,
+			HttpHeaders headers, RepresentationModelAssemblers assemblers)
+			throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.DELETE, ResourceType.ITEM);
+		verifyBulkSize(ids.size());
+
+		RepositoryBatchLookup batchLookup = this.batchLookup;
+		RepositoryBatchWriter batchWriter = this.batchWriter;
+
+		if (batchLookup == null || batchWriter == null) {
+			throw notSupported(HttpMethod.DELETE, resourceInformation);
+		}
+
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		RepositoryInvoker invoker = resourceInformation.getRequiredInvoker();
+		Map<String, Object> aggregates = batchLookup.findAllByRequestId(entity, invoker, ids);
+
+		if (!verifyIfMatch(ids, aggregates, entity, headers, assemblers)) {
+			return new ResponseEntity<Object>(HttpStatus.PRECONDITION_FAILED);
+		}
+
+		Class<?> domainType = entity.getType();
+		List<Object> domainObjects = aggregates.values().stream().distinct().toList();
+
+		domainObjects.forEach(it -> publishEvent(new BeforeDeleteEvent(it)));
+		publishEvent(new BeforeBulkDeleteEvent(domainType, domainObjects));
+
+		batchWriter.deleteAll(entity, invoker, domainObjects);
+
+		domainObjects.forEach(it -> publishEvent(new AfterDeleteEvent(it)));
+		publishEvent(new AfterBulkDeleteEvent(domainType, domainObjects));
+
+		return config.returnBodyOnDelete(headers.getFirst(ACCEPT_HEADER))
+				? ResponseEntity.ok(assemblers.toCollectionModel(domainObjects, domainType))
+				: new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+	}
+
 	/**
 	 * Merges the given incoming object into the given domain object.
 	 *
@@ -517,9 +1227,258 @@ class RepositoryEntityController
 		return resourceInformation.getRequiredInvoker().invokeFindById(id);
 	}
 
+	/**
+	 * Returns a {@code 304 Not Modified} response for conditional requests in case the version of the aggregate backing
+	 * the item resource can be determined without loading the aggregate and still matches the request's expectations.
+	 *
+	 * @param resourceInformation
+	 * @param id
+	 * @param headers can be {@literal null}.
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	private <T> Optional<ResponseEntity<T>> getNotModifiedResponse(RootResourceInformation resourceInformation,
+			Serializable id, @Nullable HttpHeaders headers) throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.ITEM);
+
+		if (headers == null) {
+			return Optional.empty();
+		}
+
+		return resourceStatus.getStatusAndHeaders(headers, resourceInformation.getPersistentEntity(), id) //
+				.filter(it -> !it.isModified()) //
+				.map(it -> {
+
+					headersPreparer.addCacheControl(it.getHeaders(), resourceInformation.getDomainType(), Scope.ITEM);
+
+					return it.<T> toNotModifiedResponseEntity();
+				});
+	}
+
+	/**
+	 * Returns the representation of the given domain object from the {@link RepresentationCache} if caching is enabled
+	 * for the given {@link PersistentEntity} and the domain object is versioned.
+	 *
+	 * @param statusAndHeaders must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param domainObject must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param requestHeaders must not be {@literal null}.
+	 * @return the cached representation or {@literal null} if none is available.
+	 */
+	private @Nullable EntityModel<?> getCachedRepresentation(StatusAndHeaders statusAndHeaders,
+			PersistentEntity<?, ?> entity, Object domainObject, PersistentEntityResourceAssembler assembler,
+			HttpHeaders requestHeaders) {
+
+		if (representationCache == null || !statusAndHeaders.isModified()
+				|| !representationCache.isEnabledFor(entity.getType())) {
+			return null;
+		}
+
+		String version = statusAndHeaders.getHeaders().getETag();
+		Object identifier = entity.getIdentifierAccessor(domainObject).getIdentifier();
+
+		if (version == null || identifier == null) {
+			return null;
+		}
+
+		String baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+
+		return representationCache.lookup(RepresentationCache.Key.of(entity, identifier, version,
+				assembler.getProjection(), baseUri, requestHeaders));
+	}
+
+	private boolean isContentHashETagEnabledFor(PersistentEntity<?, ?> entity) {
+		return contentHashETags != null && contentHashETags.isEnabledFor(entity);
+	}
+
+	/**
+	 * Verifies the given {@link ETag} against the given aggregate, using the hash of its representation in case content
+	 * hash {@link ETag}s are enabled for the given {@link PersistentEntity}.
+	 *
+	 * @param eTag must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param aggregate must not be {@literal null}.
+	 * @param toResource the function to create the item resource to render from the aggregate, must not be
+	 *          {@literal null}.
+	 * @param headers the headers of the current request, must not be {@literal null}.
+	 * @throws ETagDoesntMatchException in case the {@link ETag} does not match.
+	 */
+	private void verify(ETag eTag, PersistentEntity<?, ?> entity, Object aggregate,
+			Function<Object, PersistentEntityResource> toResource, HttpHeaders headers) {
+
+		ContentHashETags contentHashETags = this.contentHashETags;
+
+		if (contentHashETags == null || !contentHashETags.isEnabledFor(entity)) {
+			eTag.verify(entity, aggregate);
+		} else if (eTag != ETag.NO_ETAG) {
+			contentHashETags.verify(eTag, toResource.apply(aggregate), headers);
+		}
+	}
+
+	/**
+	 * Verifies the entity tags listed in the {@code If-Match} header of the given request, one per identifier in the
+	 * same order, against the aggregates found for the identifiers.
+	 *
+	 * @param ids the identifiers as used in the URIs of the item resources, must not be {@literal null}.
+	 * @param aggregates the aggregates found keyed by identifier, must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param headers the headers of the current request, must not be {@literal null}.
+	 * @param assemblers must not be {@literal null}.
+	 * @return {@literal false} in case an entity tag is given for an identifier no aggregate was found for.
+	 * @throws ETagDoesntMatchException in case an entity tag does not match.
+	 */
+	private boolean verifyIfMatch(List<String> ids, Map<String, Object> aggregates, PersistentEntity<?, ?> entity,
+			HttpHeaders headers, RepresentationModelAssemblers assemblers) {
+
+		List<String> eTags = headers.getIfMatch();
+
+		if (eTags.isEmpty()) {
+			return true;
+		}
+
+		if (eTags.size() != ids.size()) {
+			throw new InvalidStateTransitionRequest("If-Match must list one entity tag per identifier");
+		}
+
+		for (int i = 0; i < ids.size(); i++) {
+
+			Object aggregate = aggregates.get(ids.get(i));
+
+			// Preconditions on aggregates that don't exist (anymore) can't be met
+			if (aggregate == null) {
+				return false;
+			}
+
+			String eTag = eTags.get(i);
+
+			if (!"*".equals(eTag)) {
+				verify(ETag.from(Optional.of(eTag)), entity, aggregate, assemblers::toFullResource, headers);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Rejects requests listing more identifiers than the configured maximum page size.
+	 *
+	 * @param ids must not be {@literal null}.
+	 */
+	private void verifyIdentifierCount(List<String> ids) {
+
+		if (ids.size() > config.getMaxPageSize()) {
+			throw new InvalidStateTransitionRequest(
+					"Requests must not list more than %s identifiers".formatted(config.getMaxPageSize()));
+		}
+	}
+
+	/**
+	 * Pairs the given saved aggregates with the request identifiers of the aggregates they were saved for by their
+	 * identifiers, as repositories are free to return the saved aggregates in any order.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param domainObjects the aggregates handed to the repository keyed by request identifier, must not be
+	 *          {@literal null}.
+	 * @param savedObjects the aggregates returned by the repository, must not be {@literal null}.
+	 * @return the saved aggregates keyed by request identifier.
+	 */
+	private static Map<String, Object> pairByIdentifier(PersistentEntity<?, ?> entity,
+			Map<String, Object> domainObjects, List<Object> savedObjects) {
+
+		Map<Object, Object> savedByIdentifier = new HashMap<>(savedObjects.size());
+
+		for (Object saved : savedObjects) {
+			savedByIdentifier.put(entity.getIdentifierAccessor(saved).getRequiredIdentifier(), saved);
+		}
+
+		Map<String, Object> result = new LinkedHashMap<>(domainObjects.size());
+
+		domainObjects.forEach((id, domainObject) -> {
+
+			Object identifier = entity.getIdentifierAccessor(domainObject).getRequiredIdentifier();
+			Object saved = savedByIdentifier.get(identifier);
+
+			Assert.state(saved != null, () -> "Repository did not return the aggregate saved for " + identifier);
+
+			result.put(id, saved);
+		});
+
+		return result;
+	}
+
+	/**
+	 * Rejects requests writing more aggregates than the configured maximum bulk size.
+	 *
+	 * @param size the number of aggregates to write.
+	 */
+	private void verifyBulkSize(int size) {
+
+		if (size > config.getMaxBulkSize()) {
+			throw new InvalidStateTransitionRequest(
+					"Requests must not write more than %s aggregates at once".formatted(config.getMaxBulkSize()));
+		}
+	}
+
+	/**
+	 * Creates the exception to reject the given {@link HttpMethod} on the collection resource with in case the
+	 * components needed to handle it are not available.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param resourceInformation must not be {@literal null}.
+	 * @return
+	 */
+	private static HttpRequestMethodNotSupportedException notSupported(HttpMethod method,
+			RootResourceInformation resourceInformation) {
+
+		Set<String> supportedMethods = resourceInformation.getResourceMetadata().getSupportedHttpMethods()
+				.getMethodsFor(ResourceType.COLLECTION).butWithout(method).stream() //
+				.map(HttpMethod::name) //
+				.collect(Collectors.toSet());
+
+		return new HttpRequestMethodNotSupportedException(method.name(), supportedMethods);
+	}
+
+	private static HttpHeaders toHeaders(@Nullable String acceptHeader) {
+
+		HttpHeaders headers = new HttpHeaders();
+
+		if (acceptHeader != null) {
+			headers.set(HttpHeaders.ACCEPT, acceptHeader);
+		}
+
+		return headers;
+	}
+
 	private void publishEvent(Object event) {
 		if (publisher != null) {
 			publisher.publishEvent(event);
 		}
 	}
+
+	/**
+	 * The optional components the controller delegates to for features beyond the plain CRUD resources. Features whose
+	 * component is {@literal null} are not available.
+	 *
+	 * @param representationCache can be {@literal null}.
+	 * @param scroller can be {@literal null}.
+	 * @param slicer can be {@literal null}.
+	 * @param pager can be {@literal null}.
+	 * @param exporter can be {@literal null}.
+	 * @param identifiers can be {@literal null}.
+	 * @param batchLookup can be {@literal null}.
+	 * @param batchWriter can be {@literal null}.
+	 * @param importer can be {@literal null}.
+	 * @param contentHashETags can be {@literal null}.
+	 * @since 5.2
+	 */
+	record Collaborators(@Nullable RepresentationCache representationCache, @Nullable RepositoryScroller scroller,
+			@Nullable RepositorySlicer slicer, @Nullable RepositoryPager pager, @Nullable StreamingExporter exporter,
+			@Nullable RepositoryIdentifiers identifiers, @Nullable RepositoryBatchLookup batchLookup,
+			@Nullable RepositoryBatchWriter batchWriter, @Nullable StreamingImporter importer,
+			@Nullable ContentHashETags contentHashETags) {
+
+		static final Collaborators NONE = new Collaborators(null, null, null, null, null, null, null, null, null, null);
+	}
 }
@@ -24,6 +24,7 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -43,7 +44,10 @@ import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
 import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
 import org.springframework.data.rest.core.event.BeforeLinkDeleteEvent;
 import org.springframework.data.rest.core.event.BeforeLinkSaveEvent;
+import org.springframework.data.rest.webmvc.support.AssociationPager;
+import org.springframework.data.rest.webmvc.support.AssociationUriResolver;
 import org.springframework.data.rest.webmvc.support.BackendId;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.IanaLinkRelations;
@@ -83,14 +87,35 @@ class RepositoryPropertyReferenceController /*extends AbstractRepositoryRestCont
 
 	private final Repositories repositories;
 	private final RepositoryInvokerFactory repositoryInvokerFactory;
+	private final @Nullable AssociationPager pager;
+	private final @Nullable AssociationUriResolver uriResolver;
 
 	private @Nullable ApplicationEventPublisher publisher;
 
 	public RepositoryPropertyReferenceController(Repositories repositories,
 			RepositoryInvokerFactory repositoryInvokerFactory) {
+		this(repositories, repositoryInvokerFactory, null, null);
+	}
+
+	/**
+	 * Creates a new {@link RepositoryPropertyReferenceController} rendering collection-like associations as pages
+	 * looked up through the given {@link AssociationPager} if the request asks for a page or sort, and resolving the
+	 * links submitted to update associations in batches through the given {@link AssociationUriResolver}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param repositoryInvokerFactory must not be {@literal null}.
+	 * @param pager can be {@literal null}.
+	 * @param uriResolver can be {@literal null}.
+	 * @since 5.2
+	 */
+	public RepositoryPropertyReferenceController(Repositories repositories,
+			RepositoryInvokerFactory repositoryInvokerFactory, @Nullable AssociationPager pager,
+			@Nullable AssociationUriResolver uriResolver) {
 
 		this.repositories = repositories;
 		this.repositoryInvokerFactory = repositoryInvokerFactory;
+		this.pager = pager;
+		this.uriResolver = uriResolver;
 	}
 
 	@Override
@@ -100,14 +125,21 @@ class RepositoryPropertyReferenceController /*extends AbstractRepositoryRestCont
 
 	@RequestMapping(value = BASE_MAPPING, method = GET)
 	public ResponseEntity<RepresentationModel<?>> followPropertyReference(final RootResourceInformation repoRequest,
-			@BackendId Serializable id, final @PathVariable String property,
+			@BackendId Serializable id, final @PathVariable String property, DefaultedPageable pageable,
 			RepresentationModelAssemblers assemblers) throws Exception {
 
 		var headers = new HttpHeaders();
 
 		Function<ReferencedProperty, RepresentationModel<?>> handler = prop -> prop.mapValue(it -> {
 
-			if (prop.property.isCollectionLike()) {
+			if (prop.property.isCollectionLike() && pager != null && !pageable.isDefault()
+					&& pageable.getPageable().isPaged()) {
+
+				var page = pager.findPage(prop.property, prop.accessor.getBean(), it, pageable.getPageable());
+
+				return assemblers.toCollectionModel(page, prop.propertyType);
+
+			} else if (prop.property.isCollectionLike()) {
 
 				return assemblers.toCollectionModel((Iterable<Object>) it, prop.propertyType);
 
@@ -166,7 +198,16 @@ class RepositoryPropertyReferenceController /*extends AbstractRepositoryRestCont
 
 		Function<ReferencedProperty, RepresentationModel<?>> handler = prop -> prop.mapValue(it -> {
 
-			if (prop.property.isCollectionLike()) {
+			if ((prop.property.isCollectionLike() || prop.property.isMap()) && pager != null) {
+
+				var element = pager.findElement(prop.property, prop.accessor.getBean(), it, propertyId)
+						.orElseThrow(ResourceNotFoundException::new);
+
+				var resource = assemblers.toModel(element);
+				headers.set("Content-Location", resource.getRequiredLink(IanaLinkRelations.SELF).getHref());
+				return resource;
+
+			} else if (prop.property.isCollectionLike()) {
 
 				for (Object obj : (Iterable<?>) it) {
 
@@ -256,9 +297,7 @@ class RepositoryPropertyReferenceController /*extends AbstractRepositoryRestCont
 						: CollectionFactory.createCollection(propertyType, 0);
 
 				// Add to the existing collection
-				for (Link l1 : source.getLinks()) {
-					collection.add(loadPropertyValue(prop.propertyType, l1));
-				}
+				collection.addAll(loadPropertyValues(prop.propertyType, source.getLinks()));
 
 				prop.accessor.setProperty(prop.property, collection);
 
@@ -269,8 +308,11 @@ class RepositoryPropertyReferenceController /*extends AbstractRepositoryRestCont
 						: CollectionFactory.<LinkRelation, Object> createMap(propertyType, 0);
 
 				// Add to the existing collection
-				for (Link l2 : source.getLinks()) {
-					map.put(l2.getRel(), loadPropertyValue(prop.propertyType, l2));
+				List<Link> links = source.getLinks().toList();
+				List<@Nullable Object> values = loadPropertyValues(prop.propertyType, source.getLinks());
+
+				for (int i = 0; i < links.size(); i++) {
+					map.put(links.get(i).getRel(), values.get(i));
 				}
 
 				prop.accessor.setProperty(prop.property, map);
@@ -317,7 +359,19 @@ class RepositoryPropertyReferenceController /*extends AbstractRepositoryRestCont
 
 		Function<ReferencedProperty, RepresentationModel<?>> handler = prop -> prop.mapValue(it -> {
 
-			if (prop.property.isCollectionLike()) {
+			if ((prop.property.isCollectionLike() || prop.property.isMap()) && pager != null) {
+
+				// Removes the element looked up by the pager instead of scanning the association once more
+				pager.findElement(prop.property, prop.accessor.getBean(), it, propertyId).ifPresent(element -> {
+
+					if (prop.property.isMap()) {
+						((Map<Object, Object>) it).values().remove(element);
+					} else {
+						((Collection<Object>) it).remove(element);
+					}
+				});
+
+			} else if (prop.property.isCollectionLike()) {
 
 				Collection<Object> coll = (Collection<Object>) it;
 				Iterator<Object> iterator = coll.iterator();
@@ -372,11 +426,28 @@ class RepositoryPropertyReferenceController /*extends AbstractRepositoryRestCont
 
 	private @Nullable Object loadPropertyValue(Class<?> type, Link link) {
 
-		var href = link.expand().getHref();
-		var id = href.substring(href.lastIndexOf('/') + 1);
 		var invoker = repositoryInvokerFactory.getInvokerFor(type);
 
-		return invoker.invokeFindById(id).orElse(null);
+		return invoker.invokeFindById(getIdentifier(link)).orElse(null);
+	}
+
+	private List<@Nullable Object> loadPropertyValues(Class<?> type, Links links) {
+
+		if (uriResolver == null) {
+			return links.stream().map(it -> loadPropertyValue(type, it)).toList();
+		}
+
+		var ids = links.stream().map(RepositoryPropertyReferenceController::getIdentifier).toList();
+		var aggregates = uriResolver.resolveAll(type, ids);
+
+		return ids.stream().map(aggregates::get).toList();
+	}
+
+	private static String getIdentifier(Link link) {
+
+		var href = link.expand().getHref();
+
+		return href.substring(href.lastIndexOf('/') + 1);
 	}
 
 	private Optional<RepresentationModel<?>> doWithReferencedProperty(RootResourceInformation resourceInformation,
@@ -30,6 +30,7 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.rest.core.RepositoryConstraintViolationException;
 import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
 import org.springframework.data.rest.webmvc.support.ExceptionMessage;
+import org.springframework.data.rest.webmvc.support.InvalidCursorException;
 import org.springframework.data.rest.webmvc.support.RepositoryConstraintViolationExceptionMessage;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -93,6 +94,18 @@ public class RepositoryRestExceptionHandler {
 		return badRequest(new HttpHeaders(), o_O);
 	}
 
+	/**
+	 * Handles {@link InvalidCursorException}s by returning {@code 400 Bad Request}.
+	 *
+	 * @param o_O the exception to handle.
+	 * @return
+	 * @since 5.2
+	 */
+	@ExceptionHandler
+	ResponseEntity<ExceptionMessage> handle(InvalidCursorException o_O) {
+		return badRequest(new HttpHeaders(), o_O);
+	}
+
 	/**
 	 * Handle failures commonly thrown from code tries to read incoming data and convert or cast it to the right type by
 	 * returning {@code 500 Internal Server Error}.
@@ -17,10 +17,13 @@ package org.springframework.data.rest.webmvc;
 
 import static org.springframework.web.bind.annotation.RequestMethod.*;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
 import org.springframework.data.rest.webmvc.json.JsonSchema;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
@@ -38,18 +41,33 @@ import org.springframework.web.bind.annotation.RequestMapping;
 class RepositorySchemaController {
 
 	private final PersistentEntityToJsonSchemaConverter jsonSchemaConverter;
+	private final @Nullable HttpHeadersPreparer headersPreparer;
 
 	/**
 	 * Creates a new {@link RepositorySchemaController} using the given {@link PersistentEntityToJsonSchemaConverter}.
 	 *
 	 * @param jsonSchemaConverter must not be {@literal null}.
 	 */
-	@Autowired
 	public RepositorySchemaController(PersistentEntityToJsonSchemaConverter jsonSchemaConverter) {
+		this(jsonSchemaConverter, null);
+	}
+
+	/**
+	 * Creates a new {@link RepositorySchemaController} using the given {@link PersistentEntityToJsonSchemaConverter}
+	 * and {@link HttpHeadersPreparer}.
+	 *
+	 * @param jsonSchemaConverter must not be {@literal null}.
+	 * @param headersPreparer can be {@literal null}.
+	 * @since 5.2
+	 */
+	@Autowired
+	public RepositorySchemaController(PersistentEntityToJsonSchemaConverter jsonSchemaConverter,
+			@Nullable HttpHeadersPreparer headersPreparer) {
 
 		Assert.notNull(jsonSchemaConverter, "PersistentEntityToJsonSchemaConverter must not be null");
 
 		this.jsonSchemaConverter = jsonSchemaConverter;
+		this.headersPreparer = headersPreparer;
 	}
 
 	/**
@@ -63,6 +81,12 @@ class RepositorySchemaController {
 	public HttpEntity<JsonSchema> schema(RootResourceInformation resourceInformation) {
 
 		JsonSchema schema = jsonSchemaConverter.convert(resourceInformation.getDomainType());
-		return new ResponseEntity<JsonSchema>(schema, HttpStatus.OK);
+		HttpHeaders headers = new HttpHeaders();
+
+		if (headersPreparer != null) {
+			headersPreparer.addCacheControl(headers, resourceInformation.getDomainType(), Scope.PROFILE);
+		}
+
+		return new ResponseEntity<JsonSchema>(schema, headers, HttpStatus.OK);
 	}
 }
@@ -23,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.core.MethodParameter;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.domain.Sort;
@@ -35,12 +37,16 @@ import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
+import org.springframework.data.rest.webmvc.support.ETag;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.RepositorySlicer;
+import org.springframework.data.rest.webmvc.support.StreamingExporter;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
-import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.core.AnnotationAttribute;
@@ -49,17 +55,20 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controller to lookup and execute searches on a given repository.
@@ -76,7 +85,10 @@ class RepositorySearchController {
 	private final RepositoryEntityLinks entityLinks;
 	private final ResourceMappings mappings;
 
+	private final HttpHeadersPreparer headersPreparer;
 	private final ResourceStatus resourceStatus;
+	private final @Nullable RepositorySlicer slicer;
+	private final @Nullable StreamingExporter exporter;
 
 	/**
 	 * Creates a new {@link RepositorySearchController} using the given {@link PagedResourcesAssembler},
@@ -88,13 +100,47 @@ class RepositorySearchController {
 	 */
 	public RepositorySearchController(RepositoryEntityLinks entityLinks, ResourceMappings mappings,
 			HttpHeadersPreparer headersPreparer) {
+		this(entityLinks, mappings, headersPreparer, null);
+	}
+
+	/**
+	 * Creates a new {@link RepositorySearchController} using the given {@link EntityLinks}, {@link ResourceMappings},
+	 * {@link HttpHeadersPreparer} and {@link RepositorySlicer}.
+	 *
+	 * @param entityLinks must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @param headersPreparer must not be {@literal null}.
+	 * @param slicer can be {@literal null}.
+	 * @since 5.2
+	 */
+	public RepositorySearchController(RepositoryEntityLinks entityLinks, ResourceMappings mappings,
+			HttpHeadersPreparer headersPreparer, @Nullable RepositorySlicer slicer) {
+		this(entityLinks, mappings, headersPreparer, slicer, null);
+	}
+
+	/**
+	 * Creates a new {@link RepositorySearchController} using the given {@link EntityLinks}, {@link ResourceMappings},
+	 * {@link HttpHeadersPreparer}, {@link RepositorySlicer} and {@link StreamingExporter}.
+	 *
+	 * @param entityLinks must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @param headersPreparer must not be {@literal null}.
+	 * @param slicer can be {@literal null}.
+	 * @param exporter can be {@literal null}.
+	 * @since 5.2
+	 */
+	public RepositorySearchController(RepositoryEntityLinks entityLinks, ResourceMappings mappings,
+			HttpHeadersPreparer headersPreparer, @Nullable RepositorySlicer slicer, @Nullable StreamingExporter exporter) {
 
 		Assert.notNull(entityLinks, "EntityLinks must not be null");
 		Assert.notNull(mappings, "ResourceMappings must not be null");
 
 		this.entityLinks = entityLinks;
 		this.mappings = mappings;
+		this.headersPreparer = headersPreparer;
 		this.resourceStatus = ResourceStatus.of(headersPreparer);
+		this.slicer = slicer;
+		this.exporter = exporter;
 	}
 
 	/**
@@ -173,8 +219,9 @@ class RepositorySearchController {
 			Sort sort, @RequestHeader HttpHeaders headers, RepresentationModelAssemblers assemblers) {
 
 		Method method = checkExecutability(resourceInformation, search);
-		Optional<Object> result = executeQueryMethod(resourceInformation.getRequiredInvoker(), parameters, method, pageable,
-				sort);
+		Optional<Object> result = sliceIfRequested(
+				executeQueryMethod(resourceInformation.getRequiredInvoker(), parameters, method, pageable, sort),
+				resourceInformation.getDomainType(), pageable);
 
 		SearchResourceMappings searchMappings = resourceInformation.getSearchMappings();
 		MethodResourceMapping methodMapping = searchMappings.getExportedMethodMappingForPath(search);
@@ -184,8 +231,13 @@ class RepositorySearchController {
 		}
 
 		Class<?> domainType = methodMapping.getReturnedDomainType();
+		ResponseEntity<?> response = toModel(result, domainType, headers, resourceInformation, assemblers);
+
+		HttpHeaders responseHeaders = new HttpHeaders();
+		responseHeaders.putAll(response.getHeaders());
+		headersPreparer.addCacheControl(responseHeaders, resourceInformation.getDomainType(), method);
 
-		return toModel(result, domainType, headers, resourceInformation, assemblers);
+		return new ResponseEntity<>(response.getBody(), responseHeaders, response.getStatusCode());
 	}
 
 	/**
@@ -203,14 +255,19 @@ class RepositorySearchController {
 
 		return source.map(it -> {
 
+			PersistentEntity<?, ? extends PersistentProperty<?>> entity = information.getPersistentEntity();
+
 			if (it instanceof Iterable<?> iterable) {
-				return ResponseEntity.ok(assemblers.toCollectionModel(iterable, domainType));
+
+				ETag eTag = ETag.fromCollection(entity, iterable, assemblers.getProjection());
+
+				return resourceStatus.getStatusAndHeaders(headers, eTag) //
+						.toCollectionResponseEntity(() -> assemblers.toCollectionModel(iterable, domainType));
+
 			} else if (ClassUtils.isPrimitiveOrWrapper(it.getClass())) {
 				return ResponseEntity.ok(it);
 			}
 
-			PersistentEntity<?, ? extends PersistentProperty<?>> entity = information.getPersistentEntity();
-
 			// Returned value is not of the aggregates type - probably some projection
 			if (!entity.getType().isInstance(it)) {
 				return ResponseEntity.ok(it);
@@ -223,7 +280,8 @@ class RepositorySearchController {
 	}
 
 	/**
-	 * Executes a query method and exposes the results in compact form.
+	 * Executes a query method and exposes the results in compact form, i.e. as links to the item resources of the
+	 * aggregates returned.
 	 *
 	 * @param resourceInformation
 	 * @param headers
@@ -243,29 +301,73 @@ class RepositorySearchController {
 			RepresentationModelAssemblers assemblers) {
 
 		Method method = checkExecutability(resourceInformation, search);
-		Optional<Object> result = executeQueryMethod(resourceInformation.getRequiredInvoker(), parameters, method, pageable,
-				sort);
-		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
-		ResponseEntity<?> entity = toModel(result, metadata.getDomainType(), headers, resourceInformation, assemblers);
-		Object resource = entity.getBody();
+		Object source = executeQueryMethod(resourceInformation.getRequiredInvoker(), parameters, method, pageable, sort)
+				.orElseThrow(ResourceNotFoundException::new);
+		LinkRelation rel = resourceInformation.getResourceMetadata().getItemResourceRel();
 
+		// Links are created from the aggregates directly instead of from their full representations
 		ArrayList<Link> links = new ArrayList<Link>();
 
-		if (resource instanceof CollectionModel<?> model && model.getContent() != null) {
+		if (source instanceof Iterable<?> iterable) {
 
-			for (Object obj : model.getContent()) {
-				if (null != obj && obj instanceof EntityModel<?> res) {
-					links.add(resourceInformation.resourceLink(res));
+			for (Object element : iterable) {
+				if (element != null && assemblers.isPersistentEntity(element)) {
+					links.add(Link.of(assemblers.getExpandedSelfLink(element).getHref(), rel));
 				}
 			}
 
-		} else if (resource instanceof EntityModel<?> res) {
-			links.add(resourceInformation.resourceLink(res));
+		} else if (resourceInformation.getDomainType().isInstance(source) && assemblers.isPersistentEntity(source)) {
+			links.add(Link.of(assemblers.getExpandedSelfLink(source).getHref(), rel));
 		}
 
 		return CollectionModel.empty(links);
 	}
 
+	/**
+	 * Executes the search with the given name and exports its results as newline delimited JSON or CSV. Query methods
+	 * returning a {@link java.util.stream.Stream} are consumed while writing, query methods taking a
+	 * {@link org.springframework.data.domain.Pageable} are executed chunk by chunk, see {@link StreamingExporter}.
+	 *
+	 * @param resourceInformation
+	 * @param parameters
+	 * @param search
+	 * @param sort
+	 * @param headers
+	 * @param assemblers
+	 * @return
+	 * @throws HttpMediaTypeNotAcceptableException in case no {@link StreamingExporter} is configured.
+	 * @since 5.2
+	 */
+	@RequestMapping(value = BASE_MAPPING + "/{search}", method = RequestMethod.GET, //
+			produces = { RestMediaTypes.NDJSON_VALUE, RestMediaTypes.TEXT_CSV_VALUE })
+	public ResponseEntity<StreamingResponseBody> exportSearch(RootResourceInformation resourceInformation,
+			@RequestParam MultiValueMap<String, Object> parameters, @PathVariable String search, Sort sort,
+			@RequestHeader HttpHeaders headers, RepresentationModelAssemblers assemblers)
+			throws HttpMediaTypeNotAcceptableException {
+
+		Method method = checkExecutability(resourceInformation, search);
+		RepositoryInvoker invoker = resourceInformation.getRequiredInvoker();
+		StreamingExporter exporter = this.exporter;
+
+		if (exporter == null) {
+			throw new HttpMediaTypeNotAcceptableException(List.of(MediaTypes.HAL_JSON));
+		}
+
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		MediaType mediaType = StreamingExporter.getMediaType(headers.getAccept());
+		StreamingResponseBody body = exporter.export(entity,
+				() -> exporter.execute(entity, method, sort,
+						it -> executeQueryMethod(invoker, parameters, method, new DefaultedPageable(it, false), sort)),
+				it -> entity.getType().isInstance(it) ? assemblers.toFullResource(it) : it, mediaType,
+				assemblers.getProjection());
+
+		HttpHeaders responseHeaders = new HttpHeaders();
+		responseHeaders.setContentType(mediaType);
+		headersPreparer.addCacheControl(responseHeaders, resourceInformation.getDomainType(), method);
+
+		return new ResponseEntity<>(body, responseHeaders, HttpStatus.OK);
+	}
+
 	/**
 	 * <code>OPTIONS /{repository}/search/{search}</code>.
 	 *
@@ -353,6 +455,24 @@ class RepositorySearchController {
 		return invoker.invokeQueryMethod(method, result, pageable.getPageable(), sort);
 	}
 
+	/**
+	 * Turns the given query method result into a slice in case it is a page and the client requested a slice or slices
+	 * are enabled for the given domain type. Query methods returning a {@link org.springframework.data.domain.Slice}
+	 * themselves don't count the elements in the first place.
+	 *
+	 * @param result must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 */
+	private Optional<Object> sliceIfRequested(Optional<Object> result, Class<?> domainType,
+			DefaultedPageable pageable) {
+
+		return slicer != null && slicer.isSliced(domainType, pageable) //
+				? result.map(RepositorySlicer::toSlice) //
+				: result;
+	}
+
 	/**
 	 * Verifies that the given {@link RootResourceInformation} has searches exposed.
 	 *
@@ -0,0 +1,545 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.RepresentationCacheConfiguration;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.RepositoryEvent;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Links;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Server-side cache of rendered item resource representations. Entries are keyed by domain type, identifier, version,
+ * projection, the media types requested and everything the links contained are derived from, i.e. the base URI of the
+ * request and its {@code Forwarded} and {@code X-Forwarded-*} headers. They hold the bytes rendered for the response,
+ * so that a cache hit neither requires the resource to be assembled nor to be serialized again. As representations
+ * might depend on the principal, e.g. through projections, requests carrying credentials are never served from nor
+ * added to the cache. The cache is bounded by the maximum number of entries and a time to live as configured in the
+ * {@link RepresentationCacheConfiguration}. Once the maximum is exceeded, entries are evicted in insertion order,
+ * skipping the ones looked up since they were last considered, which approximates least recently used eviction
+ * without serializing concurrent lookups. All representations of an aggregate are invalidated on
+ * {@link AfterSaveEvent}s, {@link AfterDeleteEvent}s, {@link AfterLinkSaveEvent}s and {@link AfterLinkDeleteEvent}s
+ * published for it.
+ * <p>
+ * The cache is consulted by {@link RepositoryEntityController} and populated by
+ * {@link RepresentationCachingResponseBodyAdvice} once Spring MVC has selected the {@link MediaType} and
+ * {@link org.springframework.http.converter.HttpMessageConverter} to render the response.
+ *
+ * @since 5.2
+ * @see RepresentationCacheConfiguration
+ */
+public class RepresentationCache implements ApplicationListener<RepositoryEvent> {
+
+	private static final String KEY_ATTRIBUTE = RepresentationCache.class.getName() + ".KEY";
+	private static final List<String> FORWARDED_HEADERS = List.of("Forwarded", "X-Forwarded-Host", "X-Forwarded-Port",
+			"X-Forwarded-Proto", "X-Forwarded-Prefix", "X-Forwarded-Ssl");
+
+	private final RepresentationCacheConfiguration configuration;
+	private final PersistentEntities entities;
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<AggregateReference, Set<Key>> keysByAggregate = new ConcurrentHashMap<>();
+	private final Queue<Entry> evictionQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger evictionQueueSize = new AtomicInteger();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	/**
+	 * Creates a new {@link RepresentationCache} for the given {@link RepresentationCacheConfiguration} and
+	 * {@link PersistentEntities}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 */
+	public RepresentationCache(RepresentationCacheConfiguration configuration, PersistentEntities entities) {
+
+		Assert.notNull(configuration, "RepresentationCacheConfiguration must not be null");
+		Assert.notNull(entities, "PersistentEntities must not be null");
+
+		this.configuration = configuration;
+		this.entities = entities;
+	}
+
+	/**
+	 * Returns whether representations of the given domain type are cached.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabledFor(Class<?> domainType) {
+		return configuration.isEnabledFor(domainType);
+	}
+
+	/**
+	 * Returns the number of lookups that could be answered from the cache.
+	 *
+	 * @return
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that could not be answered from the cache.
+	 *
+	 * @return
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of entries removed because the maximum number of entries was exceeded or their time to live
+	 * expired.
+	 *
+	 * @return
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Returns the number of entries removed because the aggregate they represent was changed.
+	 *
+	 * @return
+	 */
+	public long getInvalidationCount() {
+		return invalidations.sum();
+	}
+
+	/**
+	 * Returns the number of entries currently cached.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Removes all representations of the aggregate of the given type and with the given identifier.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 */
+	public void invalidate(Class<?> domainType, Object id) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(id, "Identifier must not be null");
+
+		Set<Key> keys = keysByAggregate.remove(new AggregateReference(domainType, id));
+
+		if (keys == null) {
+			return;
+		}
+
+		keys.forEach(entries::remove);
+		invalidations.add(keys.size());
+	}
+
+	@Override
+	public void onApplicationEvent(RepositoryEvent event) {
+
+		if (!(event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent || event instanceof AfterLinkSaveEvent
+				|| event instanceof AfterLinkDeleteEvent) || !configuration.isEnabled()) {
+			return;
+		}
+
+		Object source = event.getSource();
+		Class<?> type = ProxyUtils.getUserClass(source);
+
+		if (!configuration.isEnabledFor(type)) {
+			return;
+		}
+
+		entities.getPersistentEntity(type) //
+				.map(it -> it.getIdentifierAccessor(source).getIdentifier()) //
+				.ifPresent(it -> invalidate(type, it));
+	}
+
+	/**
+	 * Looks up the representation for the given {@link Key}. In case none is cached, the {@link Key} is registered with
+	 * the current request so that the representation about to be rendered is added to the cache by
+	 * {@link RepresentationCachingResponseBodyAdvice}. Requests carrying credentials bypass the cache entirely.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the cached representation or {@literal null} if none is cached.
+	 */
+	@Nullable
+	EntityModel<?> lookup(Key key) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (isAuthenticated(attributes)) {
+			return null;
+		}
+
+		RenderedRepresentation representation = get(key);
+
+		if (representation != null) {
+			hits.increment();
+			return new CachedRepresentation(representation);
+		}
+
+		misses.increment();
+
+		if (attributes != null) {
+			attributes.setAttribute(KEY_ATTRIBUTE, key, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the {@link Key} registered for the given request on a cache miss.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	Key getPendingKey(ServerHttpRequest request) {
+
+		return request instanceof ServletServerHttpRequest servletRequest
+				? (Key) servletRequest.getServletRequest().getAttribute(KEY_ATTRIBUTE)
+				: null;
+	}
+
+	/**
+	 * Adds the given {@link RenderedRepresentation} to the cache.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 */
+	void put(Key key, RenderedRepresentation representation) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(representation, "Representation must not be null");
+
+		Entry entry = new Entry(key, representation, System.nanoTime() + configuration.getTimeToLive().toNanos());
+
+		entries.put(key, entry);
+
+		// Index after adding the entry, so that a concurrent invalidation can't leave it behind unindexed
+		keysByAggregate.compute(key.aggregate, (__, keys) -> {
+
+			Set<Key> result = keys == null ? new HashSet<>() : keys;
+			result.add(key);
+
+			return result;
+		});
+
+		evictionQueue.offer(entry);
+		evictionQueueSize.incrementAndGet();
+
+		evictExcessEntries();
+	}
+
+	private @Nullable RenderedRepresentation get(Key key) {
+
+		Entry entry = entries.get(key);
+
+		if (entry == null) {
+			return null;
+		}
+
+		if (entry.isExpired()) {
+
+			evict(entry);
+
+			return null;
+		}
+
+		entry.markAccessed();
+
+		return entry.representation;
+	}
+
+	/**
+	 * Evicts entries in insertion order until the maximum number of entries is no longer exceeded. Entries looked up
+	 * since they were last considered are re-queued instead, entries replaced or invalidated meanwhile are dropped.
+	 */
+	private void evictExcessEntries() {
+
+		while (evictionQueueSize.get() > configuration.getMaxEntries()) {
+
+			Entry candidate = evictionQueue.poll();
+
+			if (candidate == null) {
+				return;
+			}
+
+			evictionQueueSize.decrementAndGet();
+
+			if (entries.get(candidate.key) != candidate) {
+				continue;
+			}
+
+			if (candidate.clearAccessed()) {
+
+				evictionQueue.offer(candidate);
+				evictionQueueSize.incrementAndGet();
+
+				continue;
+			}
+
+			evict(candidate);
+		}
+	}
+
+	private void evict(Entry entry) {
+
+		if (entries.remove(entry.key, entry)) {
+			unindex(entry.key);
+			evictions.increment();
+		}
+	}
+
+	private static boolean isAuthenticated(@Nullable RequestAttributes attributes) {
+
+		if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+			return false;
+		}
+
+		HttpServletRequest request = servletAttributes.getRequest();
+
+		return request.getUserPrincipal() != null || request.getHeader(HttpHeaders.AUTHORIZATION) != null;
+	}
+
+	private void unindex(Key key) {
+
+		keysByAggregate.computeIfPresent(key.aggregate, (__, keys) -> {
+
+			keys.remove(key);
+
+			return keys.isEmpty() ? null : keys;
+		});
+	}
+
+	/**
+	 * The key of a cached representation.
+	 *
+	 * @since 5.2
+	 */
+	public static final class Key {
+
+		private final AggregateReference aggregate;
+		private final String version;
+		private final @Nullable String projection;
+		private final String baseUri;
+		private final List<String> accept;
+		private final List<String> forwarded;
+
+		private Key(AggregateReference aggregate, String version, @Nullable String projection, String baseUri,
+				List<String> accept, List<String> forwarded) {
+
+			this.aggregate = aggregate;
+			this.version = version;
+			this.projection = projection;
+			this.baseUri = baseUri;
+			this.accept = accept;
+			this.forwarded = forwarded;
+		}
+
+		/**
+		 * Creates a new {@link Key} for the representation of the given aggregate.
+		 *
+		 * @param entity the {@link PersistentEntity} of the aggregate, must not be {@literal null}.
+		 * @param id the identifier of the aggregate, must not be {@literal null}.
+		 * @param version the version of the aggregate, usually its {@code ETag}, must not be {@literal null} or empty.
+		 * @param projection the name of the projection requested, can be {@literal null}.
+		 * @param baseUri the base URI of the request the links of the representation are derived from, must not be
+		 *          {@literal null}.
+		 * @param requestHeaders the headers of the request, as the media type of the representation is derived from its
+		 *          {@code Accept} header and the links contained potentially from the forwarding ones, must not be
+		 *          {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public static Key of(PersistentEntity<?, ?> entity, Object id, String version, @Nullable String projection,
+				String baseUri, HttpHeaders requestHeaders) {
+
+			Assert.notNull(entity, "PersistentEntity must not be null");
+			Assert.notNull(id, "Identifier must not be null");
+			Assert.hasText(version, "Version must not be null or empty");
+			Assert.notNull(baseUri, "Base URI must not be null");
+			Assert.notNull(requestHeaders, "HttpHeaders must not be null");
+
+			List<String> forwarded = new ArrayList<>();
+
+			for (String header : FORWARDED_HEADERS) {
+				forwarded.addAll(requestHeaders.getOrEmpty(header));
+			}
+
+			return new Key(new AggregateReference(entity.getType(), id), version, projection, baseUri,
+					List.copyOf(requestHeaders.getOrEmpty(HttpHeaders.ACCEPT)), List.copyOf(forwarded));
+		}
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key that)) {
+				return false;
+			}
+
+			return aggregate.equals(that.aggregate) //
+					&& version.equals(that.version) //
+					&& Objects.equals(projection, that.projection) //
+					&& baseUri.equals(that.baseUri) //
+					&& accept.equals(that.accept) //
+					&& forwarded.equals(that.forwarded);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(aggregate, version, projection, baseUri, accept, forwarded);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s@%s (projection %s, base URI %s, accepting %s, forwarded %s)", aggregate, version,
+					projection, baseUri, accept, forwarded);
+		}
+	}
+
+	/**
+	 * Reference to an aggregate by type and identifier.
+	 */
+	private static final class AggregateReference {
+
+		private final Class<?> type;
+		private final Object id;
+
+		AggregateReference(Class<?> type, Object id) {
+			this.type = type;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			return obj instanceof AggregateReference that && type.equals(that.type) && id.equals(that.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, id);
+		}
+
+		@Override
+		public String toString() {
+			return type.getName() + "#" + id;
+		}
+	}
+
+	private static final class Entry {
+
+		private final Key key;
+		private final RenderedRepresentation representation;
+		private final long expiresAt;
+		private volatile boolean accessed;
+
+		Entry(Key key, RenderedRepresentation representation, long expiresAt) {
+			this.key = key;
+			this.representation = representation;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired() {
+			return System.nanoTime() - expiresAt >= 0;
+		}
+
+		void markAccessed() {
+
+			if (!accessed) {
+				accessed = true;
+			}
+		}
+
+		/**
+		 * Resets the access marker.
+		 *
+		 * @return whether the entry was accessed since the marker was last reset.
+		 */
+		boolean clearAccessed() {
+
+			boolean result = accessed;
+			accessed = false;
+
+			return result;
+		}
+	}
+
+	/**
+	 * A cached representation returned from the controller in place of the {@link PersistentEntityResource} to be
+	 * rendered. Written as is by {@link RepresentationCachingResponseBodyAdvice}.
+	 */
+	static final class CachedRepresentation extends EntityModel<Object> {
+
+		private final RenderedRepresentation representation;
+
+		CachedRepresentation(RenderedRepresentation representation) {
+
+			super(representation, Links.NONE);
+
+			this.representation = representation;
+		}
+
+		RenderedRepresentation getRepresentation() {
+			return representation;
+		}
+	}
+}
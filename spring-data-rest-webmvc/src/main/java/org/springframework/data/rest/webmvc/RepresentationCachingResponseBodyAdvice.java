@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.webmvc.RepresentationCache.CachedRepresentation;
+import org.springframework.data.rest.webmvc.RepresentationCache.Key;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link ResponseBodyAdvice} to write representations served from the {@link RepresentationCache} and to populate the
+ * cache with the representations rendered on cache misses. The latter are rendered into a buffer once using the
+ * {@link HttpMessageConverter} selected by Spring MVC, added to the cache and then written to the response.
+ *
+ * @since 5.2
+ * @see RepresentationCache
+ */
+public class RepresentationCachingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+	private final RepresentationCache cache;
+	private final List<HttpMessageConverter<?>> converters;
+	private final Collection<String> retainedHeaders;
+
+	/**
+	 * Creates a new {@link RepresentationCachingResponseBodyAdvice} for the given {@link RepresentationCache} and
+	 * {@link HttpMessageConverter}s.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param converters the {@link HttpMessageConverter}s used to render responses, must not be {@literal null}.
+	 */
+	public RepresentationCachingResponseBodyAdvice(RepresentationCache cache, List<HttpMessageConverter<?>> converters) {
+		this(cache, converters, List.of());
+	}
+
+	/**
+	 * Creates a new {@link RepresentationCachingResponseBodyAdvice} for the given {@link RepresentationCache},
+	 * {@link HttpMessageConverter}s and names of the headers to keep with a cached representation. Those are headers
+	 * derived from the body by advices running before this one, which won't see the body again for representations
+	 * served from the cache.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param converters the {@link HttpMessageConverter}s used to render responses, must not be {@literal null}.
+	 * @param retainedHeaders the names of the response headers to keep with cached representations, must not be
+	 *          {@literal null}.
+	 */
+	public RepresentationCachingResponseBodyAdvice(RepresentationCache cache, List<HttpMessageConverter<?>> converters,
+			Collection<String> retainedHeaders) {
+
+		Assert.notNull(cache, "RepresentationCache must not be null");
+		Assert.notNull(converters, "HttpMessageConverters must not be null");
+		Assert.notNull(retainedHeaders, "Retained headers must not be null");
+
+		this.cache = cache;
+		this.converters = converters;
+		this.retainedHeaders = List.copyOf(retainedHeaders);
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public @Nullable Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType,
+			MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+			ServerHttpRequest request, ServerHttpResponse response) {
+
+		try {
+
+			if (body instanceof CachedRepresentation cached) {
+
+				cached.getRepresentation().writeTo(response);
+				return null;
+			}
+
+			if (!(body instanceof PersistentEntityResource resource) || !HttpMethod.GET.equals(request.getMethod())) {
+				return body;
+			}
+
+			Key key = cache.getPendingKey(request);
+
+			// HAL FORMS gets adapted depending on the affordances present, which a cached representation doesn't carry
+			if (key == null || MediaTypes.HAL_FORMS_JSON.isCompatibleWith(selectedContentType)) {
+				return body;
+			}
+
+			RenderedRepresentation representation = RenderedRepresentation.render(resource, selectedContentType,
+					selectedConverterType, converters, response, false);
+
+			if (representation == null) {
+				return body;
+			}
+
+			representation = representation.withHeaders(getRetainedHeaders(response));
+
+			cache.put(key, representation);
+			representation.writeTo(response);
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotWritableException("Could not write cacheable representation", o_O);
+		}
+
+		// Representation already written
+		return null;
+	}
+
+	private HttpHeaders getRetainedHeaders(ServerHttpResponse response) {
+
+		HttpHeaders result = new HttpHeaders();
+
+		for (String name : retainedHeaders) {
+
+			List<String> values = response.getHeaders().get(name);
+
+			if (values != null) {
+				result.put(name, values);
+			}
+		}
+
+		return result;
+	}
+}
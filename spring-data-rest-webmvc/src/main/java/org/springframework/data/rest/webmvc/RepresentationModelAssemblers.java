@@ -20,7 +20,9 @@ import java.util.List;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.data.web.SlicedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
@@ -43,6 +45,7 @@ public class RepresentationModelAssemblers {
 	private final PagedResourcesAssembler<Object> pagedResourcesAssembler;
 	private final SlicedResourcesAssembler<Object> slicedResourcesAssembler;
 	private final PersistentEntityResourceAssembler persistentEntityResourceAssembler;
+	private final @Nullable String projection;
 
 	/**
 	 * Creates a new {@link RepresentationModelAssemblers} from the given {@link PagedResourcesAssembler},
@@ -56,6 +59,23 @@ public class RepresentationModelAssemblers {
 			SlicedResourcesAssembler<Object> slicedResourcesAssembler,
 			PersistentEntityResourceAssembler persistentEntityResourceAssembler) {
 
+		this(pagedResourcesAssembler, slicedResourcesAssembler, persistentEntityResourceAssembler, null);
+	}
+
+	/**
+	 * Creates a new {@link RepresentationModelAssemblers} from the given {@link PagedResourcesAssembler},
+	 * {@link SlicedResourcesAssembler}, {@link PersistentEntityResourceAssembler} and name of the projection requested.
+	 *
+	 * @param pagedResourcesAssembler must not be {@literal null}.
+	 * @param slicedResourcesAssembler must not be {@literal null}.
+	 * @param persistentEntityResourceAssembler must not be {@literal null}.
+	 * @param projection the name of the projection requested, can be {@literal null}.
+	 * @since 5.2
+	 */
+	public RepresentationModelAssemblers(PagedResourcesAssembler<Object> pagedResourcesAssembler,
+			SlicedResourcesAssembler<Object> slicedResourcesAssembler,
+			PersistentEntityResourceAssembler persistentEntityResourceAssembler, @Nullable String projection) {
+
 		Assert.notNull(pagedResourcesAssembler, "PagedResourcesAssembler must not be null");
 		Assert.notNull(slicedResourcesAssembler, "SlicedResourcesAssembler must not be null");
 		Assert.notNull(persistentEntityResourceAssembler, "PersistentEntityResourceAssembler must not be null");
@@ -63,6 +83,17 @@ public class RepresentationModelAssemblers {
 		this.pagedResourcesAssembler = pagedResourcesAssembler;
 		this.slicedResourcesAssembler = slicedResourcesAssembler;
 		this.persistentEntityResourceAssembler = persistentEntityResourceAssembler;
+		this.projection = projection;
+	}
+
+	/**
+	 * Returns the name of the projection requested.
+	 *
+	 * @return can be {@literal null}.
+	 * @since 5.2
+	 */
+	@Nullable String getProjection() {
+		return projection;
 	}
 
 	/**
@@ -90,6 +121,26 @@ public class RepresentationModelAssemblers {
 		}
 	}
 
+	/**
+	 * Creates a new {@link IncrementalCollectionModel} for the given source {@link Iterable} and domain type. Links and
+	 * metadata are the ones {@link #toCollectionModel(Iterable, Class)} calculates for the source, the elements are only
+	 * turned into {@link PersistentEntityResource}s while rendering.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	IncrementalCollectionModel toIncrementalCollectionModel(Iterable<?> source, Class<?> domainType) {
+
+		Assert.notNull(source, "Source Iterable must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		CollectionModel<?> template = toCollectionModel(withoutContent(source), domainType);
+
+		return IncrementalCollectionModel.of(source, domainType, persistentEntityResourceAssembler::toModel, template);
+	}
+
 	/**
 	 * @param instance must not be {@literal null}.
 	 * @return will never be {@literal null}.
@@ -117,6 +168,34 @@ public class RepresentationModelAssemblers {
 		return persistentEntityResourceAssembler.getExpandedSelfLink(instance);
 	}
 
+	/**
+	 * @param instance must not be {@literal null}.
+	 * @return whether the given instance is an aggregate a self link can be created for.
+	 * @see PersistentEntityResourceAssembler#isPersistentEntity(Object)
+	 * @since 5.2
+	 */
+	boolean isPersistentEntity(Object instance) {
+		return persistentEntityResourceAssembler.isPersistentEntity(instance);
+	}
+
+	/**
+	 * Returns a copy of the given source without its content but the same paging information, so that links and metadata
+	 * can be calculated without touching its elements.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static Iterable<?> withoutContent(Iterable<?> source) {
+
+		if (source instanceof Page<?> page) {
+			return new PageImpl<>(List.of(), page.getPageable(), page.getTotalElements());
+		}
+
+		return source instanceof Slice<?> slice //
+				? new SliceImpl<>(List.of(), slice.getPageable(), slice.hasNext()) //
+				: List.of();
+	}
+
 	private CollectionModel<?> entitiesToResources(Page<Object> page, Class<?> domainType) {
 
 		return page.isEmpty()
@@ -16,10 +16,13 @@
 package org.springframework.data.rest.webmvc;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.ResourceVersion;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -73,11 +76,71 @@ class ResourceStatus {
 
 		List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
 		ETag eTag = ifNoneMatch.isEmpty() ? ETag.NO_ETAG : ETag.from(ifNoneMatch.get(0));
-		HttpHeaders responseHeaders = preparer.prepareHeaders(entity, domainObject);
+
+		// Read version and last modification date once for all validators
+		ResourceVersion version = preparer.getResourceVersion(entity, domainObject);
 
 		// Check last modification for If-Modified-Since
+		return getStatusAndHeaders(requestHeaders, eTag, version);
+	}
+
+	/**
+	 * Returns the {@link StatusAndHeaders} for the aggregate with the given identifier if the request is a conditional
+	 * one and the status can be determined without loading the aggregate, i.e. a
+	 * {@link org.springframework.data.rest.webmvc.spi.VersionProbe} is available for the given {@link PersistentEntity}.
+	 *
+	 * @param requestHeaders must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return the {@link StatusAndHeaders} or {@link Optional#empty()} in case the request is not a conditional one or
+	 *         the version of the aggregate cannot be determined without loading it.
+	 * @since 5.2
+	 */
+	public Optional<StatusAndHeaders> getStatusAndHeaders(HttpHeaders requestHeaders, PersistentEntity<?, ?> entity,
+			Object id) {
+
+		Assert.notNull(requestHeaders, "Request headers must not be null");
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(id, "Identifier must not be null");
+
+		List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
 
-		return eTag.matches(entity, domainObject) || preparer.isObjectStillValid(domainObject, requestHeaders)
+		if (ifNoneMatch.isEmpty() && requestHeaders.getIfModifiedSince() == -1) {
+			return Optional.empty();
+		}
+
+		ETag eTag = ifNoneMatch.isEmpty() ? ETag.NO_ETAG : ETag.from(ifNoneMatch.get(0));
+
+		return preparer.probeVersion(entity, id).map(it -> getStatusAndHeaders(requestHeaders, eTag, it));
+	}
+
+	/**
+	 * Returns the {@link StatusAndHeaders} for a representation whose {@link ETag} was calculated upfront, e.g. from its
+	 * rendered content or the elements of a collection. The representation is considered not modified if any of the
+	 * {@link ETag}s listed in the request's {@code If-None-Match} header weakly matches the given one.
+	 *
+	 * @param requestHeaders must not be {@literal null}.
+	 * @param eTag must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public StatusAndHeaders getStatusAndHeaders(HttpHeaders requestHeaders, ETag eTag) {
+
+		Assert.notNull(requestHeaders, "Request headers must not be null");
+		Assert.notNull(eTag, "ETag must not be null");
+
+		HttpHeaders responseHeaders = eTag.addTo(new HttpHeaders());
+
+		return eTag != ETag.NO_ETAG && requestHeaders.getIfNoneMatch().stream().map(ETag::from).anyMatch(eTag::weaklyMatches)
+				? StatusAndHeaders.notModified(responseHeaders)
+				: StatusAndHeaders.modified(responseHeaders);
+	}
+
+	private StatusAndHeaders getStatusAndHeaders(HttpHeaders requestHeaders, ETag eTag, ResourceVersion version) {
+
+		HttpHeaders responseHeaders = preparer.prepareHeaders(version);
+
+		return eTag.matches(version) || preparer.isStillValid(version, requestHeaders)
 				? StatusAndHeaders.notModified(responseHeaders)
 				: StatusAndHeaders.modified(responseHeaders);
 	}
@@ -99,6 +162,10 @@ class ResourceStatus {
 			return this.modified;
 		}
 
+		HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
 		private static StatusAndHeaders notModified(HttpHeaders headers) {
 			return new StatusAndHeaders(headers, false);
 		}
@@ -120,5 +187,34 @@ class ResourceStatus {
 					? new ResponseEntity<EntityModel<?>>(supplier.get(), headers, HttpStatus.OK) //
 					: new ResponseEntity<EntityModel<?>>(headers, HttpStatus.NOT_MODIFIED);
 		}
+
+		/**
+		 * Creates a {@link ResponseEntity} for the {@link CollectionModel} provided by the given {@link Supplier}. The
+		 * {@link Supplier} is only invoked if the resource was modified.
+		 *
+		 * @param supplier must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @since 5.2
+		 */
+		public ResponseEntity<CollectionModel<?>> toCollectionResponseEntity(Supplier<CollectionModel<?>> supplier) {
+
+			return modified //
+					? new ResponseEntity<CollectionModel<?>>(supplier.get(), headers, HttpStatus.OK) //
+					: new ResponseEntity<CollectionModel<?>>(headers, HttpStatus.NOT_MODIFIED);
+		}
+
+		/**
+		 * Creates a {@code 304 Not Modified} {@link ResponseEntity} carrying the headers calculated.
+		 *
+		 * @return will never be {@literal null}.
+		 * @throws IllegalStateException in case the resource was modified.
+		 * @since 5.2
+		 */
+		public <T> ResponseEntity<T> toNotModifiedResponseEntity() {
+
+			Assert.state(!modified, "Resource was modified");
+
+			return new ResponseEntity<T>(headers, HttpStatus.NOT_MODIFIED);
+		}
 	}
 }
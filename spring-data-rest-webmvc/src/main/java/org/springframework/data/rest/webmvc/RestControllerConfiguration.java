@@ -24,7 +24,18 @@ import org.springframework.data.rest.core.mapping.RepositoryResourceMappings;
 import org.springframework.data.rest.webmvc.alps.AlpsController;
 import org.springframework.data.rest.webmvc.json.JsonSchema;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter;
+import org.springframework.data.rest.webmvc.support.AssociationPager;
+import org.springframework.data.rest.webmvc.support.AssociationUriResolver;
+import org.springframework.data.rest.webmvc.support.BatchRequestDispatcher;
+import org.springframework.data.rest.webmvc.support.RepositoryBatchLookup;
+import org.springframework.data.rest.webmvc.support.RepositoryBatchWriter;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.RepositoryIdentifiers;
+import org.springframework.data.rest.webmvc.support.RepositoryPager;
+import org.springframework.data.rest.webmvc.support.RepositoryScroller;
+import org.springframework.data.rest.webmvc.support.RepositorySlicer;
+import org.springframework.data.rest.webmvc.support.StreamingExporter;
+import org.springframework.data.rest.webmvc.support.StreamingImporter;
 
 /**
  * Configuration class registering required {@link org.springframework.stereotype.Component components} that declare
@@ -62,29 +73,53 @@ public class RestControllerConfiguration {
 		return new RepositoryController(repositories, entityLinks, resourceMappings);
 	}
 
+	/**
+	 * The controller for the batch resource executing multiple sub-requests at once.
+	 *
+	 * @param dispatcher must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.2
+	 */
+	@Bean
+	BatchController batchController(BatchRequestDispatcher dispatcher) {
+		return new BatchController(restConfiguration, dispatcher);
+	}
+
 	/**
 	 * The root controller for entities reachable via {@code /{repository}}.
 	 *
 	 * @param entityLinks the accessor to links pointing to controllers backing an entity type. Must not be *
 	 *          {@literal null}.
 	 * @param headersPreparer must not be {@literal null}.
+	 * @param representationCache must not be {@literal null}.
+	 * @param scroller must not be {@literal null}.
 	 * @return never {@literal null}.
 	 */
 	@Bean
-	RepositoryEntityController repositoryEntityController(HttpHeadersPreparer headersPreparer) {
-		return new RepositoryEntityController(restConfiguration, entityLinks, headersPreparer);
+	RepositoryEntityController repositoryEntityController(HttpHeadersPreparer headersPreparer,
+			RepresentationCache representationCache, RepositoryScroller scroller, RepositorySlicer slicer,
+			RepositoryPager pager, StreamingExporter exporter, RepositoryIdentifiers identifiers,
+			RepositoryBatchLookup batchLookup, RepositoryBatchWriter batchWriter, StreamingImporter importer,
+			ContentHashETags contentHashETags) {
+		return new RepositoryEntityController(restConfiguration, entityLinks, headersPreparer,
+				new RepositoryEntityController.Collaborators(representationCache, scroller, slicer, pager, exporter,
+						identifiers, batchLookup, batchWriter, importer, contentHashETags));
 	}
 
 	/**
 	 * The controller to access referenced properties via {@code /{repository}/{id}/{property}}.
 	 *
 	 * @param repositoryInvokerFactory must not be {@literal null}.
+	 * @param associationPager must not be {@literal null}.
+	 * @param associationUriResolver must not be {@literal null}.
 	 * @return never {@literal null}.
 	 */
 	@Bean
 	RepositoryPropertyReferenceController repositoryPropertyReferenceController(
-			RepositoryInvokerFactory repositoryInvokerFactory) {
-		return new RepositoryPropertyReferenceController(repositories, repositoryInvokerFactory);
+			RepositoryInvokerFactory repositoryInvokerFactory, AssociationPager associationPager,
+			AssociationUriResolver associationUriResolver) {
+		return new RepositoryPropertyReferenceController(repositories, repositoryInvokerFactory, associationPager,
+				associationUriResolver);
 	}
 
 	/**
@@ -96,31 +131,34 @@ public class RestControllerConfiguration {
 	 * @return never {@literal null}.
 	 */
 	@Bean
-	RepositorySearchController repositorySearchController(HttpHeadersPreparer headersPreparer) {
-		return new RepositorySearchController(entityLinks, resourceMappings, headersPreparer);
+	RepositorySearchController repositorySearchController(HttpHeadersPreparer headersPreparer,
+			RepositorySlicer slicer, StreamingExporter exporter) {
+		return new RepositorySearchController(entityLinks, resourceMappings, headersPreparer, slicer, exporter);
 	}
 
 	/**
 	 * The controller that exposes the JSON schema via {@code /repository/schema}.
 	 *
 	 * @param jsonSchemaConverter the converter to create the {@link JsonSchema}. Must not be {@literal null}.
+	 * @param headersPreparer must not be {@literal null}.
 	 * @return never {@literal null}.
 	 */
 	@Bean
 	RepositorySchemaController repositorySchemaController(
-			PersistentEntityToJsonSchemaConverter jsonSchemaConverter) {
-		return new RepositorySchemaController(jsonSchemaConverter);
+			PersistentEntityToJsonSchemaConverter jsonSchemaConverter, HttpHeadersPreparer headersPreparer) {
+		return new RepositorySchemaController(jsonSchemaConverter, headersPreparer);
 	}
 
 	/**
 	 * The controller that exposes semantic documentation in the <a href="http://alps.io/">ALPS</a> (Application Level
 	 * Profile Semantics) format.
 	 *
+	 * @param headersPreparer must not be {@literal null}.
 	 * @return never {@literal null}.
 	 */
 	@Bean
-	AlpsController alpsController() {
-		return new AlpsController(restConfiguration);
+	AlpsController alpsController(HttpHeadersPreparer headersPreparer) {
+		return new AlpsController(restConfiguration, headersPreparer);
 	}
 
 	/**
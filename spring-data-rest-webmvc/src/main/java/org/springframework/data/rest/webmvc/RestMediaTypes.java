@@ -39,6 +39,15 @@ public class RestMediaTypes {
 	public static final String SPRING_DATA_COMPACT_JSON_VALUE = "application/x-spring-data-compact+json";
 	public static final MediaType SPRING_DATA_COMPACT_JSON = MediaType.valueOf(SPRING_DATA_COMPACT_JSON_VALUE);
 
+	public static final String SPRING_DATA_BULK_JSON_VALUE = "application/x-spring-data-bulk+json";
+	public static final MediaType SPRING_DATA_BULK_JSON = MediaType.valueOf(SPRING_DATA_BULK_JSON_VALUE);
+
 	public static final String TEXT_URI_LIST_VALUE = "text/uri-list";
 	public static final MediaType TEXT_URI_LIST = MediaType.valueOf(TEXT_URI_LIST_VALUE);
+
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+	public static final MediaType NDJSON = MediaType.valueOf(NDJSON_VALUE);
+
+	public static final String TEXT_CSV_VALUE = "text/csv";
+	public static final MediaType TEXT_CSV = MediaType.valueOf(TEXT_CSV_VALUE);
 }
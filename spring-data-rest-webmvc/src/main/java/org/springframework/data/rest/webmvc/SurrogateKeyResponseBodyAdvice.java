@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.core.config.SurrogateKeyConfiguration;
+import org.springframework.data.rest.webmvc.support.SurrogateKeys;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link ResponseBodyAdvice} to expose the surrogate keys of all aggregates rendered into the response of a
+ * {@code GET} request, including related aggregates embedded as excerpt projections. Has to run before any advice
+ * writing the body itself.
+ *
+ * @since 5.2
+ * @see SurrogateKeys
+ * @see SurrogateKeyConfiguration
+ */
+public class SurrogateKeyResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+	private final SurrogateKeyConfiguration configuration;
+	private final SurrogateKeys surrogateKeys;
+
+	/**
+	 * Creates a new {@link SurrogateKeyResponseBodyAdvice} for the given {@link SurrogateKeyConfiguration} and
+	 * {@link SurrogateKeys}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param surrogateKeys must not be {@literal null}.
+	 */
+	public SurrogateKeyResponseBodyAdvice(SurrogateKeyConfiguration configuration, SurrogateKeys surrogateKeys) {
+
+		Assert.notNull(configuration, "SurrogateKeyConfiguration must not be null");
+		Assert.notNull(surrogateKeys, "SurrogateKeys must not be null");
+
+		this.configuration = configuration;
+		this.surrogateKeys = surrogateKeys;
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return configuration.isEnabled();
+	}
+
+	@Override
+	public @Nullable Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType,
+			MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+			ServerHttpRequest request, ServerHttpResponse response) {
+
+		HttpHeaders headers = response.getHeaders();
+
+		if (!HttpMethod.GET.equals(request.getMethod()) || headers.getFirst(configuration.getHeaderName()) != null) {
+			return body;
+		}
+
+		Set<String> keys = surrogateKeys.getSurrogateKeys(body);
+
+		if (!keys.isEmpty()) {
+			headers.set(configuration.getHeaderName(), String.join(" ", keys));
+		}
+
+		return body;
+	}
+}
@@ -19,10 +19,13 @@ import static org.springframework.web.bind.annotation.RequestMethod.*;
 
 import java.util.Collections;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
+import org.springframework.data.rest.webmvc.HttpHeadersPreparer;
 import org.springframework.data.rest.webmvc.ProfileController;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
@@ -48,18 +51,32 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class AlpsController {
 
 	private final RepositoryRestConfiguration configuration;
+	private final @Nullable HttpHeadersPreparer headersPreparer;
 
 	/**
 	 * Creates a new {@link AlpsController} for the given {@link ResourceMappings}.
 	 *
 	 * @param configuration must not be {@literal null}.
 	 */
-	@Autowired
 	public AlpsController(RepositoryRestConfiguration configuration) {
+		this(configuration, null);
+	}
+
+	/**
+	 * Creates a new {@link AlpsController} for the given {@link RepositoryRestConfiguration} and
+	 * {@link HttpHeadersPreparer}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param headersPreparer can be {@literal null}.
+	 * @since 5.2
+	 */
+	@Autowired
+	public AlpsController(RepositoryRestConfiguration configuration, @Nullable HttpHeadersPreparer headersPreparer) {
 
 		Assert.notNull(configuration, "MetadataConfiguration must not be null");
 
 		this.configuration = configuration;
+		this.headersPreparer = headersPreparer;
 	}
 
 	/**
@@ -91,7 +108,13 @@ public class AlpsController {
 
 		verifyAlpsEnabled();
 
-		return new ResponseEntity<>(information, HttpStatus.OK);
+		HttpHeaders headers = new HttpHeaders();
+
+		if (headersPreparer != null) {
+			headersPreparer.addCacheControl(headers, information.getDomainType(), Scope.PROFILE);
+		}
+
+		return new ResponseEntity<>(information, headers, HttpStatus.OK);
 	}
 
 	private void verifyAlpsEnabled() {
@@ -15,9 +15,11 @@
  */
 package org.springframework.data.rest.webmvc.config;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
@@ -26,8 +28,11 @@ import org.springframework.core.MethodParameter;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.rest.webmvc.support.PagingAndSortingTemplateVariables;
+import org.springframework.data.rest.webmvc.support.RepositoryScroller;
 import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.HateoasSortHandlerMethodArgumentResolver;
+import org.springframework.hateoas.TemplateVariable;
+import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.util.Assert;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -78,6 +83,26 @@ class ArgumentResolverPagingAndSortingTemplateVariables implements PagingAndSort
 		return sortResolver.getSortTemplateVariables(parameter, template);
 	}
 
+	@Override
+	public TemplateVariables getScrollTemplateVariables(@Nullable MethodParameter parameter,
+			UriComponents components) {
+
+		String pageParameter = pagingResolver.getPageParameterName();
+		List<TemplateVariable> variables = new ArrayList<>();
+
+		variables.add(new TemplateVariable(RepositoryScroller.CURSOR_PARAMETER, VariableType.REQUEST_PARAM,
+				RepositoryScroller.CURSOR_DESCRIPTION));
+
+		// Pagination variables minus the page number, which scrolling replaces by the cursor
+		for (TemplateVariable variable : pagingResolver.getPaginationTemplateVariables(parameter, components)) {
+			if (!variable.getName().equals(pageParameter)) {
+				variables.add(variable);
+			}
+		}
+
+		return new TemplateVariables(variables);
+	}
+
 	@Override
 	public void enhance(UriComponentsBuilder builder, @Nullable MethodParameter parameter, Object value) {
 
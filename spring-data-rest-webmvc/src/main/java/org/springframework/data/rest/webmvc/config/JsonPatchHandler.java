@@ -15,6 +15,7 @@
  */
 package org.springframework.data.rest.webmvc.config;
 
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.ObjectNode;
 
@@ -28,6 +29,7 @@ import org.springframework.data.rest.webmvc.json.patch.BindContext;
 import org.springframework.data.rest.webmvc.json.patch.JsonPatchPatchConverter;
 import org.springframework.data.rest.webmvc.json.patch.Patch;
 import org.springframework.data.rest.webmvc.util.InputStreamHttpInputMessage;
+import org.springframework.http.HttpInputMessage;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.Assert;
 
@@ -85,6 +87,39 @@ class JsonPatchHandler {
 		}
 	}
 
+	/**
+	 * Applies the given patch document, read from the body of the given {@link IncomingRequest} before, as patch on the
+	 * given target object.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @param patch must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @return
+	 * @throws Exception
+	 * @since 5.2
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T apply(IncomingRequest request, JsonNode patch, T target, ObjectMapper mapper) throws Exception {
+
+		Assert.notNull(request, "Request must not be null");
+		Assert.isTrue(request.isPatchRequest(), "Cannot handle non-PATCH request");
+		Assert.notNull(patch, "Patch must not be null");
+		Assert.notNull(target, "Target must not be null");
+
+		if (request.isJsonPatchRequest()) {
+			return getPatchOperations(patch, mapper, factory.getBindContextFor(mapper), request.getServerHttpRequest())
+					.apply(target, (Class<T>) target.getClass());
+		}
+
+		if (!patch.isObject()) {
+			throw new HttpMessageNotReadableException(
+					String.format("Could not read PATCH document; Expected %s", RestMediaTypes.MERGE_PATCH_JSON),
+					request.getServerHttpRequest());
+		}
+
+		return reader.read((ObjectNode) patch, target, mapper);
+	}
+
 	@SuppressWarnings("unchecked")
 	<T> T applyPatch(InputStream source, T target, ObjectMapper mapper) throws Exception {
 
@@ -120,4 +155,16 @@ class JsonPatchHandler {
 					InputStreamHttpInputMessage.of(source));
 		}
 	}
+
+	private Patch getPatchOperations(JsonNode source, ObjectMapper mapper, BindContext context,
+			HttpInputMessage message) {
+
+		try {
+			return new JsonPatchPatchConverter(mapper, context).convert(source);
+		} catch (Exception o_O) {
+			throw new HttpMessageNotReadableException(
+					String.format("Could not read PATCH operations; Expected %s", RestMediaTypes.JSON_PATCH_JSON), o_O,
+					message);
+		}
+	}
 }
@@ -71,10 +71,19 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 			@Nullable ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
 			@Nullable WebDataBinderFactory binderFactory) throws Exception {
 
-		String projectionParameter = webRequest.getParameter(projectionDefinitions.getParameterName());
 		PersistentEntityProjector projector = new PersistentEntityProjector(projectionDefinitions, projectionFactory,
-				projectionParameter, associations.getMappings());
+				getProjection(webRequest), associations.getMappings());
 
 		return new PersistentEntityResourceAssembler(entities, projector, associations, linkProvider);
 	}
+
+	/**
+	 * Returns the name of the projection requested via the given {@link NativeWebRequest}.
+	 *
+	 * @param webRequest must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable String getProjection(NativeWebRequest webRequest) {
+		return webRequest.getParameter(projectionDefinitions.getParameterName());
+	}
 }
@@ -16,18 +16,24 @@
 package org.springframework.data.rest.webmvc.config;
 
 import jakarta.servlet.http.HttpServletRequest;
+import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.PersistentEntity;
@@ -35,20 +41,30 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.webmvc.ContentHashETags;
 import org.springframework.data.rest.webmvc.IncomingRequest;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.data.rest.webmvc.PersistentEntityResource.Builder;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.PersistentEntityPatches;
+import org.springframework.data.rest.webmvc.PersistentEntityResources;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
 import org.springframework.data.rest.webmvc.json.BindContextFactory;
 import org.springframework.data.rest.webmvc.json.DomainObjectReader;
+import org.springframework.data.rest.webmvc.support.AssociationUriResolver;
 import org.springframework.data.rest.webmvc.support.BackendIdHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
+import org.springframework.data.rest.webmvc.support.RepositoryBatchLookup;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
@@ -58,7 +74,8 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 /**
- * Custom {@link HandlerMethodArgumentResolver} to create {@link PersistentEntityResource} instances.
+ * Custom {@link HandlerMethodArgumentResolver} to create {@link PersistentEntityResource},
+ * {@link PersistentEntityResources} and {@link PersistentEntityPatches} instances.
  *
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -75,12 +92,43 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
 	private final ConversionService conversionService = new DefaultConversionService();
 	private final JsonPatchHandler jsonPatchHandler;
+	private final @Nullable AssociationUriResolver uriResolver;
+	private final @Nullable ContentHashETags contentHashETags;
+	private final @Nullable PersistentEntityResourceAssemblerArgumentResolver assemblerResolver;
 
 	public PersistentEntityResourceHandlerMethodArgumentResolver(
 			List<HttpMessageConverter<?>> messageConverters,
 			RootResourceInformationHandlerMethodArgumentResolver resourceInformationResolver,
 			BackendIdHandlerMethodArgumentResolver idResolver, DomainObjectReader reader,
 			PluginRegistry<EntityLookup<?>, Class<?>> lookups, BindContextFactory factory) {
+		this(messageConverters, resourceInformationResolver, idResolver, reader, lookups, factory, null, null, null);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityResourceHandlerMethodArgumentResolver} prefetching the aggregates
+	 * referred to by the association URIs of JSON payloads through the given {@link AssociationUriResolver} and
+	 * verifying {@code If-Match} headers against content hash {@link ETag}s through the given {@link ContentHashETags}
+	 * before applying updates.
+	 *
+	 * @param messageConverters must not be {@literal null}.
+	 * @param resourceInformationResolver must not be {@literal null}.
+	 * @param idResolver must not be {@literal null}.
+	 * @param reader must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @param uriResolver can be {@literal null}.
+	 * @param contentHashETags can be {@literal null}.
+	 * @param assemblerResolver the resolver to obtain the {@link PersistentEntityResourceAssembler} to render the
+	 *          aggregates with when verifying content hash {@link ETag}s, can be {@literal null}.
+	 * @since 5.2
+	 */
+	public PersistentEntityResourceHandlerMethodArgumentResolver(
+			List<HttpMessageConverter<?>> messageConverters,
+			RootResourceInformationHandlerMethodArgumentResolver resourceInformationResolver,
+			BackendIdHandlerMethodArgumentResolver idResolver, DomainObjectReader reader,
+			PluginRegistry<EntityLookup<?>, Class<?>> lookups, BindContextFactory factory,
+			@Nullable AssociationUriResolver uriResolver, @Nullable ContentHashETags contentHashETags,
+			@Nullable PersistentEntityResourceAssemblerArgumentResolver assemblerResolver) {
 
 		Assert.notNull(messageConverters, "HttpMessageConverters must not be null");
 		Assert.notNull(resourceInformationResolver, "RootResourceInformation resolver must not be null");
@@ -93,11 +141,19 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		this.idResolver = idResolver;
 		this.lookups = lookups;
 		this.jsonPatchHandler = new JsonPatchHandler(mapper -> factory.getBindContextFor(mapper), reader);
+		this.uriResolver = uriResolver;
+		this.contentHashETags = contentHashETags;
+		this.assemblerResolver = assemblerResolver;
 	}
 
 	@Override
 	public boolean supportsParameter(MethodParameter parameter) {
-		return PersistentEntityResource.class.isAssignableFrom(parameter.getParameterType());
+
+		Class<?> type = parameter.getParameterType();
+
+		return PersistentEntityResource.class.isAssignableFrom(type)
+				|| PersistentEntityResources.class.isAssignableFrom(type)
+				|| PersistentEntityPatches.class.isAssignableFrom(type);
 	}
 
 	@Override
@@ -124,6 +180,15 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		Class<?> domainType = resourceInformation.getDomainType();
 		MediaType contentType = request.getHeaders().getContentType();
 
+		if (PersistentEntityResources.class.isAssignableFrom(parameter.getParameterType())) {
+			return readAll(resourceInformation, request);
+		}
+
+		if (PersistentEntityPatches.class.isAssignableFrom(parameter.getParameterType())) {
+			return readPatches(resourceInformation, incoming,
+					toIdentifiers(webRequest.getParameterValues(RepositoryBatchLookup.ID_PARAMETER)));
+		}
+
 		for (HttpMessageConverter converter : messageConverters) {
 
 			if (!converter.canRead(RepresentationModel.class, contentType)) {
@@ -133,6 +198,13 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 			Optional<Serializable> id = Optional
 					.ofNullable(idResolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory));
 			Optional<Object> objectToUpdate = id.flatMap(it -> resourceInformation.getRequiredInvoker().invokeFindById(it));
+
+			// Content hashes have to be calculated before the payload is applied to the aggregate
+			if (objectToUpdate.isPresent()) {
+				verifyContentHash(resourceInformation.getPersistentEntity(), objectToUpdate.get(), request.getHeaders(),
+						parameter, mavContainer, webRequest, binderFactory);
+			}
+
 			Object newObject = read(resourceInformation, incoming, converter, objectToUpdate);
 
 			if (newObject == null) {
@@ -193,7 +265,7 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 			return objectToUpdate.map(it -> {
 
 				ObjectMapper mapper = c.getMapper();
-				return readPatch(request, mapper, it);
+				return readPatch(request, mapper, it, information.getPersistentEntity());
 
 			}).orElseThrow(() -> new ResourceNotFoundException());
 
@@ -201,8 +273,9 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		} else if (converter instanceof AbstractJacksonHttpMessageConverter c) {
 
 			ObjectMapper mapper = c.getMapper();
+			PersistentEntity<?, ?> entity = information.getPersistentEntity();
 
-			return objectToUpdate.map(it -> readPutForUpdate(request, mapper, it))//
+			return objectToUpdate.map(it -> readPutForUpdate(request, mapper, it, entity))//
 					.orElseGet(() -> read(request, converter, information));
 		}
 
@@ -210,10 +283,20 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		return read(request, converter, information);
 	}
 
-	private Object readPatch(IncomingRequest request, ObjectMapper mapper, Object existingObject) {
+	private Object readPatch(IncomingRequest request, ObjectMapper mapper, Object existingObject,
+			PersistentEntity<?, ?> entity) {
 
 		try {
 
+			// JSON Patch documents don't follow the structure of the entity, so only merge patches get prefetched
+			if (isPrefetching(entity) && !request.isJsonPatchRequest()) {
+
+				JsonNode patch = mapper.readTree(request.getBody());
+				prefetch(entity, patch, mapper);
+
+				return jsonPatchHandler.apply(request, patch, existingObject, mapper);
+			}
+
 			return jsonPatchHandler.apply(request, existingObject, mapper);
 
 		} catch (Exception o_O) {
@@ -227,11 +310,13 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		}
 	}
 
-	private Object readPutForUpdate(IncomingRequest request, ObjectMapper mapper, Object existingObject) {
+	private Object readPutForUpdate(IncomingRequest request, ObjectMapper mapper, Object existingObject,
+			PersistentEntity<?, ?> entity) {
 
 		try {
 
 			JsonNode jsonNode = mapper.readTree(request.getBody());
+			prefetch(entity, jsonNode, mapper);
 
 			return jsonPatchHandler.applyPut((ObjectNode) jsonNode, existingObject, mapper);
 
@@ -245,13 +330,211 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 			RootResourceInformation information) {
 
 		try {
-			return converter.read(information.getDomainType(), request.getServerHttpRequest());
-		} catch (IOException o_O) {
+
+			PersistentEntity<?, ?> entity = information.getPersistentEntity();
+
+			if (!isPrefetching(entity) || !(converter instanceof AbstractJacksonHttpMessageConverter<?> c)) {
+				return converter.read(information.getDomainType(), request.getServerHttpRequest());
+			}
+
+			// Read the payload into a tree once to prefetch associations before binding it
+			ObjectMapper mapper = c.getMapper();
+			JsonNode node = mapper.readTree(request.getBody());
+
+			if (node.isMissingNode() || node.isNull()) {
+				throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, information.getDomainType()),
+						request.getServerHttpRequest());
+			}
+
+			prefetch(entity, node, mapper);
+
+			return mapper.treeToValue(node, information.getDomainType());
+
+		} catch (IOException | JacksonException o_O) {
 			throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, information.getDomainType()), o_O,
 					request.getServerHttpRequest());
 		}
 	}
 
+	/**
+	 * Reads all aggregates contained in the JSON array of the given {@link ServletServerHttpRequest}'s body. A single
+	 * JSON object is read as array containing only that object.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("rawtypes")
+	private PersistentEntityResources readAll(RootResourceInformation information, ServletServerHttpRequest request) {
+
+		Class<?> domainType = information.getDomainType();
+		MediaType contentType = request.getHeaders().getContentType();
+
+		for (HttpMessageConverter<?> converter : messageConverters) {
+
+			if (!(converter instanceof AbstractJacksonHttpMessageConverter c)
+					|| !converter.canRead(RepresentationModel.class, contentType)) {
+				continue;
+			}
+
+			ObjectMapper mapper = c.getMapper();
+			List<PersistentEntityResource> resources = new ArrayList<>();
+
+			try {
+
+				JsonNode node = mapper.readTree(request.getBody());
+
+				if (!node.isArray() && !node.isObject()) {
+					throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType), request);
+				}
+
+				prefetch(information.getPersistentEntity(), node, mapper);
+
+				for (JsonNode element : node.isArray() ? node : List.of(node)) {
+					resources.add(toResource(mapper.treeToValue(element, domainType), information.getPersistentEntity(),
+							false));
+				}
+
+			} catch (IOException | JacksonException o_O) {
+				throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType), o_O, request);
+			}
+
+			return PersistentEntityResources.of(resources);
+		}
+
+		throw new HttpMessageNotReadableException(String.format(NO_CONVERTER_FOUND, domainType, contentType), request);
+	}
+
+	/**
+	 * Reads the patch documents contained in the body of the given {@link IncomingRequest}. In case identifiers are
+	 * given, the entire body is a single patch document to apply to all of them. Otherwise, the body has to be a JSON
+	 * object containing the patch documents keyed by identifier.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @param ids can be {@literal null}.
+	 * @return
+	 */
+	private PersistentEntityPatches readPatches(RootResourceInformation information, IncomingRequest request,
+			@Nullable List<String> ids) {
+
+		Class<?> domainType = information.getDomainType();
+		ServerHttpRequest serverRequest = request.getServerHttpRequest();
+		MediaType contentType = serverRequest.getHeaders().getContentType();
+
+		for (HttpMessageConverter<?> converter : messageConverters) {
+
+			if (!(converter instanceof JacksonJsonHttpMessageConverter c)
+					|| !converter.canRead(RepresentationModel.class, contentType)) {
+				continue;
+			}
+
+			ObjectMapper mapper = c.getMapper();
+			BiFunction<JsonNode, Object, Object> patcher = (patch, target) -> {
+
+				try {
+
+					// Merging consumes the patch document, which might get applied to multiple aggregates
+					return jsonPatchHandler.apply(request, patch.deepCopy(), target, mapper);
+
+				} catch (HttpMessageNotReadableException o_O) {
+					throw o_O;
+				} catch (Exception o_O) {
+					throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType), o_O,
+							serverRequest);
+				}
+			};
+
+			try {
+
+				JsonNode node = mapper.readTree(request.getBody());
+
+				if (ids != null) {
+
+					prefetch(information.getPersistentEntity(), node, mapper);
+
+					return PersistentEntityPatches.of(ids, (id, target) -> patcher.apply(node, target));
+				}
+
+				if (!node.isObject()) {
+					throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType), serverRequest);
+				}
+
+				Map<String, JsonNode> patches = new LinkedHashMap<>();
+				node.properties().forEach(it -> patches.put(it.getKey(), it.getValue()));
+				patches.values().forEach(it -> prefetch(information.getPersistentEntity(), it, mapper));
+
+				return PersistentEntityPatches.of(patches, patcher);
+
+			} catch (IOException | JacksonException o_O) {
+				throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType), o_O, serverRequest);
+			}
+		}
+
+		throw new HttpMessageNotReadableException(String.format(NO_CONVERTER_FOUND, domainType, contentType),
+				serverRequest);
+	}
+
+	/**
+	 * Converts the given request parameter values into identifiers the same way a {@code @RequestParam List<String>}
+	 * does, i.e. a single value is split at commas.
+	 *
+	 * @param values can be {@literal null}.
+	 * @return {@literal null} in case no values are given.
+	 */
+	@SuppressWarnings("unchecked")
+	private @Nullable List<String> toIdentifiers(String @Nullable [] values) {
+
+		if (values == null) {
+			return null;
+		}
+
+		Object source = values.length == 1 ? values[0] : values;
+
+		return (List<String>) conversionService.convert(source, TypeDescriptor.forObject(source),
+				TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(String.class)));
+	}
+
+	/**
+	 * Verifies the {@code If-Match} header of the given request against the content hash {@link ETag} of the given
+	 * aggregate in case those are enabled for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param aggregate must not be {@literal null}.
+	 * @param headers the headers of the current request, must not be {@literal null}.
+	 * @throws ETagDoesntMatchException in case the {@link ETag} does not match.
+	 */
+	private void verifyContentHash(PersistentEntity<?, ?> entity, Object aggregate, HttpHeaders headers,
+			MethodParameter parameter, @Nullable ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
+			@Nullable WebDataBinderFactory binderFactory) throws Exception {
+
+		if (contentHashETags == null || assemblerResolver == null || !contentHashETags.isEnabledFor(entity)) {
+			return;
+		}
+
+		ETag eTag = ETag.from(Optional.ofNullable(headers.getFirst(HttpHeaders.IF_MATCH)));
+
+		if (eTag == ETag.NO_ETAG) {
+			return;
+		}
+
+		PersistentEntityResourceAssembler assembler = assemblerResolver.resolveArgument(parameter, mavContainer,
+				webRequest, binderFactory);
+
+		contentHashETags.verify(eTag, assembler.toFullResource(aggregate), headers);
+	}
+
+	private boolean isPrefetching(PersistentEntity<?, ?> entity) {
+		return uriResolver != null && uriResolver.supports(entity);
+	}
+
+	private void prefetch(PersistentEntity<?, ?> entity, @Nullable JsonNode payload, ObjectMapper mapper) {
+
+		if (uriResolver != null && payload != null) {
+			uriResolver.prefetch(entity, payload, mapper);
+		}
+	}
+
 	private PersistentEntityResource toResource(Object bean, PersistentEntity<?, ?> entity, boolean forUpdate) {
 
 		Builder build = PersistentEntityResource.build(bean, entity);
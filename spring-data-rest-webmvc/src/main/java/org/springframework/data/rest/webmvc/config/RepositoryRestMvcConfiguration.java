@@ -15,6 +15,8 @@
  */
 package org.springframework.data.rest.webmvc.config;
 
+import jakarta.servlet.Filter;
+
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JacksonModule;
 import tools.jackson.databind.SerializationFeature;
@@ -47,6 +49,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.auditing.MappingAuditableBeanWrapperFactory;
 import org.springframework.data.domain.PageRequest;
@@ -62,10 +66,14 @@ import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.StringToLdapNameConverter;
 import org.springframework.data.rest.core.UriToEntityConverter;
+import org.springframework.data.rest.core.config.BatchConfiguration;
 import org.springframework.data.rest.core.config.MetadataConfiguration;
 import org.springframework.data.rest.core.config.Projection;
 import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
+import org.springframework.data.rest.core.config.ReferenceBindingConfiguration;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.config.SurrogateKeyConfiguration;
+import org.springframework.data.rest.core.config.TotalCountCacheConfiguration;
 import org.springframework.data.rest.core.event.AnnotatedEventHandlerInvoker;
 import org.springframework.data.rest.core.event.ValidatingRepositoryEventListener;
 import org.springframework.data.rest.core.mapping.RepositoryResourceMappings;
@@ -77,13 +85,18 @@ import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.core.support.UnwrappingRepositoryInvokerFactory;
 import org.springframework.data.rest.webmvc.BasePathAwareHandlerMapping;
 import org.springframework.data.rest.webmvc.BaseUri;
+import org.springframework.data.rest.webmvc.ContentHashETagResponseBodyAdvice;
+import org.springframework.data.rest.webmvc.ContentHashETags;
 import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
 import org.springframework.data.rest.webmvc.HttpHeadersPreparer;
 import org.springframework.data.rest.webmvc.ProfileResourceProcessor;
 import org.springframework.data.rest.webmvc.RepositoryRestExceptionHandler;
 import org.springframework.data.rest.webmvc.RepositoryRestHandlerAdapter;
 import org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping;
+import org.springframework.data.rest.webmvc.RepresentationCache;
+import org.springframework.data.rest.webmvc.RepresentationCachingResponseBodyAdvice;
 import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.SurrogateKeyResponseBodyAdvice;
 import org.springframework.data.rest.webmvc.alps.AlpsJacksonJsonHttpMessageConverter;
 import org.springframework.data.rest.webmvc.alps.RootResourceInformationToAlpsDescriptorConverter;
 import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter;
@@ -93,17 +106,49 @@ import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaCon
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.mapping.DefaultLinkCollector;
 import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.data.rest.webmvc.spi.AssociationLookup;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
+import org.springframework.data.rest.webmvc.spi.ChunkListener;
+import org.springframework.data.rest.webmvc.spi.IdentifierLookup;
+import org.springframework.data.rest.webmvc.spi.ReferenceLookup;
+import org.springframework.data.rest.webmvc.spi.SliceLookup;
+import org.springframework.data.rest.webmvc.spi.SurrogateKeyPurger;
+import org.springframework.data.rest.webmvc.spi.TotalCountCache;
+import org.springframework.data.rest.webmvc.spi.VersionProbe;
+import org.springframework.data.rest.webmvc.support.AssociationPager;
+import org.springframework.data.rest.webmvc.support.AssociationReferences;
+import org.springframework.data.rest.webmvc.support.AssociationUriResolver;
 import org.springframework.data.rest.webmvc.support.BackendIdHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.BatchRequestDispatcher;
+import org.springframework.data.rest.webmvc.support.CacheControlPolicies;
 import org.springframework.data.rest.webmvc.support.DefaultExcerptProjector;
 import org.springframework.data.rest.webmvc.support.DomainClassResolver;
 import org.springframework.data.rest.webmvc.support.ETagArgumentResolver;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
 import org.springframework.data.rest.webmvc.support.HttpMethodHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.InMemoryTotalCountCache;
+import org.springframework.data.rest.webmvc.support.JpaAssociationLookup;
+import org.springframework.data.rest.webmvc.support.JpaChunkListener;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
+import org.springframework.data.rest.webmvc.support.JpaIdentifierLookup;
+import org.springframework.data.rest.webmvc.support.JpaReferenceLookup;
+import org.springframework.data.rest.webmvc.support.JpaSliceLookup;
+import org.springframework.data.rest.webmvc.support.JpaVersionProbe;
 import org.springframework.data.rest.webmvc.support.PagingAndSortingTemplateVariables;
+import org.springframework.data.rest.webmvc.support.PrefetchingUriToEntityConverter;
+import org.springframework.data.rest.webmvc.support.ReferenceBindingUriToEntityConverter;
+import org.springframework.data.rest.webmvc.support.RepositoryBatchLookup;
+import org.springframework.data.rest.webmvc.support.RepositoryBatchWriter;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.RepositoryIdentifiers;
+import org.springframework.data.rest.webmvc.support.RepositoryPager;
+import org.springframework.data.rest.webmvc.support.RepositoryScroller;
+import org.springframework.data.rest.webmvc.support.RepositorySlicer;
+import org.springframework.data.rest.webmvc.support.StreamingExporter;
+import org.springframework.data.rest.webmvc.support.StreamingImporter;
+import org.springframework.data.rest.webmvc.support.SurrogateKeyPurgingListener;
+import org.springframework.data.rest.webmvc.support.SurrogateKeys;
 import org.springframework.data.util.AnnotatedTypeScanner;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.StreamUtils;
@@ -136,6 +181,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringValueResolver;
 import org.springframework.validation.Validator;
@@ -206,6 +254,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	private final Lazy<EnumTranslator> enumTranslator;
 	private final Lazy<ETagArgumentResolver> eTagArgumentResolver;
 	private final Lazy<RepositoryInvokerFactory> repositoryInvokerFactory;
+	private final Lazy<AssociationUriResolver> associationUriResolver;
+	private final Lazy<AssociationReferences> associationReferences;
 	private final Lazy<RepositoryRestConfiguration> repositoryRestConfiguration;
 	private final Lazy<HateoasPageableHandlerMethodArgumentResolver> pageableResolver;
 	private final Lazy<HateoasSortHandlerMethodArgumentResolver> sortResolver;
@@ -273,6 +323,9 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		this.repositoryInvokerFactory = Lazy.of(() -> new UnwrappingRepositoryInvokerFactory(
 				new DefaultRepositoryInvokerFactory(repositories.get(), defaultConversionService), getEntityLookups()));
 
+		this.associationUriResolver = Lazy.of(() -> context.getBean(AssociationUriResolver.class));
+		this.associationReferences = Lazy.of(() -> context.getBean(AssociationReferences.class));
+
 		this.configurerDelegate = Lazy.of(() -> {
 
 			return new RepositoryRestConfigurerDelegate(
@@ -334,7 +387,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		Supplier<ConversionService> supplier = () -> conversionService;
 
 		// Add Spring Data Commons formatters
-		conversionService.addConverter(new UriToEntityConverter(persistentEntities, repositoryInvokerFactory, supplier));
+		conversionService.addConverter(new ReferenceBindingUriToEntityConverter(persistentEntities,
+				repositoryInvokerFactory, supplier, associationReferences));
 		conversionService.addConverter(new StringToAggregateReferenceConverter(supplier));
 		conversionService.addConverter(StringToLdapNameConverter.INSTANCE);
 		addFormatters(conversionService);
@@ -494,14 +548,17 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	public PersistentEntityResourceHandlerMethodArgumentResolver persistentEntityArgumentResolver(
 			@Qualifier("defaultMessageConverters") List<HttpMessageConverter<?>> defaultMessageConverters,
 			RootResourceInformationHandlerMethodArgumentResolver repoRequestArgumentResolver, Associations associationLinks,
-			BackendIdHandlerMethodArgumentResolver backendIdHandlerMethodArgumentResolver, PersistentEntities entities) {
+			BackendIdHandlerMethodArgumentResolver backendIdHandlerMethodArgumentResolver, PersistentEntities entities,
+			AssociationUriResolver associationUriResolver, ContentHashETags contentHashETags,
+			PersistentEntityResourceAssemblerArgumentResolver persistentEntityResourceAssemblerArgumentResolver) {
 
 		PluginRegistry<EntityLookup<?>, Class<?>> lookups = PluginRegistry.of(getEntityLookups());
 		DomainObjectReader reader = new DomainObjectReader(entities, associationLinks);
 		BindContextFactory factory = new PersistentEntitiesBindContextFactory(entities, defaultConversionService);
 
 		return new PersistentEntityResourceHandlerMethodArgumentResolver(defaultMessageConverters,
-				repoRequestArgumentResolver, backendIdHandlerMethodArgumentResolver, reader, lookups, factory);
+				repoRequestArgumentResolver, backendIdHandlerMethodArgumentResolver, reader, lookups, factory,
+				associationUriResolver, contentHashETags, persistentEntityResourceAssemblerArgumentResolver);
 	}
 
 	/**
@@ -550,7 +607,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 		mediaTypes.addAll(Arrays.asList(RestMediaTypes.SCHEMA_JSON, //
 				RestMediaTypes.JSON_PATCH_JSON, RestMediaTypes.MERGE_PATCH_JSON, //
-				RestMediaTypes.SPRING_DATA_VERBOSE_JSON, RestMediaTypes.SPRING_DATA_COMPACT_JSON));
+				RestMediaTypes.SPRING_DATA_VERBOSE_JSON, RestMediaTypes.SPRING_DATA_COMPACT_JSON,
+				RestMediaTypes.SPRING_DATA_BULK_JSON));
 
 		return new ResourceSupportHttpMessageConverter(mediaTypes, objectMapper(), order);
 	}
@@ -596,6 +654,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		Builder builder = basicObjectMapperBuilder();
 
 		builder.addModule(persistentEntityJackson3Module(linkCollector));
+		builder.addModule(new IncrementalRenderingModule(defaultedRelProvider, curieProvider, invoker.getObject()));
 		builder.addModule(new HalFormsJacksonModule());
 		builder.handlerInstantiator(new HalJacksonModule.HalHandlerInstantiator(defaultedRelProvider, curieProvider,
 				resolver.getObject(), configuration.getHalConfiguration(), applicationContext.getAutowireCapableBeanFactory()));
@@ -614,6 +673,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 		return basicObjectMapperBuilder()
 				.addModule(persistentEntityJackson3Module(linkCollector))
+				.addModule(new IncrementalRenderingModule(defaultedRelProvider, curieProvider, invoker.getObject()))
 				.addModule(new HalJacksonModule())
 				.handlerInstantiator(instantiator)
 				.build();
@@ -643,7 +703,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			PersistentEntityResourceHandlerMethodArgumentResolver persistentEntityArgumentResolver,
 			PersistentEntityResourceAssemblerArgumentResolver persistentEntityResourceAssemblerArgumentResolver,
 			RootResourceInformationHandlerMethodArgumentResolver repoRequestArgumentResolver,
-			RepositoryRestConfiguration repositoryRestConfiguration) {
+			RepositoryRestConfiguration repositoryRestConfiguration, HttpHeadersPreparer httpHeadersPreparer,
+			RepresentationCache representationCache, SurrogateKeys surrogateKeys, ContentHashETags contentHashETags) {
 
 		// Forward conversion service to handler adapter
 		ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
@@ -656,8 +717,15 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		handlerAdapter.setWebBindingInitializer(initializer);
 		handlerAdapter.setMessageConverters(defaultMessageConverters);
 
+		SurrogateKeyConfiguration surrogateKeyConfiguration = repositoryRestConfiguration.getSurrogateKeyConfiguration();
+
 		List<ResponseBodyAdvice<?>> advices = new ArrayList<>();
 		advices.add(new HalFormsAdaptingResponseBodyAdvice<>());
+		advices.add(new SurrogateKeyResponseBodyAdvice(surrogateKeyConfiguration, surrogateKeys));
+		advices.add(new ContentHashETagResponseBodyAdvice(contentHashETags, defaultMessageConverters,
+				httpHeadersPreparer));
+		advices.add(new RepresentationCachingResponseBodyAdvice(representationCache, defaultMessageConverters,
+				surrogateKeyConfiguration.isEnabled() ? List.of(surrogateKeyConfiguration.getHeaderName()) : List.of()));
 
 		if (repositoryRestConfiguration.getMetadataConfiguration().alpsEnabled()) {
 			advices.addAll(Arrays.asList(alpsJsonHttpMessageConverter));
@@ -729,8 +797,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		LookupObjectSerializer lookupObjectSerializer = new LookupObjectSerializer(PluginRegistry.of(getEntityLookups()));
 
 		return new PersistentEntityJacksonModule(associationLinks.get(), persistentEntities.get(),
-				new UriToEntityConverter(persistentEntities.get(), repositoryInvokerFactory.get(),
-						() -> defaultConversionService),
+				new PrefetchingUriToEntityConverter(persistentEntities.get(), repositoryInvokerFactory.get(),
+						() -> defaultConversionService, associationReferences, associationUriResolver.get()),
 				linkCollector, repositoryInvokerFactory.get(), lookupObjectSerializer, invoker.getObject(), assembler);
 	}
 
@@ -866,8 +934,389 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	}
 
 	@Bean
-	public HttpHeadersPreparer httpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory) {
-		return new HttpHeadersPreparer(auditableBeanWrapperFactory);
+	public HttpHeadersPreparer httpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory,
+			ObjectProvider<VersionProbe> versionProbes, RepositoryRestConfiguration repositoryRestConfiguration,
+			Repositories repositories) {
+
+		CacheControlPolicies cacheControlPolicies = new CacheControlPolicies(
+				repositoryRestConfiguration.getCacheControlConfiguration(), repositories);
+
+		return new HttpHeadersPreparer(auditableBeanWrapperFactory,
+				PluginRegistry.of(versionProbes.orderedStream().collect(Collectors.toList())), cacheControlPolicies);
+	}
+
+	/**
+	 * {@link VersionProbe} to answer conditional requests for JPA managed entities without loading them.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public @Nullable JpaVersionProbe jpaVersionProbe(RepositoryRestConfiguration repositoryRestConfiguration) {
+
+		if (IS_JPA_AVAILABLE) {
+			return new JpaVersionProbe(repositoryRestConfiguration, defaultConversionService, getEntityLookups(),
+					applicationContext);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Calculates and verifies entity tags from the rendered representations of the domain types enabled via
+	 * {@link RepositoryRestConfiguration#useContentHashETagsFor(Class...)}.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public ContentHashETags contentHashETags(RepositoryRestConfiguration repositoryRestConfiguration,
+			@Qualifier("defaultMessageConverters") List<HttpMessageConverter<?>> defaultMessageConverters) {
+		return new ContentHashETags(repositoryRestConfiguration, defaultMessageConverters);
+	}
+
+	/**
+	 * Server-side cache of rendered item resource representations. Only used for the domain types enabled via
+	 * {@link RepositoryRestConfiguration#getRepresentationCacheConfiguration()}.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public RepresentationCache representationCache(RepositoryRestConfiguration repositoryRestConfiguration,
+			PersistentEntities persistentEntities) {
+
+		return new RepresentationCache(repositoryRestConfiguration.getRepresentationCacheConfiguration(),
+				persistentEntities);
+	}
+
+	/**
+	 * Scrolls through the collection resources of the domain types scrolling is enabled for.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public RepositoryScroller repositoryScroller(Repositories repositories,
+			RepositoryRestConfiguration repositoryRestConfiguration) {
+		return new RepositoryScroller(repositories, repositoryRestConfiguration, defaultConversionService);
+	}
+
+	/**
+	 * Renders paged collection and search resources as slices if requested.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public RepositorySlicer repositorySlicer(RepositoryRestConfiguration repositoryRestConfiguration,
+			ObjectProvider<SliceLookup> sliceLookups) {
+		return new RepositorySlicer(repositoryRestConfiguration, sliceLookups.orderedStream().toList());
+	}
+
+	/**
+	 * Reads pages of collection resources with cached totals for the domain types enabled via
+	 * {@link RepositoryRestConfiguration#getTotalCountCacheConfiguration()}. Uses an in-memory {@link TotalCountCache}
+	 * unless a single other one is declared as Spring bean.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public RepositoryPager repositoryPager(RepositoryRestConfiguration repositoryRestConfiguration,
+			RepositorySlicer repositorySlicer, ObjectProvider<TotalCountCache> totalCountCaches) {
+
+		TotalCountCacheConfiguration configuration = repositoryRestConfiguration.getTotalCountCacheConfiguration();
+
+		return new RepositoryPager(configuration,
+				totalCountCaches.getIfUnique(() -> new InMemoryTotalCountCache(configuration)), repositorySlicer);
+	}
+
+	/**
+	 * Reads pages and individual elements of the aggregates referenced by associations through the
+	 * {@link AssociationLookup}s available.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public AssociationPager associationPager(PersistentEntities persistentEntities,
+			ObjectProvider<AssociationLookup> associationLookups) {
+		return new AssociationPager(persistentEntities, associationLookups.orderedStream().toList(),
+				defaultConversionService);
+	}
+
+	/**
+	 * Streams collection and search resources requested as newline delimited JSON or CSV. Query methods returning a
+	 * {@link java.util.stream.Stream} are consumed within a read-only transaction of the unique
+	 * {@link PlatformTransactionManager} if present.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public StreamingExporter streamingExporter(RepositoryRestConfiguration repositoryRestConfiguration,
+			LinkCollector linkCollector, RepositoryScroller repositoryScroller, RepositorySlicer repositorySlicer,
+			ObjectProvider<ChunkListener> chunkListeners,
+			ObjectProvider<PlatformTransactionManager> transactionManagers) {
+
+		PlatformTransactionManager transactionManager = transactionManagers.getIfUnique();
+		TransactionOperations transactions = TransactionOperations.withoutTransaction();
+
+		if (transactionManager != null) {
+
+			TransactionTemplate template = new TransactionTemplate(transactionManager);
+			template.setReadOnly(true);
+
+			transactions = template;
+		}
+
+		return new StreamingExporter(repositoryRestConfiguration, halObjectMapper(linkCollector), repositoryScroller,
+				repositorySlicer, chunkListeners.orderedStream().toList(), transactions);
+	}
+
+	/**
+	 * Imports newline delimited JSON posted to collection resources chunk by chunk, each chunk within a transaction of
+	 * the unique {@link PlatformTransactionManager} if present.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public StreamingImporter streamingImporter(RepositoryRestConfiguration repositoryRestConfiguration,
+			LinkCollector linkCollector, RepositoryBatchWriter repositoryBatchWriter,
+			ObjectProvider<ChunkListener> chunkListeners,
+			ObjectProvider<PlatformTransactionManager> transactionManagers) {
+
+		PlatformTransactionManager transactionManager = transactionManagers.getIfUnique();
+		TransactionOperations transactions = transactionManager == null //
+				? TransactionOperations.withoutTransaction() //
+				: new TransactionTemplate(transactionManager);
+
+		return new StreamingImporter(repositoryRestConfiguration, halObjectMapper(linkCollector), repositoryBatchWriter,
+				chunkListeners.orderedStream().toList(), transactions);
+	}
+
+	/**
+	 * Dispatches the sub-requests of batch requests to the Spring Data REST controllers, passing each of them through
+	 * the servlet {@link Filter} beans named via {@link BatchConfiguration#setFilters(String...)} first. Reads
+	 * configured to be executed in parallel run on virtual threads if available, limited to
+	 * {@link BatchConfiguration#getMaxConcurrentReads()} at a time and decorated by the unique {@link TaskDecorator} if
+	 * present, e.g. to propagate a security context. Atomic batches are executed within a transaction of the unique
+	 * {@link PlatformTransactionManager} and not supported if there is none.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public BatchRequestDispatcher batchRequestDispatcher(RepositoryRestConfiguration repositoryRestConfiguration,
+			LinkCollector linkCollector, @Qualifier("restHandlerMapping") HandlerMapping restHandlerMapping,
+			@Qualifier("repositoryExporterHandlerAdapter") RequestMappingHandlerAdapter handlerAdapter,
+			@Qualifier("handlerExceptionResolver") ObjectProvider<HandlerExceptionResolver> exceptionResolver,
+			ObjectProvider<PlatformTransactionManager> transactionManagers,
+			ObjectProvider<TaskDecorator> taskDecorators) {
+
+		BatchConfiguration batchConfiguration = repositoryRestConfiguration.getBatchConfiguration();
+		PlatformTransactionManager transactionManager = transactionManagers.getIfUnique();
+		List<Filter> filters = batchConfiguration.getFilters().stream() //
+				.map(it -> applicationContext.getBean(it, Filter.class)) //
+				.toList();
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-");
+		executor.setVirtualThreads(Runtime.version().feature() >= 21);
+		executor.setConcurrencyLimit(batchConfiguration.getMaxConcurrentReads());
+		taskDecorators.ifUnique(executor::setTaskDecorator);
+
+		return new BatchRequestDispatcher(repositoryRestConfiguration, halObjectMapper(linkCollector),
+				restHandlerMapping, handlerAdapter, exceptionResolver::getIfAvailable,
+				transactionManager == null ? null : new TransactionTemplate(transactionManager), executor, filters);
+	}
+
+	/**
+	 * {@link ChunkListener} to release exported and imported JPA managed entities from the persistence context.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public @Nullable JpaChunkListener jpaChunkListener() {
+
+		if (IS_JPA_AVAILABLE) {
+			return new JpaChunkListener(applicationContext);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * {@link SliceLookup} to look up slices of JPA managed entities without counting them.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public @Nullable JpaSliceLookup jpaSliceLookup(RepositoryRestConfiguration repositoryRestConfiguration) {
+
+		if (IS_JPA_AVAILABLE) {
+			return new JpaSliceLookup(repositoryRestConfiguration, applicationContext);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * {@link AssociationLookup} to look up pages of the JPA managed entities referenced by collection-like associations
+	 * with a join query.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public @Nullable JpaAssociationLookup jpaAssociationLookup(
+			RepositoryRestConfiguration repositoryRestConfiguration) {
+
+		if (IS_JPA_AVAILABLE) {
+			return new JpaAssociationLookup(repositoryRestConfiguration, applicationContext);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * {@link ReferenceLookup} to obtain references to JPA managed entities without loading them.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public @Nullable JpaReferenceLookup jpaReferenceLookup() {
+
+		if (IS_JPA_AVAILABLE) {
+			return new JpaReferenceLookup(applicationContext);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Looks up the identifying properties of aggregates to render {@code text/uri-list} and compact collection
+	 * resources without materializing the aggregates.
+	 *
+	 * @param identifierLookups the {@link IdentifierLookup}s available in the application context.
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public RepositoryIdentifiers repositoryIdentifiers(ObjectProvider<IdentifierLookup> identifierLookups) {
+		return new RepositoryIdentifiers(getEntityLookups(), identifierLookups.orderedStream().toList());
+	}
+
+	/**
+	 * Looks up multiple aggregates by the identifiers used in the URIs of their item resources at once.
+	 *
+	 * @param backendIdConverterRegistry the {@link BackendIdConverter}s registered in the system.
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public RepositoryBatchLookup repositoryBatchLookup(
+			PluginRegistry<BackendIdConverter, Class<?>> backendIdConverterRegistry) {
+		return new RepositoryBatchLookup(repositories.get(), getEntityLookups(), backendIdConverterRegistry,
+				defaultConversionService);
+	}
+
+	/**
+	 * Looks up the aggregates referred to by the association URIs contained in request payloads in batches.
+	 *
+	 * @param repositoryBatchLookup must not be {@literal null}.
+	 * @param associationReferences must not be {@literal null}.
+	 * @param associationLinks must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public AssociationUriResolver associationUriResolver(RepositoryBatchLookup repositoryBatchLookup,
+			AssociationReferences associationReferences, Associations associationLinks) {
+		return new AssociationUriResolver(repositories.get(), persistentEntities(), associationLinks,
+				repositoryInvokerFactory.get(), repositoryBatchLookup, associationReferences);
+	}
+
+	/**
+	 * Binds association URIs to references of the aggregates pointed to for the aggregate types configured in
+	 * {@link RepositoryRestConfiguration#getReferenceBindingConfiguration()}.
+	 *
+	 * @param referenceLookups the {@link ReferenceLookup}s available in the application context.
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public AssociationReferences associationReferences(RepositoryRestConfiguration repositoryRestConfiguration,
+			ObjectProvider<ReferenceLookup> referenceLookups) {
+
+		ReferenceBindingConfiguration configuration = repositoryRestConfiguration.getReferenceBindingConfiguration();
+
+		return new AssociationReferences(persistentEntities.get(), configuration,
+				referenceLookups.orderedStream().toList(), getEntityLookups(), defaultConversionService);
+	}
+
+	/**
+	 * Writes multiple aggregates at once. Aggregates written one by one are written within a transaction of the unique
+	 * {@link PlatformTransactionManager} if present.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public RepositoryBatchWriter repositoryBatchWriter(ObjectProvider<PlatformTransactionManager> transactionManagers) {
+
+		PlatformTransactionManager transactionManager = transactionManagers.getIfUnique();
+		TransactionOperations transactions = transactionManager == null //
+				? TransactionOperations.withoutTransaction() //
+				: new TransactionTemplate(transactionManager);
+
+		return new RepositoryBatchWriter(repositories.get(), transactions);
+	}
+
+	/**
+	 * {@link IdentifierLookup} to look up the identifying properties of JPA managed entities only.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public @Nullable JpaIdentifierLookup jpaIdentifierLookup(RepositoryRestConfiguration repositoryRestConfiguration) {
+
+		if (IS_JPA_AVAILABLE) {
+			return new JpaIdentifierLookup(repositoryRestConfiguration, applicationContext);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Calculates the surrogate keys exposed for rendered resources and purged on writes.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public SurrogateKeys surrogateKeys(PersistentEntities persistentEntities) {
+		return new SurrogateKeys(persistentEntities);
+	}
+
+	/**
+	 * Purges the surrogate keys affected by repository writes through all {@link SurrogateKeyPurger} beans registered.
+	 * Only active if enabled via {@link RepositoryRestConfiguration#getSurrogateKeyConfiguration()}.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	@Bean
+	public SurrogateKeyPurgingListener surrogateKeyPurgingListener(RepositoryRestConfiguration repositoryRestConfiguration,
+			SurrogateKeys surrogateKeys, ObjectProvider<SurrogateKeyPurger> purgers) {
+
+		return new SurrogateKeyPurgingListener(repositoryRestConfiguration.getSurrogateKeyConfiguration(), surrogateKeys,
+				purgers.orderedStream().toList());
 	}
 
 	@Bean
@@ -902,7 +1351,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 				persistentEntities.get(), associationLinks.get());
 
 		return Arrays.asList( //
-				new MappingAwareDefaultedPageableArgumentResolver(sortTranslator, pageableResolver.get()), //
+				new MappingAwareDefaultedPageableArgumentResolver(sortTranslator, pageableResolver.get(),
+						repositoryRestConfiguration.get().getSliceParamName()), //
 				new MappingAwarePageableArgumentResolver(sortTranslator, pageableResolver.get()), //
 				new MappingAwareSortArgumentResolver(sortTranslator, this.sortResolver.get()), //
 				repoRequestArgumentResolver, //
@@ -75,6 +75,6 @@ public class RepresentationModelAssemblersArgumentResolver implements HandlerMet
 				binderFactory);
 
 		return new RepresentationModelAssemblers(pagedResourcesAssembler, slicedResourcesAssembler,
-				persistentEntityResourceAssembler);
+				persistentEntityResourceAssembler, delegate.getProjection(webRequest));
 	}
 }
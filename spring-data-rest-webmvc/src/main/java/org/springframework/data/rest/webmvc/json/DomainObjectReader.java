@@ -34,24 +34,22 @@ import java.util.function.IntFunction;
 
 import org.jspecify.annotations.Nullable;
 
-import org.springframework.beans.PropertyAccessor;
-import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.core.TypeInformation;
-import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.SimpleAssociationHandler;
-import org.springframework.data.mapping.SimplePropertyHandler;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.rest.webmvc.json.MergePlan.PropertyMerge;
+import org.springframework.data.rest.webmvc.json.MergePlan.Strategy;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.util.InputStreamHttpInputMessage;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -72,6 +70,7 @@ public class DomainObjectReader {
 
 	private final PersistentEntities entities;
 	private final Associations associationLinks;
+	private final Map<MappedJacksonProperties, MergePlan> plans = new ConcurrentReferenceHashMap<>();
 
 	public DomainObjectReader(PersistentEntities entities, Associations associationLinks) {
 
@@ -103,6 +102,24 @@ public class DomainObjectReader {
 		}
 	}
 
+	/**
+	 * Applies the given {@link ObjectNode} to the given existing instance.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 */
+	public <T> T read(ObjectNode source, T target, ObjectMapper mapper) {
+
+		Assert.notNull(source, "ObjectNode must not be null");
+		Assert.notNull(target, "Target object must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+
+		return merge(source, target, mapper);
+	}
+
 	/**
 	 * Reads the given source node onto the given target object and applies PUT semantics, i.e. explicitly
 	 *
@@ -147,23 +164,20 @@ public class DomainObjectReader {
 		return entities.getPersistentEntity(isTypeChange ? source.getClass() : target.getClass()) //
 				.map(it -> {
 
-					MappedJacksonProperties properties = MappedJacksonProperties.forDeserialization(it, mapper);
+					MergePlan plan = getMergePlan(it, mapper);
 
 					if (isTypeChange || immutableTarget || it.isImmutable()) {
 
-						copyRemainingProperties(properties.getIgnoredProperties(), target, source);
+						plan.copyIgnoredProperties(target, source);
 
 						return source;
 					}
 
-					MergingPropertyHandler propertyHandler = new MergingPropertyHandler(source, target, it, mapper);
-
-					it.doWithProperties(propertyHandler);
-					it.doWithAssociations(new LinkedAssociationSkippingAssociationHandler(associationLinks, propertyHandler));
+					mergeProperties(plan, source, target, it, mapper);
 
 					// Need to copy unmapped properties as the PersistentProperty model currently does not contain any transient
 					// properties
-					copyRemainingProperties(properties.getSpringDataUnmappedProperties(), source, target);
+					plan.copyUnmappedProperties(source, target);
 
 					return target;
 
@@ -171,34 +185,60 @@ public class DomainObjectReader {
 	}
 
 	/**
-	 * Copies the given properties from the source object to the target instance.
+	 * Merges the values of all {@link PersistentProperty}s contained in the given {@link MergePlan} from the given
+	 * source onto the given target.
 	 *
-	 * @param propertyNames must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
 	 * @param source must not be {@literal null}.
 	 * @param target must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
 	 */
-	private static void copyRemainingProperties(Iterable<String> propertyNames, Object source, Object target) {
+	private void mergeProperties(MergePlan plan, Object source, Object target, PersistentEntity<?, ?> entity,
+			ObjectMapper mapper) {
 
-		PropertyAccessor sourceFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(source);
-		PropertyAccessor sourcePropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(source);
-		PropertyAccessor targetFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(target);
-		PropertyAccessor targetPropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(target);
+		PersistentPropertyAccessor<?> targetAccessor = new ConvertingPropertyAccessor<>(
+				entity.getPropertyAccessor(target), DefaultConversionService.getSharedInstance());
+		PersistentPropertyAccessor<?> sourceAccessor = entity.getPropertyAccessor(source);
 
-		for (String property : propertyNames) {
+		for (PropertyMerge merge : plan.getPutMerges()) {
 
-			// If there's a field we can just copy it.
-			if (targetFieldAccessor.isWritableProperty(property)) {
-				targetFieldAccessor.setPropertyValue(property, sourceFieldAccessor.getPropertyValue(property));
+			PersistentProperty<?> property = merge.property();
+			Optional<Object> sourceValue = Optional.ofNullable(sourceAccessor.getProperty(property));
+
+			if (merge.strategy() == Strategy.SCALAR) {
+				targetAccessor.setProperty(property, sourceValue.orElse(null));
 				continue;
 			}
 
-			// Otherwise only copy if there's both a getter and setter.
-			if (targetPropertyAccessor.isWritableProperty(property) && sourcePropertyAccessor.isReadableProperty(property)) {
-				targetPropertyAccessor.setPropertyValue(property, sourcePropertyAccessor.getPropertyValue(property));
-			}
+			Optional<Object> targetValue = Optional.ofNullable(targetAccessor.getProperty(property));
+			Optional<?> result = switch (merge.strategy()) {
+				case MAP -> mergeMaps(property, sourceValue, targetValue, mapper);
+				case COLLECTION -> mergeCollections(property, sourceValue, targetValue, mapper);
+				case ENTITY -> targetValue.isEmpty() ? sourceValue
+						: targetValue.flatMap(t -> sourceValue.map(s -> mergeForPut(s, t, mapper)));
+				default -> sourceValue;
+			};
+
+			targetAccessor.setProperty(property, result.orElse(null));
 		}
 	}
 
+	/**
+	 * Returns the {@link MergePlan} for the given {@link PersistentEntity} and {@link ObjectMapper}, compiling it on
+	 * first access. Plans are keyed by the {@link MappedJacksonProperties} instance cached for both of them.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	MergePlan getMergePlan(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
+
+		MappedJacksonProperties properties = MappedJacksonProperties.forDeserialization(entity, mapper);
+
+		return plans.computeIfAbsent(properties, __ -> MergePlan.of(entity, properties, associationLinks));
+	}
+
 	/**
 	 * Only for internal use. To be removed in 3.4.
 	 *
@@ -242,7 +282,8 @@ public class DomainObjectReader {
 		}
 
 		PersistentEntity<?, ?> entity = candidate.get();
-		MappedJacksonProperties mappedProperties = MappedJacksonProperties.forDeserialization(entity, mapper);
+		MergePlan plan = getMergePlan(entity, mapper);
+		MappedJacksonProperties mappedProperties = plan.getProperties();
 		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(target);
 
 		for (Iterator<Entry<String, JsonNode>> i = root.properties().iterator(); i.hasNext();) {
@@ -258,9 +299,15 @@ public class DomainObjectReader {
 			}
 
 			PersistentProperty<?> property = mappedProperties.getPersistentProperty(fieldName);
+			PropertyMerge merge = property == null ? null : plan.getPatchMerge(property);
+
+			if (merge == null || merge.strategy() == Strategy.LINKED_ASSOCIATION) {
+				continue;
+			}
+
 			Optional<Object> rawValue = Optional.ofNullable(accessor.getProperty(property));
 
-			if (!rawValue.isPresent() || associationLinks.isLinkableAssociation(property)) {
+			if (!rawValue.isPresent()) {
 				continue;
 			}
 
@@ -282,7 +329,7 @@ public class DomainObjectReader {
 
 					ObjectNode objectNode = (ObjectNode) child;
 
-					if (property.isMap()) {
+					if (merge.strategy() == Strategy.MAP) {
 
 						// Keep empty Map to wipe it as expected
 						if (objectNode.properties().isEmpty()) {
@@ -300,7 +347,7 @@ public class DomainObjectReader {
 						return;
 					}
 
-					if (property.isEntity()) {
+					if (merge.strategy() == Strategy.ENTITY) {
 						i.remove();
 						execute(() -> doMerge(objectNode, it, mapper));
 					}
@@ -431,7 +478,7 @@ public class DomainObjectReader {
 			JsonNode value = entry.getValue();
 			String key = entry.getKey();
 
-			Object mappedKey = mapper.readValue(quote(key), keyType);
+			Object mappedKey = readMapKey(key, keyType, mapper);
 			Object sourceValue = source.get(mappedKey);
 			TypeInformation<?> typeToMap = getTypeToMap(sourceValue, valueType);
 
@@ -557,6 +604,24 @@ public class DomainObjectReader {
 		return null;
 	}
 
+	/**
+	 * Reads the given JSON field name into a key of the given type. {@link String} and untyped keys are used as is, as
+	 * Jackson's default key handling would. Neither a custom {@link tools.jackson.databind.KeyDeserializer} nor a
+	 * custom deserializer registered for {@link String} is applied to them. All other keys are read by the given
+	 * {@link ObjectMapper}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param keyType must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 */
+	private static Object readMapKey(String key, Class<?> keyType, ObjectMapper mapper) {
+
+		return String.class.equals(keyType) || Object.class.equals(keyType) //
+				? key
+				: mapper.readValue(quote(key), keyType);
+	}
+
 	/**
 	 * Surrounds the given source {@link String} with quotes so that they represent a valid JSON String.
 	 *
@@ -603,113 +668,6 @@ public class DomainObjectReader {
 		return value.getClass().equals(type.getType()) ? type : TypeInformation.of(value.getClass());
 	}
 
-	/**
-	 * {@link SimpleAssociationHandler} that skips linkable associations and forwards handling for all other ones to the
-	 * delegate {@link SimplePropertyHandler}.
-	 *
-	 * @author Oliver Gierke
-	 */
-	private static final class LinkedAssociationSkippingAssociationHandler implements SimpleAssociationHandler {
-
-		private final Associations associations;
-		private final SimplePropertyHandler delegate;
-
-		public LinkedAssociationSkippingAssociationHandler(Associations associations, SimplePropertyHandler delegate) {
-
-			Assert.notNull(associations, "Associations must not be null");
-			Assert.notNull(delegate, "Delegate SimplePropertyHandler must not be null");
-
-			this.associations = associations;
-			this.delegate = delegate;
-		}
-
-		@Override
-		public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
-
-			if (associations.isLinkableAssociation(association)) {
-				return;
-			}
-
-			delegate.doWithPersistentProperty(association.getInverse());
-		}
-	}
-
-	/**
-	 * {@link SimplePropertyHandler} to merge the states of the given objects.
-	 *
-	 * @author Oliver Gierke
-	 */
-	private class MergingPropertyHandler implements SimplePropertyHandler {
-
-		private final MappedJacksonProperties properties;
-		private final PersistentPropertyAccessor<?> targetAccessor;
-		private final PersistentPropertyAccessor<?> sourceAccessor;
-		private final ObjectMapper mapper;
-
-		/**
-		 * Creates a new {@link MergingPropertyHandler} for the given source, target, {@link PersistentEntity} and
-		 * {@link ObjectMapper}.
-		 *
-		 * @param source must not be {@literal null}.
-		 * @param target must not be {@literal null}.
-		 * @param entity must not be {@literal null}.
-		 * @param mapper must not be {@literal null}.
-		 */
-		public MergingPropertyHandler(Object source, Object target, PersistentEntity<?, ?> entity, ObjectMapper mapper) {
-
-			Assert.notNull(source, "Source instance must not be null");
-			Assert.notNull(target, "Target instance must not be null");
-			Assert.notNull(entity, "PersistentEntity must not be null");
-			Assert.notNull(mapper, "ObjectMapper must not be null");
-
-			this.properties = MappedJacksonProperties.forDeserialization(entity, mapper);
-			this.targetAccessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(target),
-					new DefaultConversionService());
-			this.sourceAccessor = entity.getPropertyAccessor(source);
-			this.mapper = mapper;
-		}
-
-		public MappedJacksonProperties getProperties() {
-			return this.properties;
-		}
-
-		@Override
-		public void doWithPersistentProperty(PersistentProperty<?> property) {
-
-			if (property.isIdProperty() || property.isVersionProperty() || !property.isWritable()) {
-				return;
-			}
-
-			if (!properties.isMappedProperty(property)) {
-				return;
-			}
-
-			Optional<Object> sourceValue = Optional.ofNullable(sourceAccessor.getProperty(property));
-
-			if (property.isImmutable()) {
-				targetAccessor.setProperty(property, sourceValue.orElse(null));
-				return;
-			}
-
-			Optional<Object> targetValue = Optional.ofNullable(targetAccessor.getProperty(property));
-			Optional<?> result = Optional.empty();
-
-			if (property.isMap()) {
-				result = mergeMaps(property, sourceValue, targetValue, mapper);
-			} else if (property.isCollectionLike()) {
-				result = mergeCollections(property, sourceValue, targetValue, mapper);
-			} else if (property.isEntity()) {
-
-				result = targetValue.isEmpty() ? sourceValue
-						: targetValue.flatMap(t -> sourceValue.map(s -> mergeForPut(s, t, mapper)));
-			} else {
-				result = sourceValue;
-			}
-
-			targetAccessor.setProperty(property, result.orElse(null));
-		}
-	}
-
 	private static <T> T execute(SupplierWithException<T> block) {
 
 		try {
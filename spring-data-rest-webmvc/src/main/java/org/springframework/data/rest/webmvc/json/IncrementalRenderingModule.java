@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.rest.webmvc.IncrementalCollectionModel;
+import org.springframework.data.rest.webmvc.IncrementalCollectionModel.Content;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.server.core.EmbeddedWrapper;
+import org.springframework.hateoas.server.core.EmbeddedWrappers;
+import org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker;
+import org.springframework.util.Assert;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Jackson module to render the content of an {@link IncrementalCollectionModel} as HAL {@code _embedded} document. The
+ * resources are written as soon as they're created, so that only the one currently rendered is held in memory. The
+ * relation names are calculated the same way HAL rendering of a {@link org.springframework.hateoas.CollectionModel}
+ * does and the {@link org.springframework.hateoas.server.RepresentationModelProcessor}s registered for the resources
+ * are applied right before one is written. Elements rendered under a different relation than the first one, e.g. for
+ * inheritance hierarchies, are kept until all elements of the first relation were written.
+ *
+ * @since 5.2
+ */
+public class IncrementalRenderingModule extends SimpleModule {
+
+	/**
+	 * Creates a new {@link IncrementalRenderingModule} for the given {@link LinkRelationProvider},
+	 * {@link CurieProvider} and {@link RepresentationModelProcessorInvoker}.
+	 *
+	 * @param relProvider must not be {@literal null}.
+	 * @param curieProvider can be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 */
+	public IncrementalRenderingModule(LinkRelationProvider relProvider, @Nullable CurieProvider curieProvider,
+			RepresentationModelProcessorInvoker invoker) {
+
+		super("incremental-rendering-module");
+
+		Assert.notNull(relProvider, "LinkRelationProvider must not be null");
+		Assert.notNull(invoker, "RepresentationModelProcessorInvoker must not be null");
+
+		addSerializer(Content.class, new ContentSerializer(relProvider, curieProvider, invoker));
+	}
+
+	private static class ContentSerializer extends StdSerializer<Content> {
+
+		private static final EmbeddedWrappers WRAPPERS = new EmbeddedWrappers(false);
+
+		private final LinkRelationProvider relProvider;
+		private final @Nullable CurieProvider curieProvider;
+		private final RepresentationModelProcessorInvoker invoker;
+
+		ContentSerializer(LinkRelationProvider relProvider, @Nullable CurieProvider curieProvider,
+				RepresentationModelProcessorInvoker invoker) {
+
+			super(Content.class);
+
+			this.relProvider = relProvider;
+			this.curieProvider = curieProvider;
+			this.invoker = invoker;
+		}
+
+		@Override
+		public boolean isEmpty(SerializationContext provider, Content value) {
+
+			// An empty collection is rendered with the relation of its domain type
+			return false;
+		}
+
+		@Override
+		public void serialize(Content content, JsonGenerator gen, SerializationContext provider) {
+
+			Iterator<Object> resources = content.iterator();
+
+			gen.writeStartObject();
+
+			if (!resources.hasNext()) {
+
+				gen.writeName(getRel(content.getDomainType()));
+				gen.writeStartArray();
+				gen.writeEndArray();
+				gen.writeEndObject();
+
+				return;
+			}
+
+			String first = null;
+			MultiValueMap<String, Object> remaining = new LinkedMultiValueMap<>();
+
+			while (resources.hasNext()) {
+
+				Object resource = invoker.invokeProcessorsFor((PersistentEntityResource) resources.next());
+				String rel = getRelFor(resource);
+
+				if (first == null) {
+
+					first = rel;
+
+					gen.writeName(rel);
+					gen.writeStartArray();
+				}
+
+				if (first.equals(rel)) {
+					provider.writeValue(gen, resource);
+				} else {
+					remaining.add(rel, resource);
+				}
+			}
+
+			gen.writeEndArray();
+
+			for (Entry<String, List<Object>> entry : remaining.entrySet()) {
+
+				gen.writeName(entry.getKey());
+				gen.writeStartArray();
+
+				for (Object resource : entry.getValue()) {
+					provider.writeValue(gen, resource);
+				}
+
+				gen.writeEndArray();
+			}
+
+			gen.writeEndObject();
+		}
+
+		private String getRelFor(Object resource) {
+
+			EmbeddedWrapper wrapper = WRAPPERS.wrap(resource);
+			Class<?> type = wrapper.getRelTargetType();
+
+			Assert.state(type != null, () -> "Could not determine relation target type for " + resource);
+
+			return getRel(type);
+		}
+
+		private String getRel(Class<?> type) {
+
+			LinkRelation rel = relProvider.getCollectionResourceRelFor(type);
+
+			return (curieProvider == null ? rel : curieProvider.getNamespacedRelFor(rel)).value();
+		}
+	}
+}
@@ -37,6 +37,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -52,6 +53,9 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
  */
 public class MappedJacksonProperties {
 
+	private static final Map<CacheKey, MappedJacksonProperties> DESERIALIZATION = new ConcurrentReferenceHashMap<>(256);
+	private static final Map<CacheKey, MappedJacksonProperties> SERIALIZATION = new ConcurrentReferenceHashMap<>(256);
+
 	private final Map<PersistentProperty<?>, BeanPropertyDefinition> propertyToFieldName;
 	private final Map<String, PersistentProperty<?>> fieldNameToProperty;
 	private final Set<BeanPropertyDefinition> unmappedProperties;
@@ -123,7 +127,8 @@ public class MappedJacksonProperties {
 
 	/**
 	 * Creates {@link MappedJacksonProperties} for the given {@link PersistentEntity} for deserialization purposes. Will
-	 * not include Jackson-read-only properties.
+	 * not include Jackson-read-only properties. As {@link ObjectMapper}s are immutable, the instances are cached per
+	 * {@link PersistentEntity} and {@link ObjectMapper}.
 	 *
 	 * @param entity must not be {@literal null}.
 	 * @param mapper must not be {@literal null}.
@@ -131,18 +136,17 @@ public class MappedJacksonProperties {
 	 */
 	public static MappedJacksonProperties forDeserialization(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
 
-		DeserializationConfig config = mapper.deserializationConfig();
-		ClassIntrospector introspector = config.classIntrospectorInstance();
-		JavaType javaType = mapper.constructType(entity.getType());
-		BeanDescription description = introspector.forOperation(config).introspectForDeserialization(javaType,
-				introspector.introspectClassAnnotations(javaType));
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
 
-		return new MappedJacksonProperties(entity, description);
+		return DESERIALIZATION.computeIfAbsent(new CacheKey(entity, mapper),
+				__ -> introspectForDeserialization(entity, mapper));
 	}
 
 	/**
 	 * Creates {@link MappedJacksonProperties} for the given {@link PersistentEntity} for serialization purposes. Includes
-	 * Jackson-read-only properties.
+	 * Jackson-read-only properties. As {@link ObjectMapper}s are immutable, the instances are cached per
+	 * {@link PersistentEntity} and {@link ObjectMapper}.
 	 *
 	 * @param entity must not be {@literal null}.
 	 * @param mapper must not be {@literal null}.
@@ -150,6 +154,26 @@ public class MappedJacksonProperties {
 	 */
 	public static MappedJacksonProperties forSerialization(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
 
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+
+		return SERIALIZATION.computeIfAbsent(new CacheKey(entity, mapper),
+				__ -> introspectForSerialization(entity, mapper));
+	}
+
+	static MappedJacksonProperties introspectForDeserialization(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
+
+		DeserializationConfig config = mapper.deserializationConfig();
+		ClassIntrospector introspector = config.classIntrospectorInstance();
+		JavaType javaType = mapper.constructType(entity.getType());
+		BeanDescription description = introspector.forOperation(config).introspectForDeserialization(javaType,
+				introspector.introspectClassAnnotations(javaType));
+
+		return new MappedJacksonProperties(entity, description);
+	}
+
+	static MappedJacksonProperties introspectForSerialization(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
+
 		SerializationConfig config = mapper.serializationConfig();
 		ClassIntrospector introspector = config.classIntrospectorInstance();
 		JavaType type = mapper.constructType(entity.getType());
@@ -234,7 +258,7 @@ public class MappedJacksonProperties {
 	 * @since 3.5.11, 3.6.4
 	 */
 	public Iterable<String> getIgnoredProperties() {
-		return ignoredPropertyNames;
+		return Collections.unmodifiableSet(ignoredPropertyNames);
 	}
 
 	/**
@@ -293,4 +317,10 @@ public class MappedJacksonProperties {
 
 		return property != null ? property.isWritable() : anySetterFound;
 	}
+
+	/**
+	 * Identifies cached {@link MappedJacksonProperties} by the {@link PersistentEntity} and {@link ObjectMapper}
+	 * instance they were introspected for. Neither of them overrides {@link Object#equals(Object)}.
+	 */
+	private record CacheKey(PersistentEntity<?, ?> entity, ObjectMapper mapper) {}
 }
@@ -22,6 +22,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
+import org.springframework.data.rest.webmvc.support.DefaultedPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -45,15 +46,32 @@ public class MappingAwareDefaultedPageableArgumentResolver implements HandlerMet
 
 	private final SortTranslator translator;
 	private final PageableHandlerMethodArgumentResolver delegate;
+	private final @Nullable String sliceParameterName;
 
 	public MappingAwareDefaultedPageableArgumentResolver(SortTranslator translator,
 			PageableHandlerMethodArgumentResolver delegate) {
+		this(translator, delegate, null);
+	}
+
+	/**
+	 * Creates a new {@link MappingAwareDefaultedPageableArgumentResolver} considering the request parameter of the given
+	 * name to request a {@link org.springframework.data.domain.Slice} instead of a
+	 * {@link org.springframework.data.domain.Page}.
+	 *
+	 * @param translator must not be {@literal null}.
+	 * @param delegate must not be {@literal null}.
+	 * @param sliceParameterName can be {@literal null}.
+	 * @since 5.2
+	 */
+	public MappingAwareDefaultedPageableArgumentResolver(SortTranslator translator,
+			PageableHandlerMethodArgumentResolver delegate, @Nullable String sliceParameterName) {
 
 		Assert.notNull(translator, "JacksonMappingAwareSortTranslator must not be null");
 		Assert.notNull(delegate, "Delegate PageableHandlerMethodArgumentResolver must not be null");
 
 		this.translator = translator;
 		this.delegate = delegate;
+		this.sliceParameterName = sliceParameterName;
 	}
 
 	@Override
@@ -66,14 +84,15 @@ public class MappingAwareDefaultedPageableArgumentResolver implements HandlerMet
 			NativeWebRequest webRequest, @Nullable WebDataBinderFactory binderFactory) throws Exception {
 
 		Pageable pageable = delegate.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+		boolean sliced = DefaultedPageableHandlerMethodArgumentResolver.isSliceRequested(webRequest, sliceParameterName);
 
 		if (pageable == null || pageable.getSort() == null) {
-			return new DefaultedPageable(pageable, delegate.isFallbackPageable(pageable));
+			return new DefaultedPageable(pageable, delegate.isFallbackPageable(pageable), sliced);
 		}
 
 		Sort translated = translator.translateSort(pageable.getSort(), parameter, webRequest);
 		pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), translated);
 
-		return new DefaultedPageable(pageable, delegate.isFallbackPageable(pageable));
+		return new DefaultedPageable(pageable, delegate.isFallbackPageable(pageable), sliced);
 	}
 }
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.SimpleAssociationHandler;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Precompiled instructions to merge request payloads onto instances of a {@link PersistentEntity}. Built once per
+ * entity and {@link ObjectMapper} from the Jackson metadata and the {@link Associations}, so that {@code PUT} and
+ * merge-patch requests don't have to classify every property and resolve accessors for properties unknown to Spring
+ * Data on every request.
+ *
+ * @since 5.2
+ * @see DomainObjectReader
+ */
+class MergePlan {
+
+	private final MappedJacksonProperties properties;
+	private final List<PropertyMerge> putMerges;
+	private final Map<PersistentProperty<?>, PropertyMerge> patchMerges;
+	private final PropertyCopier unmappedProperties;
+	private final PropertyCopier ignoredProperties;
+
+	private MergePlan(MappedJacksonProperties properties, List<PropertyMerge> putMerges,
+			Map<PersistentProperty<?>, PropertyMerge> patchMerges, PropertyCopier unmappedProperties,
+			PropertyCopier ignoredProperties) {
+
+		this.properties = properties;
+		this.putMerges = putMerges;
+		this.patchMerges = patchMerges;
+		this.unmappedProperties = unmappedProperties;
+		this.ignoredProperties = ignoredProperties;
+	}
+
+	/**
+	 * Compiles a {@link MergePlan} for the given {@link PersistentEntity} from the given
+	 * {@link MappedJacksonProperties} for deserialization and {@link Associations}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static MergePlan of(PersistentEntity<?, ?> entity, MappedJacksonProperties properties, Associations associations) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(properties, "MappedJacksonProperties must not be null");
+		Assert.notNull(associations, "Associations must not be null");
+		List<PropertyMerge> putMerges = new ArrayList<>();
+		Map<PersistentProperty<?>, PropertyMerge> patchMerges = new HashMap<>();
+
+		entity.doWithProperties((SimplePropertyHandler) it -> addPutMerge(it, properties, putMerges));
+		entity.doWithAssociations((SimpleAssociationHandler) it -> {
+
+			if (!associations.isLinkableAssociation(it)) {
+				addPutMerge(it.getInverse(), properties, putMerges);
+			}
+		});
+
+		for (PersistentProperty<?> property : entity) {
+			patchMerges.put(property, new PropertyMerge(property, getPatchStrategy(property, associations)));
+		}
+
+		return new MergePlan(properties, Collections.unmodifiableList(putMerges),
+				Collections.unmodifiableMap(patchMerges),
+				new PropertyCopier(entity.getType(), properties.getSpringDataUnmappedProperties()),
+				new PropertyCopier(entity.getType(), properties.getIgnoredProperties()));
+	}
+
+	/**
+	 * Returns the {@link MappedJacksonProperties} the plan was compiled from.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	MappedJacksonProperties getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Returns the {@link PropertyMerge}s to apply for a {@code PUT} in the order of the properties of the entity.
+	 * Doesn't contain identifier, version, read-only and linkable association properties as they're never merged.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	List<PropertyMerge> getPutMerges() {
+		return putMerges;
+	}
+
+	/**
+	 * Returns the {@link PropertyMerge} to apply for the given {@link PersistentProperty} in a merge-patch document.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return {@literal null} in case the property doesn't belong to the entity the plan was compiled for.
+	 */
+	@Nullable
+	PropertyMerge getPatchMerge(PersistentProperty<?> property) {
+		return patchMerges.get(property);
+	}
+
+	/**
+	 * Copies the properties only known to Jackson from the given source to the given target.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 */
+	void copyUnmappedProperties(Object source, Object target) {
+		unmappedProperties.copy(source, target);
+	}
+
+	/**
+	 * Copies the properties ignored by Jackson from the given source to the given target.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 */
+	void copyIgnoredProperties(Object source, Object target) {
+		ignoredProperties.copy(source, target);
+	}
+
+	private static void addPutMerge(PersistentProperty<?> property, MappedJacksonProperties properties,
+			List<PropertyMerge> merges) {
+
+		if (property.isIdProperty() || property.isVersionProperty() || !property.isWritable()) {
+			return;
+		}
+
+		if (properties.isMappedProperty(property)) {
+			merges.add(new PropertyMerge(property, getPutStrategy(property)));
+		}
+	}
+
+	private static Strategy getPutStrategy(PersistentProperty<?> property) {
+
+		if (property.isImmutable()) {
+			return Strategy.SCALAR;
+		}
+
+		if (property.isMap()) {
+			return Strategy.MAP;
+		}
+
+		if (property.isCollectionLike()) {
+			return Strategy.COLLECTION;
+		}
+
+		return property.isEntity() ? Strategy.ENTITY : Strategy.SCALAR;
+	}
+
+	private static Strategy getPatchStrategy(PersistentProperty<?> property, Associations associations) {
+
+		if (associations.isLinkableAssociation(property)) {
+			return Strategy.LINKED_ASSOCIATION;
+		}
+
+		if (property.isMap()) {
+			return Strategy.MAP;
+		}
+
+		return property.isEntity() ? Strategy.ENTITY : Strategy.SCALAR;
+	}
+
+	/**
+	 * How to merge the value of a property.
+	 */
+	enum Strategy {
+
+		/**
+		 * Replace the current value with the new one.
+		 */
+		SCALAR,
+
+		/**
+		 * Merge the new value into the nested entity currently present.
+		 */
+		ENTITY,
+
+		/**
+		 * Merge the new elements into the current collection element by element.
+		 */
+		COLLECTION,
+
+		/**
+		 * Merge the new entries into the current map key by key.
+		 */
+		MAP,
+
+		/**
+		 * Leave untouched as the association is exposed as a link and thus bound by Jackson.
+		 */
+		LINKED_ASSOCIATION;
+	}
+
+	/**
+	 * A {@link PersistentProperty} and the {@link Strategy} to merge its value with.
+	 *
+	 * @param property will never be {@literal null}.
+	 * @param strategy will never be {@literal null}.
+	 */
+	record PropertyMerge(PersistentProperty<?> property, Strategy strategy) {}
+
+	/**
+	 * Copies a fixed set of properties between instances of a type. Prefers fields and falls back to getter and setter
+	 * pairs. Field and methods are resolved once for the type. Instances of different types, e.g. a subtype
+	 * deserialized from the payload, are copied using {@link PropertyAccessor}s.
+	 */
+	static class PropertyCopier {
+
+		private final Class<?> type;
+		private final Iterable<String> propertyNames;
+		private final List<Copy> copies;
+
+		/**
+		 * Creates a new {@link PropertyCopier} for the given type and property names.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param propertyNames must not be {@literal null}.
+		 */
+		PropertyCopier(Class<?> type, Iterable<String> propertyNames) {
+
+			Assert.notNull(type, "Type must not be null");
+			Assert.notNull(propertyNames, "Property names must not be null");
+
+			this.type = type;
+			this.propertyNames = propertyNames;
+			this.copies = new ArrayList<>();
+
+			for (String property : propertyNames) {
+
+				Field field = ReflectionUtils.findField(type, property);
+
+				if (field != null) {
+
+					ReflectionUtils.makeAccessible(field);
+					copies.add((source, target) -> ReflectionUtils.setField(field, target,
+							ReflectionUtils.getField(field, source)));
+
+					continue;
+				}
+
+				PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+				Method getter = descriptor == null ? null : descriptor.getReadMethod();
+				Method setter = descriptor == null ? null : descriptor.getWriteMethod();
+
+				if (getter != null && setter != null) {
+
+					ReflectionUtils.makeAccessible(getter);
+					ReflectionUtils.makeAccessible(setter);
+
+					copies.add((source, target) -> ReflectionUtils.invokeMethod(setter, target,
+							ReflectionUtils.invokeMethod(getter, source)));
+				}
+			}
+		}
+
+		/**
+		 * Copies the properties from the given source to the given target.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @param target must not be {@literal null}.
+		 */
+		void copy(Object source, Object target) {
+
+			if (source.getClass().equals(type) && target.getClass().equals(type)) {
+				copies.forEach(it -> it.copy(source, target));
+			} else {
+				copyUsingAccessors(source, target);
+			}
+		}
+
+		private void copyUsingAccessors(Object source, Object target) {
+
+			PropertyAccessor sourceFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(source);
+			PropertyAccessor sourcePropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(source);
+			PropertyAccessor targetFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(target);
+			PropertyAccessor targetPropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(target);
+
+			for (String property : propertyNames) {
+
+				// If there's a field we can just copy it.
+				if (targetFieldAccessor.isWritableProperty(property)) {
+					targetFieldAccessor.setPropertyValue(property, sourceFieldAccessor.getPropertyValue(property));
+					continue;
+				}
+
+				// Otherwise only copy if there's both a getter and setter.
+				if (targetPropertyAccessor.isWritableProperty(property) && sourcePropertyAccessor.isReadableProperty(property)) {
+					targetPropertyAccessor.setPropertyValue(property, sourcePropertyAccessor.getPropertyValue(property));
+				}
+			}
+		}
+
+		private interface Copy {
+			void copy(Object source, Object target);
+		}
+	}
+}
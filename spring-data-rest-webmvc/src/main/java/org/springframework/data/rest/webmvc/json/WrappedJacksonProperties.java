@@ -39,6 +39,7 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.util.Optionals;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 
@@ -52,6 +53,7 @@ import com.fasterxml.jackson.annotation.JsonUnwrapped;
 class WrappedJacksonProperties {
 
 	private static final AnnotationIntrospector ANNOTATION_INTROSPECTOR = new JacksonAnnotationIntrospector();
+	private static final Map<CacheKey, WrappedJacksonProperties> CACHE = new ConcurrentReferenceHashMap<>(256);
 
 	private final Map<String, List<PersistentProperty<?>>> fieldNameToProperties;
 
@@ -66,6 +68,7 @@ class WrappedJacksonProperties {
 
 	/**
 	 * Creates {@link WrappedJacksonProperties} for the given {@link PersistentEntities} and {@link PersistentEntity}.
+	 * Instances are cached per {@link PersistentEntities}, {@link PersistentEntity} and {@link ObjectMapper}.
 	 *
 	 * @param persistentEntities must not be {@literal null}.
 	 * @param entity must not be {@literal null}.
@@ -77,6 +80,13 @@ class WrappedJacksonProperties {
 
 		Assert.notNull(entity, "PersistentEntity must not be null");
 
+		return CACHE.computeIfAbsent(new CacheKey(persistentEntities, entity, mapper),
+				__ -> introspect(persistentEntities, entity, mapper));
+	}
+
+	private static WrappedJacksonProperties introspect(PersistentEntities persistentEntities,
+			PersistentEntity<?, ?> entity, ObjectMapper mapper) {
+
 		JacksonUnwrappedPropertiesResolver resolver = new JacksonUnwrappedPropertiesResolver(persistentEntities, mapper);
 		return new WrappedJacksonProperties(resolver.findUnwrappedPropertyPaths(entity.getType()));
 	}
@@ -238,4 +248,6 @@ class WrappedJacksonProperties {
 					&& primaryMember.getAnnotation(JsonUnwrapped.class).enabled();
 		}
 	}
+
+	private record CacheKey(PersistentEntities entities, PersistentEntity<?, ?> entity, ObjectMapper mapper) {}
 }
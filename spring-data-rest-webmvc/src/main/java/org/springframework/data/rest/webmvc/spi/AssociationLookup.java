@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to look up a {@link Page} of the aggregates referenced by a collection-like association through a query against
+ * the store, so that association resources can be paged without loading the entire association. Lookups can also
+ * support looking up individual aggregates referenced by an association to serve association item resources. Plugins
+ * are selected by the type owning the association.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.webmvc.support.JpaAssociationLookup
+ */
+public interface AssociationLookup extends Plugin<Class<?>> {
+
+	/**
+	 * Returns the {@link Page} of the aggregates referenced by the given association of the aggregate with the given
+	 * identifier described by the given {@link Pageable}.
+	 *
+	 * @param association the collection-like association, will never be {@literal null}.
+	 * @param ownerId the identifier of the aggregate owning the association, will never be {@literal null}.
+	 * @param pageable the page requested, will never be {@literal null} or unpaged.
+	 * @return the {@link Page} or {@link Optional#empty()} in case the association cannot be queried.
+	 */
+	Optional<Page<?>> findPage(PersistentProperty<?> association, Object ownerId, Pageable pageable);
+
+	/**
+	 * Returns whether the aggregates referenced by the given association can be looked up individually through
+	 * {@link #findElement(PersistentProperty, Object, Object)}. Defaults to {@literal false}.
+	 *
+	 * @param association the collection-like or map association, will never be {@literal null}.
+	 * @return
+	 */
+	default boolean supportsElementLookup(PersistentProperty<?> association) {
+		return false;
+	}
+
+	/**
+	 * Returns the aggregate with the given identifier if it is referenced by the given association of the aggregate
+	 * with the given identifier. Only invoked for associations
+	 * {@link #supportsElementLookup(PersistentProperty) supported}.
+	 *
+	 * @param association the collection-like or map association, will never be {@literal null}.
+	 * @param ownerId the identifier of the aggregate owning the association, will never be {@literal null}.
+	 * @param elementId the identifier of the referenced aggregate converted into the type of its identifier property,
+	 *          will never be {@literal null}.
+	 * @return the aggregate or {@link Optional#empty()} if the association doesn't reference it.
+	 */
+	default Optional<Object> findElement(PersistentProperty<?> association, Object ownerId, Object elementId) {
+		return Optional.empty();
+	}
+}
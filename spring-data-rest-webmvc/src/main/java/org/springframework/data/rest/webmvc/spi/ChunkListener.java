@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to get notified whenever a streaming export has written or a streaming import has saved a chunk of aggregates
+ * of a type, e.g. to release them from a persistence context that would otherwise keep all of them referenced until
+ * the export or import finishes. See
+ * {@link org.springframework.data.rest.core.config.RepositoryRestConfiguration#getExportConfiguration()} and
+ * {@link org.springframework.data.rest.core.config.RepositoryRestConfiguration#getImportConfiguration()} for the size
+ * of the chunks.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.webmvc.support.JpaChunkListener
+ */
+public interface ChunkListener extends Plugin<Class<?>> {
+
+	/**
+	 * Invoked after a chunk of aggregates of the given type was written or saved.
+	 *
+	 * @param domainType the type of the aggregates exported or imported, will never be {@literal null}.
+	 */
+	void afterChunk(Class<?> domainType);
+}
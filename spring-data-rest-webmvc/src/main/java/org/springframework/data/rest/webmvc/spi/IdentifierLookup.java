@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to look up the identifying property values of all aggregates of a type without materializing the aggregates
+ * themselves. Used to render the compact and {@code text/uri-list} representations of collection resources, which
+ * only consist of links to the item resources.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.webmvc.support.JpaIdentifierLookup
+ */
+public interface IdentifierLookup extends Plugin<Class<?>> {
+
+	/**
+	 * Returns the values of the given property of the aggregates of the given {@link PersistentEntity} described by
+	 * the given {@link Pageable}.
+	 *
+	 * @param entity the {@link PersistentEntity} of the aggregates, will never be {@literal null}.
+	 * @param property the name of the property identifying an aggregate, will never be {@literal null}.
+	 * @param pageable the page requested, will never be {@literal null}.
+	 * @return a {@link Page} for paged requests, all values in the order requested otherwise. Will never be
+	 *         {@literal null}.
+	 */
+	Iterable<?> findAll(PersistentEntity<?, ?> entity, String property, Pageable pageable);
+}
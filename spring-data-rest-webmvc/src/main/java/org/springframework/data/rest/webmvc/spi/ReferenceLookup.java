@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to obtain a reference to an aggregate by its identifier without loading it from the store, so that association
+ * URIs can be bound without a round trip per URI. Plugins are selected by the aggregate type.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.core.config.ReferenceBindingConfiguration
+ * @see org.springframework.data.rest.webmvc.support.JpaReferenceLookup
+ */
+public interface ReferenceLookup extends Plugin<Class<?>> {
+
+	/**
+	 * Returns a reference to the aggregate of the given type with the given identifier. The existence of the aggregate
+	 * is not verified.
+	 *
+	 * @param type the aggregate type, will never be {@literal null}.
+	 * @param id the identifier already converted into the type of the identifier property, will never be
+	 *          {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Object getReference(Class<?> type, Object id);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to look up a {@link Slice} of all aggregates of a type without counting the total number of them. Used to render
+ * paged collection resources requested as slice, see
+ * {@link org.springframework.data.rest.core.config.RepositoryRestConfiguration#useSlicesFor(Class...)}.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.webmvc.support.JpaSliceLookup
+ */
+public interface SliceLookup extends Plugin<Class<?>> {
+
+	/**
+	 * Returns the {@link Slice} of aggregates of the given {@link PersistentEntity} described by the given
+	 * {@link Pageable}.
+	 *
+	 * @param entity the {@link PersistentEntity} of the aggregates, will never be {@literal null}.
+	 * @param pageable the page requested, will never be {@literal null} or unpaged.
+	 * @return will never be {@literal null}.
+	 */
+	Slice<?> findAll(PersistentEntity<?, ?> entity, Pageable pageable);
+}
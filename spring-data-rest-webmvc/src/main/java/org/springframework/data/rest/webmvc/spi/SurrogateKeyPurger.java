@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import java.util.Collection;
+
+/**
+ * SPI to purge representations from HTTP caches by the surrogate keys they were exposed with. Invoked after repository
+ * writes with the keys of all representations affected by the write. Keys affected by multiple writes within the same
+ * request are coalesced into a single set and handed over in batches of at most
+ * {@link org.springframework.data.rest.core.config.SurrogateKeyConfiguration#getPurgeBatchSize()} keys.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.webmvc.support.SurrogateKeys
+ * @see org.springframework.data.rest.webmvc.support.InMemorySurrogateKeyPurger
+ */
+public interface SurrogateKeyPurger {
+
+	/**
+	 * Purges all cached representations exposed with any of the given surrogate keys.
+	 *
+	 * @param surrogateKeys will never be {@literal null} or empty.
+	 */
+	void purge(Collection<String> surrogateKeys);
+}
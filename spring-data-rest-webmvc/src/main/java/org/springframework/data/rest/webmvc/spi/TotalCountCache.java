@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import java.util.OptionalLong;
+
+/**
+ * SPI to cache the total number of elements of the collection resource of a domain type, so that pages following the
+ * first one can be read without counting all elements again. Entries are evicted on every write published through the
+ * exported repository of the domain type.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.core.config.TotalCountCacheConfiguration
+ * @see org.springframework.data.rest.webmvc.support.InMemoryTotalCountCache
+ */
+public interface TotalCountCache {
+
+	/**
+	 * Returns the total number of elements cached for the given domain type.
+	 *
+	 * @param domainType will never be {@literal null}.
+	 * @return the total or {@link OptionalLong#empty()} in case none is cached.
+	 */
+	OptionalLong get(Class<?> domainType);
+
+	/**
+	 * Caches the given total number of elements for the given domain type.
+	 *
+	 * @param domainType will never be {@literal null}.
+	 * @param total the total number of elements, never negative.
+	 */
+	void put(Class<?> domainType, long total);
+
+	/**
+	 * Removes the total number of elements cached for the given domain type.
+	 *
+	 * @param domainType will never be {@literal null}.
+	 */
+	void evict(Class<?> domainType);
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import java.util.Optional;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.webmvc.support.ResourceVersion;
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to look up the version and last modification date of an aggregate by its identifier without materializing the
+ * aggregate itself. Used to answer conditional {@code GET} and {@code HEAD} requests with {@code 304 Not Modified}
+ * without loading the aggregate or initializing any of its associations.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.webmvc.support.JpaVersionProbe
+ * @see org.springframework.data.rest.webmvc.support.RepositoryVersionProbe
+ */
+public interface VersionProbe extends Plugin<Class<?>> {
+
+	/**
+	 * Returns the {@link ResourceVersion} of the aggregate of the given {@link PersistentEntity} and identifier.
+	 *
+	 * @param entity the {@link PersistentEntity} of the aggregate, will never be {@literal null}.
+	 * @param id the identifier of the aggregate as handed into the controller, will never be {@literal null}.
+	 * @return the {@link ResourceVersion} or {@link Optional#empty()} in case no aggregate with the given identifier
+	 *         exists or the version cannot be determined without loading the aggregate.
+	 */
+	Optional<ResourceVersion> probe(PersistentEntity<?, ?> entity, Object id);
+}
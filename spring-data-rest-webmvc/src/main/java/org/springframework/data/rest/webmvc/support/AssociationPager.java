@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.NullHandling;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.webmvc.spi.AssociationLookup;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Looks up pages of the aggregates referenced by collection-like associations to render paged association resources,
+ * as well as individual aggregates referenced by collection-like and map associations to render their item resources.
+ * Both are looked up through an {@link AssociationLookup} if one is available for the type owning the association,
+ * so that only the aggregates requested are loaded. Otherwise, the association value is sorted and sliced or scanned
+ * in memory.
+ *
+ * @since 5.2
+ * @see AssociationLookup
+ */
+public class AssociationPager {
+
+	private final PersistentEntities entities;
+	private final PluginRegistry<AssociationLookup, Class<?>> lookups;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link AssociationPager} for the given {@link PersistentEntities} and {@link AssociationLookup}s.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 */
+	public AssociationPager(PersistentEntities entities, List<? extends AssociationLookup> lookups) {
+		this(entities, lookups, DefaultConversionService.getSharedInstance());
+	}
+
+	/**
+	 * Creates a new {@link AssociationPager} for the given {@link PersistentEntities}, {@link AssociationLookup}s and
+	 * {@link ConversionService} to convert the identifiers of individually requested aggregates.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public AssociationPager(PersistentEntities entities, List<? extends AssociationLookup> lookups,
+			ConversionService conversionService) {
+
+		Assert.notNull(entities, "PersistentEntities must not be null");
+		Assert.notNull(lookups, "AssociationLookups must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.entities = entities;
+		this.lookups = PluginRegistry.of(lookups);
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns the {@link Page} of the aggregates referenced by the given collection-like association of the given owner
+	 * described by the given {@link Pageable}.
+	 *
+	 * @param association must not be {@literal null}.
+	 * @param owner the aggregate owning the association, must not be {@literal null}.
+	 * @param value the current value of the association, only accessed if the page cannot be looked up through an
+	 *          {@link AssociationLookup}, can be {@literal null}.
+	 * @param pageable must not be {@literal null} or unpaged.
+	 * @return will never be {@literal null}.
+	 */
+	public Page<?> findPage(PersistentProperty<?> association, Object owner, @Nullable Object value,
+			Pageable pageable) {
+
+		Assert.notNull(association, "Association must not be null");
+		Assert.notNull(owner, "Owner must not be null");
+		Assert.isTrue(pageable.isPaged(), "Pageable must not be unpaged");
+
+		Object ownerId = association.getOwner().getIdentifierAccessor(owner).getIdentifier();
+
+		if (ownerId != null) {
+
+			var page = lookups.getPluginFor(association.getOwner().getType()) //
+					.flatMap(it -> it.findPage(association, ownerId, pageable));
+
+			if (page.isPresent()) {
+				return page.get();
+			}
+		}
+
+		List<Object> elements = toList(value);
+
+		if (pageable.getSort().isSorted()) {
+			elements.sort(toComparator(pageable.getSort()));
+		}
+
+		int from = (int) Math.min(pageable.getOffset(), elements.size());
+		int to = Math.min(from + pageable.getPageSize(), elements.size());
+
+		return new PageImpl<>(new ArrayList<>(elements.subList(from, to)), pageable, elements.size());
+	}
+
+	/**
+	 * Returns the aggregate with the given identifier referenced by the given collection-like or map association of the
+	 * given owner.
+	 *
+	 * @param association must not be {@literal null}.
+	 * @param owner the aggregate owning the association, must not be {@literal null}.
+	 * @param value the current value of the association, only accessed if the aggregate cannot be looked up through an
+	 *          {@link AssociationLookup}, can be {@literal null}.
+	 * @param elementId the identifier of the referenced aggregate as used in the URI of the association item resource,
+	 *          must not be {@literal null}.
+	 * @return the aggregate or {@link Optional#empty()} if the association doesn't reference an aggregate with the
+	 *         given identifier.
+	 */
+	public Optional<Object> findElement(PersistentProperty<?> association, Object owner, @Nullable Object value,
+			String elementId) {
+
+		Assert.notNull(association, "Association must not be null");
+		Assert.notNull(owner, "Owner must not be null");
+		Assert.notNull(elementId, "Element identifier must not be null");
+
+		PersistentEntity<?, ?> target = entities.getPersistentEntity(association.getActualType()).orElse(null);
+
+		if (target == null) {
+			return Optional.empty();
+		}
+
+		Object ownerId = association.getOwner().getIdentifierAccessor(owner).getIdentifier();
+		AssociationLookup lookup = lookups.getPluginFor(association.getOwner().getType()).orElse(null);
+
+		if (ownerId != null && target.hasIdProperty() && lookup != null && lookup.supportsElementLookup(association)) {
+
+			Object id = convertIdentifier(elementId, target.getRequiredIdProperty().getType());
+
+			if (id != null) {
+				return lookup.findElement(association, ownerId, id);
+			}
+		}
+
+		return toList(value).stream() //
+				.filter(it -> it != null && hasIdentifier(target, it, elementId)) //
+				.findFirst();
+	}
+
+	private static boolean hasIdentifier(PersistentEntity<?, ?> entity, Object element, String id) {
+
+		Object identifier = entity.getIdentifierAccessor(element).getIdentifier();
+
+		return identifier != null && id.equals(identifier.toString());
+	}
+
+	private @Nullable Object convertIdentifier(String source, Class<?> type) {
+
+		try {
+			return conversionService.convert(source, type);
+		} catch (ConversionException o_O) {
+			// Leave identifiers that can't be converted to the in-memory scan comparing their String representation
+			return null;
+		}
+	}
+
+	private static List<Object> toList(@Nullable Object value) {
+
+		if (value instanceof Collection<?> collection) {
+			return new ArrayList<>(collection);
+		}
+
+		if (value instanceof Map<?, ?> map) {
+			return new ArrayList<>(map.values());
+		}
+
+		List<Object> result = new ArrayList<>();
+
+		if (value instanceof Iterable<?> iterable) {
+			iterable.forEach(result::add);
+		}
+
+		return result;
+	}
+
+	private Comparator<Object> toComparator(Sort sort) {
+
+		Comparator<Object> result = null;
+
+		for (Order order : sort) {
+
+			Comparator<@Nullable Comparable<Object>> values = order.getNullHandling() == NullHandling.NULLS_FIRST //
+					? Comparator.nullsFirst(Comparator.naturalOrder()) //
+					: Comparator.nullsLast(Comparator.naturalOrder());
+
+			Comparator<Object> comparator = Comparator.comparing(it -> getValue(it, order), values);
+			comparator = order.isAscending() ? comparator : comparator.reversed();
+
+			result = result == null ? comparator : result.thenComparing(comparator);
+		}
+
+		return result == null ? (left, right) -> 0 : result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable Comparable<Object> getValue(Object element, Order order) {
+
+		Object current = element;
+
+		for (String segment : StringUtils.delimitedListToStringArray(order.getProperty(), ".")) {
+
+			if (current == null) {
+				return null;
+			}
+
+			PersistentEntity<?, ?> entity = entities.getPersistentEntity(ProxyUtils.getUserClass(current)).orElse(null);
+			PersistentProperty<?> property = entity == null ? null : entity.getPersistentProperty(segment);
+
+			if (property == null) {
+				return null;
+			}
+
+			current = entity.getPropertyAccessor(current).getProperty(property);
+		}
+
+		if (current instanceof String string && order.isIgnoreCase()) {
+			current = string.toLowerCase();
+		}
+
+		return current instanceof Comparable<?> comparable ? (Comparable<Object>) comparable : null;
+	}
+}
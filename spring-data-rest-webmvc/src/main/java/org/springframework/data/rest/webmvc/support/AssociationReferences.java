@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.ReferenceBindingConfiguration;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.webmvc.spi.ReferenceLookup;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Binds the identifiers used in association URIs to references of the aggregates pointed to for all aggregate types
+ * configured in the {@link ReferenceBindingConfiguration} a {@link ReferenceLookup} is available for. Aggregate types
+ * an {@link EntityLookup} is registered for are never bound to references, as the URIs of their item resources don't
+ * carry the store identifier.
+ *
+ * @since 5.2
+ * @see ReferenceBindingUriToEntityConverter
+ */
+public class AssociationReferences {
+
+	private final PersistentEntities entities;
+	private final ReferenceBindingConfiguration configuration;
+	private final PluginRegistry<ReferenceLookup, Class<?>> referenceLookups;
+	private final PluginRegistry<EntityLookup<?>, Class<?>> entityLookups;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link AssociationReferences} for the given {@link PersistentEntities},
+	 * {@link ReferenceBindingConfiguration}, {@link ReferenceLookup}s, {@link EntityLookup}s and
+	 * {@link ConversionService}.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @param referenceLookups must not be {@literal null}.
+	 * @param entityLookups must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public AssociationReferences(PersistentEntities entities, ReferenceBindingConfiguration configuration,
+			List<? extends ReferenceLookup> referenceLookups, List<? extends EntityLookup<?>> entityLookups,
+			ConversionService conversionService) {
+
+		Assert.notNull(entities, "PersistentEntities must not be null");
+		Assert.notNull(configuration, "ReferenceBindingConfiguration must not be null");
+		Assert.notNull(referenceLookups, "ReferenceLookups must not be null");
+		Assert.notNull(entityLookups, "EntityLookups must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.entities = entities;
+		this.configuration = configuration;
+		this.referenceLookups = PluginRegistry.of(referenceLookups);
+		this.entityLookups = PluginRegistry.of(entityLookups);
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns whether association URIs pointing to aggregates of the given type are bound to references.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isBound(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		return configuration.isEnabledFor(type) //
+				&& !entityLookups.hasPluginFor(type) //
+				&& referenceLookups.hasPluginFor(type) //
+				&& entities.getPersistentEntity(type).filter(PersistentEntity::hasIdProperty).isPresent();
+	}
+
+	/**
+	 * Returns a reference to the aggregate of the given type identified by the given identifier as used in the URI of
+	 * its item resource.
+	 *
+	 * @param type must not be {@literal null} and be bound to references.
+	 * @param id must not be {@literal null}.
+	 * @return the reference or {@literal null} in case the identifier is empty.
+	 * @see #isBound(Class)
+	 */
+	public @Nullable Object getReference(Class<?> type, String id) {
+
+		Assert.isTrue(isBound(type), () -> "Type %s is not bound to references".formatted(type.getName()));
+		Assert.notNull(id, "Identifier must not be null");
+
+		if (!StringUtils.hasText(id)) {
+			return null;
+		}
+
+		Class<?> idType = entities.getRequiredPersistentEntity(type).getRequiredIdProperty().getType();
+		Object identifier = conversionService.convert(id, idType);
+
+		return identifier == null ? null : referenceLookups.getRequiredPluginFor(type).getReference(type, identifier);
+	}
+}
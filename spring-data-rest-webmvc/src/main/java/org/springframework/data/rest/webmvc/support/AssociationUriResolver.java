@@ -0,0 +1,359 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.webmvc.json.MappedJacksonProperties;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Resolves the URIs pointing to item resources contained in request payloads in batches. All URIs referring to
+ * aggregates of the same type are looked up at once through the {@link RepositoryBatchLookup} and the aggregates found
+ * are kept for the rest of the current request, so that the deserializers turning association URIs into aggregates
+ * don't need a round trip per URI. Only the values of linkable associations are considered, found by walking the
+ * payload along the properties of the {@link PersistentEntity} it's read into, including nested non-aggregate types,
+ * by the names the {@link ObjectMapper} reading the payload maps them to.
+ * URIs pointing to aggregates bound to references are not considered either, as those are never looked up.
+ *
+ * @since 5.2
+ * @see PrefetchingUriToEntityConverter
+ */
+public class AssociationUriResolver {
+
+	private static final String RESOLVED_ATTRIBUTE = AssociationUriResolver.class.getName() + ".RESOLVED";
+
+	private final Repositories repositories;
+	private final PersistentEntities entities;
+	private final Associations associations;
+	private final RepositoryInvokerFactory invokerFactory;
+	private final RepositoryBatchLookup lookup;
+	private final @Nullable AssociationReferences references;
+	private final Map<Class<?>, Boolean> supported = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link AssociationUriResolver} for the given {@link Repositories}, {@link PersistentEntities},
+	 * {@link Associations}, {@link RepositoryInvokerFactory} and {@link RepositoryBatchLookup}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param lookup must not be {@literal null}.
+	 */
+	public AssociationUriResolver(Repositories repositories, PersistentEntities entities, Associations associations,
+			RepositoryInvokerFactory invokerFactory, RepositoryBatchLookup lookup) {
+		this(repositories, entities, associations, invokerFactory, lookup, null);
+	}
+
+	/**
+	 * Creates a new {@link AssociationUriResolver} for the given {@link Repositories}, {@link PersistentEntities},
+	 * {@link Associations}, {@link RepositoryInvokerFactory}, {@link RepositoryBatchLookup} and
+	 * {@link AssociationReferences}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param lookup must not be {@literal null}.
+	 * @param references can be {@literal null}.
+	 */
+	public AssociationUriResolver(Repositories repositories, PersistentEntities entities, Associations associations,
+			RepositoryInvokerFactory invokerFactory, RepositoryBatchLookup lookup,
+			@Nullable AssociationReferences references) {
+
+		Assert.notNull(repositories, "Repositories must not be null");
+		Assert.notNull(entities, "PersistentEntities must not be null");
+		Assert.notNull(associations, "Associations must not be null");
+		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null");
+		Assert.notNull(lookup, "RepositoryBatchLookup must not be null");
+
+		this.repositories = repositories;
+		this.entities = entities;
+		this.associations = associations;
+		this.invokerFactory = invokerFactory;
+		this.lookup = lookup;
+		this.references = references;
+	}
+
+	/**
+	 * Returns whether payloads read into the given {@link PersistentEntity} can contain association URIs to prefetch,
+	 * i.e. whether it or any of the non-aggregate types nested in it has a linkable association. Callers can skip
+	 * parsing payloads for {@link #prefetch(PersistentEntity, JsonNode, ObjectMapper)} if not.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	public boolean supports(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+
+		return supported.computeIfAbsent(entity.getType(), __ -> hasLinkableAssociation(entity, new HashSet<>()));
+	}
+
+	/**
+	 * Looks up the aggregates referred to by the linkable associations of the given {@link PersistentEntity} contained
+	 * in the given payload, one batch per aggregate type, and keeps the ones found for the rest of the current request.
+	 * Arrays are considered to contain multiple documents for the given entity. Does nothing outside of a request.
+	 *
+	 * @param entity the {@link PersistentEntity} the payload is read into, must not be {@literal null}.
+	 * @param payload must not be {@literal null}.
+	 * @param mapper the {@link ObjectMapper} the payload is read with, must not be {@literal null}.
+	 */
+	public void prefetch(PersistentEntity<?, ?> entity, JsonNode payload, ObjectMapper mapper) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(payload, "Payload must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null || !supports(entity)) {
+			return;
+		}
+
+		Map<Class<?>, Set<String>> identifiers = new LinkedHashMap<>();
+		collect(entity, payload, mapper, identifiers);
+
+		if (identifiers.isEmpty()) {
+			return;
+		}
+
+		Map<Class<?>, Map<String, Object>> resolved = getResolved(attributes);
+
+		identifiers.forEach((type, ids) -> {
+
+			if (references != null && references.isBound(type)) {
+				return;
+			}
+
+			Map<String, Object> aggregates = resolved.computeIfAbsent(type, __ -> new HashMap<>());
+			List<String> missing = ids.stream().filter(it -> !aggregates.containsKey(it)).toList();
+
+			if (missing.isEmpty()) {
+				return;
+			}
+
+			try {
+				aggregates.putAll(resolveAll(type, missing));
+			} catch (ConversionException o_O) {
+				// Leave identifiers that can't be converted to the regular resolution reporting the failure
+			}
+		});
+	}
+
+	/**
+	 * Looks up the aggregates of the given type identified by the given identifiers as used in the URIs of their item
+	 * resources at once.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @return the aggregates found keyed by identifier, will never be {@literal null}.
+	 */
+	public Map<String, Object> resolveAll(Class<?> type, Collection<String> ids) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(ids, "Identifiers must not be null");
+
+		PersistentEntity<?, ?> entity = repositories.getPersistentEntity(type);
+
+		if (ids.isEmpty() || !entity.hasIdProperty()) {
+			return Map.of();
+		}
+
+		return lookup.findAllByRequestId(entity, invokerFactory.getInvokerFor(type), new ArrayList<>(ids));
+	}
+
+	/**
+	 * Returns the aggregate of the given type the given URI points to if it was looked up by a previous call to
+	 * {@link #prefetch(PersistentEntity, JsonNode, ObjectMapper)} within the current request.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param uri must not be {@literal null}.
+	 * @return the aggregate or {@literal null} if it wasn't looked up before or could not be found.
+	 */
+	public @Nullable Object getPrefetched(Class<?> type, URI uri) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(uri, "URI must not be null");
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null || uri.getPath() == null) {
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<Class<?>, Map<String, Object>> resolved = (Map<Class<?>, Map<String, Object>>) attributes
+				.getAttribute(RESOLVED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		if (resolved == null) {
+			return null;
+		}
+
+		Map<String, Object> aggregates = resolved.get(type);
+		String[] segments = uri.getPath().split("/");
+
+		return aggregates == null || segments.length == 0 ? null : aggregates.get(segments[segments.length - 1]);
+	}
+
+	private boolean hasLinkableAssociation(PersistentEntity<?, ?> entity, Set<Class<?>> visited) {
+
+		if (!visited.add(entity.getType())) {
+			return false;
+		}
+
+		for (PersistentProperty<?> property : entity) {
+
+			if (isPrefetchable(property)) {
+				return true;
+			}
+
+			PersistentEntity<?, ?> nested = getNestedEntity(property);
+
+			if (nested != null && hasLinkableAssociation(nested, visited)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void collect(PersistentEntity<?, ?> entity, JsonNode node, ObjectMapper mapper,
+			Map<Class<?>, Set<String>> identifiers) {
+
+		if (node.isArray()) {
+			node.forEach(it -> collect(entity, it, mapper, identifiers));
+			return;
+		}
+
+		if (!node.isObject()) {
+			return;
+		}
+
+		MappedJacksonProperties properties = MappedJacksonProperties.forDeserialization(entity, mapper);
+
+		for (PersistentProperty<?> property : entity) {
+
+			if (!properties.isMappedProperty(property)) {
+				continue;
+			}
+
+			JsonNode value = node.get(properties.getMappedName(property));
+
+			if (value == null) {
+				continue;
+			}
+
+			if (isPrefetchable(property)) {
+				collect(property.getActualType(), value, identifiers);
+				continue;
+			}
+
+			PersistentEntity<?, ?> nested = getNestedEntity(property);
+
+			if (nested != null) {
+				collect(nested, value, mapper, identifiers);
+			}
+		}
+	}
+
+	private void collect(Class<?> type, JsonNode node, Map<Class<?>, Set<String>> identifiers) {
+
+		if (node.isArray()) {
+			node.forEach(it -> collect(type, it, identifiers));
+			return;
+		}
+
+		if (!node.isTextual()) {
+			return;
+		}
+
+		URI uri;
+
+		try {
+			uri = UriTemplate.of(node.textValue()).expand();
+		} catch (IllegalArgumentException o_O) {
+			return;
+		}
+
+		String[] segments = uri.getPath() == null ? new String[0] : uri.getPath().split("/");
+		String id = segments.length == 0 ? "" : segments[segments.length - 1];
+
+		if (!id.isEmpty()) {
+			identifiers.computeIfAbsent(type, __ -> new LinkedHashSet<>()).add(id);
+		}
+	}
+
+	private boolean isPrefetchable(PersistentProperty<?> property) {
+		return associations.isLinkableAssociation(property) && repositories.hasRepositoryFor(property.getActualType());
+	}
+
+	/**
+	 * Returns the {@link PersistentEntity} of the given property's type if it's a non-aggregate type whose properties
+	 * are deserialized in place, like an embeddable.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	private @Nullable PersistentEntity<?, ?> getNestedEntity(PersistentProperty<?> property) {
+
+		if (property.isAssociation() || !property.isEntity()
+				|| repositories.hasRepositoryFor(property.getActualType())) {
+			return null;
+		}
+
+		return entities.getPersistentEntity(property.getActualType()).orElse(null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Class<?>, Map<String, Object>> getResolved(RequestAttributes attributes) {
+
+		Map<Class<?>, Map<String, Object>> resolved = (Map<Class<?>, Map<String, Object>>) attributes
+				.getAttribute(RESOLVED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		if (resolved == null) {
+			resolved = new HashMap<>();
+			attributes.setAttribute(RESOLVED_ATTRIBUTE, resolved, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return resolved;
+	}
+}
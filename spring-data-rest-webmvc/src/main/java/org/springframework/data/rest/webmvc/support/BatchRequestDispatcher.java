@@ -0,0 +1,501 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.rest.core.config.BatchConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.BatchResults;
+import org.springframework.data.rest.webmvc.BatchResults.BatchResult;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.CompositeFilter;
+import org.springframework.web.servlet.HandlerAdapter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Executes the sub-requests of a batch request by dispatching them to the {@link HandlerMapping} and
+ * {@link HandlerAdapter} serving Spring Data REST requests, so that the very same controllers, interceptors, events
+ * and method security apply as if they were sent individually. Each sub-request passes the given servlet
+ * {@link Filter}s before, so that e.g. a security filter chain authenticates and authorizes it on its own. Exceptions
+ * are resolved through the {@link HandlerExceptionResolver} of the application.
+ * <p>
+ * Consecutive {@code GET} and {@code HEAD} sub-requests are executed in parallel on the given {@link Executor} if
+ * enabled via {@link BatchConfiguration#setParallelReads(boolean)} and no transactional resources, like a transaction
+ * or a persistence context, are bound to the batch request, as those cannot be shared across threads. All other
+ * sub-requests are executed one after another in the order submitted. Atomic batches execute all sub-requests one
+ * after another within a single transaction that is rolled back if any of them fails, skipping the ones following the
+ * failed one.
+ *
+ * @since 5.2
+ * @see RepositoryRestConfiguration#getBatchConfiguration()
+ */
+public class BatchRequestDispatcher {
+
+	private static final Logger LOG = LoggerFactory.getLogger(BatchRequestDispatcher.class);
+	private static final String SUB_REQUEST_ATTRIBUTE = BatchRequestDispatcher.class.getName() + ".SUB_REQUEST";
+	private static final Set<String> SUPPORTED_METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE");
+	private static final Set<String> READ_METHODS = Set.of("GET", "HEAD");
+	private static final @Nullable Class<?> ACCESS_DENIED_EXCEPTION = getAccessDeniedExceptionType();
+
+	private final BatchConfiguration configuration;
+	private final ObjectMapper mapper;
+	private final HandlerMapping handlerMapping;
+	private final HandlerAdapter handlerAdapter;
+	private final Supplier<@Nullable HandlerExceptionResolver> exceptionResolver;
+	private final @Nullable TransactionOperations transactions;
+	private final Executor executor;
+	private final CompositeFilter filters;
+
+	/**
+	 * Creates a new {@link BatchRequestDispatcher}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param mapper the {@link ObjectMapper} to read batch requests with, must not be {@literal null}.
+	 * @param handlerMapping the {@link HandlerMapping} to look up the handlers of sub-requests, must not be
+	 *          {@literal null}.
+	 * @param handlerAdapter the {@link HandlerAdapter} to invoke the handlers with, must not be {@literal null}.
+	 * @param exceptionResolver provides the {@link HandlerExceptionResolver} to resolve exceptions with, must not be
+	 *          {@literal null}.
+	 * @param transactions the {@link TransactionOperations} to execute atomic batches with, {@literal null} if atomic
+	 *          batches are not supported.
+	 * @param executor the {@link Executor} to execute reads in parallel with, must not be {@literal null}.
+	 * @param filters the servlet {@link Filter}s to pass each sub-request through, must not be {@literal null}.
+	 */
+	public BatchRequestDispatcher(RepositoryRestConfiguration configuration, ObjectMapper mapper,
+			HandlerMapping handlerMapping, HandlerAdapter handlerAdapter,
+			Supplier<@Nullable HandlerExceptionResolver> exceptionResolver,
+			@Nullable TransactionOperations transactions, Executor executor, List<? extends Filter> filters) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+		Assert.notNull(handlerMapping, "HandlerMapping must not be null");
+		Assert.notNull(handlerAdapter, "HandlerAdapter must not be null");
+		Assert.notNull(exceptionResolver, "HandlerExceptionResolver supplier must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.notNull(filters, "Filters must not be null");
+
+		this.configuration = configuration.getBatchConfiguration();
+		this.mapper = mapper;
+		this.handlerMapping = handlerMapping;
+		this.handlerAdapter = handlerAdapter;
+		this.exceptionResolver = exceptionResolver;
+		this.transactions = transactions;
+		this.executor = executor;
+		this.filters = new CompositeFilter();
+		this.filters.setFilters(filters);
+	}
+
+	/**
+	 * Returns whether the given request is a sub-request of a batch request.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean isSubRequest(HttpServletRequest request) {
+
+		Assert.notNull(request, "HttpServletRequest must not be null");
+
+		return request.getAttribute(SUB_REQUEST_ATTRIBUTE) != null;
+	}
+
+	/**
+	 * Returns whether atomic batches are supported, i.e. whether a transaction manager is available.
+	 *
+	 * @return
+	 */
+	public boolean supportsAtomicBatches() {
+		return transactions != null;
+	}
+
+	/**
+	 * Reads the {@link Batch} from the body of the given request.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws HttpMessageNotReadableException in case the body is not a valid batch request.
+	 */
+	public Batch read(HttpServletRequest request) {
+
+		Assert.notNull(request, "HttpServletRequest must not be null");
+
+		try {
+			return mapper.readValue(request.getInputStream(), Batch.class);
+		} catch (IOException | JacksonException o_O) {
+			throw new HttpMessageNotReadableException("Could not read batch request: " + o_O.getMessage(), o_O,
+					new ServletServerHttpRequest(request));
+		}
+	}
+
+	/**
+	 * Executes the sub-requests of the given {@link Batch} sent with the given request.
+	 *
+	 * @param request the batch request, must not be {@literal null}.
+	 * @param response the response to the batch request, must not be {@literal null}.
+	 * @param batch must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public BatchResults execute(HttpServletRequest request, HttpServletResponse response, Batch batch) {
+
+		Assert.notNull(request, "HttpServletRequest must not be null");
+		Assert.notNull(response, "HttpServletResponse must not be null");
+		Assert.notNull(batch, "Batch must not be null");
+
+		LocaleContext locale = LocaleContextHolder.getLocaleContext();
+		SubRequestExecution execution = it -> dispatch(request, response, it, locale);
+
+		if (!batch.atomic()) {
+			return new BatchResults(executeIndependently(batch.requests(), execution), false);
+		}
+
+		Assert.state(transactions != null, "Atomic batches require a transaction manager");
+
+		BatchResults results = transactions.execute(status -> {
+
+			List<BatchResult> responses = new ArrayList<>(batch.requests().size());
+			boolean failed = false;
+
+			for (SubRequest subRequest : batch.requests()) {
+
+				if (failed) {
+					responses.add(BatchResult.failedDependency(subRequest.id()));
+					continue;
+				}
+
+				BatchResult result = execution.execute(subRequest);
+				responses.add(result);
+
+				if (result.isError()) {
+					failed = true;
+					status.setRollbackOnly();
+				}
+			}
+
+			return new BatchResults(responses, failed);
+		});
+
+		Assert.state(results != null, "Atomic batch did not produce any results");
+
+		return results;
+	}
+
+	private List<BatchResult> executeIndependently(List<SubRequest> requests, SubRequestExecution execution) {
+
+		List<BatchResult> results = new ArrayList<>(requests.size());
+		boolean parallel = configuration.isParallelReads()
+				&& TransactionSynchronizationManager.getResourceMap().isEmpty();
+		int index = 0;
+
+		while (index < requests.size()) {
+
+			int end = index + 1;
+
+			while (parallel && requests.get(index).isRead() && end < requests.size() && requests.get(end).isRead()) {
+				end++;
+			}
+
+			if (end - index == 1) {
+				results.add(execution.execute(requests.get(index)));
+			} else {
+
+				List<CompletableFuture<BatchResult>> futures = requests.subList(index, end).stream() //
+						.map(it -> CompletableFuture.supplyAsync(() -> execution.execute(it), executor)) //
+						.toList();
+
+				futures.forEach(it -> results.add(it.join()));
+			}
+
+			index = end;
+		}
+
+		return results;
+	}
+
+	private BatchResult dispatch(HttpServletRequest request, HttpServletResponse response, SubRequest subRequest,
+			@Nullable LocaleContext locale) {
+
+		Map<String, String> headers = new LinkedCaseInsensitiveMap<>();
+		headers.putAll(subRequest.headers());
+
+		BatchSubRequest wrappedRequest = new BatchSubRequest(request, subRequest.method(), subRequest.url(), headers,
+				getBody(subRequest.body(), headers.get(HttpHeaders.CONTENT_TYPE)));
+		wrappedRequest.setAttribute(SUB_REQUEST_ATTRIBUTE, Boolean.TRUE);
+
+		BatchSubResponse wrappedResponse = new BatchSubResponse(response);
+
+		RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+		LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+		ServletRequestAttributes attributes = new ServletRequestAttributes(wrappedRequest, wrappedResponse);
+
+		RequestContextHolder.setRequestAttributes(attributes);
+		LocaleContextHolder.setLocaleContext(locale);
+
+		FilterChain chain = (filteredRequest, filteredResponse) -> handle((HttpServletRequest) filteredRequest,
+				(HttpServletResponse) filteredResponse);
+
+		try {
+			filters.doFilter(wrappedRequest, wrappedResponse, chain);
+		} catch (Exception o_O) {
+			resolveException(wrappedRequest, wrappedResponse, null, o_O);
+		} finally {
+
+			attributes.requestCompleted();
+
+			RequestContextHolder.setRequestAttributes(previousAttributes);
+			LocaleContextHolder.setLocaleContext(previousLocale);
+		}
+
+		return toResult(subRequest.id(), wrappedResponse);
+	}
+
+	private void handle(HttpServletRequest request, HttpServletResponse response) {
+
+		Object handler = null;
+		List<HandlerInterceptor> applied = new ArrayList<>();
+		Exception failure = null;
+
+		try {
+
+			// The path parsed by the DispatcherServlet is the one of the batch request
+			ServletRequestPathUtils.parseAndCache(request);
+
+			HandlerExecutionChain chain = handlerMapping.getHandler(request);
+
+			if (chain == null) {
+				response.sendError(HttpStatus.NOT_FOUND.value());
+				return;
+			}
+
+			handler = chain.getHandler();
+
+			for (HandlerInterceptor interceptor : chain.getInterceptorList()) {
+
+				if (!interceptor.preHandle(request, response, handler)) {
+					return;
+				}
+
+				applied.add(0, interceptor);
+			}
+
+			handlerAdapter.handle(request, response, handler);
+
+			for (HandlerInterceptor interceptor : applied) {
+				interceptor.postHandle(request, response, handler, null);
+			}
+
+		} catch (Exception o_O) {
+
+			failure = o_O;
+			resolveException(request, response, handler, o_O);
+
+		} finally {
+
+			for (HandlerInterceptor interceptor : applied) {
+
+				try {
+					interceptor.afterCompletion(request, response, handler, failure);
+				} catch (Exception o_O) {
+					LOG.warn("HandlerInterceptor.afterCompletion threw exception", o_O);
+				}
+			}
+		}
+	}
+
+	private void resolveException(HttpServletRequest request, HttpServletResponse response, @Nullable Object handler,
+			Exception exception) {
+
+		HandlerExceptionResolver resolver = exceptionResolver.get();
+
+		if (resolver != null && resolver.resolveException(request, response, handler, exception) != null) {
+			return;
+		}
+
+		boolean accessDenied = ACCESS_DENIED_EXCEPTION != null && ACCESS_DENIED_EXCEPTION.isInstance(exception);
+
+		if (!accessDenied) {
+			LOG.warn("Batch sub-request {} {} failed", request.getMethod(), request.getRequestURI(), exception);
+		}
+
+		response.reset();
+		response.setStatus(accessDenied ? HttpStatus.FORBIDDEN.value() : HttpStatus.INTERNAL_SERVER_ERROR.value());
+	}
+
+	private byte[] getBody(@Nullable JsonNode body, @Nullable String contentType) {
+
+		if (body == null || body.isNull()) {
+			return new byte[0];
+		}
+
+		// Plain text bodies like text/uri-list ones are submitted as JSON string
+		if (body.isTextual() && contentType != null && !isJson(contentType)) {
+			return body.textValue().getBytes(getCharset(contentType));
+		}
+
+		return mapper.writeValueAsBytes(body);
+	}
+
+	private BatchResult toResult(@Nullable String id, BatchSubResponse response) {
+
+		Map<String, String> headers = new LinkedHashMap<>();
+		response.getHeaderValues().forEach((name, values) -> headers.put(name, String.join(", ", values)));
+
+		byte[] content = response.getContent();
+		String contentType = response.getContentType();
+		JsonNode body = null;
+
+		if (content.length > 0 && isJson(contentType)) {
+
+			try {
+				body = mapper.readTree(content);
+			} catch (JacksonException o_O) {
+				LOG.debug("Could not parse JSON response of batch sub-request", o_O);
+			}
+		}
+
+		if (content.length > 0 && body == null) {
+			body = mapper.valueToTree(new String(content, Charset.forName(response.getCharacterEncoding())));
+		}
+
+		return new BatchResult(id, response.getStatus(), headers, body);
+	}
+
+	private static @Nullable Class<?> getAccessDeniedExceptionType() {
+
+		String name = "org.springframework.security.access.AccessDeniedException";
+		ClassLoader classLoader = BatchRequestDispatcher.class.getClassLoader();
+
+		return ClassUtils.isPresent(name, classLoader) ? ClassUtils.resolveClassName(name, classLoader) : null;
+	}
+
+	private static boolean isJson(@Nullable String contentType) {
+
+		if (!StringUtils.hasText(contentType)) {
+			return false;
+		}
+
+		try {
+
+			MediaType mediaType = MediaType.parseMediaType(contentType);
+
+			return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || mediaType.getSubtype().endsWith("+json");
+
+		} catch (InvalidMediaTypeException o_O) {
+			return false;
+		}
+	}
+
+	private static Charset getCharset(String contentType) {
+
+		try {
+
+			Charset charset = MediaType.parseMediaType(contentType).getCharset();
+
+			return charset == null ? StandardCharsets.UTF_8 : charset;
+
+		} catch (InvalidMediaTypeException o_O) {
+			return StandardCharsets.UTF_8;
+		}
+	}
+
+	/**
+	 * A batch request.
+	 *
+	 * @param requests the sub-requests to execute, must not be {@literal null}.
+	 * @param atomic whether to execute all sub-requests within a single transaction.
+	 */
+	public record Batch(List<SubRequest> requests, boolean atomic) {
+
+		public Batch {
+			Assert.notEmpty(requests, "Batch requests must contain at least one sub-request");
+		}
+	}
+
+	/**
+	 * A sub-request of a batch request.
+	 *
+	 * @param id an identifier to correlate the response with, can be {@literal null}.
+	 * @param method the HTTP method, one of {@code GET}, {@code HEAD}, {@code POST}, {@code PUT}, {@code PATCH} and
+	 *          {@code DELETE}.
+	 * @param url the URI relative to the servlet serving the batch request, including the base path and query string.
+	 * @param headers additional headers, can be {@literal null}.
+	 * @param body the body, plain text bodies given as JSON string, can be {@literal null}.
+	 */
+	public record SubRequest(@Nullable String id, String method, String url, Map<String, String> headers,
+			@Nullable JsonNode body) {
+
+		public SubRequest {
+
+			Assert.hasText(method, "Sub-requests must declare a method");
+			Assert.isTrue(SUPPORTED_METHODS.contains(method.toUpperCase(Locale.ROOT)),
+					() -> "Unsupported method %s; supported are %s".formatted(method, SUPPORTED_METHODS));
+			Assert.isTrue(url != null && url.startsWith("/"), "Sub-requests must declare a URL starting with a slash");
+
+			method = method.toUpperCase(Locale.ROOT);
+			headers = headers == null ? Map.of() : headers;
+		}
+
+		boolean isRead() {
+			return READ_METHODS.contains(method);
+		}
+	}
+
+	private interface SubRequestExecution {
+		BatchResult execute(SubRequest request);
+	}
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * A sub-request of a batch request. Exposes the method, URI, headers and body of the sub-request on top of the batch
+ * request and keeps request attributes of its own so that no state is shared between sub-requests. Headers describing
+ * the body or making the batch request conditional are not inherited from the batch request.
+ *
+ * @since 5.2
+ */
+class BatchSubRequest extends HttpServletRequestWrapper {
+
+	private static final Set<String> NON_INHERITED_HEADERS = Set.of(HttpHeaders.ACCEPT, HttpHeaders.CONTENT_TYPE,
+			HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_ENCODING, HttpHeaders.TRANSFER_ENCODING,
+			HttpHeaders.IF_MATCH, HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE,
+			HttpHeaders.IF_UNMODIFIED_SINCE, HttpHeaders.IF_RANGE, HttpHeaders.RANGE);
+	private static final String ASYNC_NOT_SUPPORTED = "Asynchronous processing not supported for batch sub-requests";
+
+	private final String method;
+	private final String requestUri;
+	private final String servletPath;
+	private final @Nullable String pathInfo;
+	private final @Nullable String queryString;
+	private final Map<String, String[]> parameters;
+	private final Map<String, List<String>> headers;
+	private final byte[] body;
+	private final Map<String, Object> attributes;
+
+	/**
+	 * Creates a new {@link BatchSubRequest} for the given batch request.
+	 *
+	 * @param request the batch request, must not be {@literal null}.
+	 * @param method the HTTP method of the sub-request, must not be {@literal null}.
+	 * @param url the URI of the sub-request relative to the servlet the batch request was sent to, must not be
+	 *          {@literal null}.
+	 * @param headers the headers of the sub-request, must not be {@literal null}.
+	 * @param body the body of the sub-request, must not be {@literal null}.
+	 */
+	BatchSubRequest(HttpServletRequest request, String method, String url, Map<String, String> headers, byte[] body) {
+
+		super(request);
+
+		UriComponents components = UriComponentsBuilder.fromUriString(url).build();
+		String path = components.getPath() == null ? "" : components.getPath();
+		boolean prefixMapping = request.getPathInfo() != null;
+
+		this.method = method;
+		this.servletPath = prefixMapping ? request.getServletPath() : path;
+		this.pathInfo = prefixMapping ? path : null;
+		this.requestUri = request.getContextPath() + (prefixMapping ? request.getServletPath() : "") + path;
+		this.queryString = components.getQuery();
+		this.parameters = toParameters(components.getQueryParams());
+		this.headers = new LinkedCaseInsensitiveMap<>();
+		this.body = body;
+		this.attributes = new LinkedHashMap<>();
+
+		for (String name : Collections.list(request.getHeaderNames())) {
+			if (NON_INHERITED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+				this.headers.put(name, Collections.list(request.getHeaders(name)));
+			}
+		}
+
+		headers.forEach((name, value) -> {
+			if (value != null) {
+				this.headers.put(name, List.of(value));
+			}
+		});
+
+		if (body.length > 0 && !this.headers.containsKey(HttpHeaders.CONTENT_TYPE)) {
+			this.headers.put(HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON_VALUE));
+		}
+
+		// Expose the infrastructure set up by the DispatcherServlet but nothing bound to the batch request itself
+		for (String name : Collections.list(request.getAttributeNames())) {
+			if (name.startsWith(DispatcherServlet.class.getName())) {
+				this.attributes.put(name, request.getAttribute(name));
+			}
+		}
+	}
+
+	@Override
+	public String getMethod() {
+		return method;
+	}
+
+	@Override
+	public String getRequestURI() {
+		return requestUri;
+	}
+
+	@Override
+	public StringBuffer getRequestURL() {
+
+		StringBuffer url = new StringBuffer(getScheme()).append("://").append(getServerName());
+		int port = getServerPort();
+
+		if (port > 0 && !("http".equals(getScheme()) && port == 80) && !("https".equals(getScheme()) && port == 443)) {
+			url.append(':').append(port);
+		}
+
+		return url.append(requestUri);
+	}
+
+	@Override
+	public String getServletPath() {
+		return servletPath;
+	}
+
+	@Override
+	public @Nullable String getPathInfo() {
+		return pathInfo;
+	}
+
+	@Override
+	public @Nullable String getPathTranslated() {
+		return null;
+	}
+
+	@Override
+	public @Nullable String getQueryString() {
+		return queryString;
+	}
+
+	@Override
+	public @Nullable String getParameter(String name) {
+
+		String[] values = parameters.get(name);
+
+		return values == null || values.length == 0 ? null : values[0];
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		return Collections.unmodifiableMap(parameters);
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		return Collections.enumeration(parameters.keySet());
+	}
+
+	@Override
+	public String @Nullable [] getParameterValues(String name) {
+		return parameters.get(name);
+	}
+
+	@Override
+	public @Nullable String getHeader(String name) {
+
+		List<String> values = headers.get(name);
+
+		return values == null || values.isEmpty() ? null : values.get(0);
+	}
+
+	@Override
+	public Enumeration<String> getHeaders(String name) {
+		return Collections.enumeration(headers.getOrDefault(name, List.of()));
+	}
+
+	@Override
+	public Enumeration<String> getHeaderNames() {
+		return Collections.enumeration(headers.keySet());
+	}
+
+	@Override
+	public int getIntHeader(String name) {
+
+		String value = getHeader(name);
+
+		return value == null ? -1 : Integer.parseInt(value);
+	}
+
+	@Override
+	public long getDateHeader(String name) {
+
+		String value = getHeader(name);
+
+		if (value == null) {
+			return -1;
+		}
+
+		try {
+			return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+		} catch (RuntimeException o_O) {
+			throw new IllegalArgumentException("Cannot parse date value '%s' of header %s".formatted(value, name), o_O);
+		}
+	}
+
+	@Override
+	public @Nullable String getContentType() {
+		return getHeader(HttpHeaders.CONTENT_TYPE);
+	}
+
+	@Override
+	public int getContentLength() {
+		return body.length;
+	}
+
+	@Override
+	public long getContentLengthLong() {
+		return body.length;
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return getCharset().name();
+	}
+
+	@Override
+	public void setCharacterEncoding(String encoding) {}
+
+	@Override
+	public ServletInputStream getInputStream() {
+
+		ByteArrayInputStream stream = new ByteArrayInputStream(body);
+
+		return new ServletInputStream() {
+
+			@Override
+			public int read() {
+				return stream.read();
+			}
+
+			@Override
+			public int read(byte[] buffer, int offset, int length) {
+				return stream.read(buffer, offset, length);
+			}
+
+			@Override
+			public boolean isFinished() {
+				return stream.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setReadListener(ReadListener listener) {
+				throw new UnsupportedOperationException("Non-blocking reads not supported for batch sub-requests");
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), getCharset()));
+	}
+
+	@Override
+	public @Nullable Object getAttribute(String name) {
+		return attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+	}
+
+	@Override
+	public void setAttribute(String name, @Nullable Object value) {
+
+		if (value == null) {
+			attributes.remove(name);
+		} else {
+			attributes.put(name, value);
+		}
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		attributes.remove(name);
+	}
+
+	@Override
+	public DispatcherType getDispatcherType() {
+		return DispatcherType.REQUEST;
+	}
+
+	@Override
+	public boolean isAsyncSupported() {
+		return false;
+	}
+
+	@Override
+	public boolean isAsyncStarted() {
+		return false;
+	}
+
+	@Override
+	public AsyncContext startAsync() {
+		throw new IllegalStateException(ASYNC_NOT_SUPPORTED);
+	}
+
+	@Override
+	public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+		throw new IllegalStateException(ASYNC_NOT_SUPPORTED);
+	}
+
+	@Override
+	public AsyncContext getAsyncContext() {
+		throw new IllegalStateException(ASYNC_NOT_SUPPORTED);
+	}
+
+	private Charset getCharset() {
+
+		String contentType = getContentType();
+
+		if (!StringUtils.hasText(contentType)) {
+			return StandardCharsets.UTF_8;
+		}
+
+		try {
+
+			Charset charset = MediaType.parseMediaType(contentType).getCharset();
+
+			return charset == null ? StandardCharsets.UTF_8 : charset;
+
+		} catch (InvalidMediaTypeException o_O) {
+			return StandardCharsets.UTF_8;
+		}
+	}
+
+	private static Map<String, String[]> toParameters(MultiValueMap<String, String> encoded) {
+
+		Map<String, String[]> result = new LinkedHashMap<>();
+
+		encoded.forEach((name, values) -> result.put(decode(name), values.stream() //
+				.map(it -> it == null ? "" : decode(it)) //
+				.toArray(String[]::new)));
+
+		return result;
+	}
+
+	private static String decode(String source) {
+		return StringUtils.uriDecode(source.replace('+', ' '), StandardCharsets.UTF_8);
+	}
+}
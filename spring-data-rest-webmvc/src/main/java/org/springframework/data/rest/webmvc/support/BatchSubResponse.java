@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Captures the response to a sub-request of a batch request in memory. Nothing written to it reaches the response of
+ * the batch request.
+ *
+ * @since 5.2
+ */
+class BatchSubResponse extends HttpServletResponseWrapper {
+
+	private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+	private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+	private int status = HttpStatus.OK.value();
+	private @Nullable Charset charset;
+	private @Nullable PrintWriter writer;
+	private Locale locale = Locale.getDefault();
+
+	/**
+	 * Creates a new {@link BatchSubResponse} for the given response to the batch request.
+	 *
+	 * @param response must not be {@literal null}.
+	 */
+	BatchSubResponse(HttpServletResponse response) {
+		super(response);
+	}
+
+	/**
+	 * Returns the body written so far.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	byte[] getContent() {
+
+		flushBuffer();
+
+		return content.toByteArray();
+	}
+
+	/**
+	 * Returns all headers set, keyed by name case-insensitively.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Map<String, List<String>> getHeaderValues() {
+		return headers;
+	}
+
+	@Override
+	public int getStatus() {
+		return status;
+	}
+
+	@Override
+	public void setStatus(int status) {
+		this.status = status;
+	}
+
+	@Override
+	public void sendError(int status) {
+		sendError(status, null);
+	}
+
+	@Override
+	public void sendError(int status, @Nullable String message) {
+
+		resetBuffer();
+
+		this.status = status;
+	}
+
+	@Override
+	public void sendRedirect(String location) {
+		sendRedirect(location, HttpStatus.FOUND.value(), true);
+	}
+
+	@Override
+	public void sendRedirect(String location, int status, boolean clearBuffer) {
+
+		if (clearBuffer) {
+			resetBuffer();
+		}
+
+		this.status = status;
+		setHeader(HttpHeaders.LOCATION, location);
+	}
+
+	@Override
+	public boolean containsHeader(String name) {
+		return headers.containsKey(name);
+	}
+
+	@Override
+	public @Nullable String getHeader(String name) {
+
+		List<String> values = headers.get(name);
+
+		return values == null || values.isEmpty() ? null : values.get(0);
+	}
+
+	@Override
+	public Collection<String> getHeaders(String name) {
+		return new ArrayList<>(headers.getOrDefault(name, List.of()));
+	}
+
+	@Override
+	public Collection<String> getHeaderNames() {
+		return new ArrayList<>(headers.keySet());
+	}
+
+	@Override
+	public void setHeader(String name, @Nullable String value) {
+
+		// The length of the captured body is irrelevant to the batch response
+		if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			return;
+		}
+
+		if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+			setContentType(value);
+		} else if (value == null) {
+			headers.remove(name);
+		} else {
+			headers.put(name, new ArrayList<>(List.of(value)));
+		}
+	}
+
+	@Override
+	public void addHeader(String name, @Nullable String value) {
+
+		if (value == null || !containsHeader(name) || HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+			setHeader(name, value);
+		} else {
+			headers.get(name).add(value);
+		}
+	}
+
+	@Override
+	public void setIntHeader(String name, int value) {
+		setHeader(name, String.valueOf(value));
+	}
+
+	@Override
+	public void addIntHeader(String name, int value) {
+		addHeader(name, String.valueOf(value));
+	}
+
+	@Override
+	public void setDateHeader(String name, long date) {
+		setHeader(name, formatDate(date));
+	}
+
+	@Override
+	public void addDateHeader(String name, long date) {
+		addHeader(name, formatDate(date));
+	}
+
+	@Override
+	public void addCookie(Cookie cookie) {
+		addHeader(HttpHeaders.SET_COOKIE, cookie.getName() + "=" + cookie.getValue());
+	}
+
+	@Override
+	public @Nullable String getContentType() {
+		return getHeader(HttpHeaders.CONTENT_TYPE);
+	}
+
+	@Override
+	public void setContentType(@Nullable String type) {
+
+		if (type == null) {
+			headers.remove(HttpHeaders.CONTENT_TYPE);
+			return;
+		}
+
+		headers.put(HttpHeaders.CONTENT_TYPE, new ArrayList<>(List.of(type)));
+
+		try {
+
+			Charset charset = MediaType.parseMediaType(type).getCharset();
+
+			if (charset != null) {
+				this.charset = charset;
+			}
+
+		} catch (InvalidMediaTypeException o_O) {
+			// Keep the current character encoding
+		}
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return getCharset().name();
+	}
+
+	@Override
+	public void setCharacterEncoding(@Nullable String encoding) {
+		this.charset = StringUtils.hasText(encoding) ? Charset.forName(encoding) : null;
+	}
+
+	@Override
+	public void setContentLength(int length) {}
+
+	@Override
+	public void setContentLengthLong(long length) {}
+
+	@Override
+	public Locale getLocale() {
+		return locale;
+	}
+
+	@Override
+	public void setLocale(@Nullable Locale locale) {
+
+		if (locale != null) {
+			this.locale = locale;
+		}
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() {
+
+		return new ServletOutputStream() {
+
+			@Override
+			public void write(int b) {
+				content.write(b);
+			}
+
+			@Override
+			public void write(byte[] buffer, int offset, int length) {
+				content.write(buffer, offset, length);
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setWriteListener(WriteListener listener) {
+				throw new UnsupportedOperationException("Non-blocking writes not supported for batch sub-requests");
+			}
+		};
+	}
+
+	@Override
+	public PrintWriter getWriter() {
+
+		if (writer == null) {
+			writer = new PrintWriter(new OutputStreamWriter(content, getCharset()), true);
+		}
+
+		return writer;
+	}
+
+	@Override
+	public int getBufferSize() {
+		return content.size();
+	}
+
+	@Override
+	public void setBufferSize(int size) {}
+
+	@Override
+	public void flushBuffer() {
+
+		if (writer != null) {
+			writer.flush();
+		}
+	}
+
+	@Override
+	public boolean isCommitted() {
+		return false;
+	}
+
+	@Override
+	public void reset() {
+
+		resetBuffer();
+
+		headers.clear();
+		status = HttpStatus.OK.value();
+	}
+
+	@Override
+	public void resetBuffer() {
+
+		flushBuffer();
+		content.reset();
+	}
+
+	private Charset getCharset() {
+		return charset == null ? StandardCharsets.UTF_8 : charset;
+	}
+
+	private static String formatDate(long date) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.CacheControlConfiguration;
+import org.springframework.http.CacheControl;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the {@link CacheControl} to apply to a resource from the {@link CacheControlConfiguration} and the
+ * {@link ResourceCacheControl} policies declared on repositories and their query methods. Declared policies are
+ * resolved once per domain type and query method.
+ *
+ * @since 5.2
+ * @see CacheControlConfiguration
+ */
+public class CacheControlPolicies {
+
+	private final CacheControlConfiguration configuration;
+	private final Repositories repositories;
+
+	private final Map<Class<?>, Map<Scope, CacheControl>> declaredForTypes = new ConcurrentHashMap<>();
+	private final Map<Method, Optional<CacheControl>> declaredForMethods = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link CacheControlPolicies} for the given {@link CacheControlConfiguration} and
+	 * {@link Repositories}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 */
+	public CacheControlPolicies(CacheControlConfiguration configuration, Repositories repositories) {
+
+		Assert.notNull(configuration, "CacheControlConfiguration must not be null");
+		Assert.notNull(repositories, "Repositories must not be null");
+
+		this.configuration = configuration;
+		this.repositories = repositories;
+	}
+
+	/**
+	 * Returns the {@link CacheControl} to apply to the given kind of resource of the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param scope must not be {@literal null}.
+	 * @return {@literal null} if no policy applies.
+	 */
+	public @Nullable CacheControl getCacheControl(Class<?> domainType, Scope scope) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(scope, "Scope must not be null");
+
+		CacheControl configured = configuration.getCacheControlFor(domainType, scope);
+
+		if (configured != null) {
+			return configured;
+		}
+
+		CacheControl declared = getDeclaredPolicies(domainType).get(scope);
+
+		return declared != null ? declared : configuration.getDefault(scope);
+	}
+
+	/**
+	 * Returns the {@link CacheControl} to apply to the search resource exposed for the given query method of the
+	 * repository for the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return {@literal null} if no policy applies.
+	 */
+	public @Nullable CacheControl getCacheControl(Class<?> domainType, Method method) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(method, "Method must not be null");
+
+		CacheControl configured = configuration.getCacheControlFor(domainType, Scope.SEARCH);
+
+		if (configured != null) {
+			return configured;
+		}
+
+		return declaredForMethods.computeIfAbsent(method, CacheControlPolicies::getDeclaredPolicy) //
+				.orElseGet(() -> getCacheControl(domainType, Scope.SEARCH));
+	}
+
+	private Map<Scope, CacheControl> getDeclaredPolicies(Class<?> domainType) {
+
+		return declaredForTypes.computeIfAbsent(domainType, it -> {
+
+			Map<Scope, CacheControl> result = new EnumMap<>(Scope.class);
+
+			repositories.getRepositoryInformationFor(it) //
+					.map(RepositoryInformation::getRepositoryInterface) //
+					.map(CacheControlPolicies::getDeclaredPolicies) //
+					.orElseGet(List::of) //
+					.forEach(policy -> {
+						for (Scope scope : policy.scope()) {
+							result.putIfAbsent(scope, CacheControlConfiguration.toCacheControl(policy));
+						}
+					});
+
+			return result;
+		});
+	}
+
+	private static List<ResourceCacheControl> getDeclaredPolicies(Class<?> repositoryInterface) {
+
+		List<ResourceCacheControl> result = new ArrayList<>();
+
+		RepositoryRestResource repositoryRestResource = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface,
+				RepositoryRestResource.class);
+
+		if (repositoryRestResource != null) {
+			result.addAll(Arrays.asList(repositoryRestResource.cacheControl()));
+		}
+
+		RestResource restResource = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, RestResource.class);
+
+		if (restResource != null) {
+			result.addAll(Arrays.asList(restResource.cacheControl()));
+		}
+
+		return result;
+	}
+
+	private static Optional<CacheControl> getDeclaredPolicy(Method method) {
+
+		RestResource annotation = AnnotatedElementUtils.findMergedAnnotation(method, RestResource.class);
+
+		return annotation == null || annotation.cacheControl().length == 0 //
+				? Optional.empty() //
+				: Optional.of(CacheControlConfiguration.toCacheControl(annotation.cacheControl()[0]));
+	}
+}
@@ -31,13 +31,28 @@ public final class DefaultedPageable {
 
 	private final Pageable pageable;
 	private final boolean isDefault;
+	private final boolean sliced;
 
 	public DefaultedPageable(Pageable pageable, boolean isDefault) {
+		this(pageable, isDefault, false);
+	}
+
+	/**
+	 * Creates a new {@link DefaultedPageable} for the given {@link Pageable}.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @param isDefault whether the given {@link Pageable} is the default one configured.
+	 * @param sliced whether the client requested a {@link org.springframework.data.domain.Slice} instead of a
+	 *          {@link org.springframework.data.domain.Page}.
+	 * @since 5.2
+	 */
+	public DefaultedPageable(Pageable pageable, boolean isDefault, boolean sliced) {
 
 		Assert.notNull(pageable, "Pageable must not be null");
 
 		this.pageable = pageable;
 		this.isDefault = isDefault;
+		this.sliced = sliced;
 	}
 
 	/**
@@ -58,6 +73,17 @@ public final class DefaultedPageable {
 		return isDefault;
 	}
 
+	/**
+	 * Returns whether the client requested a {@link org.springframework.data.domain.Slice} instead of a
+	 * {@link org.springframework.data.domain.Page}, i.e. a page without the total number of elements.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	public boolean isSliced() {
+		return sliced;
+	}
+
 	/**
 	 * Returns {@link Pageable#unpaged()} if the contained {@link Pageable} is the default one.
 	 *
@@ -82,16 +108,17 @@ public final class DefaultedPageable {
 		DefaultedPageable that = (DefaultedPageable) o;
 
 		return Objects.equals(pageable, that.pageable) //
-				&& isDefault == that.isDefault;
+				&& isDefault == that.isDefault //
+				&& sliced == that.sliced;
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(pageable, isDefault);
+		return Objects.hash(pageable, isDefault, sliced);
 	}
 
 	@Override
 	public java.lang.String toString() {
-		return "DefaultedPageable(pageable=" + pageable + ", isDefault=" + isDefault + ")";
+		return "DefaultedPageable(pageable=" + pageable + ", isDefault=" + isDefault + ", sliced=" + sliced + ")";
 	}
 }
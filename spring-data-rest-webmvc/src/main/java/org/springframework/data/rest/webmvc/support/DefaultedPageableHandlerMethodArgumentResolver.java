@@ -36,6 +36,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 public class DefaultedPageableHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
 
 	private final PageableHandlerMethodArgumentResolver resolver;
+	private final @Nullable String sliceParameterName;
 
 	/**
 	 * Creates a new {@link DefaultedPageableHandlerMethodArgumentResolver} delegating to the given
@@ -44,9 +45,25 @@ public class DefaultedPageableHandlerMethodArgumentResolver implements HandlerMe
 	 * @param resolver must not be {@literal null}.
 	 */
 	public DefaultedPageableHandlerMethodArgumentResolver(PageableHandlerMethodArgumentResolver resolver) {
+		this(resolver, null);
+	}
+
+	/**
+	 * Creates a new {@link DefaultedPageableHandlerMethodArgumentResolver} delegating to the given
+	 * {@link PageableHandlerMethodArgumentResolver} and considering the request parameter of the given name to request a
+	 * {@link org.springframework.data.domain.Slice} instead of a {@link org.springframework.data.domain.Page}.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @param sliceParameterName can be {@literal null}.
+	 * @since 5.2
+	 */
+	public DefaultedPageableHandlerMethodArgumentResolver(PageableHandlerMethodArgumentResolver resolver,
+			@Nullable String sliceParameterName) {
 
 		Assert.notNull(resolver, "PageableHandlerMethodArgumentResolver must not be null");
+
 		this.resolver = resolver;
+		this.sliceParameterName = sliceParameterName;
 	}
 
 	@Override
@@ -54,7 +71,27 @@ public class DefaultedPageableHandlerMethodArgumentResolver implements HandlerMe
 			NativeWebRequest webRequest, @Nullable WebDataBinderFactory binderFactory) throws Exception {
 
 		Pageable pageable = resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
-		return new DefaultedPageable(pageable, resolver.isFallbackPageable(pageable));
+		return new DefaultedPageable(pageable, resolver.isFallbackPageable(pageable),
+				isSliceRequested(webRequest, sliceParameterName));
+	}
+
+	/**
+	 * Returns whether the given request carries the given slice parameter with any value but {@code false}.
+	 *
+	 * @param webRequest must not be {@literal null}.
+	 * @param sliceParameterName can be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 */
+	public static boolean isSliceRequested(NativeWebRequest webRequest, @Nullable String sliceParameterName) {
+
+		if (sliceParameterName == null) {
+			return false;
+		}
+
+		String value = webRequest.getParameter(sliceParameterName);
+
+		return value != null && !"false".equalsIgnoreCase(value.trim());
 	}
 
 	@Override
@@ -21,6 +21,7 @@ import java.util.List;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.mapping.PropertyAwareResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.BaseUri;
@@ -61,7 +62,8 @@ public class DomainClassResolver {
 	}
 
 	/**
-	 * Resolves a domain class that is associated with the {@link NativeWebRequest}
+	 * Resolves a domain class that is associated with the {@link NativeWebRequest}. For requests to association
+	 * resources, that's the type referenced by the association.
 	 *
 	 * @param method must not be {@literal null}.
 	 * @param webRequest must not be {@literal null}.
@@ -93,10 +95,24 @@ public class DomainClassResolver {
 			ResourceMetadata mapping = mappings.getMetadataFor(domainType);
 
 			if (mapping != null && mapping.getPath().matches(repositoryKey) && mapping.isExported()) {
-				return domainType;
+				return resolveAssociationType(mapping, method, lookupPath, domainType);
 			}
 		}
 
 		return null;
 	}
+
+	private static Class<?> resolveAssociationType(ResourceMetadata metadata, Method method, String lookupPath,
+			Class<?> domainType) {
+
+		String propertyKey = UriUtils.findMappingVariable("property", method, lookupPath);
+
+		if (!StringUtils.hasText(propertyKey)) {
+			return domainType;
+		}
+
+		PropertyAwareResourceMapping mapping = metadata.getProperty(propertyKey);
+
+		return mapping == null ? domainType : mapping.getProperty().getActualType();
+	}
 }
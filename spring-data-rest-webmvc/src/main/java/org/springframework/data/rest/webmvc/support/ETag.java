@@ -17,10 +17,17 @@ package org.springframework.data.rest.webmvc.support;
 
 import static org.springframework.util.StringUtils.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
@@ -38,7 +45,11 @@ public final class ETag {
 
 	public static final ETag NO_ETAG = new ETag(null);
 
+	private static final String WEAK_PREFIX = "W/";
+	private static final String DIGEST_ALGORITHM = "MD5";
+
 	private final @Nullable String value;
+	private final boolean weak;
 
 	/**
 	 * Creates a new {@link ETag} from the given value.
@@ -46,7 +57,12 @@ public final class ETag {
 	 * @param value can be {@literal null}.
 	 */
 	private ETag(@Nullable String value) {
+		this(value, false);
+	}
+
+	private ETag(@Nullable String value, boolean weak) {
 		this.value = value != null ? trimTrailingCharacter(trimLeadingCharacter(value, '"'), '"') : value;
+		this.weak = weak;
 	}
 
 	/**
@@ -57,7 +73,26 @@ public final class ETag {
 	 * @return
 	 */
 	public static ETag from(String value) {
-		return value == null ? ETag.NO_ETAG : new ETag(value);
+
+		if (value == null) {
+			return ETag.NO_ETAG;
+		}
+
+		return value.startsWith(WEAK_PREFIX) ? new ETag(value.substring(WEAK_PREFIX.length()), true) : new ETag(value);
+	}
+
+	/**
+	 * Creates a new weak {@link ETag} for the given {@link String} value.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 */
+	public static ETag weak(String value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		return new ETag(value, true);
 	}
 
 	public static ETag from(Optional<String> value) {
@@ -88,6 +123,58 @@ public final class ETag {
 		return getVersionInformation(entity, bean).map(ETag::from).orElse(NO_ETAG);
 	}
 
+	/**
+	 * Creates a weak {@link ETag} for the given collection of aggregates. It is calculated from the identifiers and
+	 * versions of the aggregates contained, the page or slice metadata in case the collection is a {@link Slice} and the
+	 * given projection. Falls back to {@link #NO_ETAG} in case the {@link PersistentEntity} doesn't carry a version
+	 * property or any of the elements is not an instance of it, as changes to the elements cannot be detected in that
+	 * case. Content that is neither a {@link Collection} nor a {@link Slice} doesn't get an {@link ETag} either, as it
+	 * might only be iterable once (e.g. when backed by a database cursor) and is still to be rendered.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 * @param projection the name of the projection requested, can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public static ETag fromCollection(PersistentEntity<?, ? extends PersistentProperty<?>> entity, Iterable<?> content,
+			@Nullable String projection) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(content, "Content must not be null");
+
+		PersistentProperty<?> versionProperty = entity.getVersionProperty();
+		PersistentProperty<?> idProperty = entity.getIdProperty();
+
+		if (versionProperty == null || idProperty == null
+				|| !(content instanceof Collection<?>) && !(content instanceof Slice<?>)) {
+			return NO_ETAG;
+		}
+
+		MessageDigest digest = getDigest();
+
+		update(digest, entity.getType().getName(), projection);
+
+		if (content instanceof Page<?> page) {
+			update(digest, "page", page.getNumber(), page.getSize(), page.getTotalElements());
+		} else if (content instanceof Slice<?> slice) {
+			update(digest, "slice", slice.getNumber(), slice.getSize(), slice.hasNext());
+		}
+
+		for (Object element : content) {
+
+			if (!entity.getType().isInstance(element)) {
+				return NO_ETAG;
+			}
+
+			PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(element);
+
+			update(digest, accessor.getProperty(idProperty), accessor.getProperty(versionProperty));
+		}
+
+		return weak(HexFormat.of().formatHex(digest.digest()));
+	}
+
 	/**
 	 * Verifies the ETag to be created for the given target bean with the current one and raises a
 	 * {@link ETagDoesntMatchException} in case they don't match.
@@ -125,6 +212,25 @@ public final class ETag {
 		return this.equals(from(entity, target));
 	}
 
+	/**
+	 * Returns whether the {@link ETag} matches the given {@link ResourceVersion}. Like
+	 * {@link #matches(PersistentEntity, Object)} it does not match if the ETag is {@link #NO_ETAG}.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 */
+	public boolean matches(ResourceVersion version) {
+
+		Assert.notNull(version, "ResourceVersion must not be null");
+
+		if (this == NO_ETAG) {
+			return false;
+		}
+
+		return this.equals(version.getETag());
+	}
+
 	/**
 	 * Adds the current {@link ETag} to the given headers.
 	 *
@@ -144,9 +250,41 @@ public final class ETag {
 		return headers;
 	}
 
+	/**
+	 * Returns whether the current {@link ETag} is a weak one.
+	 *
+	 * @return
+	 * @since 5.2
+	 */
+	public boolean isWeak() {
+		return weak;
+	}
+
+	/**
+	 * Returns whether the current {@link ETag} matches the given one using the weak comparison function, i.e. their
+	 * values match independently of whether either of them is weak. Never matches {@link #NO_ETAG}.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 */
+	public boolean weaklyMatches(ETag other) {
+
+		Assert.notNull(other, "ETag must not be null");
+
+		return this != NO_ETAG && other != NO_ETAG && Objects.equals(value, other.value);
+	}
+
 	@Override
 	public @Nullable String toString() {
-		return value == null ? "NO_ETAG" : "\"".concat(value).concat("\"");
+
+		if (value == null) {
+			return "NO_ETAG";
+		}
+
+		String quoted = "\"".concat(value).concat("\"");
+
+		return weak ? WEAK_PREFIX.concat(quoted) : quoted;
 	}
 
 	/**
@@ -182,11 +320,28 @@ public final class ETag {
 
 		ETag other = (ETag) o;
 
-		return Objects.equals(value, other.value);
+		return Objects.equals(value, other.value) && weak == other.weak;
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(value);
+		return Objects.hash(value, weak);
+	}
+
+	private static MessageDigest getDigest() {
+
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private static void update(MessageDigest digest, @Nullable Object... values) {
+
+		for (Object value : values) {
+			digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
 	}
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.rest.webmvc.spi.SurrogateKeyPurger;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SurrogateKeyPurger} simply recording the purge calls it receives. Primarily useful to verify which
+ * representations get purged by repository writes.
+ *
+ * @since 5.2
+ */
+public class InMemorySurrogateKeyPurger implements SurrogateKeyPurger {
+
+	private final List<Set<String>> purges = new ArrayList<>();
+
+	@Override
+	public synchronized void purge(Collection<String> surrogateKeys) {
+
+		Assert.notNull(surrogateKeys, "Surrogate keys must not be null");
+
+		purges.add(new LinkedHashSet<>(surrogateKeys));
+	}
+
+	/**
+	 * Returns the surrogate keys handed to the individual purge calls in the order of the calls.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public synchronized List<Set<String>> getPurges() {
+		return List.copyOf(purges);
+	}
+
+	/**
+	 * Returns all surrogate keys purged so far.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public synchronized Set<String> getPurgedKeys() {
+
+		Set<String> result = new LinkedHashSet<>();
+		purges.forEach(result::addAll);
+
+		return result;
+	}
+
+	/**
+	 * Forgets about all purge calls recorded so far.
+	 */
+	public synchronized void reset() {
+		purges.clear();
+	}
+}
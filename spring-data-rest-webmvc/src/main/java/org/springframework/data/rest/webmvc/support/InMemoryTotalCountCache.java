@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.rest.core.config.TotalCountCacheConfiguration;
+import org.springframework.data.rest.webmvc.spi.TotalCountCache;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TotalCountCache} keeping the totals in memory for the time to live configured in the
+ * {@link TotalCountCacheConfiguration}. Used in case no other {@link TotalCountCache} is declared as Spring bean.
+ *
+ * @since 5.2
+ */
+public class InMemoryTotalCountCache implements TotalCountCache {
+
+	private final TotalCountCacheConfiguration configuration;
+	private final Map<Class<?>, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link InMemoryTotalCountCache} for the given {@link TotalCountCacheConfiguration}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 */
+	public InMemoryTotalCountCache(TotalCountCacheConfiguration configuration) {
+
+		Assert.notNull(configuration, "TotalCountCacheConfiguration must not be null");
+
+		this.configuration = configuration;
+	}
+
+	@Override
+	public OptionalLong get(Class<?> domainType) {
+
+		Entry entry = entries.get(domainType);
+
+		if (entry == null) {
+			return OptionalLong.empty();
+		}
+
+		if (entry.isExpired()) {
+			entries.remove(domainType, entry);
+			return OptionalLong.empty();
+		}
+
+		return OptionalLong.of(entry.total);
+	}
+
+	@Override
+	public void put(Class<?> domainType, long total) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.isTrue(total >= 0, "Total must not be negative");
+
+		entries.put(domainType, new Entry(total, System.nanoTime() + configuration.getTimeToLive().toNanos()));
+	}
+
+	@Override
+	public void evict(Class<?> domainType) {
+		entries.remove(domainType);
+	}
+
+	private static final class Entry {
+
+		private final long total;
+		private final long expiresAt;
+
+		Entry(long total, long expiresAt) {
+			this.total = total;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired() {
+			return System.nanoTime() - expiresAt >= 0;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+/**
+ * Exception being thrown in case a client hands a cursor to a scrollable collection resource that cannot be decoded
+ * into a scroll position or does not fit the request.
+ *
+ * @since 5.2
+ * @see RepositoryScroller
+ */
+public class InvalidCursorException extends RuntimeException {
+
+	private static final long serialVersionUID = 4107529861843398741L;
+
+	/**
+	 * Creates a new {@link InvalidCursorException} for the given cause. The cursor itself is not included in the message
+	 * to not reflect client input.
+	 *
+	 * @param cause the failure to decode the cursor.
+	 */
+	public InvalidCursorException(Throwable cause) {
+		super("Invalid cursor", cause);
+	}
+
+	/**
+	 * Creates a new {@link InvalidCursorException} with the given message, which must not include the cursor itself.
+	 *
+	 * @param message must not be {@literal null}.
+	 */
+	public InvalidCursorException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.PluralAttribute.CollectionType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type.PersistenceType;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.spi.AssociationLookup;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AssociationLookup} for JPA managed entities that joins the association from its owner, so that only the
+ * entities of the page requested are loaded. Pages requested without sort are ordered by the identifier of the
+ * associated entities to guarantee a stable order. The total number of elements is counted only if it can't be
+ * derived from the page read. Individual entities referenced by an association are looked up with a join query
+ * restricted to the owner, so that the association is not initialized. Map-valued associations and collections of
+ * embeddables or basic values are not supported. Only used for the associations of the domain types enabled via
+ * {@link RepositoryRestConfiguration#useStoreQueriesFor(Class...)}.
+ *
+ * @since 5.2
+ */
+public class JpaAssociationLookup implements AssociationLookup {
+
+	private final RepositoryRestConfiguration configuration;
+	private final JpaEntityManagers entityManagers;
+
+	/**
+	 * Creates a new {@link JpaAssociationLookup} for the given {@link RepositoryRestConfiguration} and the
+	 * {@link jakarta.persistence.EntityManagerFactory} beans of the given {@link ListableBeanFactory}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param beanFactory must not be {@literal null}.
+	 */
+	public JpaAssociationLookup(RepositoryRestConfiguration configuration, ListableBeanFactory beanFactory) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+
+		this.configuration = configuration;
+		this.entityManagers = new JpaEntityManagers(beanFactory);
+	}
+
+	@Override
+	public boolean supports(Class<?> type) {
+		return configuration.isStoreQueryEnabledFor(type) && entityManagers.isManaged(type);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Optional<Page<?>> findPage(PersistentProperty<?> association, Object ownerId, Pageable pageable) {
+
+		Assert.notNull(association, "Association must not be null");
+		Assert.notNull(ownerId, "Owner identifier must not be null");
+		Assert.isTrue(pageable.isPaged(), "Pageable must not be unpaged");
+
+		PersistentEntity<?, ?> owner = association.getOwner();
+		Optional<EntityManager> entityManager = entityManagers.getEntityManager(owner.getType());
+
+		if (entityManager.isEmpty() || !isJoinable(entityManager.get(), owner.getType(), association.getName())
+				|| !owner.hasIdProperty()) {
+			return Optional.empty();
+		}
+
+		EntityManager em = entityManager.get();
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+		Class<Object> ownerType = (Class<Object>) owner.getType();
+		String ownerIdProperty = owner.getRequiredIdProperty().getName();
+
+		CriteriaQuery<Object> query = builder.createQuery((Class<Object>) association.getActualType());
+		Root<Object> root = query.from(ownerType);
+		Join<Object, Object> join = root.join(association.getName());
+
+		Sort sort = pageable.getSort().isSorted() //
+				? pageable.getSort() //
+				: getIdentifierSort(em, association.getActualType());
+
+		query.select(join) //
+				.where(builder.equal(root.get(ownerIdProperty), ownerId)) //
+				.orderBy(JpaSliceLookup.toOrders(sort, join, builder));
+
+		List<Object> content = em.createQuery(query) //
+				.setFirstResult(Math.toIntExact(pageable.getOffset())) //
+				.setMaxResults(pageable.getPageSize()) //
+				.getResultList();
+
+		return Optional.of(PageableExecutionUtils.getPage(content, pageable, () -> {
+
+			CriteriaQuery<Long> count = builder.createQuery(Long.class);
+			Root<Object> countRoot = count.from(ownerType);
+
+			count.select(builder.count(countRoot.join(association.getName()))) //
+					.where(builder.equal(countRoot.get(ownerIdProperty), ownerId));
+
+			return em.createQuery(count).getSingleResult();
+		}));
+	}
+
+	@Override
+	public boolean supportsElementLookup(PersistentProperty<?> association) {
+
+		Class<?> ownerType = association.getOwner().getType();
+
+		return association.getOwner().hasIdProperty() && entityManagers.getEntityManager(ownerType) //
+				.filter(it -> isJoinable(it, ownerType, association.getName())) //
+				.filter(it -> it.getMetamodel().entity(association.getActualType()).hasSingleIdAttribute()) //
+				.isPresent();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Optional<Object> findElement(PersistentProperty<?> association, Object ownerId, Object elementId) {
+
+		Assert.notNull(association, "Association must not be null");
+		Assert.notNull(ownerId, "Owner identifier must not be null");
+		Assert.notNull(elementId, "Element identifier must not be null");
+
+		if (!supportsElementLookup(association)) {
+			return Optional.empty();
+		}
+
+		PersistentEntity<?, ?> owner = association.getOwner();
+		EntityManager em = entityManagers.getRequiredEntityManager(owner.getType());
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+
+		CriteriaQuery<Object> query = builder.createQuery((Class<Object>) association.getActualType());
+		Root<Object> root = query.from((Class<Object>) owner.getType());
+		Join<Object, Object> join = root.join(association.getName());
+
+		query.select(join).where( //
+				builder.equal(root.get(owner.getRequiredIdProperty().getName()), ownerId), //
+				builder.equal(join.get(getIdentifierName(em, association.getActualType()).orElseThrow()), elementId));
+
+		return em.createQuery(query).setMaxResults(1).getResultList().stream().findFirst();
+	}
+
+	private static Sort getIdentifierSort(EntityManager em, Class<?> type) {
+		return getIdentifierName(em, type).map(it -> Sort.by(it)).orElseGet(Sort::unsorted);
+	}
+
+	private static Optional<String> getIdentifierName(EntityManager em, Class<?> type) {
+
+		return em.getMetamodel().entity(type).getSingularAttributes().stream() //
+				.filter(SingularAttribute::isId) //
+				.map(SingularAttribute::getName) //
+				.findFirst();
+	}
+
+	private static boolean isJoinable(EntityManager em, Class<?> ownerType, String name) {
+
+		return em.getMetamodel().entity(ownerType).getPluralAttributes().stream() //
+				.filter(it -> it.getName().equals(name)) //
+				.filter(it -> !CollectionType.MAP.equals(it.getCollectionType())) //
+				.anyMatch(it -> PersistenceType.ENTITY.equals(it.getElementType().getPersistenceType()));
+	}
+}
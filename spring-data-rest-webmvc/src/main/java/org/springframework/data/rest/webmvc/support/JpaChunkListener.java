@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.rest.webmvc.spi.ChunkListener;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link ChunkListener} for JPA managed entities that clears the {@link jakarta.persistence.EntityManager} bound to the
+ * current thread, e.g. by {@link org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor} or a
+ * surrounding transaction, after every chunk so that exported or imported entities can be garbage collected. Exports
+ * only read and imports commit every chunk before, so there are no pending changes to lose.
+ *
+ * @since 5.2
+ */
+public class JpaChunkListener implements ChunkListener {
+
+	private final JpaEntityManagers entityManagers;
+
+	/**
+	 * Creates a new {@link JpaChunkListener} for the {@link jakarta.persistence.EntityManagerFactory} beans of the
+	 * given {@link ListableBeanFactory}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 */
+	public JpaChunkListener(ListableBeanFactory beanFactory) {
+		this.entityManagers = new JpaEntityManagers(beanFactory);
+	}
+
+	@Override
+	public boolean supports(Class<?> type) {
+		return entityManagers.isManaged(type);
+	}
+
+	@Override
+	public void afterChunk(Class<?> domainType) {
+
+		entityManagers.getEntityManagerFactory(domainType) //
+				.map(TransactionSynchronizationManager::getResource) //
+				.filter(EntityManagerHolder.class::isInstance) //
+				.map(EntityManagerHolder.class::cast) //
+				.ifPresent(it -> it.getEntityManager().clear());
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.util.Lazy;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.util.Assert;
+
+/**
+ * Looks up the shared {@link EntityManager} of the {@link EntityManagerFactory} managing a domain type. The factories
+ * are looked up from the given {@link ListableBeanFactory} on first access and the results are cached per type.
+ *
+ * @since 5.2
+ */
+class JpaEntityManagers {
+
+	private final Lazy<Collection<EntityManagerFactory>> factories;
+	private final Map<Class<?>, Optional<EntityManagerFactory>> factoriesByType = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Optional<EntityManager>> entityManagers = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link JpaEntityManagers} for the {@link EntityManagerFactory} beans of the given
+	 * {@link ListableBeanFactory}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 */
+	JpaEntityManagers(ListableBeanFactory beanFactory) {
+
+		Assert.notNull(beanFactory, "BeanFactory must not be null");
+
+		this.factories = Lazy.of(() -> BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(beanFactory, EntityManagerFactory.class).values());
+	}
+
+	/**
+	 * Returns whether the given type is managed by any of the {@link EntityManagerFactory}s.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	boolean isManaged(Class<?> type) {
+		return getEntityManager(type).isPresent();
+	}
+
+	/**
+	 * Returns the shared {@link EntityManager} for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<EntityManager> getEntityManager(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		return entityManagers.computeIfAbsent(type, it -> getEntityManagerFactory(it) //
+				.map(SharedEntityManagerCreator::createSharedEntityManager));
+	}
+
+	/**
+	 * Returns the shared {@link EntityManager} for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given type is not managed by any {@link EntityManagerFactory}.
+	 */
+	EntityManager getRequiredEntityManager(Class<?> type) {
+
+		return getEntityManager(type).orElseThrow(
+				() -> new IllegalArgumentException("No EntityManager found for %s".formatted(type)));
+	}
+
+	/**
+	 * Returns the {@link EntityManagerFactory} managing the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<EntityManagerFactory> getEntityManagerFactory(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		return factoriesByType.computeIfAbsent(type, it -> factories.get().stream() //
+				.filter(factory -> isManaged(factory, it)) //
+				.findFirst());
+	}
+
+	private static boolean isManaged(EntityManagerFactory factory, Class<?> type) {
+
+		return factory.getMetamodel().getEntities().stream() //
+				.anyMatch(it -> type.equals(it.getJavaType()));
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.spi.IdentifierLookup;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link IdentifierLookup} for JPA managed entities that selects the identifying property only, so that neither the
+ * entities nor any of their associations are materialized. The total number of elements of a page is counted only if
+ * it can't be derived from the page read. Only used for the domain types enabled via
+ * {@link RepositoryRestConfiguration#useStoreQueriesFor(Class...)}.
+ *
+ * @since 5.2
+ */
+public class JpaIdentifierLookup implements IdentifierLookup {
+
+	private final RepositoryRestConfiguration configuration;
+	private final JpaEntityManagers entityManagers;
+
+	/**
+	 * Creates a new {@link JpaIdentifierLookup} for the given {@link RepositoryRestConfiguration} and the
+	 * {@link jakarta.persistence.EntityManagerFactory} beans of the given {@link ListableBeanFactory}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param beanFactory must not be {@literal null}.
+	 */
+	public JpaIdentifierLookup(RepositoryRestConfiguration configuration, ListableBeanFactory beanFactory) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+
+		this.configuration = configuration;
+		this.entityManagers = new JpaEntityManagers(beanFactory);
+	}
+
+	@Override
+	public boolean supports(Class<?> type) {
+		return configuration.isStoreQueryEnabledFor(type) && entityManagers.isManaged(type);
+	}
+
+	@Override
+	public Iterable<?> findAll(PersistentEntity<?, ?> entity, String property, Pageable pageable) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.hasText(property, "Property must not be null or empty");
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		EntityManager em = entityManagers.getRequiredEntityManager(entity.getType());
+
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+		CriteriaQuery<Object> query = builder.createQuery(Object.class);
+		Root<?> root = query.from(entity.getType());
+
+		query.select(root.get(property)).orderBy(JpaSliceLookup.toOrders(pageable.getSort(), root, builder));
+
+		TypedQuery<Object> typedQuery = em.createQuery(query);
+
+		if (pageable.isUnpaged()) {
+			return typedQuery.getResultList();
+		}
+
+		List<Object> content = typedQuery //
+				.setFirstResult(Math.toIntExact(pageable.getOffset())) //
+				.setMaxResults(pageable.getPageSize()) //
+				.getResultList();
+
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(em, entity.getType()));
+	}
+
+	private static long count(EntityManager em, Class<?> type) {
+
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+		CriteriaQuery<Long> query = builder.createQuery(Long.class);
+
+		query.select(builder.count(query.from(type)));
+
+		return em.createQuery(query).getSingleResult();
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.rest.webmvc.spi.ReferenceLookup;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReferenceLookup} for JPA managed entities obtaining references through {@link EntityManager#getReference},
+ * just like {@code JpaRepository.getReferenceById(…)} does. The state of a reference is only loaded if accessed, and
+ * references to entities that don't exist are rejected by the foreign key constraints on flush.
+ *
+ * @since 5.2
+ */
+public class JpaReferenceLookup implements ReferenceLookup {
+
+	private final JpaEntityManagers entityManagers;
+
+	/**
+	 * Creates a new {@link JpaReferenceLookup} for the {@link jakarta.persistence.EntityManagerFactory} beans of the
+	 * given {@link ListableBeanFactory}.
+	 *
+	 * @param beanFactory must not be {@literal null}.
+	 */
+	public JpaReferenceLookup(ListableBeanFactory beanFactory) {
+		this.entityManagers = new JpaEntityManagers(beanFactory);
+	}
+
+	@Override
+	public boolean supports(Class<?> type) {
+		return entityManagers.isManaged(type);
+	}
+
+	@Override
+	public Object getReference(Class<?> type, Object id) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(id, "Identifier must not be null");
+
+		return entityManagers.getRequiredEntityManager(type).getReference(type, id);
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.spi.SliceLookup;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link SliceLookup} for JPA managed entities that reads one element more than requested to find out whether a next
+ * slice exists instead of issuing a count query. Only used for the domain types enabled via
+ * {@link RepositoryRestConfiguration#useStoreQueriesFor(Class...)}.
+ *
+ * @since 5.2
+ */
+public class JpaSliceLookup implements SliceLookup {
+
+	private final RepositoryRestConfiguration configuration;
+	private final JpaEntityManagers entityManagers;
+
+	/**
+	 * Creates a new {@link JpaSliceLookup} for the given {@link RepositoryRestConfiguration} and the
+	 * {@link jakarta.persistence.EntityManagerFactory} beans of the given {@link ListableBeanFactory}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param beanFactory must not be {@literal null}.
+	 */
+	public JpaSliceLookup(RepositoryRestConfiguration configuration, ListableBeanFactory beanFactory) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+
+		this.configuration = configuration;
+		this.entityManagers = new JpaEntityManagers(beanFactory);
+	}
+
+	@Override
+	public boolean supports(Class<?> type) {
+		return configuration.isStoreQueryEnabledFor(type) && entityManagers.isManaged(type);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Slice<?> findAll(PersistentEntity<?, ?> entity, Pageable pageable) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.isTrue(pageable.isPaged(), "Pageable must not be unpaged");
+
+		EntityManager em = entityManagers.getRequiredEntityManager(entity.getType());
+
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+		CriteriaQuery<Object> query = builder.createQuery((Class<Object>) entity.getType());
+		Root<Object> root = query.from((Class<Object>) entity.getType());
+
+		query.select(root).orderBy(toOrders(pageable.getSort(), root, builder));
+
+		List<Object> content = em.createQuery(query) //
+				.setFirstResult(Math.toIntExact(pageable.getOffset())) //
+				.setMaxResults(pageable.getPageSize() + 1) //
+				.getResultList();
+
+		boolean hasNext = content.size() > pageable.getPageSize();
+
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+	static List<jakarta.persistence.criteria.Order> toOrders(Sort sort, From<?, ?> root, CriteriaBuilder builder) {
+
+		List<jakarta.persistence.criteria.Order> orders = new ArrayList<>();
+
+		for (Order order : sort) {
+
+			Path<?> path = root;
+
+			for (String segment : StringUtils.delimitedListToStringArray(order.getProperty(), ".")) {
+				path = path.get(segment);
+			}
+
+			Expression<?> expression = order.isIgnoreCase() && String.class.equals(path.getJavaType()) //
+					? builder.lower(path.as(String.class)) //
+					: path;
+
+			orders.add(order.isAscending() ? builder.asc(expression) : builder.desc(expression));
+		}
+
+		return orders;
+	}
+}
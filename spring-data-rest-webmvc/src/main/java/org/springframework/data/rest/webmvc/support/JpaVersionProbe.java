@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.webmvc.spi.VersionProbe;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+
+/**
+ * {@link VersionProbe} for JPA managed entities that issues a query selecting only the version and last modification
+ * date of an entity by its identifier. Neither the entity itself nor any of its associations are materialized. Only
+ * used for the domain types enabled via {@link RepositoryRestConfiguration#useStoreQueriesFor(Class...)}.
+ *
+ * @since 5.2
+ */
+public class JpaVersionProbe implements VersionProbe {
+
+	private static final String VERSION_ALIAS = "version";
+	private static final String LAST_MODIFIED_ALIAS = "lastModified";
+
+	private final RepositoryRestConfiguration configuration;
+	private final ConversionService conversionService;
+	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
+	private final JpaEntityManagers entityManagers;
+
+	/**
+	 * Creates a new {@link JpaVersionProbe} for the given {@link RepositoryRestConfiguration} using the given
+	 * {@link ConversionService} to convert identifiers and the given {@link EntityLookup}s to exclude types that are
+	 * not looked up by their identifier. Entities are queried through the
+	 * {@link jakarta.persistence.EntityManagerFactory} beans of the given {@link ListableBeanFactory}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 * @param beanFactory must not be {@literal null}.
+	 */
+	public JpaVersionProbe(RepositoryRestConfiguration configuration, ConversionService conversionService,
+			List<? extends EntityLookup<?>> lookups, ListableBeanFactory beanFactory) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+		Assert.notNull(lookups, "EntityLookups must not be null");
+
+		this.configuration = configuration;
+		this.conversionService = conversionService;
+		this.lookups = PluginRegistry.of(lookups);
+		this.entityManagers = new JpaEntityManagers(beanFactory);
+	}
+
+	@Override
+	public boolean supports(Class<?> type) {
+		return configuration.isStoreQueryEnabledFor(type) && !lookups.hasPluginFor(type)
+				&& getEntityManager(type).isPresent();
+	}
+
+	@Override
+	public Optional<ResourceVersion> probe(PersistentEntity<?, ?> entity, Object id) {
+
+		PersistentProperty<?> versionProperty = entity.getVersionProperty();
+		PersistentProperty<?> lastModifiedProperty = entity.getPersistentProperty(LastModifiedDate.class);
+
+		// Nothing to compare against, let the aggregate be loaded to find out whether it exists at all
+		if (versionProperty == null && lastModifiedProperty == null) {
+			return Optional.empty();
+		}
+
+		Optional<EntityManager> entityManager = getEntityManager(entity.getType());
+		PersistentProperty<?> idProperty = entity.getIdProperty();
+
+		if (entityManager.isEmpty() || idProperty == null) {
+			return Optional.empty();
+		}
+
+		Object identifier;
+
+		try {
+			identifier = conversionService.convert(id, idProperty.getType());
+		} catch (ConversionException o_O) {
+			return Optional.empty();
+		}
+
+		EntityManager em = entityManager.get();
+		CriteriaBuilder builder = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = builder.createTupleQuery();
+		Root<?> root = query.from(entity.getType());
+
+		List<Selection<?>> selections = new ArrayList<>();
+		selections.add(root.get(idProperty.getName()));
+
+		if (versionProperty != null) {
+			selections.add(root.get(versionProperty.getName()).alias(VERSION_ALIAS));
+		}
+
+		if (lastModifiedProperty != null) {
+			selections.add(root.get(lastModifiedProperty.getName()).alias(LAST_MODIFIED_ALIAS));
+		}
+
+		query.multiselect(selections).where(builder.equal(root.get(idProperty.getName()), identifier));
+
+		return em.createQuery(query).setMaxResults(1).getResultList().stream() //
+				.findFirst() //
+				.map(it -> ResourceVersion.of( //
+						versionProperty == null ? null : it.get(VERSION_ALIAS), //
+						lastModifiedProperty == null ? null : it.get(LAST_MODIFIED_ALIAS)));
+	}
+
+	private Optional<EntityManager> getEntityManager(Class<?> type) {
+
+		return entityManagers.getEntityManager(type) //
+				.filter(it -> it.getMetamodel().entity(type).hasSingleIdAttribute());
+	}
+}
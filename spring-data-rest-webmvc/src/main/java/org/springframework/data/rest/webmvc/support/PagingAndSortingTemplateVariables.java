@@ -18,6 +18,8 @@ package org.springframework.data.rest.webmvc.support;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.TemplateVariable;
+import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.server.mvc.UriComponentsContributor;
 import org.springframework.web.util.UriComponents;
@@ -47,4 +49,23 @@ public interface PagingAndSortingTemplateVariables extends UriComponentsContribu
 	 * @return
 	 */
 	TemplateVariables getSortTemplateVariables(@Nullable MethodParameter parameter, UriComponents components);
+
+	/**
+	 * Returns the {@link TemplateVariables} for scrolling through a collection resource by cursor. Defaults to the
+	 * cursor and the sort variables.
+	 *
+	 * @param parameter can be {@literal null}.
+	 * @param components must not be {@literal null}.
+	 * @return
+	 * @since 5.2
+	 * @see RepositoryScroller
+	 */
+	default TemplateVariables getScrollTemplateVariables(@Nullable MethodParameter parameter,
+			UriComponents components) {
+
+		return new TemplateVariables(
+				new TemplateVariable(RepositoryScroller.CURSOR_PARAMETER, VariableType.REQUEST_PARAM,
+				RepositoryScroller.CURSOR_DESCRIPTION))
+				.concat(getSortTemplateVariables(parameter, components));
+	}
 }
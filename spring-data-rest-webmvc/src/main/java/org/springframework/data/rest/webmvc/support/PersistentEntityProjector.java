@@ -57,6 +57,16 @@ public class PersistentEntityProjector extends DefaultExcerptProjector implement
 		this.projection = projection;
 	}
 
+	/**
+	 * Returns the name of the projection requested.
+	 *
+	 * @return can be {@literal null}.
+	 * @since 5.2
+	 */
+	public @Nullable String getProjection() {
+		return projection;
+	}
+
 	public Object project(Object source) {
 		return projectWithDefault(source, Function.identity());
 	}
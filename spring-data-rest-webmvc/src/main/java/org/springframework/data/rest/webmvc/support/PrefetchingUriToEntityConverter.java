@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.net.URI;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.data.rest.core.UriToEntityConverter} that returns the aggregates looked up for the
+ * current request by {@link AssociationUriResolver#prefetch} before, and only looks up the ones not prefetched
+ * individually. URIs of aggregate types bound to references are never prefetched.
+ *
+ * @since 5.2
+ */
+public class PrefetchingUriToEntityConverter extends ReferenceBindingUriToEntityConverter {
+
+	private final AssociationUriResolver resolver;
+
+	/**
+	 * Creates a new {@link PrefetchingUriToEntityConverter} using the given {@link PersistentEntities},
+	 * {@link RepositoryInvokerFactory}, {@link ConversionService}, {@link AssociationReferences} and
+	 * {@link AssociationUriResolver}.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @param references must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 */
+	public PrefetchingUriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
+			Supplier<ConversionService> conversionService, Supplier<AssociationReferences> references,
+			AssociationUriResolver resolver) {
+
+		super(entities, invokerFactory, conversionService, references);
+
+		Assert.notNull(resolver, "AssociationUriResolver must not be null");
+
+		this.resolver = resolver;
+	}
+
+	@Override
+	public @Nullable Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+		Object prefetched = source instanceof URI uri ? resolver.getPrefetched(targetType.getType(), uri) : null;
+
+		return prefetched != null ? prefetched : super.convert(source, sourceType, targetType);
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.net.URI;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.UriToEntityConverter;
+import org.springframework.util.Assert;
+
+/**
+ * {@link UriToEntityConverter} that binds URIs pointing to aggregates of the types configured for reference binding to
+ * references obtained from {@link AssociationReferences} and looks up all others.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.core.config.ReferenceBindingConfiguration
+ */
+public class ReferenceBindingUriToEntityConverter extends UriToEntityConverter {
+
+	private final Supplier<AssociationReferences> references;
+
+	/**
+	 * Creates a new {@link ReferenceBindingUriToEntityConverter} using the given {@link PersistentEntities},
+	 * {@link RepositoryInvokerFactory}, {@link ConversionService} and {@link AssociationReferences}.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @param references must not be {@literal null}.
+	 */
+	public ReferenceBindingUriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
+			Supplier<ConversionService> conversionService, Supplier<AssociationReferences> references) {
+
+		super(entities, invokerFactory, conversionService);
+
+		Assert.notNull(references, "AssociationReferences must not be null");
+
+		this.references = references;
+	}
+
+	@Override
+	public @Nullable Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+		if (source instanceof URI uri && uri.getPath() != null && references.get().isBound(targetType.getType())) {
+
+			String[] segments = uri.getPath().split("/");
+
+			// Leave URIs without identifier segment to the regular resolution reporting the failure
+			if (segments.length >= 2) {
+				return references.get().getReference(targetType.getType(), segments[segments.length - 1]);
+			}
+		}
+
+		return super.convert(source, sourceType, targetType);
+	}
+}
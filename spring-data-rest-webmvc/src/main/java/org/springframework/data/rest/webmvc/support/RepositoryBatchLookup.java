@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.CrudMethods;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
+import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Looks up multiple aggregates by the identifiers used in the URIs of their item resources at once, so that clients
+ * can resolve a set of references with a single request. Aggregates of repositories extending {@link CrudRepository}
+ * are read with a single call to {@link CrudRepository#findAllById(Iterable)} unless the repository redeclares
+ * {@code findById(…)} or an {@link EntityLookup} is registered for the domain type. All others are looked up one by
+ * one through the {@link RepositoryInvoker}, just like the item resource does.
+ *
+ * @since 5.2
+ */
+public class RepositoryBatchLookup {
+
+	/**
+	 * The name of the request parameter to hand the identifiers of the aggregates to look up to a collection resource.
+	 * It is not a valid property path, so that it never collides with a Querydsl predicate filtering the resource.
+	 */
+	public static final String ID_PARAMETER = "item-ids";
+
+	private final Repositories repositories;
+	private final PluginRegistry<EntityLookup<?>, Class<?>> entityLookups;
+	private final PluginRegistry<BackendIdConverter, Class<?>> idConverters;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link RepositoryBatchLookup} for the given {@link Repositories}, {@link EntityLookup}s,
+	 * {@link BackendIdConverter}s and {@link ConversionService}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param entityLookups must not be {@literal null}.
+	 * @param idConverters must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public RepositoryBatchLookup(Repositories repositories, List<? extends EntityLookup<?>> entityLookups,
+			PluginRegistry<BackendIdConverter, Class<?>> idConverters, ConversionService conversionService) {
+
+		Assert.notNull(repositories, "Repositories must not be null");
+		Assert.notNull(entityLookups, "EntityLookups must not be null");
+		Assert.notNull(idConverters, "BackendIdConverters must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.repositories = repositories;
+		this.entityLookups = PluginRegistry.of(entityLookups);
+		this.idConverters = idConverters;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Looks up the aggregates of the given {@link PersistentEntity} identified by the given request identifiers.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param ids the identifiers as used in the URIs of the item resources, must not be {@literal null}.
+	 * @return the aggregates found in the order of the identifiers given, skipping duplicate identifiers and the ones
+	 *         no aggregate was found for. Will never be {@literal null}.
+	 */
+	public List<Object> findAllById(PersistentEntity<?, ?> entity, RepositoryInvoker invoker, List<String> ids) {
+		return findAllByRequestId(entity, invoker, ids).values().stream().distinct().toList();
+	}
+
+	/**
+	 * Looks up the aggregates of the given {@link PersistentEntity} identified by the given request identifiers and
+	 * returns them keyed by the request identifier they were found for.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param ids the identifiers as used in the URIs of the item resources, must not be {@literal null}.
+	 * @return the aggregates found in the order of the identifiers given, without entries for the identifiers no
+	 *         aggregate was found for. Will never be {@literal null}.
+	 */
+	public Map<String, Object> findAllByRequestId(PersistentEntity<?, ?> entity, RepositoryInvoker invoker,
+			List<String> ids) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(invoker, "RepositoryInvoker must not be null");
+		Assert.notNull(ids, "Identifiers must not be null");
+
+		Class<?> type = entity.getType();
+		BackendIdConverter converter = idConverters.getPluginFor(type).orElse(DefaultIdConverter.INSTANCE);
+		Map<String, Serializable> sources = new LinkedHashMap<>();
+
+		for (String id : ids) {
+			if (StringUtils.hasText(id)) {
+				sources.putIfAbsent(id, converter.fromRequestId(id, type));
+			}
+		}
+
+		Map<String, Object> result = new LinkedHashMap<>(sources.size());
+		CrudRepository<Object, Object> repository = getCrudRepository(repositories, type,
+				CrudMethods::getFindOneMethod);
+
+		// Lookups and redeclared finders resolve one identifier at a time
+		if (repository == null || entityLookups.hasPluginFor(type)) {
+
+			Map<Serializable, Optional<Object>> aggregates = new HashMap<>(sources.size());
+
+			sources.forEach((id, source) -> aggregates.computeIfAbsent(source, invoker::invokeFindById) //
+					.ifPresent(it -> result.put(id, it)));
+
+			return result;
+		}
+
+		Class<?> idType = entity.getRequiredIdProperty().getType();
+		Map<String, Object> identifiers = new LinkedHashMap<>(sources.size());
+
+		sources.forEach((id, source) -> {
+
+			Object identifier = conversionService.convert(source, idType);
+
+			if (identifier != null) {
+				identifiers.put(id, identifier);
+			}
+		});
+
+		Map<Object, Object> aggregates = new HashMap<>(identifiers.size());
+
+		for (Object aggregate : repository.findAllById(new LinkedHashSet<>(identifiers.values()))) {
+			aggregates.put(entity.getIdentifierAccessor(aggregate).getRequiredIdentifier(), aggregate);
+		}
+
+		identifiers.forEach((id, identifier) -> {
+
+			Object aggregate = aggregates.get(identifier);
+
+			if (aggregate != null) {
+				result.put(id, aggregate);
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Returns the {@link CrudRepository} managing the given domain type in case the CRUD method selected by the given
+	 * {@link Function} is inherited from {@link CrudRepository}, i.e. not redeclared to customize it.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	static @Nullable CrudRepository<Object, Object> getCrudRepository(Repositories repositories, Class<?> type,
+			Function<CrudMethods, Optional<Method>> method) {
+
+		boolean inherited = repositories.getRepositoryInformationFor(type) //
+				.flatMap(it -> method.apply(it.getCrudMethods())) //
+				.map(Method::getDeclaringClass) //
+				.filter(CrudRepository.class::equals) //
+				.isPresent();
+
+		return inherited //
+				? repositories.getRepositoryFor(type) //
+						.filter(CrudRepository.class::isInstance) //
+						.map(it -> (CrudRepository<Object, Object>) it) //
+						.orElse(null)
+				: null;
+	}
+}
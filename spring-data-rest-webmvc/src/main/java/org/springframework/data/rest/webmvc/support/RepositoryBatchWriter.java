@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.CrudMethods;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.Assert;
+
+/**
+ * Writes multiple aggregates at once. Aggregates of repositories extending {@link CrudRepository} are saved with a
+ * single call to {@link CrudRepository#saveAll(Iterable)} and deleted by identifier with a single call to
+ * {@link CrudRepository#deleteAllById(Iterable)}, i.e. in a single transaction for transactional repositories, which
+ * also allows the persistence provider to batch the statements issued. Repositories redeclaring {@code save(…)} or
+ * {@code delete(…)} write the aggregates one by one through the {@link RepositoryInvoker}, so that method level
+ * customizations still apply, all of them within a single transaction of the {@link TransactionOperations} given.
+ *
+ * @since 5.2
+ */
+public class RepositoryBatchWriter {
+
+	private final Repositories repositories;
+	private final TransactionOperations transactions;
+
+	/**
+	 * Creates a new {@link RepositoryBatchWriter} for the given {@link Repositories}, writing aggregates one by one
+	 * without a transaction.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 */
+	public RepositoryBatchWriter(Repositories repositories) {
+		this(repositories, TransactionOperations.withoutTransaction());
+	}
+
+	/**
+	 * Creates a new {@link RepositoryBatchWriter} for the given {@link Repositories} and {@link TransactionOperations}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param transactions the {@link TransactionOperations} to write aggregates one by one within, must not be
+	 *          {@literal null}.
+	 */
+	public RepositoryBatchWriter(Repositories repositories, TransactionOperations transactions) {
+
+		Assert.notNull(repositories, "Repositories must not be null");
+		Assert.notNull(transactions, "TransactionOperations must not be null");
+
+		this.repositories = repositories;
+		this.transactions = transactions;
+	}
+
+	/**
+	 * Executes the given callback within a single transaction of the {@link TransactionOperations} the aggregates are
+	 * written in, so that aggregates can be looked up, verified and written atomically.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return the result of the callback, will never be {@literal null}.
+	 */
+	public <T> T executeInTransaction(Supplier<T> callback) {
+
+		Assert.notNull(callback, "Callback must not be null");
+
+		T result = transactions.execute(status -> callback.get());
+
+		Assert.state(result != null, "Callback must not return null");
+
+		return result;
+	}
+
+	/**
+	 * Saves all given aggregates of the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param aggregates must not be {@literal null}.
+	 * @return the saved aggregates in the order given, will never be {@literal null}.
+	 */
+	public List<Object> saveAll(Class<?> domainType, RepositoryInvoker invoker, List<Object> aggregates) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(invoker, "RepositoryInvoker must not be null");
+		Assert.notNull(aggregates, "Aggregates must not be null");
+
+		CrudRepository<Object, Object> repository = RepositoryBatchLookup.getCrudRepository(repositories, domainType,
+				CrudMethods::getSaveMethod);
+
+		if (repository == null) {
+
+			return transactions.execute(status -> aggregates.stream() //
+					.map(invoker::invokeSave) //
+					.toList());
+		}
+
+		List<Object> result = new ArrayList<>(aggregates.size());
+		repository.saveAll(aggregates).forEach(result::add);
+
+		return result;
+	}
+
+	/**
+	 * Deletes all given aggregates of the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param aggregates must not be {@literal null}.
+	 */
+	public void deleteAll(PersistentEntity<?, ?> entity, RepositoryInvoker invoker, List<Object> aggregates) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(invoker, "RepositoryInvoker must not be null");
+		Assert.notNull(aggregates, "Aggregates must not be null");
+
+		CrudRepository<Object, Object> repository = RepositoryBatchLookup.getCrudRepository(repositories,
+				entity.getType(), CrudMethods::getDeleteMethod);
+
+		if (repository == null) {
+
+			transactions.executeWithoutResult(status -> {
+				for (Object aggregate : aggregates) {
+					invoker.invokeDeleteById(entity.getIdentifierAccessor(aggregate).getRequiredIdentifier());
+				}
+			});
+
+			return;
+		}
+
+		repository.deleteAllById(aggregates.stream() //
+				.map(it -> entity.getIdentifierAccessor(it).getRequiredIdentifier()) //
+				.toList());
+	}
+}
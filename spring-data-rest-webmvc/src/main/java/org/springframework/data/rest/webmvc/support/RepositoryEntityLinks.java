@@ -122,12 +122,48 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 		String href = linkFor(type).toString();
 		UriComponents components = prepareUri(href, metadata, pageable);
 
-		TemplateVariables variables = getTemplateVariables(components, metadata, pageable).//
-				concat(getProjectionVariable(type));
+		TemplateVariables variables = isScrollable(type) //
+				? templateVariables.get().getScrollTemplateVariables(null, components) //
+				: getTemplateVariables(components, metadata, pageable);
+
+		variables = variables.concat(getProjectionVariable(type));
 
 		return Link.of(UriTemplate.of(href).with(variables), metadata.getRel());
 	}
 
+	/**
+	 * Returns the link to the given scroll position of the collection resource for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param cursor the cursor representing the scroll position, must not be {@literal null} or empty.
+	 * @param size the number of elements to scroll through.
+	 * @param sort must not be {@literal null}.
+	 * @param projection the name of the projection to apply, can be {@literal null}.
+	 * @param relation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 * @see RepositoryScroller
+	 */
+	public Link linkToScrollPosition(Class<?> type, String cursor, int size, Sort sort, @Nullable String projection,
+			LinkRelation relation) {
+
+		Assert.hasText(cursor, "Cursor must not be null or empty");
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(relation, "LinkRelation must not be null");
+
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(linkFor(type).toString()) //
+				.queryParam(RepositoryScroller.CURSOR_PARAMETER, cursor) //
+				.queryParam(config.getLimitParamName(), size);
+
+		templateVariables.get().enhance(builder, null, sort);
+
+		if (projection != null) {
+			builder.queryParam(config.getProjectionConfiguration().getParameterName(), projection);
+		}
+
+		return Link.of(builder.build().encode().toUriString(), relation);
+	}
+
 	@Override
 	public Link linkToCollectionResource(Class<?> type) {
 		return linkToPagedResource(type, null);
@@ -325,6 +361,13 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 		}
 	}
 
+	private boolean isScrollable(Class<?> type) {
+
+		return config.isScrollingEnabledFor(type) && repositories.getRepositoryInformationFor(type) //
+				.flatMap(it -> RepositoryScroller.findScrollMethod(it.getRepositoryInterface())) //
+				.isPresent();
+	}
+
 	/**
 	 * Returns the {@link TemplateVariables} for the projection parameter if projections are vonfigured for the given
 	 * type.
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.webmvc.spi.IdentifierLookup;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+
+/**
+ * Looks up the values identifying the aggregates of a collection resource in URIs, i.e. either the identifiers or the
+ * lookup property values of an {@link EntityLookup} registered for the domain type, through an
+ * {@link IdentifierLookup}. Used to render the compact and {@code text/uri-list} representations of collection
+ * resources without materializing the aggregates.
+ *
+ * @since 5.2
+ * @see IdentifierLookup
+ */
+public class RepositoryIdentifiers {
+
+	private final PluginRegistry<EntityLookup<?>, Class<?>> entityLookups;
+	private final PluginRegistry<IdentifierLookup, Class<?>> lookups;
+
+	/**
+	 * Creates a new {@link RepositoryIdentifiers} for the given {@link EntityLookup}s and {@link IdentifierLookup}s.
+	 *
+	 * @param entityLookups must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 */
+	public RepositoryIdentifiers(List<? extends EntityLookup<?>> entityLookups,
+			List<? extends IdentifierLookup> lookups) {
+
+		Assert.notNull(entityLookups, "EntityLookups must not be null");
+		Assert.notNull(lookups, "IdentifierLookups must not be null");
+
+		this.entityLookups = PluginRegistry.of(entityLookups);
+		this.lookups = PluginRegistry.of(lookups);
+	}
+
+	/**
+	 * Looks up the values identifying the aggregates of the given {@link PersistentEntity} described by the given
+	 * {@link Pageable} in URIs.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return a {@link org.springframework.data.domain.Page} for paged requests or {@link Optional#empty()} in case no
+	 *         {@link IdentifierLookup} is available for the domain type, the aggregates are identified by a value not
+	 *         backed by a property or the given {@link RepositoryInvoker} applies a Querydsl predicate.
+	 */
+	public Optional<Iterable<?>> findAll(PersistentEntity<?, ?> entity, RepositoryInvoker invoker, Pageable pageable) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(invoker, "RepositoryInvoker must not be null");
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		// Lookups don't know about Querydsl predicates, so filtered requests have to go through the repository
+		if (RepositorySlicer.isFiltered(invoker)) {
+			return Optional.empty();
+		}
+
+		return getIdentifyingProperty(entity) //
+				.flatMap(property -> lookups.getPluginFor(entity.getType()) //
+						.<Iterable<?>> map(it -> it.findAll(entity, property, pageable)));
+	}
+
+	private Optional<String> getIdentifyingProperty(PersistentEntity<?, ?> entity) {
+
+		Optional<EntityLookup<?>> lookup = entityLookups.getPluginFor(entity.getType());
+
+		if (lookup.isPresent()) {
+			return lookup.get().getLookupProperty();
+		}
+
+		return Optional.ofNullable(entity.getIdProperty()).map(PersistentProperty::getName);
+	}
+}
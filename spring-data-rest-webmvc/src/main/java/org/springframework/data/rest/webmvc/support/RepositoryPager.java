@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.TotalCountCacheConfiguration;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.RepositoryEvent;
+import org.springframework.data.rest.webmvc.IncrementalCollectionModel;
+import org.springframework.data.rest.webmvc.spi.TotalCountCache;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Reads pages of collection resources using the total number of elements cached in a {@link TotalCountCache} for the
+ * domain types enabled in the {@link TotalCountCacheConfiguration}. Pages are read through
+ * {@link RepositorySlicer#lookup(PersistentEntity, RepositoryInvoker, Pageable)} once a total is cached, so that no
+ * count query is issued, which is why a {@link org.springframework.data.rest.webmvc.spi.SliceLookup} has to be
+ * available for all of those types. Reads without a cached total go through the repository and cache the total it
+ * calculated. Reading the last page verifies the cached total and updates it if needed. Totals of a domain type are
+ * evicted on {@link AfterCreateEvent}s and {@link AfterDeleteEvent}s published for it. Requests filtered by a Querydsl
+ * predicate always go through the repository and leave the cached totals untouched.
+ *
+ * @since 5.2
+ * @see TotalCountCacheConfiguration
+ */
+public class RepositoryPager implements ApplicationListener<RepositoryEvent> {
+
+	private final TotalCountCacheConfiguration configuration;
+	private final TotalCountCache cache;
+	private final RepositorySlicer slicer;
+
+	/**
+	 * Creates a new {@link RepositoryPager} for the given {@link TotalCountCacheConfiguration}, {@link TotalCountCache}
+	 * and {@link RepositorySlicer}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param cache must not be {@literal null}.
+	 * @param slicer must not be {@literal null}.
+	 * @throws IllegalStateException in case no {@link org.springframework.data.rest.webmvc.spi.SliceLookup} is
+	 *           available for any of the domain types caching is enabled for.
+	 */
+	public RepositoryPager(TotalCountCacheConfiguration configuration, TotalCountCache cache,
+			RepositorySlicer slicer) {
+
+		Assert.notNull(configuration, "TotalCountCacheConfiguration must not be null");
+		Assert.notNull(cache, "TotalCountCache must not be null");
+		Assert.notNull(slicer, "RepositorySlicer must not be null");
+
+		for (Class<?> type : configuration.getDomainTypes()) {
+
+			if (!slicer.supportsLookup(type)) {
+				throw new IllegalStateException(String.format(
+						"Caching the total number of elements of %s requires store queries to be enabled for it via "
+								+ "RepositoryRestConfiguration.useStoreQueriesFor(…)",
+						type.getName()));
+			}
+		}
+
+		this.configuration = configuration;
+		this.cache = cache;
+		this.slicer = slicer;
+	}
+
+	/**
+	 * Returns whether the total number of elements of the given domain type is cached.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isEnabledFor(Class<?> domainType) {
+		return configuration.isEnabledFor(domainType);
+	}
+
+	/**
+	 * Reads the page of all aggregates of the given {@link PersistentEntity} described by the given {@link Pageable}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Iterable<?> findAll(PersistentEntity<?, ?> entity, RepositoryInvoker invoker, Pageable pageable) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(invoker, "RepositoryInvoker must not be null");
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		Class<?> type = entity.getType();
+
+		// Cached totals don't know about Querydsl predicates, so filtered requests neither read nor write them
+		if (pageable.isUnpaged() || !configuration.isEnabledFor(type) || RepositorySlicer.isFiltered(invoker)) {
+			return invoker.invokeFindAll(pageable);
+		}
+
+		OptionalLong total = cache.get(type);
+
+		if (total.isPresent()) {
+
+			Optional<Slice<?>> slice = slicer.lookup(entity, invoker, pageable);
+
+			if (slice.isPresent()) {
+				return toPage(type, slice.get(), pageable, total.getAsLong());
+			}
+		}
+
+		Iterable<?> result = invoker.invokeFindAll(pageable);
+
+		if (result instanceof Page<?> page) {
+			cache.put(type, page.getTotalElements());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Adds the {@code approximate} flag to the page metadata of the given {@link CollectionModel} in case it was
+	 * rendered from a page read with a cached total that could not be verified and the flag is supposed to be exposed.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @param results the results the given {@link CollectionModel} was rendered from, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public CollectionModel<?> exposeApproximation(CollectionModel<?> model, Iterable<?> results) {
+
+		Assert.notNull(model, "CollectionModel must not be null");
+		Assert.notNull(results, "Results must not be null");
+
+		if (!configuration.isApproximationExposed() || !(results instanceof CachedTotalPage<?> page)
+				|| !page.isApproximate()) {
+			return model;
+		}
+
+		if (model instanceof IncrementalCollectionModel incremental) {
+			return exposeApproximation(incremental, results);
+		}
+
+		if (!(model instanceof PagedModel<?> paged) || paged.getMetadata() == null) {
+			return model;
+		}
+
+		return PagedModel.of(paged.getContent(), new ApproximatePageMetadata(paged.getMetadata()), paged.getLinks());
+	}
+
+	/**
+	 * Adds the {@code approximate} flag to the page metadata of the given {@link IncrementalCollectionModel}, see
+	 * {@link #exposeApproximation(CollectionModel, Iterable)}.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @param results the results the given {@link IncrementalCollectionModel} was created for, must not be
+	 *          {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public IncrementalCollectionModel exposeApproximation(IncrementalCollectionModel model, Iterable<?> results) {
+
+		Assert.notNull(model, "IncrementalCollectionModel must not be null");
+		Assert.notNull(results, "Results must not be null");
+
+		if (!configuration.isApproximationExposed() || !(results instanceof CachedTotalPage<?> page)
+				|| !page.isApproximate()) {
+			return model;
+		}
+
+		return model.getMetadata() instanceof PageMetadata metadata //
+				? model.withMetadata(new ApproximatePageMetadata(metadata)) //
+				: model;
+	}
+
+	@Override
+	public void onApplicationEvent(RepositoryEvent event) {
+
+		if (!(event instanceof AfterCreateEvent || event instanceof AfterDeleteEvent) || !configuration.isEnabled()) {
+			return;
+		}
+
+		Class<?> type = ProxyUtils.getUserClass(event.getSource());
+
+		if (configuration.isEnabledFor(type)) {
+			cache.evict(type);
+		}
+	}
+
+	private Page<?> toPage(Class<?> type, Slice<?> slice, Pageable pageable, long cached) {
+
+		List<?> content = slice.getContent();
+		long offset = pageable.getOffset();
+
+		// Without a next slice and with elements or at the very start, the slice read tells the exact total
+		if (!slice.hasNext() && (!content.isEmpty() || offset == 0)) {
+
+			long total = offset + content.size();
+
+			if (total != cached) {
+				cache.put(type, total);
+			}
+
+			return new CachedTotalPage<>(content, pageable, total, false);
+		}
+
+		long total = slice.hasNext() //
+				? Math.max(cached, offset + content.size() + 1) //
+				: Math.min(cached, offset);
+
+		return new CachedTotalPage<>(content, pageable, total, true);
+	}
+
+	/**
+	 * A {@link Page} read with a cached total.
+	 */
+	private static class CachedTotalPage<T> extends PageImpl<T> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final boolean approximate;
+
+		CachedTotalPage(List<T> content, Pageable pageable, long total, boolean approximate) {
+
+			super(content, pageable, total);
+
+			this.approximate = approximate;
+		}
+
+		boolean isApproximate() {
+			return approximate;
+		}
+	}
+
+	/**
+	 * {@link PageMetadata} flagging the total number of elements as approximate.
+	 */
+	static final class ApproximatePageMetadata extends PageMetadata {
+
+		ApproximatePageMetadata(PageMetadata metadata) {
+			super(metadata.getSize(), metadata.getNumber(), metadata.getTotalElements(), metadata.getTotalPages());
+		}
+
+		@JsonProperty("approximate")
+		public boolean isApproximate() {
+			return true;
+		}
+	}
+}
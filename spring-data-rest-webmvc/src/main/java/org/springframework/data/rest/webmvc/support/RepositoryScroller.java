@@ -0,0 +1,372 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.lang.reflect.Method;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.core.PropertyPath;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.ScrollPosition.Direction;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Scrolls through the aggregates of repositories declaring a query method to scroll through all aggregates based on a
+ * keyset, so that collection resources can be served without offset paging. Such a method has to return a
+ * {@link Window} and take a {@link ScrollPosition} as well as optionally a {@link Sort} and a {@link Limit} but no
+ * other parameters:
+ *
+ * <pre class="code">
+ * interface OrderRepository extends CrudRepository&lt;Order, Long&gt; {
+ *
+ * 	&#64;RestResource(exported = false)
+ * 	Window&lt;Order&gt; findAllBy(ScrollPosition position, Sort sort, Limit limit);
+ * }
+ * </pre>
+ *
+ * Keyset scrolling is only used for the collection resources of the domain types enabled via
+ * {@link RepositoryRestConfiguration#useScrollingFor(Class...)}, so that existing clients of page based collection
+ * resources are not affected by merely declaring such a method. Their repositories have to declare exactly one such
+ * method. Scroll positions are handed to clients as opaque cursors. As scroll methods can't take Querydsl predicates,
+ * filtered requests are not scrolled.
+ *
+ * @since 5.2
+ */
+public class RepositoryScroller {
+
+	/**
+	 * The name of the request parameter to hand a cursor to a scrollable collection resource.
+	 */
+	public static final String CURSOR_PARAMETER = "cursor";
+
+	/**
+	 * The description key of the cursor template variable.
+	 */
+	public static final String CURSOR_DESCRIPTION = "pagination.cursor.description";
+
+	private static final Map<Class<?>, Optional<Method>> SCROLL_METHODS = new ConcurrentReferenceHashMap<>();
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final Repositories repositories;
+	private final RepositoryRestConfiguration configuration;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link RepositoryScroller} for the given {@link Repositories}, {@link RepositoryRestConfiguration}
+	 * and {@link ConversionService}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @param conversionService used to convert the keys of scroll positions from and into their cursor representation,
+	 *          must not be {@literal null}.
+	 */
+	public RepositoryScroller(Repositories repositories, RepositoryRestConfiguration configuration,
+			ConversionService conversionService) {
+
+		Assert.notNull(repositories, "Repositories must not be null");
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+
+		this.repositories = repositories;
+		this.configuration = configuration;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns the method to scroll through all aggregates declared on the given repository interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalStateException in case the repository interface declares more than one such method.
+	 */
+	public static Optional<Method> findScrollMethod(Class<?> repositoryInterface) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+
+		return SCROLL_METHODS.computeIfAbsent(repositoryInterface, it -> {
+
+			List<Method> methods = Arrays.stream(it.getMethods()) //
+					.filter(RepositoryScroller::isScrollMethod) //
+					.toList();
+
+			if (methods.size() > 1) {
+				throw new IllegalStateException(
+						String.format("Ambiguous scroll methods declared on %s: %s", it.getName(), methods));
+			}
+
+			return methods.stream().findFirst();
+		});
+	}
+
+	/**
+	 * Returns whether the aggregates of the given domain type are to be scrolled through, i.e. scrolling is enabled for
+	 * it via {@link RepositoryRestConfiguration#useScrollingFor(Class...)}.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @throws IllegalStateException in case scrolling is enabled for the given type but its repository doesn't declare
+	 *           exactly one scroll method.
+	 */
+	public boolean isScrollable(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		if (!configuration.isScrollingEnabledFor(domainType)) {
+			return false;
+		}
+
+		Assert.state(getScrollMethod(domainType).isPresent(), () -> String
+				.format("Scrolling enabled for %s but its repository doesn't declare a scroll method", domainType));
+
+		return true;
+	}
+
+	/**
+	 * Returns whether the aggregates of the given domain type can be scrolled through for a request using the given
+	 * {@link RepositoryInvoker}, i.e. scrolling is enabled for the type and the request isn't filtered by a Querydsl
+	 * predicate.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isScrollable(Class<?> domainType, RepositoryInvoker invoker) {
+
+		Assert.notNull(invoker, "RepositoryInvoker must not be null");
+
+		return !RepositorySlicer.isFiltered(invoker) && isScrollable(domainType);
+	}
+
+	/**
+	 * Returns the {@link Window} of aggregates of the given domain type for the given cursor.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param cursor the cursor handed in by the client, {@literal null} to start from the beginning.
+	 * @param sort must not be {@literal null}.
+	 * @param size the maximum number of aggregates to return.
+	 * @return will never be {@literal null}.
+	 * @throws InvalidCursorException in case the given cursor cannot be decoded or its keys don't match the given
+	 *           {@link Sort}.
+	 */
+	public Window<?> scroll(Class<?> domainType, @Nullable String cursor, Sort sort, int size) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(sort, "Sort must not be null");
+
+		if (cursor == null) {
+			return scrollFrom(domainType, ScrollPosition.keyset(), sort, size);
+		}
+
+		KeysetScrollPosition position = decode(domainType, cursor);
+
+		if (!matches(domainType, position, sort)) {
+			throw new InvalidCursorException("Cursor does not match the requested sort order");
+		}
+
+		return scrollFrom(domainType, position, sort, size);
+	}
+
+	/**
+	 * Returns the {@link Window} of aggregates of the given domain type for the given {@link KeysetScrollPosition}.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param position must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param size the maximum number of aggregates to return.
+	 * @return will never be {@literal null}.
+	 */
+	public Window<?> scrollFrom(Class<?> domainType, KeysetScrollPosition position, Sort sort, int size) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(position, "KeysetScrollPosition must not be null");
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.isTrue(size > 0, "Size must be greater than zero");
+
+		Method method = getScrollMethod(domainType).orElseThrow(
+				() -> new IllegalArgumentException(String.format("No scroll method declared for %s", domainType)));
+		Object repository = repositories.getRepositoryFor(domainType).orElseThrow(
+				() -> new IllegalArgumentException(String.format("No repository found for %s", domainType)));
+
+		Object[] arguments = new Object[method.getParameterCount()];
+		Class<?>[] types = method.getParameterTypes();
+
+		for (int i = 0; i < types.length; i++) {
+
+			if (ScrollPosition.class.isAssignableFrom(types[i])) {
+				arguments[i] = position;
+			} else if (Sort.class.equals(types[i])) {
+				arguments[i] = sort;
+			} else {
+				arguments[i] = Limit.of(size);
+			}
+		}
+
+		Window<?> result = (Window<?>) ReflectionUtils.invokeMethod(method, repository, arguments);
+
+		Assert.state(result != null, () -> String.format("Scroll method %s returned null", method));
+
+		return result;
+	}
+
+	/**
+	 * Returns the cursor to hand to clients for the given {@link KeysetScrollPosition}.
+	 *
+	 * @param position must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public String encode(KeysetScrollPosition position) {
+
+		Assert.notNull(position, "KeysetScrollPosition must not be null");
+
+		List<String> parts = new ArrayList<>();
+
+		parts.add(position.scrollsForward() ? "f" : "b");
+
+		for (Entry<String, ?> entry : position.getKeys().entrySet()) {
+
+			String value = conversionService.convert(entry.getValue(), String.class);
+
+			parts.add(value == null //
+					? encodePart(entry.getKey()) //
+					: encodePart(entry.getKey()) + "=" + encodePart(value));
+		}
+
+		return ENCODER.encodeToString(String.join("&", parts).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private KeysetScrollPosition decode(Class<?> domainType, String cursor) {
+
+		try {
+
+			String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("&");
+			Direction direction = switch (parts[0]) {
+				case "f" -> Direction.FORWARD;
+				case "b" -> Direction.BACKWARD;
+				default -> throw new IllegalArgumentException("Unknown direction " + parts[0]);
+			};
+
+			Map<String, Object> keys = new LinkedHashMap<>();
+
+			for (int i = 1; i < parts.length; i++) {
+
+				String[] pair = parts[i].split("=", 2);
+				String key = decodePart(pair[0]);
+				Class<?> type = PropertyPath.from(key, domainType).getLeafProperty().getType();
+
+				keys.put(key, pair.length == 1 ? null : conversionService.convert(decodePart(pair[1]), type));
+			}
+
+			return ScrollPosition.of(keys, direction);
+
+		} catch (RuntimeException o_O) {
+			throw new InvalidCursorException(o_O);
+		}
+	}
+
+	/**
+	 * Returns whether the keys of the given {@link KeysetScrollPosition} match the given {@link Sort}, i.e. contain a
+	 * key for each property sorted by and no others except for the identifier, which stores usually add to the sort to
+	 * make it unique.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param position must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @return
+	 */
+	private boolean matches(Class<?> domainType, KeysetScrollPosition position, Sort sort) {
+
+		Set<String> keys = position.getKeys().keySet();
+
+		if (keys.isEmpty()) {
+			return true;
+		}
+
+		Set<String> properties = new HashSet<>();
+		sort.forEach(it -> properties.add(it.getProperty()));
+
+		PersistentProperty<?> idProperty = repositories.getPersistentEntity(domainType).getIdProperty();
+
+		return keys.containsAll(properties) && keys.stream() //
+				.allMatch(it -> properties.contains(it) || idProperty != null && idProperty.getName().equals(it));
+	}
+
+	private Optional<Method> getScrollMethod(Class<?> domainType) {
+
+		return repositories.getRepositoryInformationFor(domainType) //
+				.map(RepositoryInformation::getRepositoryInterface) //
+				.flatMap(RepositoryScroller::findScrollMethod);
+	}
+
+	private static boolean isScrollMethod(Method method) {
+
+		if (!Window.class.equals(method.getReturnType()) || method.isDefault()) {
+			return false;
+		}
+
+		boolean position = false;
+
+		for (Class<?> type : method.getParameterTypes()) {
+
+			if (ScrollPosition.class.isAssignableFrom(type)) {
+				position = true;
+			} else if (!Sort.class.equals(type) && !Limit.class.equals(type)) {
+				return false;
+			}
+		}
+
+		return position;
+	}
+
+	private static String encodePart(String source) {
+		return URLEncoder.encode(source, StandardCharsets.UTF_8);
+	}
+
+	private static String decodePart(String source) {
+
+		if (!StringUtils.hasText(source)) {
+			throw new IllegalArgumentException("Empty cursor component");
+		}
+
+		return URLDecoder.decode(source, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.querydsl.QuerydslRepositoryInvokerAdapter;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.spi.SliceLookup;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Looks up {@link org.springframework.data.domain.Slice}s instead of {@link Page}s for paged collection and search
+ * resources, either because the client requested so or because slices were enabled for the domain type via
+ * {@link RepositoryRestConfiguration#useSlicesFor(Class...)}. Collection resources are looked up through a
+ * {@link SliceLookup} if one is available for the domain type, so that no count query is issued. Other results are
+ * turned into slices after the fact, which drops the total number of elements from the representation but doesn't
+ * avoid the count.
+ *
+ * @since 5.2
+ * @see SliceLookup
+ */
+public class RepositorySlicer {
+
+	private static final boolean IS_QUERYDSL_PRESENT = ClassUtils.isPresent("com.querydsl.core.types.Predicate",
+			RepositorySlicer.class.getClassLoader());
+
+	private final RepositoryRestConfiguration configuration;
+	private final PluginRegistry<SliceLookup, Class<?>> lookups;
+
+	/**
+	 * Creates a new {@link RepositorySlicer} for the given {@link RepositoryRestConfiguration} and {@link SliceLookup}s.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 */
+	public RepositorySlicer(RepositoryRestConfiguration configuration, List<? extends SliceLookup> lookups) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+		Assert.notNull(lookups, "SliceLookups must not be null");
+
+		this.configuration = configuration;
+		this.lookups = PluginRegistry.of(lookups);
+	}
+
+	/**
+	 * Returns whether the resources of the given domain type are to be rendered as slice for the given
+	 * {@link DefaultedPageable}.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isSliced(Class<?> domainType, DefaultedPageable pageable) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(pageable, "DefaultedPageable must not be null");
+
+		return pageable.getPageable().isPaged() //
+				&& (pageable.isSliced() || configuration.isSliceEnabledFor(domainType));
+	}
+
+	/**
+	 * Looks up the slice of all aggregates of the given {@link PersistentEntity} described by the given
+	 * {@link Pageable}, using the given {@link RepositoryInvoker} in case no {@link SliceLookup} can be used.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Iterable<?> findAll(PersistentEntity<?, ?> entity, RepositoryInvoker invoker, Pageable pageable) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(invoker, "RepositoryInvoker must not be null");
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		if (pageable.isUnpaged()) {
+			return invoker.invokeFindAll(pageable);
+		}
+
+		return lookup(entity, invoker, pageable) //
+				.<Iterable<?>> map(it -> it) //
+				.orElseGet(() -> (Iterable<?>) toSlice(invoker.invokeFindAll(pageable)));
+	}
+
+	/**
+	 * Returns whether slices of the given domain type can be looked up through a {@link SliceLookup}.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean supportsLookup(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return lookups.hasPluginFor(domainType);
+	}
+
+	/**
+	 * Looks up the slice of all aggregates of the given {@link PersistentEntity} described by the given
+	 * {@link Pageable} through a {@link SliceLookup}, i.e. without counting all elements.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param pageable must not be {@literal null} or unpaged.
+	 * @return the {@link Slice} or {@link Optional#empty()} in case no {@link SliceLookup} is available for the domain
+	 *         type or the given {@link RepositoryInvoker} applies a Querydsl predicate.
+	 */
+	public Optional<Slice<?>> lookup(PersistentEntity<?, ?> entity, RepositoryInvoker invoker, Pageable pageable) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(invoker, "RepositoryInvoker must not be null");
+		Assert.isTrue(pageable.isPaged(), "Pageable must not be unpaged");
+
+		// Lookups don't know about Querydsl predicates, so filtered requests have to go through the repository
+		if (isFiltered(invoker)) {
+			return Optional.empty();
+		}
+
+		return lookups.getPluginFor(entity.getType()).map(it -> it.findAll(entity, pageable));
+	}
+
+	/**
+	 * Turns the given object into a {@link org.springframework.data.domain.Slice} in case it is a paged {@link Page}.
+	 * Returns all other objects as is.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static Object toSlice(Object source) {
+
+		Assert.notNull(source, "Source must not be null");
+
+		return source instanceof Page<?> page && page.getPageable().isPaged() //
+				? new SliceImpl<>(page.getContent(), page.getPageable(), page.hasNext()) //
+				: source;
+	}
+
+	static boolean isFiltered(RepositoryInvoker invoker) {
+		return IS_QUERYDSL_PRESENT && invoker instanceof QuerydslRepositoryInvokerAdapter;
+	}
+}
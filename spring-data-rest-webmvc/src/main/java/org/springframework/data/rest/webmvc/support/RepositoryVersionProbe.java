@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Optional;
+
+import org.springframework.data.auditing.AuditableBeanWrapperFactory;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.webmvc.spi.VersionProbe;
+import org.springframework.util.Assert;
+
+/**
+ * Store-agnostic {@link VersionProbe} that looks up the aggregate through its repository and reads the version and last
+ * modification date from the instance returned. While it still loads the aggregate root, it neither initializes any
+ * associations nor assembles the representation model. Not registered by default as it causes the aggregate to be
+ * loaded twice in case the resource turns out to be modified. Declare it as Spring bean for stores in which loading
+ * the aggregate root is cheap compared to rendering it.
+ *
+ * @since 5.2
+ */
+public class RepositoryVersionProbe implements VersionProbe {
+
+	private final RepositoryInvokerFactory invokerFactory;
+	private final AuditableBeanWrapperFactory auditableBeanWrapperFactory;
+
+	/**
+	 * Creates a new {@link RepositoryVersionProbe} for the given {@link RepositoryInvokerFactory} and
+	 * {@link AuditableBeanWrapperFactory}.
+	 *
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param auditableBeanWrapperFactory must not be {@literal null}.
+	 */
+	public RepositoryVersionProbe(RepositoryInvokerFactory invokerFactory,
+			AuditableBeanWrapperFactory auditableBeanWrapperFactory) {
+
+		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null");
+		Assert.notNull(auditableBeanWrapperFactory, "AuditableBeanWrapperFactory must not be null");
+
+		this.invokerFactory = invokerFactory;
+		this.auditableBeanWrapperFactory = auditableBeanWrapperFactory;
+	}
+
+	@Override
+	public boolean supports(Class<?> delimiter) {
+		return true;
+	}
+
+	@Override
+	public Optional<ResourceVersion> probe(PersistentEntity<?, ?> entity, Object id) {
+
+		return invokerFactory.getInvokerFor(entity.getType()).invokeFindById(id).map(it -> {
+
+			PersistentProperty<?> versionProperty = entity.getVersionProperty();
+
+			Object version = versionProperty == null ? null : entity.getPropertyAccessor(it).getProperty(versionProperty);
+			Object lastModified = auditableBeanWrapperFactory.getBeanWrapperFor(it) //
+					.flatMap(wrapper -> wrapper.getLastModifiedDate()) //
+					.orElse(null);
+
+			return ResourceVersion.of(version, lastModified);
+		});
+	}
+}
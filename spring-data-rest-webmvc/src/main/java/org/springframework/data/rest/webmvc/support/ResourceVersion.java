@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.ConfigurableConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.convert.Jsr310Converters;
+import org.springframework.data.util.Lazy;
+import org.springframework.util.Assert;
+
+/**
+ * Value object capturing the version and last modification date of an aggregate, i.e. the raw values HTTP validators
+ * ({@link ETag} and {@code Last-Modified}) are calculated from.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.webmvc.spi.VersionProbe
+ */
+public final class ResourceVersion {
+
+	public static final ResourceVersion NONE = new ResourceVersion(null, null);
+
+	private static final ConfigurableConversionService CONVERSION_SERVICE = new DefaultConversionService();
+
+	static {
+		Jsr310Converters.getConvertersToRegister().forEach(CONVERSION_SERVICE::addConverter);
+	}
+
+	private final @Nullable Object version;
+	private final @Nullable Object lastModified;
+	private final ETag eTag;
+	private final Lazy<Optional<Long>> lastModifiedInMilliseconds;
+
+	private ResourceVersion(@Nullable Object version, @Nullable Object lastModified) {
+
+		this.version = version;
+		this.lastModified = lastModified;
+		this.eTag = version == null ? ETag.NO_ETAG : ETag.from(version.toString());
+		this.lastModifiedInMilliseconds = Lazy.of(() -> getLastModified().map(ResourceVersion::toEpochMilli));
+	}
+
+	/**
+	 * Creates a new {@link ResourceVersion} for the given version and last modification date.
+	 *
+	 * @param version the value of the aggregate's version property, can be {@literal null}.
+	 * @param lastModified the value of the aggregate's last modification date, can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static ResourceVersion of(@Nullable Object version, @Nullable Object lastModified) {
+		return version == null && lastModified == null ? NONE : new ResourceVersion(version, lastModified);
+	}
+
+	/**
+	 * Returns the {@link ETag} to be used for the current version.
+	 *
+	 * @return will never be {@literal null}, {@link ETag#NO_ETAG} in case no version is present.
+	 */
+	public ETag getETag() {
+		return eTag;
+	}
+
+	/**
+	 * Returns the raw last modification date as exposed by the aggregate.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Object> getLastModified() {
+		return Optional.ofNullable(lastModified);
+	}
+
+	/**
+	 * Returns the last modification date as milliseconds since the epoch. Calculated once and reused for subsequent
+	 * calls.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public Optional<Long> getLastModifiedInMilliseconds() {
+		return lastModifiedInMilliseconds.get();
+	}
+
+	/**
+	 * Converts the given last modification date into milliseconds since the epoch. Handles the commonly used date types
+	 * directly and falls back to a {@link ConversionService} for everything else.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	private static Long toEpochMilli(Object source) {
+
+		if (source instanceof Date date) {
+			return date.getTime();
+		} else if (source instanceof Instant instant) {
+			return instant.toEpochMilli();
+		} else if (source instanceof Long value) {
+			return value;
+		} else if (source instanceof LocalDateTime dateTime) {
+			return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		} else if (source instanceof LocalDate date) {
+			return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		} else if (source instanceof TemporalAccessor accessor && accessor.isSupported(ChronoField.INSTANT_SECONDS)) {
+			return Instant.from(accessor).toEpochMilli();
+		}
+
+		Date date = CONVERSION_SERVICE.convert(source, Date.class);
+
+		Assert.notNull(date, () -> String.format("Cannot convert %s into a Date", source));
+
+		return date.getTime();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (o == this) {
+			return true;
+		}
+
+		if (!(o instanceof ResourceVersion that)) {
+			return false;
+		}
+
+		return Objects.equals(version, that.version) && Objects.equals(lastModified, that.lastModified);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(version, lastModified);
+	}
+
+	@Override
+	public String toString() {
+		return "ResourceVersion(version=" + version + ", lastModified=" + lastModified + ")";
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.auditing.AuditableBeanWrapperFactory;
+import org.springframework.data.domain.Auditable;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Reads the {@link ResourceVersion} from aggregate instances. Resolves {@link MethodHandle}s for the version and last
+ * modification date properties once per {@link PersistentEntity} and caches them, so that the HTTP validators for an
+ * aggregate can be calculated from a single read of the instance. Last modification dates not exposed by a
+ * {@link LastModifiedDate} property on the aggregate root itself or via {@link Auditable} are looked up through the
+ * given {@link AuditableBeanWrapperFactory}.
+ *
+ * @since 5.2
+ */
+public class ResourceVersionAccessors {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final AuditableBeanWrapperFactory auditableBeanWrapperFactory;
+	private final Map<Class<?>, ResourceVersionAccessor> accessors = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link ResourceVersionAccessors} for the given {@link AuditableBeanWrapperFactory}.
+	 *
+	 * @param auditableBeanWrapperFactory must not be {@literal null}.
+	 */
+	public ResourceVersionAccessors(AuditableBeanWrapperFactory auditableBeanWrapperFactory) {
+
+		Assert.notNull(auditableBeanWrapperFactory, "AuditableBeanWrapperFactory must not be null");
+
+		this.auditableBeanWrapperFactory = auditableBeanWrapperFactory;
+	}
+
+	/**
+	 * Returns the {@link ResourceVersion} of the given aggregate.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param bean must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public ResourceVersion getResourceVersion(PersistentEntity<?, ?> entity, Object bean) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(bean, "Bean must not be null");
+
+		return accessors.computeIfAbsent(entity.getType(),
+				__ -> new ResourceVersionAccessor(entity, auditableBeanWrapperFactory)).read(bean);
+	}
+
+	/**
+	 * The precompiled accessor for a single {@link PersistentEntity}.
+	 */
+	private static class ResourceVersionAccessor {
+
+		private final @Nullable MethodHandle version;
+		private final @Nullable MethodHandle lastModified;
+		private final boolean auditable;
+		private final AuditableBeanWrapperFactory auditableBeanWrapperFactory;
+
+		ResourceVersionAccessor(PersistentEntity<?, ?> entity, AuditableBeanWrapperFactory auditableBeanWrapperFactory) {
+
+			this.auditableBeanWrapperFactory = auditableBeanWrapperFactory;
+			this.version = getHandle(entity.getVersionProperty());
+			this.lastModified = getHandle(entity.getPersistentProperty(LastModifiedDate.class));
+			this.auditable = Auditable.class.isAssignableFrom(entity.getType());
+		}
+
+		ResourceVersion read(Object bean) {
+			return ResourceVersion.of(invoke(version, bean), getLastModified(bean));
+		}
+
+		private @Nullable Object getLastModified(Object bean) {
+
+			if (lastModified != null) {
+				return invoke(lastModified, bean);
+			}
+
+			if (auditable) {
+				return ((Auditable<?, ?, ?>) bean).getLastModifiedDate().orElse(null);
+			}
+
+			return auditableBeanWrapperFactory.getBeanWrapperFor(bean) //
+					.flatMap(it -> it.getLastModifiedDate()) //
+					.orElse(null);
+		}
+
+		private static @Nullable Object invoke(@Nullable MethodHandle handle, Object bean) {
+
+			if (handle == null) {
+				return null;
+			}
+
+			try {
+				return (Object) handle.invokeExact(bean);
+			} catch (RuntimeException o_O) {
+				throw o_O;
+			} catch (Throwable o_O) {
+				throw new IllegalStateException(o_O);
+			}
+		}
+
+		private static @Nullable MethodHandle getHandle(@Nullable PersistentProperty<?> property) {
+
+			if (property == null) {
+				return null;
+			}
+
+			Method getter = property.getGetter();
+			Field field = property.getField();
+
+			try {
+
+				if (getter != null) {
+
+					ReflectionUtils.makeAccessible(getter);
+					return LOOKUP.unreflect(getter).asType(GETTER_TYPE);
+				}
+
+				if (field != null) {
+
+					ReflectionUtils.makeAccessible(field);
+					return LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+				}
+
+			} catch (IllegalAccessException o_O) {
+				throw new IllegalStateException(String.format("Cannot access property %s", property), o_O);
+			}
+
+			return null;
+		}
+	}
+}
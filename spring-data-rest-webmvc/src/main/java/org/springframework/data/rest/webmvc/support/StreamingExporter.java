@@ -0,0 +1,519 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.json.MappedJacksonProperties;
+import org.springframework.data.rest.webmvc.spi.ChunkListener;
+import org.springframework.http.MediaType;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams collection and search resources as newline delimited JSON ({@code application/x-ndjson}) or CSV
+ * ({@code text/csv}). Aggregates are read in chunks of the size configured in
+ * {@link RepositoryRestConfiguration#getExportConfiguration()}, by scrolling through the repository if it declares a
+ * scroll method as described in {@link RepositoryScroller}, slice by slice otherwise. Query methods returning a
+ * {@link Stream} are consumed within a read-only transaction. Every aggregate is written as soon as it was read and
+ * {@link ChunkListener}s are notified after every chunk, so that the memory used doesn't depend on the number of
+ * aggregates exported.
+ * <p>
+ * Rows are rendered from the representation of the aggregates, so that projections and the Jackson customizations of
+ * the domain types apply. The CSV columns are derived from the properties mapped by Jackson, see
+ * {@link MappedJacksonProperties}, or from the first row in case a projection is used. Nested values are written as
+ * JSON.
+ *
+ * @since 5.2
+ */
+public class StreamingExporter {
+
+	private static final List<MediaType> MEDIA_TYPES = List.of(RestMediaTypes.NDJSON,
+			new MediaType(RestMediaTypes.TEXT_CSV, StandardCharsets.UTF_8));
+	private static final String LINKS = "_links";
+	private static final String CSV_LINE_SEPARATOR = "\r\n";
+
+	private final RepositoryRestConfiguration configuration;
+	private final ObjectMapper mapper;
+	private final ObjectWriter writer;
+	private final @Nullable RepositoryScroller scroller;
+	private final @Nullable RepositorySlicer slicer;
+	private final PluginRegistry<ChunkListener, Class<?>> listeners;
+	private final TransactionOperations transactions;
+
+	/**
+	 * Creates a new {@link StreamingExporter}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param mapper the {@link ObjectMapper} to render the rows with, must not be {@literal null}.
+	 * @param scroller can be {@literal null}.
+	 * @param slicer can be {@literal null}.
+	 * @param listeners must not be {@literal null}.
+	 * @param transactions the read-only {@link TransactionOperations} to consume {@link Stream}s within, must not be
+	 *          {@literal null}.
+	 */
+	public StreamingExporter(RepositoryRestConfiguration configuration, ObjectMapper mapper,
+			@Nullable RepositoryScroller scroller, @Nullable RepositorySlicer slicer,
+			List<? extends ChunkListener> listeners, TransactionOperations transactions) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+		Assert.notNull(listeners, "ChunkListeners must not be null");
+		Assert.notNull(transactions, "TransactionOperations must not be null");
+
+		this.configuration = configuration;
+		this.mapper = mapper;
+		this.writer = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		this.scroller = scroller;
+		this.slicer = slicer;
+		this.listeners = PluginRegistry.of(listeners);
+		this.transactions = transactions;
+	}
+
+	/**
+	 * Returns the export media type preferred by the given accepted ones, {@code application/x-ndjson} in case none of
+	 * them selects one explicitly.
+	 *
+	 * @param accepted must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static MediaType getMediaType(List<MediaType> accepted) {
+
+		Assert.notNull(accepted, "Accepted media types must not be null");
+
+		List<MediaType> sorted = new ArrayList<>(accepted);
+		MimeTypeUtils.sortBySpecificity(sorted);
+
+		return sorted.stream() //
+				.flatMap(it -> MEDIA_TYPES.stream().filter(it::isCompatibleWith)) //
+				.findFirst() //
+				.orElse(RestMediaTypes.NDJSON);
+	}
+
+	/**
+	 * Returns all aggregates of the given collection resource, read chunk by chunk when the returned {@link Stream} is
+	 * consumed.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Stream<?> findAll(RootResourceInformation information, Sort sort) {
+
+		Assert.notNull(information, "RootResourceInformation must not be null");
+		Assert.notNull(sort, "Sort must not be null");
+
+		Class<?> domainType = information.getDomainType();
+		RepositoryInvoker invoker = information.getInvoker();
+		int size = configuration.getExportConfiguration().getChunkSize();
+
+		Assert.notNull(invoker, "RepositoryInvoker must not be null");
+
+		if (scroller != null && scroller.isScrollable(domainType, invoker)) {
+
+			RepositoryScroller scroller = this.scroller;
+
+			Window<?> first = scroller.scrollFrom(domainType, ScrollPosition.keyset(), sort, size);
+
+			return StreamingExporter.<Window<?>> chunks(first, window -> {
+
+				if (window.isEmpty() || !window.hasNext()
+						|| !(window.positionAt(window.size() - 1) instanceof KeysetScrollPosition last)) {
+					return null;
+				}
+
+				return scroller.scrollFrom(domainType, last.forward(), sort, size);
+			});
+		}
+
+		PersistentEntity<?, ?> entity = information.getPersistentEntity();
+		Function<Pageable, Object> lookup = slicer != null && information.getResourceMetadata().isPagingResource() //
+				? it -> slicer.findAll(entity, invoker, it) //
+				: invoker::invokeFindAll;
+
+		return pages(lookup, PageRequest.of(0, size, withIdentifier(sort, entity)));
+	}
+
+	/**
+	 * Returns all results of the given query method, executed by the given function. Query methods returning a
+	 * {@link Stream} are executed once, query methods taking a {@link Pageable} once per chunk.
+	 *
+	 * @param entity the {@link PersistentEntity} of the repository declaring the query method, must not be
+	 *          {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param execution executes the query method for the given {@link Pageable}, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Stream<?> execute(PersistentEntity<?, ?> entity, Method method, Sort sort,
+			Function<Pageable, Optional<Object>> execution) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(method, "Method must not be null");
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(execution, "Execution must not be null");
+
+		boolean paged = Arrays.stream(method.getParameterTypes()).anyMatch(Pageable.class::isAssignableFrom);
+		Function<Pageable, Object> query = it -> execution.apply(it).orElse(null);
+
+		if (!paged) {
+			return toStream(query.apply(Pageable.unpaged(sort)));
+		}
+
+		int size = configuration.getExportConfiguration().getChunkSize();
+
+		return pages(query, PageRequest.of(0, size, withIdentifier(sort, entity)));
+	}
+
+	/**
+	 * Returns a {@link StreamingResponseBody} writing the given aggregates in the given media type. The {@link Stream} of
+	 * aggregates is obtained and consumed within a read-only transaction when the body is written.
+	 *
+	 * @param entity the {@link PersistentEntity} of the resource exported, must not be {@literal null}.
+	 * @param rows the aggregates to export, e.g. {@link #findAll(RootResourceInformation, Sort)}, must not be
+	 *          {@literal null}.
+	 * @param toRepresentation turns an aggregate into the representation to render, must not be {@literal null}.
+	 * @param mediaType either {@code application/x-ndjson} or {@code text/csv}, must not be {@literal null}.
+	 * @param projection the name of the projection requested, can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public StreamingResponseBody export(PersistentEntity<?, ?> entity, Supplier<? extends Stream<?>> rows,
+			Function<Object, ?> toRepresentation, MediaType mediaType, @Nullable String projection) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null");
+		Assert.notNull(rows, "Rows must not be null");
+		Assert.notNull(toRepresentation, "Representation function must not be null");
+		Assert.notNull(mediaType, "MediaType must not be null");
+
+		// Links are built from the current request, which is not bound to the thread writing the body
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		return outputStream -> {
+
+			RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+			RequestContextHolder.setRequestAttributes(attributes);
+
+			Writer output = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			RowWriter rowWriter = RestMediaTypes.TEXT_CSV.isCompatibleWith(mediaType) //
+					? new CsvRowWriter(output, projection == null ? getColumns(entity) : null) //
+					: new NdjsonRowWriter(output);
+
+			try {
+
+				transactions.executeWithoutResult(status -> {
+
+					try (Stream<?> source = rows.get()) {
+						write(source, entity.getType(), toRepresentation, rowWriter, output);
+					} catch (IOException o_O) {
+						throw new UncheckedIOException(o_O);
+					}
+				});
+
+			} catch (UncheckedIOException o_O) {
+				throw o_O.getCause();
+
+			} finally {
+				RequestContextHolder.setRequestAttributes(previous);
+			}
+		};
+	}
+
+	private void write(Stream<?> rows, Class<?> domainType, Function<Object, ?> toRepresentation, RowWriter rowWriter,
+			Writer output) throws IOException {
+
+		int chunkSize = configuration.getExportConfiguration().getChunkSize();
+		List<ChunkListener> chunkListeners = listeners.getPluginsFor(domainType);
+		Iterator<?> iterator = rows.iterator();
+		long count = 0;
+
+		while (iterator.hasNext()) {
+
+			rowWriter.write(toRepresentation.apply(iterator.next()));
+
+			if (++count % chunkSize == 0) {
+
+				output.flush();
+				chunkListeners.forEach(it -> it.afterChunk(domainType));
+			}
+		}
+
+		rowWriter.finish();
+		output.flush();
+	}
+
+	/**
+	 * Returns the CSV columns for the given {@link PersistentEntity}, i.e. the names of all non-association properties
+	 * mapped by Jackson. Identifiers are only included if exposed.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	List<String> getColumns(PersistentEntity<?, ?> entity) {
+
+		MappedJacksonProperties properties = MappedJacksonProperties.forSerialization(entity, mapper);
+		boolean idExposed = configuration.isIdExposedFor(entity.getType());
+		List<String> columns = new ArrayList<>();
+
+		entity.doWithProperties((SimplePropertyHandler) property -> {
+
+			if ((!property.isIdProperty() || idExposed) && properties.isMappedProperty(property)) {
+				columns.add(properties.getMappedName(property));
+			}
+		});
+
+		return columns;
+	}
+
+	/**
+	 * Appends the identifier of the given {@link PersistentEntity} to the given {@link Sort} unless already contained,
+	 * so that chunks read by offset neither skip nor repeat aggregates sharing the values sorted by.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static Sort withIdentifier(Sort sort, PersistentEntity<?, ?> entity) {
+
+		PersistentProperty<?> idProperty = entity.getIdProperty();
+
+		return idProperty == null || sort.getOrderFor(idProperty.getName()) != null //
+				? sort //
+				: sort.and(Sort.by(idProperty.getName()));
+	}
+
+	private static <T> Stream<?> chunks(T first, UnaryOperator<T> next) {
+
+		return Stream.iterate(first, Objects::nonNull, next) //
+				.flatMap(StreamingExporter::toStream);
+	}
+
+	private static Stream<?> pages(Function<Pageable, @Nullable Object> lookup, Pageable first) {
+
+		return chunks(lookup.apply(first), it -> it instanceof Slice<?> slice && slice.hasNext() //
+				? lookup.apply(slice.nextPageable()) //
+				: null);
+	}
+
+	private static Stream<?> toStream(@Nullable Object source) {
+
+		if (source == null) {
+			return Stream.empty();
+		}
+
+		if (source instanceof Stream<?> stream) {
+			return stream;
+		}
+
+		return source instanceof Iterable<?> iterable //
+				? StreamSupport.stream(iterable.spliterator(), false) //
+				: Stream.of(source);
+	}
+
+	/**
+	 * Escapes the given value for a CSV cell as defined in RFC 4180.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	static String escape(String value) {
+
+		for (int i = 0; i < value.length(); i++) {
+
+			char c = value.charAt(i);
+
+			if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+				return '"' + value.replace("\"", "\"\"") + '"';
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Prefixes the given textual value with a single quote in case it starts with a character spreadsheet applications
+	 * interpret as the start of a formula.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	static String neutralize(String value) {
+
+		if (value.isEmpty()) {
+			return value;
+		}
+
+		char first = value.charAt(0);
+
+		return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r' //
+				? "'" + value //
+				: value;
+	}
+
+	private interface RowWriter {
+
+		void write(@Nullable Object representation) throws IOException;
+
+		default void finish() throws IOException {}
+	}
+
+	private final class NdjsonRowWriter implements RowWriter {
+
+		private final Writer output;
+
+		NdjsonRowWriter(Writer output) {
+			this.output = output;
+		}
+
+		@Override
+		public void write(@Nullable Object representation) throws IOException {
+
+			output.write(writer.writeValueAsString(representation));
+			output.write('\n');
+		}
+	}
+
+	private final class CsvRowWriter implements RowWriter {
+
+		private final Writer output;
+		private @Nullable List<String> columns;
+		private boolean headerWritten = false;
+
+		/**
+		 * @param output must not be {@literal null}.
+		 * @param columns the columns to write, {@literal null} to derive them from the first row.
+		 */
+		CsvRowWriter(Writer output, @Nullable List<String> columns) {
+
+			this.output = output;
+			this.columns = columns;
+		}
+
+		@Override
+		public void write(@Nullable Object representation) throws IOException {
+
+			JsonNode node = mapper.valueToTree(representation);
+
+			if (columns == null) {
+				columns = getColumns(node);
+			}
+
+			writeHeader(columns);
+
+			List<String> cells = new ArrayList<>(columns.size());
+
+			for (String column : columns) {
+
+				JsonNode value = node.get(column);
+
+				cells.add(value == null || value.isNull() || value.isMissingNode() ? "" : escape(toCell(value)));
+			}
+
+			output.write(String.join(",", cells));
+			output.write(CSV_LINE_SEPARATOR);
+		}
+
+		@Override
+		public void finish() throws IOException {
+
+			if (columns != null) {
+				writeHeader(columns);
+			}
+		}
+
+		private void writeHeader(List<String> columns) throws IOException {
+
+			if (headerWritten) {
+				return;
+			}
+
+			List<String> header = new ArrayList<>(columns.size());
+
+			for (String column : columns) {
+				header.add(escape(column));
+			}
+
+			output.write(String.join(",", header));
+			output.write(CSV_LINE_SEPARATOR);
+
+			headerWritten = true;
+		}
+
+		private String toCell(JsonNode value) {
+
+			if (value.isTextual()) {
+				return neutralize(value.asText());
+			}
+
+			return value.isValueNode() ? value.asText() : writer.writeValueAsString(value);
+		}
+
+		private List<String> getColumns(JsonNode node) {
+
+			List<String> result = new ArrayList<>();
+
+			for (Entry<String, JsonNode> property : node.properties()) {
+				if (!LINKS.equals(property.getKey())) {
+					result.add(property.getKey());
+				}
+			}
+
+			return result;
+		}
+	}
+}
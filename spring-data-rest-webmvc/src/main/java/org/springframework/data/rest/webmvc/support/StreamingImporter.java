@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.RepositoryConstraintViolationException;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AfterBulkCreateEvent;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.BeforeBulkCreateEvent;
+import org.springframework.data.rest.core.event.BeforeCreateEvent;
+import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.spi.ChunkListener;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.Assert;
+import org.springframework.validation.FieldError;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Imports newline delimited JSON ({@code application/x-ndjson}) into collection resources. Records are parsed one by
+ * one and saved in chunks of the size configured in {@link RepositoryRestConfiguration#getImportConfiguration()}, each
+ * chunk within a transaction of its own through {@link RepositoryBatchWriter}. {@link ChunkListener}s are notified
+ * after every chunk, so that the memory used doesn't depend on the number of records imported.
+ * <p>
+ * {@link BeforeCreateEvent}s, and thus validation, are published for every aggregate and a
+ * {@link BeforeBulkCreateEvent} for every chunk within the transaction of the chunk, so that changes made by listeners
+ * are saved, or rolled back, together with it. {@link AfterCreateEvent}s and the {@link AfterBulkCreateEvent} are
+ * published once the transaction has been committed and are not published for chunks that failed to be saved.
+ * <p>
+ * The outcome of every chunk is written back as a line of newline delimited JSON as soon as the chunk is processed. A
+ * chunk containing a record that cannot be read or fails validation is not saved at all, while the import continues
+ * with the next chunk. A final line summarizes the import. Malformed JSON stops the import.
+ *
+ * @since 5.2
+ */
+public class StreamingImporter implements ApplicationEventPublisherAware {
+
+	private static final Logger LOG = LoggerFactory.getLogger(StreamingImporter.class);
+
+	private final RepositoryRestConfiguration configuration;
+	private final ObjectMapper mapper;
+	private final ObjectWriter writer;
+	private final RepositoryBatchWriter batchWriter;
+	private final PluginRegistry<ChunkListener, Class<?>> listeners;
+	private final TransactionOperations transactions;
+
+	private @Nullable ApplicationEventPublisher publisher;
+
+	/**
+	 * Creates a new {@link StreamingImporter}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param mapper the {@link ObjectMapper} to read the records with, must not be {@literal null}.
+	 * @param batchWriter must not be {@literal null}.
+	 * @param listeners must not be {@literal null}.
+	 * @param transactions the {@link TransactionOperations} to save every chunk within, must not be {@literal null}.
+	 */
+	public StreamingImporter(RepositoryRestConfiguration configuration, ObjectMapper mapper,
+			RepositoryBatchWriter batchWriter, List<? extends ChunkListener> listeners,
+			TransactionOperations transactions) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null");
+		Assert.notNull(mapper, "ObjectMapper must not be null");
+		Assert.notNull(batchWriter, "RepositoryBatchWriter must not be null");
+		Assert.notNull(listeners, "ChunkListeners must not be null");
+		Assert.notNull(transactions, "TransactionOperations must not be null");
+
+		this.configuration = configuration;
+		this.mapper = mapper;
+		this.writer = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		this.batchWriter = batchWriter;
+		this.listeners = PluginRegistry.of(listeners);
+		this.transactions = transactions;
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+		this.publisher = publisher;
+	}
+
+	/**
+	 * Returns a {@link StreamingResponseBody} importing the records read from the given {@link InputStream} into the
+	 * given collection resource and writing the outcome of every chunk.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param records the newline delimited JSON records to import, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public StreamingResponseBody importAll(RootResourceInformation information, InputStream records) {
+
+		Assert.notNull(information, "RootResourceInformation must not be null");
+		Assert.notNull(records, "Records must not be null");
+
+		Class<?> domainType = information.getDomainType();
+		RepositoryInvoker invoker = information.getRequiredInvoker();
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		return outputStream -> {
+
+			RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+			RequestContextHolder.setRequestAttributes(attributes);
+
+			Writer output = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			Chunk chunk = new Chunk(domainType, invoker, output);
+
+			try (MappingIterator<JsonNode> iterator = mapper.readerFor(JsonNode.class).readValues(records)) {
+
+				while (iterator.hasNextValue()) {
+
+					chunk.add(iterator.nextValue());
+
+					if (chunk.isFull()) {
+						chunk.save();
+					}
+				}
+
+				chunk.save();
+				chunk.summarize();
+
+			} catch (JacksonException o_O) {
+				chunk.abort();
+
+			} finally {
+				RequestContextHolder.setRequestAttributes(previous);
+			}
+		};
+	}
+
+	private void publishEvent(ApplicationEvent event) {
+
+		if (publisher != null) {
+			publisher.publishEvent(event);
+		}
+	}
+
+	private static Map<String, Object> toViolation(FieldError error) {
+
+		Map<String, Object> violation = new LinkedHashMap<>();
+		violation.put("property", error.getField());
+
+		String message = error.getDefaultMessage() != null ? error.getDefaultMessage() : error.getCode();
+
+		if (message != null) {
+			violation.put("message", message);
+		}
+
+		return violation;
+	}
+
+	/**
+	 * The records of the chunk currently read and the counters of the import.
+	 */
+	private final class Chunk {
+
+		private final Class<?> domainType;
+		private final RepositoryInvoker invoker;
+		private final Writer output;
+		private final int size;
+		private final List<Object> aggregates;
+		private final List<ChunkListener> chunkListeners;
+
+		private int number = 0, records = 0, created = 0, failed = 0, read = 0;
+		private int firstInvalidRecord = -1;
+
+		Chunk(Class<?> domainType, RepositoryInvoker invoker, Writer output) {
+
+			this.domainType = domainType;
+			this.invoker = invoker;
+			this.output = output;
+			this.size = configuration.getImportConfiguration().getChunkSize();
+			this.aggregates = new ArrayList<>(size);
+			this.chunkListeners = listeners.getPluginsFor(domainType);
+		}
+
+		void add(JsonNode record) {
+
+			read++;
+			records++;
+
+			// Keep reading the records of an invalid chunk to report it as a whole
+			if (firstInvalidRecord != -1) {
+				return;
+			}
+
+			try {
+				aggregates.add(mapper.treeToValue(record, domainType));
+			} catch (JacksonException o_O) {
+				firstInvalidRecord = read;
+				aggregates.clear();
+			}
+		}
+
+		boolean isFull() {
+			return records == size;
+		}
+
+		void save() throws IOException {
+
+			if (records == 0) {
+				return;
+			}
+
+			Map<String, Object> outcome = new LinkedHashMap<>();
+			outcome.put("chunk", ++number);
+			outcome.put("records", records);
+
+			List<Object> saved = null;
+
+			if (firstInvalidRecord != -1) {
+
+				outcome.put("error", "Invalid record");
+				outcome.put("record", firstInvalidRecord);
+
+			} else {
+				saved = saveAll(outcome);
+			}
+
+			if (saved != null) {
+
+				created += records;
+				outcome.put("created", records);
+
+				saved.forEach(it -> publishEvent(new AfterCreateEvent(it)));
+				publishEvent(new AfterBulkCreateEvent(domainType, saved));
+
+			} else {
+				failed += records;
+			}
+
+			write(outcome);
+			reset();
+		}
+
+		private @Nullable List<Object> saveAll(Map<String, Object> outcome) {
+
+			try {
+
+				return transactions.execute(status -> {
+
+					aggregates.forEach(it -> publishEvent(new BeforeCreateEvent(it)));
+					publishEvent(new BeforeBulkCreateEvent(domainType, aggregates));
+
+					return batchWriter.saveAll(domainType, invoker, aggregates);
+				});
+
+			} catch (RepositoryConstraintViolationException o_O) {
+
+				outcome.put("error", "Validation failed");
+				outcome.put("violations", o_O.getErrors().getFieldErrors().stream() //
+						.map(StreamingImporter::toViolation) //
+						.toList());
+
+			} catch (RuntimeException o_O) {
+
+				LOG.warn("Could not import chunk {} of {}", number, domainType.getName(), o_O);
+
+				outcome.put("error", "Chunk could not be saved");
+			}
+
+			return null;
+		}
+
+		void abort() throws IOException {
+
+			Map<String, Object> outcome = new LinkedHashMap<>();
+			outcome.put("error", "Malformed record");
+			outcome.put("record", read + 1);
+			outcome.put("created", created);
+			outcome.put("failed", failed + records);
+
+			write(outcome);
+		}
+
+		void summarize() throws IOException {
+
+			Map<String, Object> summary = new LinkedHashMap<>();
+			summary.put("records", read);
+			summary.put("created", created);
+			summary.put("failed", failed);
+
+			write(summary);
+		}
+
+		private void write(Map<String, Object> line) throws IOException {
+
+			output.write(writer.writeValueAsString(line));
+			output.write('\n');
+			output.flush();
+		}
+
+		private void reset() {
+
+			aggregates.clear();
+			records = 0;
+			firstInvalidRecord = -1;
+
+			chunkListeners.forEach(it -> it.afterChunk(domainType));
+		}
+	}
+}
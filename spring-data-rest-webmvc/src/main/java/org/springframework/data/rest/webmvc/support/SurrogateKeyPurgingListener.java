@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.rest.core.config.SurrogateKeyConfiguration;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.RepositoryEvent;
+import org.springframework.data.rest.webmvc.spi.SurrogateKeyPurger;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * {@link ApplicationListener} to purge the surrogate keys affected by repository writes through the registered
+ * {@link SurrogateKeyPurger}s. Writes affect the key of the written aggregate and the one of the collection resources
+ * of its type. Within a request, the keys of all writes are coalesced and purged once the request has completed, so
+ * that a request writing multiple aggregates only causes a single round of purge calls. Outside of a request, keys are
+ * purged immediately.
+ *
+ * @since 5.2
+ * @see SurrogateKeyConfiguration
+ */
+public class SurrogateKeyPurgingListener implements ApplicationListener<RepositoryEvent> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SurrogateKeyPurgingListener.class);
+	private static final String PENDING_KEYS_ATTRIBUTE = SurrogateKeyPurgingListener.class.getName() + ".PENDING_KEYS";
+
+	private final SurrogateKeyConfiguration configuration;
+	private final SurrogateKeys surrogateKeys;
+	private final List<SurrogateKeyPurger> purgers;
+
+	/**
+	 * Creates a new {@link SurrogateKeyPurgingListener} for the given {@link SurrogateKeyConfiguration},
+	 * {@link SurrogateKeys} and {@link SurrogateKeyPurger}s.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param surrogateKeys must not be {@literal null}.
+	 * @param purgers must not be {@literal null}.
+	 */
+	public SurrogateKeyPurgingListener(SurrogateKeyConfiguration configuration, SurrogateKeys surrogateKeys,
+			List<? extends SurrogateKeyPurger> purgers) {
+
+		Assert.notNull(configuration, "SurrogateKeyConfiguration must not be null");
+		Assert.notNull(surrogateKeys, "SurrogateKeys must not be null");
+		Assert.notNull(purgers, "SurrogateKeyPurgers must not be null");
+
+		this.configuration = configuration;
+		this.surrogateKeys = surrogateKeys;
+		this.purgers = List.copyOf(purgers);
+	}
+
+	@Override
+	public void onApplicationEvent(RepositoryEvent event) {
+
+		if (!configuration.isEnabled() || purgers.isEmpty()) {
+			return;
+		}
+
+		Set<String> keys = getAffectedKeys(event);
+
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			purge(keys);
+			return;
+		}
+
+		getPendingKeys(attributes).addAll(keys);
+	}
+
+	private Set<String> getAffectedKeys(RepositoryEvent event) {
+
+		Set<String> result = new LinkedHashSet<>();
+
+		if (!(event instanceof AfterCreateEvent || event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent
+				|| event instanceof AfterLinkSaveEvent || event instanceof AfterLinkDeleteEvent)) {
+			return result;
+		}
+
+		Object source = event.getSource();
+		String key = surrogateKeys.forAggregate(source);
+
+		if (key == null) {
+			return result;
+		}
+
+		// Freshly created aggregates cannot have been rendered before
+		if (!(event instanceof AfterCreateEvent)) {
+			result.add(key);
+		}
+
+		result.add(SurrogateKeys.forCollection(ProxyUtils.getUserClass(source)));
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<String> getPendingKeys(RequestAttributes attributes) {
+
+		Set<String> pending = (Set<String>) attributes.getAttribute(PENDING_KEYS_ATTRIBUTE,
+				RequestAttributes.SCOPE_REQUEST);
+
+		if (pending != null) {
+			return pending;
+		}
+
+		Set<String> keys = new LinkedHashSet<>();
+
+		attributes.setAttribute(PENDING_KEYS_ATTRIBUTE, keys, RequestAttributes.SCOPE_REQUEST);
+		attributes.registerDestructionCallback(PENDING_KEYS_ATTRIBUTE, () -> purge(keys),
+				RequestAttributes.SCOPE_REQUEST);
+
+		return keys;
+	}
+
+	private void purge(Collection<String> keys) {
+
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		List<String> all = new ArrayList<>(keys);
+		int batchSize = configuration.getPurgeBatchSize();
+
+		for (int i = 0; i < all.size(); i += batchSize) {
+
+			List<String> batch = List.copyOf(all.subList(i, Math.min(i + batchSize, all.size())));
+
+			for (SurrogateKeyPurger purger : purgers) {
+
+				try {
+					purger.purge(batch);
+				} catch (RuntimeException o_O) {
+
+					// Failing to purge must not fail the write that already happened
+					LOG.warn("Could not purge surrogate keys {} using {}", batch, purger, o_O);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.data.rest.webmvc.IncrementalCollectionModel;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.server.core.EmbeddedWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * Calculates the surrogate keys identifying the aggregates a representation was rendered from. An aggregate is
+ * identified by {@code ${simple type name}:${identifier}}, the collection and search resources of a type by
+ * {@code ${simple type name}:collection}.
+ *
+ * @since 5.2
+ * @see org.springframework.data.rest.core.config.SurrogateKeyConfiguration
+ */
+public class SurrogateKeys {
+
+	private static final String COLLECTION = "collection";
+
+	private final PersistentEntities entities;
+
+	/**
+	 * Creates a new {@link SurrogateKeys} for the given {@link PersistentEntities}.
+	 *
+	 * @param entities must not be {@literal null}.
+	 */
+	public SurrogateKeys(PersistentEntities entities) {
+
+		Assert.notNull(entities, "PersistentEntities must not be null");
+
+		this.entities = entities;
+	}
+
+	/**
+	 * Returns the surrogate key for the aggregate of the given type and identifier.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static String forItem(Class<?> type, Object id) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(id, "Identifier must not be null");
+
+		return type.getSimpleName() + ":" + id;
+	}
+
+	/**
+	 * Returns the surrogate key for the collection and search resources of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static String forCollection(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		return type.getSimpleName() + ":" + COLLECTION;
+	}
+
+	/**
+	 * Returns the surrogate key for the given aggregate instance.
+	 *
+	 * @param aggregate must not be {@literal null}.
+	 * @return {@literal null} in case the given object is not a known aggregate or doesn't carry an identifier yet.
+	 */
+	public @Nullable String forAggregate(Object aggregate) {
+
+		Assert.notNull(aggregate, "Aggregate must not be null");
+
+		Object target = aggregate instanceof TargetAware targetAware ? targetAware.getTarget() : aggregate;
+
+		return entities.getPersistentEntity(ProxyUtils.getUserClass(target)) //
+				.map(it -> forAggregate(it, target)) //
+				.orElse(null);
+	}
+
+	/**
+	 * Returns all surrogate keys for the given response body. That includes the keys of all aggregates embedded into
+	 * it, either as excerpt projections of related aggregates or as elements of a collection resource. Excerpts of
+	 * incrementally rendered collection resources are not considered as they're only created while rendering.
+	 *
+	 * @param body can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Set<String> getSurrogateKeys(@Nullable Object body) {
+
+		Set<String> result = new LinkedHashSet<>();
+
+		if (body instanceof IncrementalCollectionModel incremental) {
+
+			Iterable<?> results = incremental.getResults();
+
+			// Don't consume results that can only be iterated over once
+			if (results instanceof Slice<?> || results instanceof Collection<?>) {
+				results.forEach(it -> collect(it, true, result));
+			}
+
+			if (entities.getPersistentEntity(incremental.getDomainType()).isPresent()) {
+				result.add(forCollection(incremental.getDomainType()));
+			}
+
+		} else if (body instanceof CollectionModel<?> collection) {
+
+			for (Object element : collection.getContent()) {
+
+				if (element instanceof EmbeddedWrapper wrapper) {
+
+					Class<?> type = wrapper.getRelTargetType();
+
+					if (type != null && entities.getPersistentEntity(type).isPresent()) {
+						result.add(forCollection(type));
+					}
+				}
+
+				collect(element, true, result);
+			}
+
+		} else {
+			collect(body, false, result);
+		}
+
+		return result;
+	}
+
+	private void collect(@Nullable Object source, boolean collectionElement, Set<String> result) {
+
+		if (source == null) {
+			return;
+		}
+
+		if (source instanceof PersistentEntityResource resource) {
+
+			PersistentEntity<?, ?> entity = resource.getPersistentEntity();
+			String key = forAggregate(entity, resource.getTarget());
+
+			if (key != null) {
+				result.add(key);
+			}
+
+			if (collectionElement) {
+				result.add(forCollection(entity.getType()));
+			}
+
+			resource.getEmbeddeds().forEach(it -> collect(it.getValue(), false, result));
+
+		} else if (source instanceof EmbeddedWrapper wrapper) {
+			collect(wrapper.getValue(), collectionElement, result);
+
+		} else if (source instanceof Collection<?> collection) {
+			collection.forEach(it -> collect(it, collectionElement, result));
+
+		} else if (source instanceof EntityModel<?> model) {
+			collect(model.getContent(), collectionElement, result);
+
+		} else {
+
+			Object target = source instanceof TargetAware targetAware ? targetAware.getTarget() : source;
+
+			entities.getPersistentEntity(ProxyUtils.getUserClass(target)).ifPresent(entity -> {
+
+				String key = forAggregate(entity, target);
+
+				if (key != null) {
+					result.add(key);
+				}
+
+				if (collectionElement) {
+					result.add(forCollection(entity.getType()));
+				}
+			});
+		}
+	}
+
+	private static @Nullable String forAggregate(PersistentEntity<?, ?> entity, Object aggregate) {
+
+		if (!entity.hasIdProperty()) {
+			return null;
+		}
+
+		Object id = entity.getIdentifierAccessor(aggregate).getIdentifier();
+
+		return id == null ? null : forItem(entity.getType(), id);
+	}
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +34,8 @@ import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMapp
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 
 /**
  * Unit tests for {@link RepositoryEntityController}
@@ -52,6 +55,31 @@ class RepositoryEntityControllerTest {
 	@Test // DATAREST-1143
 	void testUnknownItemThrowsResourceNotFound() throws Exception {
 
+		RootResourceInformation information = getResourceInformation();
+		RepositoryEntityController repositoryEntityController = new RepositoryEntityController(
+				restConfiguration, repositoryEntityLinks, httpHeadersPreparer);
+
+		assertThatExceptionOfType(ResourceNotFoundException.class) //
+				.isThrownBy(() -> repositoryEntityController.getItemResource(information, "1", null, null));
+	}
+
+	@Test
+	void rejectsLookupOfMultipleItemsAsNotSupportedWithoutBatchLookup() {
+
+		when(restConfiguration.getMaxPageSize()).thenReturn(1000);
+
+		RootResourceInformation information = getResourceInformation();
+		RepositoryEntityController repositoryEntityController = new RepositoryEntityController(
+				restConfiguration, repositoryEntityLinks, httpHeadersPreparer);
+
+		assertThatExceptionOfType(HttpRequestMethodNotSupportedException.class) //
+				.isThrownBy(() -> repositoryEntityController.getItemResources(information, List.of("1", "2"),
+						new HttpHeaders(), null))
+				.satisfies(it -> assertThat(it.getMethod()).isEqualTo("GET"));
+	}
+
+	private RootResourceInformation getResourceInformation() {
+
 		KeyValuePersistentEntity<?, ?> entity = mappingContext
 				.getRequiredPersistentEntity(RepositoryPropertyReferenceControllerUnitTests.Sample.class);
 
@@ -64,11 +92,6 @@ class RepositoryEntityControllerTest {
 		when(metadata.getSupportedHttpMethods())
 				.thenReturn(RepositoryPropertyReferenceControllerUnitTests.AllSupportedHttpMethods.INSTANCE);
 
-		RootResourceInformation information = new RootResourceInformation(metadata, entity, invoker);
-		RepositoryEntityController repositoryEntityController = new RepositoryEntityController(
-				restConfiguration, repositoryEntityLinks, httpHeadersPreparer);
-
-		assertThatExceptionOfType(ResourceNotFoundException.class) //
-				.isThrownBy(() -> repositoryEntityController.getItemResource(information, "1", null, null));
+		return new RootResourceInformation(metadata, entity, invoker);
 	}
 }
@@ -20,6 +20,8 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +35,8 @@ import org.springframework.data.annotation.Version;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.rest.webmvc.ResourceStatus.StatusAndHeaders;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.ResourceVersion;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
@@ -60,6 +64,9 @@ class ResourceStatusUnitTests {
 		this.entity = context.getRequiredPersistentEntity(Sample.class);
 
 		doReturn(new HttpHeaders()).when(preparer).prepareHeaders(eq(entity), any());
+		doReturn(new HttpHeaders()).when(preparer).prepareHeaders(any(ResourceVersion.class));
+		doAnswer(it -> ResourceVersion.of(it.<Sample> getArgument(1).getVersion(), null)) //
+				.when(preparer).getResourceVersion(eq(entity), any());
 	}
 
 	@Test // DATAREST-835
@@ -86,7 +93,7 @@ class ResourceStatusUnitTests {
 	@Test // DATAREST-835
 	void returnsNotModifiedIfEntityIsStillConsideredValid() {
 
-		doReturn(true).when(preparer).isObjectStillValid(any(), any(HttpHeaders.class));
+		doReturn(true).when(preparer).isStillValid(any(), any(HttpHeaders.class));
 
 		assertNotModified(status.getStatusAndHeaders(new HttpHeaders(), new Sample(0), entity));
 	}
@@ -99,6 +106,70 @@ class ResourceStatusUnitTests {
 				.withMessageContaining(entity.getType().getName());
 	}
 
+	@Test
+	void doesNotProbeVersionForUnconditionalRequest() {
+
+		assertThat(status.getStatusAndHeaders(new HttpHeaders(), entity, 1L)).isEmpty();
+
+		verify(preparer, never()).probeVersion(any(), any());
+	}
+
+	@Test
+	void returnsNotModifiedForProbedVersionMatchingRequestedETag() {
+
+		doReturn(Optional.of(ResourceVersion.of(1, null))).when(preparer).probeVersion(entity, 1L);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"1\"");
+
+		assertThat(status.getStatusAndHeaders(headers, entity, 1L)).hasValueSatisfying(this::assertNotModified);
+	}
+
+	@Test
+	void returnsModifiedForProbedVersionNotMatchingRequestedETag() {
+
+		doReturn(Optional.of(ResourceVersion.of(2, null))).when(preparer).probeVersion(entity, 1L);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"1\"");
+
+		assertThat(status.getStatusAndHeaders(headers, entity, 1L)).hasValueSatisfying(it -> {
+			assertThat(it.isModified()).isTrue();
+		});
+	}
+
+	@Test
+	void returnsNoStatusIfVersionCannotBeProbed() {
+
+		doReturn(Optional.empty()).when(preparer).probeVersion(entity, 1L);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"1\"");
+
+		assertThat(status.getStatusAndHeaders(headers, entity, 1L)).isEmpty();
+	}
+
+	@Test
+	void returnsNotModifiedIfAnyRequestedETagMatchesContentHash() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch(List.of("\"other\"", "\"4711\""));
+
+		StatusAndHeaders result = status.getStatusAndHeaders(headers, ETag.from("4711"));
+
+		assertNotModified(result);
+		assertThat(result.getHeaders().getETag()).isEqualTo("\"4711\"");
+	}
+
+	@Test
+	void returnsModifiedIfNoRequestedETagMatchesContentHash() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"other\"");
+
+		assertModified(status.getStatusAndHeaders(headers, ETag.from("4711")));
+	}
+
 	private void assertModified(StatusAndHeaders statusAndHeaders) {
 
 		assertThat(statusAndHeaders.isModified()).isTrue();
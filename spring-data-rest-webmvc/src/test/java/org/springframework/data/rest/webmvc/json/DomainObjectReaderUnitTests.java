@@ -50,6 +50,7 @@ import org.springframework.data.annotation.Reference;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
@@ -804,6 +805,30 @@ class DomainObjectReaderUnitTests {
 		assertThat(result.items.get(2).some).isEqualTo("yetAnotherValue");
 	}
 
+	@Test
+	void reusesMergePlanPerEntityAndMapper() {
+
+		ObjectMapper mapper = new ObjectMapper();
+		PersistentEntity<?, ?> entity = entities.getRequiredPersistentEntity(SampleUser.class);
+
+		assertThat(reader.getMergePlan(entity, mapper)).isSameAs(reader.getMergePlan(entity, mapper));
+		assertThat(reader.getMergePlan(entity, mapper)).isNotSameAs(reader.getMergePlan(entity, new ObjectMapper()));
+	}
+
+	@Test
+	void mergesNestedMapWithKeysRequiringEscaping() throws Exception {
+
+		MapWrapper wrapper = new MapWrapper();
+		wrapper.map.put("a\"b", new HashMap<>(Map.of("c", "1", "d", "1")));
+
+		ObjectMapper mapper = new ObjectMapper();
+		JsonNode node = mapper.readTree("{ \"map\" : { \"a\\\"b\" : { \"c\" : \"2\" } } }");
+
+		MapWrapper result = reader.doMerge((ObjectNode) node, wrapper, mapper);
+
+		assertThat(result.map.get("a\"b")).isEqualTo(Map.of("c", "2", "d", "1"));
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T as(Object source, Class<T> type) {
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.assertj.core.api.Assertions.*;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonProperty.Access;
+
+/**
+ * Unit tests for {@link MappedJacksonProperties}.
+ */
+class MappedJacksonPropertiesUnitTests {
+
+	ObjectMapper mapper = new JsonMapper();
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Sample.class);
+
+	@Test
+	void reusesPropertiesIntrospectedForSameEntityAndMapper() {
+
+		assertThat(MappedJacksonProperties.forDeserialization(entity, mapper))
+				.isSameAs(MappedJacksonProperties.forDeserialization(entity, mapper));
+		assertThat(MappedJacksonProperties.forSerialization(entity, mapper))
+				.isSameAs(MappedJacksonProperties.forSerialization(entity, mapper));
+	}
+
+	@Test
+	void introspectsPropertiesPerMapper() {
+
+		assertThat(MappedJacksonProperties.forDeserialization(entity, mapper))
+				.isNotSameAs(MappedJacksonProperties.forDeserialization(entity, new JsonMapper()));
+	}
+
+	@Test
+	void keepsPropertiesForSerializationAndDeserializationApart() {
+
+		MappedJacksonProperties deserialization = MappedJacksonProperties.forDeserialization(entity, mapper);
+		MappedJacksonProperties serialization = MappedJacksonProperties.forSerialization(entity, mapper);
+
+		assertThat(deserialization.getPersistentProperty("readOnlyProperty")).isNull();
+		assertThat(serialization.getPersistentProperty("readOnlyProperty")).isNotNull();
+	}
+
+	static class Sample {
+
+		public String exposedProperty;
+		public @JsonProperty(access = Access.READ_ONLY) String readOnlyProperty;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.webmvc.spi.AssociationLookup;
+
+/**
+ * Unit tests for {@link AssociationPager}.
+ */
+class AssociationPagerUnitTests {
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	PersistentEntities entities = PersistentEntities.of(context);
+	PersistentProperty<?> members = context.getRequiredPersistentEntity(Team.class)
+			.getRequiredPersistentProperty("members");
+
+	@Test
+	void sortsAndSlicesAssociationValueInMemoryByDefault() {
+
+		Team team = new Team(1L, new Member(1L, "Dave"), new Member(2L, "carter"), new Member(3L, "Boyd"));
+		AssociationPager pager = new AssociationPager(entities, List.of());
+
+		Page<?> page = pager.findPage(members, team, team.members,
+				PageRequest.of(0, 2, Sort.by(Sort.Order.asc("name").ignoreCase())));
+
+		assertThat(page.getContent()).extracting("name").containsExactly("Boyd", "carter");
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThat(page.hasNext()).isTrue();
+	}
+
+	@Test
+	void returnsEmptyPageBeyondAssociationValue() {
+
+		Team team = new Team(1L, new Member(1L, "Dave"));
+		AssociationPager pager = new AssociationPager(entities, List.of());
+
+		Page<?> page = pager.findPage(members, team, team.members, PageRequest.of(2, 2));
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isEqualTo(1);
+	}
+
+	@Test
+	void prefersPageLookedUpForOwnerType() {
+
+		Team team = new Team(1L, new Member(1L, "Dave"));
+		Page<Object> page = new PageImpl<>(List.of(new Member(2L, "Oliver")));
+		AssociationPager pager = new AssociationPager(entities, List.of(new StaticLookup(page)));
+
+		assertThat(pager.findPage(members, team, team.members, PageRequest.of(0, 2))).isSameAs(page);
+	}
+
+	@Test
+	void fallsBackToAssociationValueIfLookupCannotProvidePage() {
+
+		Team team = new Team(1L, new Member(1L, "Dave"));
+		AssociationPager pager = new AssociationPager(entities, List.of(new StaticLookup(null)));
+
+		assertThat(pager.findPage(members, team, team.members, PageRequest.of(0, 2)).getContent())
+				.containsExactlyElementsOf(team.members);
+	}
+
+	@Test
+	void findsElementInAssociationValueByDefault() {
+
+		Team team = new Team(1L, new Member(1L, "Dave"), new Member(2L, "Oliver"));
+		AssociationPager pager = new AssociationPager(entities, List.of(new StaticLookup(null)));
+
+		assertThat(pager.findElement(members, team, team.members, "2")).containsSame(team.members.get(1));
+		assertThat(pager.findElement(members, team, team.members, "3")).isEmpty();
+	}
+
+	@Test
+	void prefersElementLookedUpWithConvertedIdentifier() {
+
+		Team team = new Team(1L, new Member(1L, "Dave"));
+		Member member = new Member(2L, "Oliver");
+		AssociationPager pager = new AssociationPager(entities, List.of(new ElementLookup(Map.of(2L, member))));
+
+		assertThat(pager.findElement(members, team, team.members, "2")).hasValue(member);
+		assertThat(pager.findElement(members, team, team.members, "1")).isEmpty();
+	}
+
+	static class Team {
+
+		@Id Long id;
+		List<Member> members;
+
+		Team(Long id, Member... members) {
+			this.id = id;
+			this.members = new ArrayList<>(List.of(members));
+		}
+	}
+
+	static class Member {
+
+		@Id Long id;
+		String name;
+
+		Member(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	record StaticLookup(Page<?> page) implements AssociationLookup {
+
+		@Override
+		public boolean supports(Class<?> delimiter) {
+			return Team.class.equals(delimiter);
+		}
+
+		@Override
+		public Optional<Page<?>> findPage(PersistentProperty<?> association, Object ownerId, Pageable pageable) {
+			return Optional.ofNullable(page);
+		}
+	}
+
+	record ElementLookup(Map<Object, Object> elements) implements AssociationLookup {
+
+		@Override
+		public boolean supports(Class<?> delimiter) {
+			return Team.class.equals(delimiter);
+		}
+
+		@Override
+		public Optional<Page<?>> findPage(PersistentProperty<?> association, Object ownerId, Pageable pageable) {
+			return Optional.empty();
+		}
+
+		@Override
+		public boolean supportsElementLookup(PersistentProperty<?> association) {
+			return true;
+		}
+
+		@Override
+		public Optional<Object> findElement(PersistentProperty<?> association, Object ownerId, Object elementId) {
+			return Optional.ofNullable(elements.get(elementId));
+		}
+	}
+}
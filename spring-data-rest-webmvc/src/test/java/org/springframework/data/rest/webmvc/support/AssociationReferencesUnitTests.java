@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.ReferenceBindingConfiguration;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.webmvc.spi.ReferenceLookup;
+
+/**
+ * Unit tests for {@link AssociationReferences}.
+ */
+class AssociationReferencesUnitTests {
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	PersistentEntities entities = PersistentEntities.of(context);
+	ReferenceBindingConfiguration configuration = new ReferenceBindingConfiguration();
+	RecordingLookup lookup = new RecordingLookup();
+
+	{
+		context.getRequiredPersistentEntity(Member.class);
+		context.getRequiredPersistentEntity(Team.class);
+	}
+
+	@Test
+	void bindsReferencesForConfiguredTypesOnly() {
+
+		configuration.forDomainTypes(Member.class);
+
+		AssociationReferences references = new AssociationReferences(entities, configuration, List.of(lookup),
+				List.of(), new DefaultConversionService());
+
+		assertThat(references.isBound(Member.class)).isTrue();
+		assertThat(references.isBound(Team.class)).isFalse();
+	}
+
+	@Test
+	void bindsReferencesForAllTypesSupportedByLookupIfEnabled() {
+
+		configuration.setEnabled(true);
+
+		AssociationReferences references = new AssociationReferences(entities, configuration, List.of(lookup),
+				List.of(), new DefaultConversionService());
+
+		assertThat(references.isBound(Member.class)).isTrue();
+		assertThat(references.isBound(Team.class)).isTrue();
+		assertThat(references.isBound(String.class)).isFalse();
+	}
+
+	@Test
+	void doesNotBindReferencesWithoutLookup() {
+
+		configuration.setEnabled(true);
+
+		AssociationReferences references = new AssociationReferences(entities, configuration, List.of(), List.of(),
+				new DefaultConversionService());
+
+		assertThat(references.isBound(Member.class)).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void doesNotBindReferencesForTypesWithEntityLookup() {
+
+		EntityLookup<Member> entityLookup = mock(EntityLookup.class);
+		doReturn(true).when(entityLookup).supports(Member.class);
+
+		configuration.setEnabled(true);
+
+		AssociationReferences references = new AssociationReferences(entities, configuration, List.of(lookup),
+				List.of(entityLookup), new DefaultConversionService());
+
+		assertThat(references.isBound(Member.class)).isFalse();
+		assertThat(references.isBound(Team.class)).isTrue();
+	}
+
+	@Test
+	void obtainsReferenceForConvertedIdentifier() {
+
+		configuration.forDomainTypes(Member.class);
+
+		AssociationReferences references = new AssociationReferences(entities, configuration, List.of(lookup),
+				List.of(), new DefaultConversionService());
+
+		assertThat(references.getReference(Member.class, "42")).isInstanceOf(Member.class);
+		assertThat(references.getReference(Member.class, "")).isNull();
+		assertThat(lookup.identifiers).containsExactly(42L);
+	}
+
+	@Test
+	void rejectsReferenceForTypeNotBound() {
+
+		AssociationReferences references = new AssociationReferences(entities, configuration, List.of(lookup),
+				List.of(), new DefaultConversionService());
+
+		assertThatIllegalArgumentException().isThrownBy(() -> references.getReference(Member.class, "42"));
+	}
+
+	static class RecordingLookup implements ReferenceLookup {
+
+		List<Object> identifiers = new ArrayList<>();
+
+		@Override
+		public boolean supports(Class<?> delimiter) {
+			return Member.class.equals(delimiter) || Team.class.equals(delimiter);
+		}
+
+		@Override
+		public Object getReference(Class<?> type, Object id) {
+
+			identifiers.add(id);
+
+			return new Member((Long) id);
+		}
+	}
+
+	static class Team {
+		@Id Long id;
+	}
+
+	static class Member {
+
+		@Id Long id;
+
+		Member(Long id) {
+			this.id = id;
+		}
+	}
+}
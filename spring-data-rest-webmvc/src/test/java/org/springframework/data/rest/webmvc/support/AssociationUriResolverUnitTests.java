@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMappings;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Unit tests for {@link AssociationUriResolver}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AssociationUriResolverUnitTests {
+
+	@Mock Repositories repositories;
+	@Mock RepositoryRestConfiguration configuration;
+	@Mock RepositoryInvokerFactory invokerFactory;
+	@Mock RepositoryInvoker invoker;
+	@Mock RepositoryBatchLookup lookup;
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	ObjectMapper mapper = new ObjectMapper();
+	PersistentEntity<?, ?> order, product;
+	AssociationUriResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+
+		this.order = context.getRequiredPersistentEntity(Order.class);
+		this.product = context.getRequiredPersistentEntity(Product.class);
+		context.getRequiredPersistentEntity(Customer.class);
+
+		PersistentEntities entities = PersistentEntities.of(context);
+		Associations associations = new Associations(new PersistentEntitiesResourceMappings(entities), configuration);
+
+		doReturn(true).when(repositories).hasRepositoryFor(Order.class);
+		doReturn(true).when(repositories).hasRepositoryFor(Product.class);
+		doReturn(product).when(repositories).getPersistentEntity(Product.class);
+		doReturn(invoker).when(invokerFactory).getInvokerFor(Product.class);
+
+		this.resolver = new AssociationUriResolver(repositories, entities, associations, invokerFactory, lookup);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void looksUpAllReferencedAggregatesOfATypeAtOnce() {
+
+		Product first = new Product(), second = new Product();
+		doReturn(Map.of("1", first, "2", second)).when(lookup).findAllByRequestId(eq(product), eq(invoker), any());
+
+		resolver.prefetch(order, mapper.readTree("{ \"items\" : [ { \"product\" : \"http://localhost/products/1\" }, "
+				+ "{ \"product\" : \"/products/2\" } ], \"favorite\" : \"/products/1\", \"note\" : \"n/a\" }"), mapper);
+
+		verify(lookup, times(1)).findAllByRequestId(product, invoker, List.of("1", "2"));
+		assertThat(resolver.getPrefetched(Product.class, URI.create("/products/1"))).isSameAs(first);
+		assertThat(resolver.getPrefetched(Product.class, URI.create("http://localhost/products/2"))).isSameAs(second);
+		assertThat(resolver.getPrefetched(Product.class, URI.create("/products/3"))).isNull();
+	}
+
+	@Test
+	void readsArraysAsMultipleDocuments() {
+
+		resolver.prefetch(order, mapper.readTree("[ { \"favorite\" : \"/products/1\" }, "
+				+ "{ \"favorite\" : \"/products/2\" } ]"), mapper);
+
+		verify(lookup, times(1)).findAllByRequestId(product, invoker, List.of("1", "2"));
+	}
+
+	@Test
+	void ignoresValuesOfPropertiesOtherThanAssociations() {
+
+		resolver.prefetch(order, mapper.readTree("{ \"_links\" : { \"self\" : { \"href\" : \"/products/1\" } }, "
+				+ "\"note\" : \"/products/2\", \"other\" : \"/products/3\" }"), mapper);
+
+		verify(lookup, never()).findAllByRequestId(any(), any(), any());
+	}
+
+	@Test
+	void looksUpAssociationsByTheirMappedNames() {
+
+		resolver.prefetch(order,
+				mapper.readTree("{ \"bestseller\" : \"/products/1\", \"topSeller\" : \"/products/2\" }"), mapper);
+
+		verify(lookup, times(1)).findAllByRequestId(product, invoker, List.of("1"));
+	}
+
+	@Test
+	void onlySupportsEntitiesWithLinkableAssociations() {
+
+		assertThat(resolver.supports(order)).isTrue();
+		assertThat(resolver.supports(product)).isFalse();
+		assertThat(resolver.supports(context.getRequiredPersistentEntity(Customer.class))).isFalse();
+	}
+
+	@Test
+	void doesNotPrefetchOutsideOfRequest() {
+
+		RequestContextHolder.resetRequestAttributes();
+
+		resolver.prefetch(order, mapper.readTree("{ \"favorite\" : \"/products/1\" }"), mapper);
+
+		verify(lookup, never()).findAllByRequestId(any(), any(), any());
+		assertThat(resolver.getPrefetched(Product.class, URI.create("/products/1"))).isNull();
+	}
+
+	static class Order {
+		@Id Long id;
+		@JsonProperty String note;
+		@JsonProperty List<LineItem> items;
+		@JsonProperty @Reference Product favorite;
+		@JsonProperty("bestseller") @Reference Product topSeller;
+	}
+
+	static class LineItem {
+		@JsonProperty @Reference Product product;
+	}
+
+	@RestResource(exported = true)
+	static class Product {
+		@Id Long id;
+	}
+
+	static class Customer {
+		@Id Long id;
+		String name;
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.rest.core.config.BatchConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.BatchController;
+import org.springframework.data.rest.webmvc.BatchResults;
+import org.springframework.data.rest.webmvc.BatchResults.BatchResult;
+import org.springframework.data.rest.webmvc.support.BatchRequestDispatcher.Batch;
+import org.springframework.data.rest.webmvc.support.BatchRequestDispatcher.SubRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerAdapter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Unit tests for {@link BatchRequestDispatcher}, {@link BatchSubRequest} and {@link BatchSubResponse}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BatchRequestDispatcherUnitTests {
+
+	@Mock RepositoryRestConfiguration configuration;
+	@Mock HandlerMapping handlerMapping;
+	@Mock HandlerAdapter handlerAdapter;
+	@Mock PlatformTransactionManager transactionManager;
+
+	SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+	AtomicReference<@Nullable Exception> resolved = new AtomicReference<>();
+
+	MockHttpServletRequest request = new MockHttpServletRequest("POST", "/batch");
+	MockHttpServletResponse response = new MockHttpServletResponse();
+
+	BatchRequestDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		HandlerExceptionResolver resolver = (request, response, handler, exception) -> {
+
+			resolved.set(exception);
+			response.setStatus(HttpStatus.BAD_REQUEST.value());
+
+			return new ModelAndView();
+		};
+
+		doReturn(new BatchConfiguration().setEnabled(true)).when(configuration).getBatchConfiguration();
+		doReturn(new HandlerExecutionChain(new Object())).when(handlerMapping).getHandler(any());
+		doReturn(transaction).when(transactionManager).getTransaction(any());
+
+		this.dispatcher = new BatchRequestDispatcher(configuration, new JsonMapper(), handlerMapping, handlerAdapter,
+				() -> resolver, new TransactionTemplate(transactionManager), Runnable::run, List.of());
+	}
+
+	@Test
+	void rollsBackAtomicBatchAndSkipsSubRequestsFollowingFailedOne() throws Exception {
+
+		doAnswer(invocation -> {
+
+			HttpServletRequest request = invocation.getArgument(0);
+			HttpServletResponse response = invocation.getArgument(1);
+
+			response.setStatus(request.getRequestURI().endsWith("/invalid") //
+					? HttpStatus.CONFLICT.value() //
+					: HttpStatus.CREATED.value());
+
+			return null;
+
+		}).when(handlerAdapter).handle(any(), any(), any());
+
+		BatchResults results = dispatcher.execute(request, response, new Batch(List.of( //
+				subRequest("first", "POST", "/categories"), //
+				subRequest("second", "POST", "/categories/invalid"), //
+				subRequest("third", "POST", "/categories")), true));
+
+		assertThat(results.isRolledBack()).isTrue();
+		assertThat(results.getResponses()).extracting(BatchResult::id, BatchResult::status).containsExactly( //
+				tuple("first", HttpStatus.CREATED.value()), //
+				tuple("second", HttpStatus.CONFLICT.value()), //
+				tuple("third", HttpStatus.FAILED_DEPENDENCY.value()));
+		assertThat(transaction.isRollbackOnly()).isTrue();
+
+		verify(handlerAdapter, times(2)).handle(any(), any(), any());
+	}
+
+	@Test
+	void commitsAtomicBatchIfAllSubRequestsSucceed() throws Exception {
+
+		BatchResults results = dispatcher.execute(request, response, new Batch(List.of( //
+				subRequest("first", "POST", "/categories"), //
+				subRequest("second", "POST", "/categories")), true));
+
+		assertThat(results.isRolledBack()).isFalse();
+		assertThat(results.getResponses()).extracting(BatchResult::status).containsOnly(HttpStatus.OK.value());
+		assertThat(transaction.isRollbackOnly()).isFalse();
+
+		verify(transactionManager).commit(transaction);
+	}
+
+	@Test
+	void rejectsNestedBatchRequest() throws Exception {
+
+		BatchController controller = new BatchController(configuration, dispatcher);
+
+		doAnswer(invocation -> {
+
+			controller.executeBatch(invocation.getArgument(0), invocation.getArgument(1));
+
+			return null;
+
+		}).when(handlerAdapter).handle(any(), any(), any());
+
+		BatchResults results = dispatcher.execute(request, response,
+				new Batch(List.of(subRequest("nested", "POST", "/batch")), false));
+
+		assertThat(results.getResponses()).extracting(BatchResult::status).containsExactly(400);
+		assertThat(resolved.get()).hasMessageContaining("cannot be nested");
+		assertThat(BatchRequestDispatcher.isSubRequest(request)).isFalse();
+	}
+
+	@Test
+	void isolatesHeadersAndAttributesOfSubRequests() throws Exception {
+
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Basic Zm9vOmJhcg==");
+		request.addHeader(HttpHeaders.IF_MATCH, "\"1\"");
+		request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+		request.setAttribute("batch", "batch");
+
+		List<Observation> observations = new ArrayList<>();
+
+		doAnswer(invocation -> {
+
+			HttpServletRequest request = invocation.getArgument(0);
+			HttpServletResponse response = invocation.getArgument(1);
+
+			observations.add(new Observation(request.getHeader(HttpHeaders.AUTHORIZATION),
+					request.getHeader(HttpHeaders.IF_MATCH), request.getHeader(HttpHeaders.ACCEPT),
+					request.getAttribute("batch"), request.getAttribute("sub-request")));
+
+			request.setAttribute("sub-request", request.getRequestURI());
+			response.setHeader("X-Sub-Request", request.getRequestURI());
+
+			return null;
+
+		}).when(handlerAdapter).handle(any(), any(), any());
+
+		BatchResults results = dispatcher.execute(request, response, new Batch(List.of( //
+				new SubRequest("first", "GET", "/first", Map.of(HttpHeaders.ACCEPT, "application/hal+json"), null), //
+				subRequest("second", "GET", "/second")), false));
+
+		assertThat(observations).containsExactly( //
+				new Observation("Basic Zm9vOmJhcg==", null, "application/hal+json", null, null), //
+				new Observation("Basic Zm9vOmJhcg==", null, null, null, null));
+
+		assertThat(results.getResponses()).extracting(it -> it.headers().get("X-Sub-Request")) //
+				.containsExactly("/first", "/second");
+
+		assertThat(request.getAttribute("sub-request")).isNull();
+		assertThat(response.getHeader("X-Sub-Request")).isNull();
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+
+	private static SubRequest subRequest(String id, String method, String url) {
+		return new SubRequest(id, method, url, Map.of(), null);
+	}
+
+	record Observation(@Nullable String authorization, @Nullable String ifMatch, @Nullable String accept,
+			@Nullable Object batchAttribute, @Nullable Object subRequestAttribute) {}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Scope;
+import org.springframework.data.rest.core.annotation.ResourceCacheControl.Visibility;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.CacheControlConfiguration;
+import org.springframework.http.CacheControl;
+
+/**
+ * Unit tests for {@link CacheControlPolicies}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CacheControlPoliciesUnitTests {
+
+	@Mock Repositories repositories;
+	@Mock RepositoryInformation information;
+
+	CacheControlConfiguration configuration = new CacheControlConfiguration();
+	CacheControlPolicies policies;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(SampleRepository.class).when(information).getRepositoryInterface();
+		doReturn(Optional.of(information)).when(repositories).getRepositoryInformationFor(Sample.class);
+		doReturn(Optional.empty()).when(repositories).getRepositoryInformationFor(Object.class);
+
+		this.policies = new CacheControlPolicies(configuration, repositories);
+	}
+
+	@Test
+	void usesPolicyDeclaredOnRepositoryForMatchingScopes() {
+
+		assertThat(getHeaderValue(policies.getCacheControl(Sample.class, Scope.ITEM))).isEqualTo("max-age=60, public");
+		assertThat(getHeaderValue(policies.getCacheControl(Sample.class, Scope.COLLECTION)))
+				.isEqualTo("max-age=60, public");
+		assertThat(policies.getCacheControl(Sample.class, Scope.PROFILE)).isNull();
+	}
+
+	@Test
+	void prefersPolicyConfiguredForDomainType() {
+
+		CacheControl cacheControl = CacheControl.noStore();
+		configuration.forDomainType(Sample.class, cacheControl, Scope.ITEM);
+
+		assertThat(policies.getCacheControl(Sample.class, Scope.ITEM)).isSameAs(cacheControl);
+	}
+
+	@Test
+	void fallsBackToDefaults() {
+
+		CacheControl cacheControl = CacheControl.maxAge(Duration.ofHours(1));
+		configuration.setDefault(cacheControl, Scope.ITEM, Scope.PROFILE);
+
+		assertThat(policies.getCacheControl(Object.class, Scope.ITEM)).isSameAs(cacheControl);
+		assertThat(policies.getCacheControl(Sample.class, Scope.PROFILE)).isSameAs(cacheControl);
+		assertThat(getHeaderValue(policies.getCacheControl(Sample.class, Scope.ITEM))).isEqualTo("max-age=60, public");
+	}
+
+	@Test
+	void prefersPolicyDeclaredOnQueryMethodForSearchResource() throws Exception {
+
+		Method annotated = SampleRepository.class.getMethod("findByName", String.class);
+		Method plain = SampleRepository.class.getMethod("findByFirstname", String.class);
+
+		assertThat(getHeaderValue(policies.getCacheControl(Sample.class, annotated))).isEqualTo("max-age=5, private");
+		assertThat(getHeaderValue(policies.getCacheControl(Sample.class, plain))).isEqualTo("max-age=60, public");
+	}
+
+	private static String getHeaderValue(CacheControl cacheControl) {
+		return cacheControl.getHeaderValue();
+	}
+
+	static class Sample {}
+
+	@RepositoryRestResource(cacheControl = @ResourceCacheControl(maxAge = 60, visibility = Visibility.PUBLIC,
+			scope = { Scope.ITEM, Scope.COLLECTION, Scope.SEARCH }))
+	interface SampleRepository extends Repository<Sample, Long> {
+
+		@RestResource(cacheControl = @ResourceCacheControl(maxAge = 5, visibility = Visibility.PRIVATE))
+		List<Sample> findByName(String name);
+
+		List<Sample> findByFirstname(String firstname);
+	}
+}
@@ -17,13 +17,23 @@ package org.springframework.data.rest.webmvc.support;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.webmvc.IncrementalCollectionModel;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.http.HttpHeaders;
 
 /**
@@ -130,6 +140,91 @@ class ETagUnitTests {
 		assertThat(headers.getETag()).isNotNull();
 	}
 
+	@Test
+	void parsesWeakETag() {
+
+		ETag eTag = ETag.from("W/\"1\"");
+
+		assertThat(eTag.isWeak()).isTrue();
+		assertThat(eTag.toString()).isEqualTo("W/\"1\"");
+		assertThat(eTag).isNotEqualTo(ETag.from("1"));
+		assertThat(eTag.weaklyMatches(ETag.from("1"))).isTrue();
+	}
+
+	@Test
+	void createsWeakCollectionETagReflectingVersionsAndProjection() {
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Aggregate.class);
+		List<Aggregate> content = List.of(new Aggregate(1L, 0L), new Aggregate(2L, 0L));
+
+		ETag eTag = ETag.fromCollection(entity, content, null);
+
+		assertThat(eTag.isWeak()).isTrue();
+		assertThat(ETag.fromCollection(entity, List.of(new Aggregate(1L, 0L), new Aggregate(2L, 0L)), null))
+				.isEqualTo(eTag);
+		assertThat(ETag.fromCollection(entity, List.of(new Aggregate(1L, 0L), new Aggregate(2L, 1L)), null))
+				.isNotEqualTo(eTag);
+		assertThat(ETag.fromCollection(entity, content, "summary")).isNotEqualTo(eTag);
+	}
+
+	@Test
+	void considersPageMetadataForCollectionETag() {
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Aggregate.class);
+		List<Aggregate> content = List.of(new Aggregate(1L, 0L));
+
+		assertThat(ETag.fromCollection(entity, new PageImpl<>(content, PageRequest.of(0, 1), 1), null))
+				.isNotEqualTo(ETag.fromCollection(entity, new PageImpl<>(content, PageRequest.of(0, 1), 2), null));
+	}
+
+	@Test
+	void doesNotCreateCollectionETagForUnversionedEntity() {
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(SampleWithoutVersion.class);
+
+		assertThat(ETag.fromCollection(entity, List.of(new SampleWithoutVersion()), null)).isEqualTo(ETag.NO_ETAG);
+	}
+
+	@Test
+	void doesNotConsumeOneShotIterableForCollectionETag() {
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Aggregate.class);
+		Iterator<Aggregate> source = List.of(new Aggregate(1L, 0L), new Aggregate(2L, 0L)).iterator();
+		AtomicBoolean consumed = new AtomicBoolean();
+
+		Iterable<Aggregate> results = () -> {
+
+			assertThat(consumed.getAndSet(true)).as("Iterable already consumed").isFalse();
+
+			return source;
+		};
+
+		assertThat(ETag.fromCollection(entity, results, null)).isEqualTo(ETag.NO_ETAG);
+
+		IncrementalCollectionModel model = IncrementalCollectionModel.of(results, Aggregate.class,
+				it -> PersistentEntityResource.build(it, entity).build(), CollectionModel.empty());
+
+		List<Object> ids = new ArrayList<>();
+
+		for (Object resource : model.getContent()) {
+			ids.add(((Aggregate) ((PersistentEntityResource) resource).getContent()).id);
+		}
+
+		assertThat(ids).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void matchesResourceVersionWithSameVersion() {
+
+		assertThat(ETag.from("1").matches(ResourceVersion.of(1L, null))).isTrue();
+		assertThat(ETag.from("1").matches(ResourceVersion.of(2L, null))).isFalse();
+	}
+
+	@Test
+	void noETagDoesNotMatchResourceVersionWithoutVersion() {
+		assertThat(ETag.NO_ETAG.matches(ResourceVersion.NONE)).isFalse();
+	}
+
 	@Test // DATAREST-160
 	void doesNotAddHeaderForNoETag() {
 
@@ -150,4 +245,15 @@ class ETagUnitTests {
 	// end::versioned-sample[]
 
 	class SampleWithoutVersion {}
+
+	static class Aggregate {
+
+		@Id Long id;
+		@Version Long version;
+
+		Aggregate(Long id, Long version) {
+			this.id = id;
+			this.version = version;
+		}
+	}
 }
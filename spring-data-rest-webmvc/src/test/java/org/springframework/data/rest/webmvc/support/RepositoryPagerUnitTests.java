@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.querydsl.QuerydslRepositoryInvokerAdapter;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.TotalCountCacheConfiguration;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.webmvc.support.RepositoryPager.ApproximatePageMetadata;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+
+/**
+ * Unit tests for {@link RepositoryPager}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RepositoryPagerUnitTests {
+
+	static final Pageable FIRST = PageRequest.of(0, 2);
+	static final Pageable SECOND = PageRequest.of(1, 2);
+
+	@Mock RepositorySlicer slicer;
+	@Mock RepositoryInvoker invoker;
+	@Mock PersistentEntity<Object, ?> entity;
+
+	TotalCountCacheConfiguration configuration = new TotalCountCacheConfiguration().enableFor(Sample.class);
+	InMemoryTotalCountCache cache = new InMemoryTotalCountCache(configuration);
+	RepositoryPager pager;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(Sample.class).when(entity).getType();
+		doReturn(true).when(slicer).supportsLookup(Sample.class);
+		doReturn(new PageImpl<>(List.of(new Sample(), new Sample()), FIRST, 10)).when(invoker).invokeFindAll(FIRST);
+
+		this.pager = new RepositoryPager(configuration, cache, slicer);
+	}
+
+	@Test
+	void rejectsCachingTotalsForTypesWithoutSliceLookup() {
+
+		doReturn(false).when(slicer).supportsLookup(Sample.class);
+
+		assertThatIllegalStateException().isThrownBy(() -> new RepositoryPager(configuration, cache, slicer))
+				.withMessageContaining(Sample.class.getName()).withMessageContaining("useStoreQueriesFor");
+	}
+
+	@Test
+	void readsFirstPageThroughRepositoryAndCachesTotal() {
+
+		assertThat(pager.findAll(entity, invoker, FIRST)).isInstanceOfSatisfying(Page.class,
+				it -> assertThat(it.getTotalElements()).isEqualTo(10));
+		assertThat(cache.get(Sample.class)).hasValue(10);
+		verify(slicer, never()).lookup(any(), any(), any());
+	}
+
+	@Test
+	void readsSubsequentPagesWithoutCountingUsingCachedTotal() {
+
+		doReturn(Optional.of(new SliceImpl<>(List.of(new Sample(), new Sample()), SECOND, true))).when(slicer)
+				.lookup(entity, invoker, SECOND);
+
+		pager.findAll(entity, invoker, FIRST);
+
+		assertThat(pager.findAll(entity, invoker, SECOND)).isInstanceOfSatisfying(Page.class, it -> {
+			assertThat(it.getTotalElements()).isEqualTo(10);
+			assertThat(it.getContent()).hasSize(2);
+		});
+
+		verify(invoker, never()).invokeFindAll(SECOND);
+	}
+
+	@Test
+	void correctsCachedTotalOnLastPage() {
+
+		cache.put(Sample.class, 10);
+
+		doReturn(Optional.of(new SliceImpl<>(List.of(new Sample()), SECOND, false))).when(slicer).lookup(entity, invoker,
+				SECOND);
+
+		assertThat(pager.findAll(entity, invoker, SECOND)).isInstanceOfSatisfying(Page.class,
+				it -> assertThat(it.getTotalElements()).isEqualTo(3));
+		assertThat(cache.get(Sample.class)).hasValue(3);
+	}
+
+	@Test
+	void fallsBackToRepositoryIfNoSliceCanBeLookedUp() {
+
+		cache.put(Sample.class, 5);
+
+		doReturn(Optional.empty()).when(slicer).lookup(entity, invoker, FIRST);
+
+		assertThat(pager.findAll(entity, invoker, FIRST)).isInstanceOfSatisfying(Page.class,
+				it -> assertThat(it.getTotalElements()).isEqualTo(10));
+		assertThat(cache.get(Sample.class)).hasValue(10);
+	}
+
+	@Test
+	void neitherReadsNorCachesTotalsForFilteredRequests() {
+
+		QuerydslRepositoryInvokerAdapter filtered = mock(QuerydslRepositoryInvokerAdapter.class);
+		doReturn(new PageImpl<>(List.of(new Sample()), FIRST, 1)).when(filtered).invokeFindAll(FIRST);
+
+		assertThat(pager.findAll(entity, filtered, FIRST)).isInstanceOfSatisfying(Page.class,
+				it -> assertThat(it.getTotalElements()).isEqualTo(1));
+		assertThat(cache.get(Sample.class)).isEmpty();
+
+		assertThat(pager.findAll(entity, invoker, FIRST)).isInstanceOfSatisfying(Page.class,
+				it -> assertThat(it.getTotalElements()).isEqualTo(10));
+		assertThat(cache.get(Sample.class)).hasValue(10);
+
+		doReturn(new PageImpl<>(List.of(new Sample()), SECOND, 3)).when(filtered).invokeFindAll(SECOND);
+
+		assertThat(pager.findAll(entity, filtered, SECOND)).isInstanceOfSatisfying(Page.class,
+				it -> assertThat(it.getTotalElements()).isEqualTo(3));
+		assertThat(cache.get(Sample.class)).hasValue(10);
+		verify(slicer, never()).lookup(any(), any(), any());
+	}
+
+	@Test
+	void doesNotCacheTotalsForTypesNotEnabled() {
+
+		doReturn(Object.class).when(entity).getType();
+
+		pager.findAll(entity, invoker, FIRST);
+
+		assertThat(cache.get(Object.class)).isEmpty();
+	}
+
+	@Test
+	void evictsTotalOnCreationButNotOnUpdate() {
+
+		cache.put(Sample.class, 10);
+
+		pager.onApplicationEvent(new AfterSaveEvent(new Sample()));
+
+		assertThat(cache.get(Sample.class)).hasValue(10);
+
+		pager.onApplicationEvent(new AfterCreateEvent(new Sample()));
+
+		assertThat(cache.get(Sample.class)).isEmpty();
+	}
+
+	@Test
+	void flagsApproximateTotalInPageMetadataIfConfigured() {
+
+		configuration.setApproximationExposed(true);
+		cache.put(Sample.class, 10);
+
+		doReturn(Optional.of(new SliceImpl<>(List.of(new Sample(), new Sample()), SECOND, true))).when(slicer)
+				.lookup(entity, invoker, SECOND);
+
+		Iterable<?> results = pager.findAll(entity, invoker, SECOND);
+		PagedModel<Object> model = PagedModel.of(List.of(), new PageMetadata(2, 1, 10));
+
+		assertThat(pager.exposeApproximation(model, results)).isInstanceOfSatisfying(PagedModel.class,
+				it -> assertThat(it.getMetadata()).isInstanceOf(ApproximatePageMetadata.class));
+		assertThat(pager.exposeApproximation(model, pager.findAll(entity, invoker, FIRST))).isSameAs(model);
+	}
+
+	@Test
+	void doesNotFlagApproximateTotalByDefault() {
+
+		cache.put(Sample.class, 10);
+
+		doReturn(Optional.of(new SliceImpl<>(List.of(new Sample(), new Sample()), SECOND, true))).when(slicer)
+				.lookup(entity, invoker, SECOND);
+
+		CollectionModel<Object> model = PagedModel.of(List.of(), new PageMetadata(2, 1, 10));
+
+		assertThat(pager.exposeApproximation(model, pager.findAll(entity, invoker, SECOND))).isSameAs(model);
+	}
+
+	static class Sample {}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.querydsl.QuerydslRepositoryInvokerAdapter;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+
+/**
+ * Unit tests for {@link RepositoryScroller}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RepositoryScrollerUnitTests {
+
+	@Mock Repositories repositories;
+	@Mock RepositoryInformation information;
+	@Mock RepositoryRestConfiguration configuration;
+
+	AtomicReference<ScrollPosition> received = new AtomicReference<>();
+	RepositoryScroller scroller;
+
+	@BeforeEach
+	void setUp() {
+
+		SampleRepository repository = (position, sort, limit) -> {
+			received.set(position);
+			return Window.from(List.of(new Sample()), it -> ScrollPosition.forward(Map.of("id", 42L, "name", "a&b")));
+		};
+
+		doReturn(SampleRepository.class).when(information).getRepositoryInterface();
+		doReturn(Optional.of(information)).when(repositories).getRepositoryInformationFor(Sample.class);
+		doReturn(Optional.of(repository)).when(repositories).getRepositoryFor(Sample.class);
+		doReturn(new KeyValueMappingContext<>().getRequiredPersistentEntity(Sample.class)).when(repositories)
+				.getPersistentEntity(Sample.class);
+
+		doReturn(true).when(configuration).isScrollingEnabledFor(Sample.class);
+
+		this.scroller = new RepositoryScroller(repositories, configuration,
+				DefaultConversionService.getSharedInstance());
+	}
+
+	@Test
+	void detectsScrollMethods() {
+
+		assertThat(RepositoryScroller.findScrollMethod(SampleRepository.class)).isPresent();
+		assertThat(RepositoryScroller.findScrollMethod(PlainRepository.class)).isEmpty();
+		assertThat(scroller.isScrollable(Sample.class)).isTrue();
+	}
+
+	@Test
+	void doesNotScrollTypesScrollingIsNotEnabledFor() {
+
+		doReturn(false).when(configuration).isScrollingEnabledFor(Sample.class);
+
+		assertThat(scroller.isScrollable(Sample.class)).isFalse();
+	}
+
+	@Test
+	void rejectsAmbiguousScrollMethods() {
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> RepositoryScroller.findScrollMethod(AmbiguousRepository.class))
+				.withMessageContaining("findAllBy").withMessageContaining("findTop10ByOrderByNameDesc");
+	}
+
+	@Test
+	void rejectsScrollingEnabledForRepositoryWithoutScrollMethod() {
+
+		doReturn(PlainRepository.class).when(information).getRepositoryInterface();
+
+		assertThatIllegalStateException().isThrownBy(() -> scroller.isScrollable(Sample.class));
+	}
+
+	@Test
+	void startsScrollingAtInitialKeysetPosition() {
+
+		Window<?> window = scroller.scroll(Sample.class, null, Sort.unsorted(), 10);
+
+		assertThat(window.getContent()).hasSize(1);
+		assertThat(received.get()).isEqualTo(ScrollPosition.keyset());
+	}
+
+	@Test
+	void restoresScrollPositionFromCursor() {
+
+		String cursor = scroller.encode(ScrollPosition.backward(Map.of("id", 42L, "name", "a&b")));
+
+		scroller.scroll(Sample.class, cursor, Sort.by("name"), 10);
+
+		assertThat(received.get()).isInstanceOfSatisfying(KeysetScrollPosition.class, it -> {
+			assertThat(it.scrollsBackward()).isTrue();
+			assertThat(it.getKeys()).containsEntry("id", 42L).containsEntry("name", "a&b");
+		});
+	}
+
+	@Test
+	void rejectsInvalidCursors() {
+
+		assertThatExceptionOfType(InvalidCursorException.class)
+				.isThrownBy(() -> scroller.scroll(Sample.class, "invalid!", Sort.unsorted(), 10));
+
+		String unknownProperty = scroller.encode(ScrollPosition.forward(Map.of("unknown", 1)));
+
+		assertThatExceptionOfType(InvalidCursorException.class)
+				.isThrownBy(() -> scroller.scroll(Sample.class, unknownProperty, Sort.unsorted(), 10));
+	}
+
+	@Test
+	void rejectsCursorsNotMatchingSort() {
+
+		String cursor = scroller.encode(ScrollPosition.forward(Map.of("id", 42L, "name", "a")));
+
+		assertThatExceptionOfType(InvalidCursorException.class)
+				.isThrownBy(() -> scroller.scroll(Sample.class, cursor, Sort.unsorted(), 10));
+		assertThatExceptionOfType(InvalidCursorException.class)
+				.isThrownBy(() -> scroller.scroll(Sample.class, cursor, Sort.by("name", "id", "other"), 10));
+
+		assertThatNoException().isThrownBy(() -> scroller.scroll(Sample.class, cursor, Sort.by("name"), 10));
+		assertThatNoException().isThrownBy(() -> scroller.scroll(Sample.class, cursor, Sort.by("name", "id"), 10));
+	}
+
+	@Test
+	void doesNotScrollFilteredRequests() {
+
+		assertThat(scroller.isScrollable(Sample.class, mock(RepositoryInvoker.class))).isTrue();
+		assertThat(scroller.isScrollable(Sample.class, mock(QuerydslRepositoryInvokerAdapter.class))).isFalse();
+	}
+
+	static class Sample {
+		@Id Long id;
+		String name;
+	}
+
+	interface SampleRepository extends Repository<Sample, Long> {
+		Window<Sample> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+	}
+
+	interface AmbiguousRepository extends Repository<Sample, Long> {
+
+		Window<Sample> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+		Window<Sample> findTop10ByOrderByNameDesc(ScrollPosition position);
+	}
+
+	interface PlainRepository extends CrudRepository<Sample, Long> {
+		Window<Sample> findByName(String name, ScrollPosition position);
+	}
+}
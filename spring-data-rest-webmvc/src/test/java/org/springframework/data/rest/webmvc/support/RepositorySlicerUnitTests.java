@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.spi.SliceLookup;
+
+/**
+ * Unit tests for {@link RepositorySlicer}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RepositorySlicerUnitTests {
+
+	static final Pageable PAGEABLE = PageRequest.of(1, 2);
+
+	@Mock RepositoryRestConfiguration configuration;
+	@Mock SliceLookup lookup;
+	@Mock RepositoryInvoker invoker;
+	@Mock PersistentEntity<Object, ?> entity;
+
+	RepositorySlicer slicer;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(Sample.class).when(entity).getType();
+
+		this.slicer = new RepositorySlicer(configuration, List.of(lookup));
+	}
+
+	@Test
+	void slicesIfRequestedOrEnabledForType() {
+
+		doReturn(true).when(configuration).isSliceEnabledFor(Sample.class);
+
+		assertThat(slicer.isSliced(Object.class, new DefaultedPageable(PAGEABLE, false, true))).isTrue();
+		assertThat(slicer.isSliced(Object.class, new DefaultedPageable(PAGEABLE, false, false))).isFalse();
+		assertThat(slicer.isSliced(Sample.class, new DefaultedPageable(PAGEABLE, false, false))).isTrue();
+	}
+
+	@Test
+	void doesNotSliceUnpagedRequests() {
+		assertThat(slicer.isSliced(Object.class, new DefaultedPageable(Pageable.unpaged(), false, true))).isFalse();
+	}
+
+	@Test
+	void usesLookupSupportingType() {
+
+		Slice<Object> slice = new SliceImpl<>(List.of(new Sample()), PAGEABLE, true);
+
+		doReturn(true).when(lookup).supports(Sample.class);
+		doReturn(slice).when(lookup).findAll(entity, PAGEABLE);
+
+		assertThat(slicer.findAll(entity, invoker, PAGEABLE)).isSameAs(slice);
+		verify(invoker, never()).invokeFindAll(any(Pageable.class));
+	}
+
+	@Test
+	void turnsPageIntoSliceIfNoLookupSupportsType() {
+
+		List<Sample> content = List.of(new Sample(), new Sample());
+
+		doReturn(false).when(lookup).supports(Sample.class);
+		doReturn(new PageImpl<>(content, PAGEABLE, 10)).when(invoker).invokeFindAll(PAGEABLE);
+
+		assertThat(slicer.findAll(entity, invoker, PAGEABLE)).isInstanceOfSatisfying(Slice.class, it -> {
+
+			assertThat(it).isNotInstanceOf(Page.class);
+			assertThat(it.getContent()).isEqualTo(content);
+			assertThat(it.hasNext()).isTrue();
+			assertThat(it.getPageable()).isEqualTo(PAGEABLE);
+		});
+	}
+
+	@Test
+	void keepsResultsOtherThanPagesAsIs() {
+
+		List<Sample> list = List.of(new Sample());
+		Page<Sample> unpaged = new PageImpl<>(list);
+
+		assertThat(RepositorySlicer.toSlice(list)).isSameAs(list);
+		assertThat(RepositorySlicer.toSlice(unpaged)).isSameAs(unpaged);
+	}
+
+	static class Sample {}
+}
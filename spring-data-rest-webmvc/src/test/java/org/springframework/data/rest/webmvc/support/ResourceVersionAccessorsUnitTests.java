@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.auditing.AuditableBeanWrapper;
+import org.springframework.data.auditing.AuditableBeanWrapperFactory;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+
+/**
+ * Unit tests for {@link ResourceVersionAccessors}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResourceVersionAccessorsUnitTests {
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+
+	@Mock AuditableBeanWrapperFactory factory;
+
+	ResourceVersionAccessors accessors;
+
+	@BeforeEach
+	void setUp() {
+		this.accessors = new ResourceVersionAccessors(factory);
+	}
+
+	@Test
+	void readsVersionAndLastModifiedDateFromProperties() {
+
+		Instant now = Instant.now();
+
+		ResourceVersion version = accessors.getResourceVersion(context.getRequiredPersistentEntity(Audited.class),
+				new Audited(42L, now));
+
+		assertThat(version.getETag()).isEqualTo(ETag.from("42"));
+		assertThat(version.getLastModifiedInMilliseconds()).hasValue(now.toEpochMilli());
+
+		verifyNoInteractions(factory);
+	}
+
+	@Test
+	void fallsBackToAuditableBeanWrapperFactoryForLastModifiedDate() {
+
+		LocalDateTime now = LocalDateTime.now();
+		Unaudited bean = new Unaudited(1L);
+
+		AuditableBeanWrapper<Object> wrapper = mock(AuditableBeanWrapper.class);
+		doReturn(Optional.of(now)).when(wrapper).getLastModifiedDate();
+		doReturn(Optional.of(wrapper)).when(factory).getBeanWrapperFor(any());
+
+		ResourceVersion version = accessors.getResourceVersion(context.getRequiredPersistentEntity(Unaudited.class), bean);
+
+		assertThat(version.getETag()).isEqualTo(ETag.from("1"));
+		assertThat(version.getLastModifiedInMilliseconds())
+				.hasValue(now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+	}
+
+	@Test
+	void returnsNoVersionForEntityWithoutValidators() {
+
+		doReturn(Optional.empty()).when(factory).getBeanWrapperFor(any());
+
+		ResourceVersion version = accessors.getResourceVersion(context.getRequiredPersistentEntity(Plain.class),
+				new Plain());
+
+		assertThat(version).isEqualTo(ResourceVersion.NONE);
+		assertThat(version.getETag()).isEqualTo(ETag.NO_ETAG);
+	}
+
+	@Test
+	void convertsLegacyDateToMilliseconds() {
+
+		Date date = new Date();
+
+		assertThat(ResourceVersion.of(null, date).getLastModifiedInMilliseconds()).hasValue(date.getTime());
+	}
+
+	static class Audited {
+
+		@Version Long version;
+		@LastModifiedDate Instant lastModified;
+
+		Audited(Long version, Instant lastModified) {
+			this.version = version;
+			this.lastModified = lastModified;
+		}
+	}
+
+	static class Unaudited {
+
+		@Version Long version;
+
+		Unaudited(Long version) {
+			this.version = version;
+		}
+	}
+
+	static class Plain {}
+}
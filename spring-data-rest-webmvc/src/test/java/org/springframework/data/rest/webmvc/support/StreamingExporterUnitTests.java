@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.config.ExportConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.spi.ChunkListener;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Unit tests for {@link StreamingExporter}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StreamingExporterUnitTests {
+
+	@Mock RepositoryRestConfiguration configuration;
+	@Mock ChunkListener listener;
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Sample.class);
+
+	StreamingExporter exporter;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(new ExportConfiguration().setChunkSize(2)).when(configuration).getExportConfiguration();
+		doReturn(true).when(listener).supports(Sample.class);
+
+		this.exporter = new StreamingExporter(configuration, new JsonMapper(), null, null, List.of(listener),
+				TransactionOperations.withoutTransaction());
+	}
+
+	@Test
+	void writesOneJsonDocumentPerLine() throws Exception {
+
+		String result = export(RestMediaTypes.NDJSON, null, new Sample("Dave", "Matthews"),
+				new Sample("Carter", "Beauford"));
+
+		String[] lines = result.split("\n");
+
+		assertThat(lines).hasSize(2);
+		assertThat(lines[0]).startsWith("{").contains("\"firstname\":\"Dave\"", "\"surname\":\"Matthews\"")
+				.doesNotContain("secret");
+		assertThat(lines[1]).startsWith("{").contains("\"firstname\":\"Carter\"", "\"surname\":\"Beauford\"");
+	}
+
+	@Test
+	void writesCsvColumnsForPropertiesMappedByJackson() throws Exception {
+
+		Sample sample = new Sample("Dave", "Matthews, \"DMB\"");
+		sample.address = new Address("Charlottesville");
+
+		String result = export(RestMediaTypes.TEXT_CSV, null, sample);
+
+		assertThat(result.split("\r\n")).containsExactly( //
+				"firstname,surname,address", //
+				"Dave,\"Matthews, \"\"DMB\"\"\",\"{\"\"city\"\":\"\"Charlottesville\"\"}\"");
+	}
+
+	@Test
+	void includesIdentifierColumnIfExposed() throws Exception {
+
+		doReturn(true).when(configuration).isIdExposedFor(Sample.class);
+
+		assertThat(exporter.getColumns(entity)).containsExactly("id", "firstname", "surname", "address");
+	}
+
+	@Test
+	void writesCsvHeaderForEmptyResults() throws Exception {
+		assertThat(export(RestMediaTypes.TEXT_CSV, null)).isEqualTo("firstname,surname,address\r\n");
+	}
+
+	@Test
+	void derivesCsvColumnsFromFirstRowForProjections() throws Exception {
+
+		Map<String, Object> first = new LinkedHashMap<>();
+		first.put("name", "Dave Matthews");
+		first.put("_links", Map.of("self", Map.of("href", "/samples/1")));
+
+		String result = export(RestMediaTypes.TEXT_CSV, "summary", first, Map.of("name", "Carter Beauford"));
+
+		assertThat(result.split("\r\n")).containsExactly("name", "Dave Matthews", "Carter Beauford");
+	}
+
+	@Test
+	void notifiesListenersAfterEveryChunk() throws Exception {
+
+		export(RestMediaTypes.NDJSON, null, new Sample("Dave", "Matthews"), new Sample("Carter", "Beauford"),
+				new Sample("Stefan", "Lessard"), new Sample("Boyd", "Tinsley"), new Sample("LeRoi", "Moore"));
+
+		verify(listener, times(2)).afterChunk(Sample.class);
+	}
+
+	@Test
+	void executesPagedQueryMethodChunkByChunk() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findByFirstname", String.class, Pageable.class);
+		List<Pageable> pageables = new ArrayList<>();
+
+		List<Object> result = exporter.execute(entity, method, Sort.by("firstname"), pageable -> {
+
+			pageables.add(pageable);
+
+			return Optional.of(pageable.getPageNumber() == 0 //
+					? new SliceImpl<>(List.of("first", "second"), pageable, true) //
+					: new SliceImpl<>(List.of("third"), pageable, false));
+		}).collect(Collectors.toList());
+
+		assertThat(result).containsExactly("first", "second", "third");
+		assertThat(pageables).containsExactly(PageRequest.of(0, 2, Sort.by("firstname", "id")),
+				PageRequest.of(1, 2, Sort.by("firstname", "id")));
+	}
+
+	@Test
+	void executesStreamingQueryMethodOnce() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("streamAllBy");
+
+		List<Object> result = exporter.execute(entity, method, Sort.unsorted(), pageable -> {
+
+			assertThat(pageable.isPaged()).isFalse();
+
+			return Optional.of(Stream.of("first", "second", "third"));
+		}).collect(Collectors.toList());
+
+		assertThat(result).containsExactly("first", "second", "third");
+	}
+
+	@Test
+	void appendsIdentifierToSortOfChunksReadByOffset() {
+
+		assertThat(StreamingExporter.withIdentifier(Sort.unsorted(), entity)).isEqualTo(Sort.by("id"));
+		assertThat(StreamingExporter.withIdentifier(Sort.by("firstname"), entity))
+				.isEqualTo(Sort.by("firstname", "id"));
+		assertThat(StreamingExporter.withIdentifier(Sort.by(Sort.Direction.DESC, "id"), entity))
+				.isEqualTo(Sort.by(Sort.Direction.DESC, "id"));
+	}
+
+	@Test
+	void selectsMediaTypeFromAcceptHeader() {
+
+		assertThat(StreamingExporter.getMediaType(MediaType.parseMediaTypes("text/csv")))
+				.isEqualTo(new MediaType(RestMediaTypes.TEXT_CSV, StandardCharsets.UTF_8));
+		assertThat(StreamingExporter.getMediaType(MediaType.parseMediaTypes("application/x-ndjson;q=0.5, text/csv")))
+				.isEqualTo(new MediaType(RestMediaTypes.TEXT_CSV, StandardCharsets.UTF_8));
+		assertThat(StreamingExporter.getMediaType(MediaType.parseMediaTypes("*/*"))).isEqualTo(RestMediaTypes.NDJSON);
+	}
+
+	@Test
+	void escapesCsvCells() {
+
+		assertThat(StreamingExporter.escape("plain")).isEqualTo("plain");
+		assertThat(StreamingExporter.escape("with,comma")).isEqualTo("\"with,comma\"");
+		assertThat(StreamingExporter.escape("with \"quotes\"")).isEqualTo("\"with \"\"quotes\"\"\"");
+		assertThat(StreamingExporter.escape("multi\nline")).isEqualTo("\"multi\nline\"");
+	}
+
+	@Test
+	void neutralizesFormulasInTextualCsvCells() throws Exception {
+
+		Sample sample = new Sample("=HYPERLINK(\"http://example.com\")", "@SUM(A1)");
+
+		String result = export(RestMediaTypes.TEXT_CSV, null, sample);
+
+		assertThat(result.split("\r\n")).containsExactly( //
+				"firstname,surname,address", //
+				"\"'=HYPERLINK(\"\"http://example.com\"\")\",'@SUM(A1),");
+
+		assertThat(StreamingExporter.neutralize("+1")).isEqualTo("'+1");
+		assertThat(StreamingExporter.neutralize("-1")).isEqualTo("'-1");
+		assertThat(StreamingExporter.neutralize("plain")).isEqualTo("plain");
+		assertThat(StreamingExporter.neutralize("")).isEmpty();
+	}
+
+	private String export(MediaType mediaType, String projection, Object... rows) throws Exception {
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		exporter.export(entity, () -> Stream.of(rows), it -> it, mediaType, projection).writeTo(output);
+
+		return output.toString(StandardCharsets.UTF_8);
+	}
+
+	static class Sample {
+
+		public @Id Long id;
+		public String firstname;
+		@JsonProperty("surname") public String lastname;
+		@JsonIgnore public String secret;
+		public Address address;
+
+		Sample(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+	}
+
+	static class Address {
+
+		public String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+	}
+
+	interface SampleRepository {
+
+		List<Sample> findByFirstname(String firstname, Pageable pageable);
+
+		Stream<Sample> streamAllBy();
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.SurrogateKeyConfiguration;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.BeforeSaveEvent;
+import org.springframework.data.rest.webmvc.spi.SurrogateKeyPurger;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link SurrogateKeyPurgingListener}.
+ */
+class SurrogateKeyPurgingListenerUnitTests {
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	SurrogateKeyConfiguration configuration = new SurrogateKeyConfiguration().setEnabled(true);
+	InMemorySurrogateKeyPurger purger = new InMemorySurrogateKeyPurger();
+
+	SurrogateKeyPurgingListener listener;
+
+	@BeforeEach
+	void setUp() {
+
+		context.getRequiredPersistentEntity(Order.class);
+
+		this.listener = new SurrogateKeyPurgingListener(configuration,
+				new SurrogateKeys(PersistentEntities.of(context)), List.of(purger));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void purgesItemAndCollectionKeysImmediatelyOutsideOfRequest() {
+
+		listener.onApplicationEvent(new AfterSaveEvent(new Order(42L)));
+		listener.onApplicationEvent(new AfterDeleteEvent(new Order(43L)));
+
+		assertThat(purger.getPurges()).containsExactly( //
+				Set.of("Order:42", "Order:collection"), //
+				Set.of("Order:43", "Order:collection"));
+	}
+
+	@Test
+	void onlyPurgesCollectionKeyForCreatedAggregates() {
+
+		listener.onApplicationEvent(new AfterCreateEvent(new Order(42L)));
+
+		assertThat(purger.getPurgedKeys()).containsExactly("Order:collection");
+	}
+
+	@Test
+	void ignoresBeforeEvents() {
+
+		listener.onApplicationEvent(new BeforeSaveEvent(new Order(42L)));
+
+		assertThat(purger.getPurges()).isEmpty();
+	}
+
+	@Test
+	void coalescesKeysOfRequestIntoSinglePurgeOnCompletion() {
+
+		ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+		RequestContextHolder.setRequestAttributes(attributes);
+
+		listener.onApplicationEvent(new AfterSaveEvent(new Order(1L)));
+		listener.onApplicationEvent(new AfterSaveEvent(new Order(2L)));
+		listener.onApplicationEvent(new AfterSaveEvent(new Order(1L)));
+
+		assertThat(purger.getPurges()).isEmpty();
+
+		attributes.requestCompleted();
+
+		assertThat(purger.getPurges()).hasSize(1);
+		assertThat(purger.getPurgedKeys()).containsExactly("Order:1", "Order:collection", "Order:2");
+	}
+
+	@Test
+	void splitsPurgesIntoBatches() {
+
+		configuration.setPurgeBatchSize(2);
+
+		ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+		RequestContextHolder.setRequestAttributes(attributes);
+
+		listener.onApplicationEvent(new AfterSaveEvent(new Order(1L)));
+		listener.onApplicationEvent(new AfterSaveEvent(new Order(2L)));
+
+		attributes.requestCompleted();
+
+		assertThat(purger.getPurges()).containsExactly( //
+				Set.of("Order:1", "Order:collection"), //
+				Set.of("Order:2"));
+	}
+
+	@Test
+	void doesNotPurgeIfDisabled() {
+
+		configuration.setEnabled(false);
+
+		listener.onApplicationEvent(new AfterSaveEvent(new Order(42L)));
+
+		assertThat(purger.getPurges()).isEmpty();
+	}
+
+	@Test
+	void keepsPurgingWithRemainingPurgersIfOneFails() {
+
+		InMemorySurrogateKeyPurger second = new InMemorySurrogateKeyPurger();
+
+		SurrogateKeyPurgingListener listener = new SurrogateKeyPurgingListener(configuration,
+				new SurrogateKeys(PersistentEntities.of(context)), List.<SurrogateKeyPurger> of(keys -> {
+					throw new IllegalStateException("Unavailable");
+				}, second));
+
+		assertThatNoException().isThrownBy(() -> listener.onApplicationEvent(new AfterSaveEvent(new Order(42L))));
+		assertThat(second.getPurgedKeys()).containsExactly("Order:42", "Order:collection");
+	}
+
+	static class Order {
+
+		@Id Long id;
+
+		Order(Long id) {
+			this.id = id;
+		}
+	}
+}
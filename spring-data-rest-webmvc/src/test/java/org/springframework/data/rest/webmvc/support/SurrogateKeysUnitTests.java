@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.core.EmbeddedWrappers;
+
+/**
+ * Unit tests for {@link SurrogateKeys}.
+ */
+class SurrogateKeysUnitTests {
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	EmbeddedWrappers wrappers = new EmbeddedWrappers(false);
+
+	PersistentEntity<?, ?> orderEntity;
+	SurrogateKeys keys;
+
+	@BeforeEach
+	void setUp() {
+
+		context.setInitialEntitySet(Set.of(Order.class, Customer.class));
+		context.initialize();
+
+		this.orderEntity = context.getRequiredPersistentEntity(Order.class);
+		this.keys = new SurrogateKeys(PersistentEntities.of(context));
+	}
+
+	@Test
+	void calculatesKeysForItemsAndCollections() {
+
+		assertThat(SurrogateKeys.forItem(Order.class, 42L)).isEqualTo("Order:42");
+		assertThat(SurrogateKeys.forCollection(Order.class)).isEqualTo("Order:collection");
+		assertThat(keys.forAggregate(new Order(42L))).isEqualTo("Order:42");
+		assertThat(keys.forAggregate(new Order(null))).isNull();
+		assertThat(keys.forAggregate("unknown")).isNull();
+	}
+
+	@Test
+	void includesKeysOfEmbeddedAggregates() {
+
+		PersistentEntityResource resource = PersistentEntityResource.build(new Order(42L), orderEntity) //
+				.withEmbedded(List.of(wrappers.wrap(new Customer(7L), LinkRelation.of("customer")),
+						wrappers.wrap(List.of(new Customer(8L), new Customer(9L)), LinkRelation.of("contacts")))) //
+				.build();
+
+		assertThat(keys.getSurrogateKeys(resource)) //
+				.containsExactly("Order:42", "Customer:7", "Customer:8", "Customer:9");
+	}
+
+	@Test
+	void includesCollectionKeyForCollectionResources() {
+
+		CollectionModel<?> model = CollectionModel.of(List.of( //
+				PersistentEntityResource.build(new Order(1L), orderEntity).build(),
+				PersistentEntityResource.build(new Order(2L), orderEntity) //
+						.withEmbedded(List.of(wrappers.wrap(new Customer(7L), LinkRelation.of("customer")))) //
+						.build()));
+
+		assertThat(keys.getSurrogateKeys(model)) //
+				.containsExactly("Order:1", "Order:collection", "Order:2", "Customer:7");
+	}
+
+	@Test
+	void includesCollectionKeyForEmptyCollectionResources() {
+
+		CollectionModel<?> model = CollectionModel.of(List.of(wrappers.emptyCollectionOf(Order.class)));
+
+		assertThat(keys.getSurrogateKeys(model)).containsExactly("Order:collection");
+	}
+
+	@Test
+	void returnsNoKeysForUnknownBodies() {
+
+		assertThat(keys.getSurrogateKeys(null)).isEmpty();
+		assertThat(keys.getSurrogateKeys("body")).isEmpty();
+	}
+
+	static class Order {
+
+		@Id Long id;
+
+		Order(Long id) {
+			this.id = id;
+		}
+	}
+
+	static class Customer {
+
+		@Id Long id;
+
+		Customer(Long id) {
+			this.id = id;
+		}
+	}
+}